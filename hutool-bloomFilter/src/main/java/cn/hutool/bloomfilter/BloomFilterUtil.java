@@ -29,4 +29,28 @@ public class BloomFilterUtil {
 	public static BitMapBloomFilter createBitMap(int m) {
 		return new BitMapBloomFilter(m);
 	}
+
+	/**
+	 * 创建根据预期元素个数和误判率自动计算大小的布隆过滤器
+	 *
+	 * @param expectedInsertions 预期加入的元素个数
+	 * @param fpp                期望的误判率，范围(0, 1)
+	 * @return OptimalBloomFilter
+	 * @since 5.8.19
+	 */
+	public static OptimalBloomFilter createOptimal(long expectedInsertions, double fpp) {
+		return new OptimalBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建线程安全的布隆过滤器，根据预期元素个数和误判率自动计算大小
+	 *
+	 * @param expectedInsertions 预期加入的元素个数
+	 * @param fpp                期望的误判率，范围(0, 1)
+	 * @return ConcurrentBloomFilter
+	 * @since 5.8.19
+	 */
+	public static ConcurrentBloomFilter createConcurrent(long expectedInsertions, double fpp) {
+		return new ConcurrentBloomFilter(expectedInsertions, fpp);
+	}
 }
@@ -0,0 +1,96 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.BitMap;
+import cn.hutool.bloomfilter.bitMap.ConcurrentLongMap;
+import cn.hutool.core.lang.hash.MurmurHash;
+
+import java.util.Collection;
+
+/**
+ * 线程安全的布隆过滤器<br>
+ * 与{@link OptimalBloomFilter}的大小计算和Hash算法一致，使用{@link ConcurrentLongMap}存储，
+ * 多个线程同时调用{@link #add(String)}无需额外加锁。<br>
+ * 相同参数创建的过滤器可以分别并行构建，再通过{@link #merge(ConcurrentBloomFilter)}按位或合并。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class ConcurrentBloomFilter extends OptimalBloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	private final ConcurrentLongMap longMap;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预期加入的元素个数
+	 * @param fpp                期望的误判率，范围(0, 1)
+	 */
+	public ConcurrentBloomFilter(long expectedInsertions, double fpp) {
+		this(optimalBitSize(expectedInsertions, fpp), expectedInsertions);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitSize            bit数，64的倍数
+	 * @param expectedInsertions 预期加入的元素个数
+	 */
+	private ConcurrentBloomFilter(long bitSize, long expectedInsertions) {
+		this(bitSize, optimalHashCount(expectedInsertions, bitSize), new ConcurrentLongMap((int) (bitSize / BitMap.MACHINE64)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitSize   bit数
+	 * @param hashCount hash函数个数
+	 * @param longMap   bit存储
+	 */
+	private ConcurrentBloomFilter(long bitSize, int hashCount, ConcurrentLongMap longMap) {
+		super(bitSize, hashCount, longMap);
+		this.longMap = longMap;
+	}
+
+	@Override
+	public boolean add(String str) {
+		final long[] hash = MurmurHash.hash128(str);
+		long combinedHash = hash[0];
+		boolean changed = false;
+		for (int i = 0; i < hashCount; i++) {
+			changed |= longMap.set((combinedHash & Long.MAX_VALUE) % bitSize);
+			combinedHash += hash[1];
+		}
+		return changed;
+	}
+
+	/**
+	 * 批量加入字符串
+	 *
+	 * @param strs 字符串列表
+	 * @return 是否有任意一个字符串之前不存在
+	 */
+	public boolean addAll(Collection<String> strs) {
+		boolean changed = false;
+		for (String str : strs) {
+			changed |= add(str);
+		}
+		return changed;
+	}
+
+	/**
+	 * 合并另一个过滤器（按位或），合并后当前过滤器包含两个过滤器中的所有元素<br>
+	 * 两个过滤器的bit数和hash函数个数必须一致，即使用相同的参数创建
+	 *
+	 * @param other 另一个过滤器
+	 * @return this
+	 * @throws IllegalArgumentException 过滤器参数不一致
+	 */
+	public ConcurrentBloomFilter merge(ConcurrentBloomFilter other) {
+		if (other.bitSize != this.bitSize || other.hashCount != this.hashCount) {
+			throw new IllegalArgumentException("Bloom filter not compatible, bitSize or hashCount not match!");
+		}
+		this.longMap.or(other.longMap);
+		return this;
+	}
+}
@@ -0,0 +1,150 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.BitMap;
+import cn.hutool.bloomfilter.bitMap.LongMap;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+
+/**
+ * 根据预期元素个数和误判率自动计算大小的布隆过滤器<br>
+ * <ul>
+ *     <li>bit数 m = -n * ln(p) / (ln2)^2，hash函数个数 k = m / n * ln2</li>
+ *     <li>只计算一次Murmur3 128位Hash，使用双重散列（h1 + i * h2）得到k个位置，无需为每个位置分别计算Hash</li>
+ *     <li>使用{@link LongMap}存储，支持超过2^31个bit</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class OptimalBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * bit数
+	 */
+	protected final long bitSize;
+	/**
+	 * hash函数个数
+	 */
+	protected final int hashCount;
+	/**
+	 * bit存储
+	 */
+	protected final BitMap bitMap;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预期加入的元素个数
+	 * @param fpp                期望的误判率，范围(0, 1)
+	 */
+	public OptimalBloomFilter(long expectedInsertions, double fpp) {
+		this(optimalBitSize(expectedInsertions, fpp), expectedInsertions);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitSize            bit数
+	 * @param expectedInsertions 预期加入的元素个数
+	 */
+	private OptimalBloomFilter(long bitSize, long expectedInsertions) {
+		this(bitSize, optimalHashCount(expectedInsertions, bitSize), new LongMap(wordCount(bitSize)));
+	}
+
+	/**
+	 * 构造，使用指定的bit存储
+	 *
+	 * @param bitSize   bit数，bitMap需能够容纳此数量的bit
+	 * @param hashCount hash函数个数
+	 * @param bitMap    bit存储
+	 */
+	protected OptimalBloomFilter(long bitSize, int hashCount, BitMap bitMap) {
+		Assert.isTrue(bitSize > 0, "Bit size must be positive!");
+		Assert.isTrue(hashCount > 0, "Hash count must be positive!");
+		this.bitSize = bitSize;
+		this.hashCount = hashCount;
+		this.bitMap = bitMap;
+	}
+
+	/**
+	 * @return bit数
+	 */
+	public long bitSize() {
+		return this.bitSize;
+	}
+
+	/**
+	 * @return hash函数个数
+	 */
+	public int hashCount() {
+		return this.hashCount;
+	}
+
+	@Override
+	public boolean contains(String str) {
+		final long[] hash = MurmurHash.hash128(str);
+		long combinedHash = hash[0];
+		for (int i = 0; i < hashCount; i++) {
+			if (false == bitMap.contains((combinedHash & Long.MAX_VALUE) % bitSize)) {
+				return false;
+			}
+			combinedHash += hash[1];
+		}
+		return true;
+	}
+
+	@Override
+	public boolean add(String str) {
+		final long[] hash = MurmurHash.hash128(str);
+		long combinedHash = hash[0];
+		boolean changed = false;
+		long index;
+		for (int i = 0; i < hashCount; i++) {
+			index = (combinedHash & Long.MAX_VALUE) % bitSize;
+			if (false == bitMap.contains(index)) {
+				bitMap.add(index);
+				changed = true;
+			}
+			combinedHash += hash[1];
+		}
+		return changed;
+	}
+
+	/**
+	 * 计算最优bit数：m = -n * ln(p) / (ln2)^2，结果按64位对齐
+	 *
+	 * @param expectedInsertions 预期加入的元素个数
+	 * @param fpp                期望的误判率，范围(0, 1)
+	 * @return bit数
+	 */
+	public static long optimalBitSize(long expectedInsertions, double fpp) {
+		Assert.isTrue(expectedInsertions > 0, "Expected insertions must be positive!");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)!");
+		final long bitSize = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+		return wordCount(bitSize) * (long) BitMap.MACHINE64;
+	}
+
+	/**
+	 * 计算最优hash函数个数：k = m / n * ln2
+	 *
+	 * @param expectedInsertions 预期加入的元素个数
+	 * @param bitSize            bit数
+	 * @return hash函数个数
+	 */
+	public static int optimalHashCount(long expectedInsertions, long bitSize) {
+		return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	/**
+	 * 容纳指定bit数所需的long个数
+	 *
+	 * @param bitSize bit数
+	 * @return long个数
+	 */
+	private static int wordCount(long bitSize) {
+		final long wordCount = (bitSize + BitMap.MACHINE64 - 1) / BitMap.MACHINE64;
+		Assert.isTrue(wordCount <= Integer.MAX_VALUE, "Bit size {} is too large!", bitSize);
+		return (int) wordCount;
+	}
+}
@@ -0,0 +1,91 @@
+package cn.hutool.bloomfilter.bitMap;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 线程安全的BitMap，使用{@link AtomicLongArray}存储，通过CAS设置和清除bit，无需加锁
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class ConcurrentLongMap implements BitMap, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final AtomicLongArray longs;
+
+	/**
+	 * 构造
+	 *
+	 * @param size 容量，即long的个数
+	 */
+	public ConcurrentLongMap(int size) {
+		longs = new AtomicLongArray(size);
+	}
+
+	@Override
+	public void add(long i) {
+		set(i);
+	}
+
+	/**
+	 * 设置bit，并返回此bit是否由此次调用设置
+	 *
+	 * @param i 值
+	 * @return 此bit之前未设置返回{@code true}，已设置返回{@code false}
+	 */
+	public boolean set(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long mask = 1L << (i & (BitMap.MACHINE64 - 1));
+		long old;
+		do {
+			old = longs.get(r);
+			if ((old & mask) != 0) {
+				return false;
+			}
+		} while (false == longs.compareAndSet(r, old, old | mask));
+		return true;
+	}
+
+	@Override
+	public boolean contains(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long c = i & (BitMap.MACHINE64 - 1);
+		return ((longs.get(r) >>> c) & 1) == 1;
+	}
+
+	@Override
+	public void remove(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long mask = ~(1L << (i & (BitMap.MACHINE64 - 1)));
+		long old;
+		do {
+			old = longs.get(r);
+		} while (false == longs.compareAndSet(r, old, old & mask));
+	}
+
+	/**
+	 * @return long的个数
+	 */
+	public int size() {
+		return longs.length();
+	}
+
+	/**
+	 * 与另一个BitMap按位或合并，合并结果存放于当前对象
+	 *
+	 * @param other 另一个BitMap，大小必须一致
+	 * @throws IllegalArgumentException 大小不一致
+	 */
+	public void or(ConcurrentLongMap other) {
+		if (other.size() != size()) {
+			throw new IllegalArgumentException("BitMap size not match: " + other.size() + " != " + size());
+		}
+		for (int r = 0; r < longs.length(); r++) {
+			final long word = other.longs.get(r);
+			if (0 != word) {
+				longs.accumulateAndGet(r, word, (a, b) -> a | b);
+			}
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.ConcurrentLongMap;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentBloomFilterTest {
+
+	@Test
+	public void concurrentAddTest() {
+		final int count = 100000;
+		final ConcurrentBloomFilter filter = BloomFilterUtil.createConcurrent(count, 0.01);
+		final AtomicInteger index = new AtomicInteger();
+		ThreadUtil.concurrencyTest(8, () -> {
+			int i;
+			while ((i = index.getAndIncrement()) < count) {
+				filter.add("key" + i);
+			}
+		});
+
+		for (int i = 0; i < count; i++) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+	}
+
+	@Test
+	public void addAllAndMergeTest() {
+		final ConcurrentBloomFilter filter1 = BloomFilterUtil.createConcurrent(1000, 0.01);
+		final ConcurrentBloomFilter filter2 = BloomFilterUtil.createConcurrent(1000, 0.01);
+		Assert.assertTrue(filter1.addAll(ListUtil.of("a", "b", "c")));
+		Assert.assertFalse(filter1.addAll(ListUtil.of("a", "b")));
+		filter2.addAll(ListUtil.of("d", "e"));
+		Assert.assertFalse(filter1.contains("d"));
+
+		filter1.merge(filter2);
+		for (String str : ListUtil.of("a", "b", "c", "d", "e")) {
+			Assert.assertTrue(filter1.contains(str));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void mergeNotMatchTest() {
+		BloomFilterUtil.createConcurrent(1000, 0.01).merge(BloomFilterUtil.createConcurrent(2000, 0.01));
+	}
+
+	@Test
+	public void concurrentLongMapTest() {
+		final ConcurrentLongMap longMap = new ConcurrentLongMap(2);
+		Assert.assertTrue(longMap.set(70));
+		Assert.assertFalse(longMap.set(70));
+		Assert.assertTrue(longMap.contains(70));
+		longMap.remove(70);
+		Assert.assertFalse(longMap.contains(70));
+	}
+}
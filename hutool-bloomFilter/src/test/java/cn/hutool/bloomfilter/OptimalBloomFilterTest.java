@@ -0,0 +1,81 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+public class OptimalBloomFilterTest {
+
+	@Test
+	public void sizeTest() {
+		final OptimalBloomFilter filter = BloomFilterUtil.createOptimal(1000000, 0.01);
+		// m = -n * ln(p) / (ln2)^2 ≈ 9585059，按64位对齐
+		Assert.assertEquals(9585088, filter.bitSize());
+		Assert.assertEquals(7, filter.hashCount());
+	}
+
+	@Test
+	public void filterTest() {
+		final OptimalBloomFilter filter = BloomFilterUtil.createOptimal(10000, 0.01);
+		Assert.assertTrue(filter.add("123"));
+		Assert.assertFalse(filter.add("123"));
+		filter.add("abc");
+		filter.add("ddd");
+
+		Assert.assertTrue(filter.contains("abc"));
+		Assert.assertTrue(filter.contains("ddd"));
+		Assert.assertTrue(filter.contains("123"));
+	}
+
+	@Test
+	public void fppTest() {
+		final int count = 100000;
+		final OptimalBloomFilter filter = BloomFilterUtil.createOptimal(count, 0.01);
+		for (int i = 0; i < count; i++) {
+			filter.add("key" + i);
+		}
+		for (int i = 0; i < count; i++) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+
+		int falsePositive = 0;
+		for (int i = count; i < count * 2; i++) {
+			if (filter.contains("key" + i)) {
+				falsePositive++;
+			}
+		}
+		// 期望误判率1%，允许一定波动
+		Assert.assertTrue(falsePositive < count * 0.015);
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkTest() {
+		final int count = 1000000;
+		final BitMapBloomFilter bitMapBloomFilter = new BitMapBloomFilter(10);
+		final OptimalBloomFilter optimalBloomFilter = BloomFilterUtil.createOptimal(count, 0.01);
+		for (int i = 0; i < count; i++) {
+			bitMapBloomFilter.add("key" + i);
+			optimalBloomFilter.add("key" + i);
+		}
+
+		final TimeInterval timer = new TimeInterval();
+		int falsePositive = 0;
+		for (int i = count; i < count * 2; i++) {
+			if (bitMapBloomFilter.contains("key" + i)) {
+				falsePositive++;
+			}
+		}
+		Console.log("BitMapBloomFilter: {}ms, false positive: {}", timer.intervalRestart(), falsePositive);
+
+		falsePositive = 0;
+		for (int i = count; i < count * 2; i++) {
+			if (optimalBloomFilter.contains("key" + i)) {
+				falsePositive++;
+			}
+		}
+		Console.log("OptimalBloomFilter: {}ms, false positive: {}", timer.intervalRestart(), falsePositive);
+	}
+}
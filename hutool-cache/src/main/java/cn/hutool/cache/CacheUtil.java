@@ -1,10 +1,13 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.ConcurrentLRUCache;
 import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.FastLFUCache;
 import cn.hutool.cache.impl.LFUCache;
 import cn.hutool.cache.impl.LRUCache;
 import cn.hutool.cache.impl.NoCache;
 import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.impl.TinyLFUCache;
 import cn.hutool.cache.impl.WeakCache;
 
 /**
@@ -64,6 +67,33 @@ public class CacheUtil {
 		return new LFUCache<>(capacity);
 	}
 
+	/**
+	 * 创建基于频率桶的LFU(least frequently used) 最少使用率缓存，淘汰操作时间复杂度为O(1).
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link FastLFUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> FastLFUCache<K, V> newFastLFUCache(int capacity, long timeout){
+		return new FastLFUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建基于频率桶的LFU(least frequently used) 最少使用率缓存，淘汰操作时间复杂度为O(1).
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @return {@link FastLFUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> FastLFUCache<K, V> newFastLFUCache(int capacity){
+		return new FastLFUCache<>(capacity);
+	}
+
 
 	/**
 	 * 创建LRU (least recently used)最近最久未使用缓存.
@@ -90,6 +120,60 @@ public class CacheUtil {
 		return new LRUCache<>(capacity);
 	}
 
+	/**
+	 * 创建并发LRU (least recently used)最近最久未使用缓存，读操作无锁.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity, long timeout){
+		return new ConcurrentLRUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建并发LRU (least recently used)最近最久未使用缓存，读操作无锁.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity){
+		return new ConcurrentLRUCache<>(capacity);
+	}
+
+	/**
+	 * 创建W-TinyLFU缓存，通过访问频率估算进行准入过滤，避免批量扫描冲掉热点数据.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link TinyLFUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> TinyLFUCache<K, V> newTinyLFUCache(int capacity, long timeout){
+		return new TinyLFUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建W-TinyLFU缓存，通过访问频率估算进行准入过滤，避免批量扫描冲掉热点数据.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @return {@link TinyLFUCache}
+	 * @since 5.8.19
+	 */
+	public static <K, V> TinyLFUCache<K, V> newTinyLFUCache(int capacity){
+		return new TinyLFUCache<>(capacity);
+	}
+
 	/**
 	 * 创建定时缓存.
 	 *
@@ -0,0 +1,304 @@
+package cn.hutool.cache.file;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 使用堆外内存的LRU文件缓存，以解决频繁读取文件引起的性能问题<br>
+ * 与{@link LRUFileCache}将文件内容以byte[]存放于堆中不同，此缓存将文件内容读入直接内存（{@link ByteBuffer#allocateDirect(int)}），
+ * 大量缓存文件时不会增加GC的负担：
+ * <ul>
+ *     <li>容量和已使用空间均按照byte数计算，超出容量时淘汰最久未使用的文件</li>
+ *     <li>{@link #getFileBuffer(File)}返回只读视图，不复制文件内容</li>
+ *     <li>{@link #getFileBytes(File)}复制为新的byte[]，与{@link AbstractFileCache#getFileBytes(File)}兼容</li>
+ * </ul>
+ * 被淘汰文件的直接内存在对应的{@link ByteBuffer}被GC回收后释放，因此JVM的MaxDirectMemorySize应大于缓存容量。<br>
+ * 由于直接内存无法序列化，此类不支持序列化。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class DirectLRUFileCache {
+
+	/**
+	 * 容量（byte数）
+	 */
+	private final long capacity;
+	/**
+	 * 缓存的最大文件大小，文件大于此大小时将不被缓存
+	 */
+	private final int maxFileSize;
+	/**
+	 * 默认超时时间，0表示无默认超时
+	 */
+	private final long timeout;
+
+	/**
+	 * 按访问顺序排列的缓存文件
+	 */
+	private final LinkedHashMap<File, DirectObj> cacheMap = new LinkedHashMap<>(16, 0.75f, true);
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * 已使用缓存空间
+	 */
+	private long usedSize;
+
+	/**
+	 * 构造<br>
+	 * 最大文件大小为缓存容量的一半<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 缓存容量（byte数）
+	 */
+	public DirectLRUFileCache(long capacity) {
+		this(capacity, (int) Math.min(capacity / 2, Integer.MAX_VALUE), 0);
+	}
+
+	/**
+	 * 构造<br>
+	 * 默认无超时
+	 *
+	 * @param capacity    缓存容量（byte数）
+	 * @param maxFileSize 最大文件大小
+	 */
+	public DirectLRUFileCache(long capacity, int maxFileSize) {
+		this(capacity, maxFileSize, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity    缓存容量（byte数）
+	 * @param maxFileSize 文件最大大小
+	 * @param timeout     默认超时时间，0表示无默认超时
+	 */
+	public DirectLRUFileCache(long capacity, int maxFileSize, long timeout) {
+		this.capacity = capacity;
+		this.maxFileSize = maxFileSize;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * @return 缓存容量（byte数）
+	 */
+	public long capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return 已使用空间大小（byte数）
+	 */
+	public long getUsedSize() {
+		lock.lock();
+		try {
+			return usedSize;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return 允许被缓存文件的最大byte数
+	 */
+	public int maxFileSize() {
+		return maxFileSize;
+	}
+
+	/**
+	 * @return 缓存的文件数
+	 */
+	public int getCachedFilesCount() {
+		lock.lock();
+		try {
+			return cacheMap.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return 超时时间
+	 */
+	public long timeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			cacheMap.clear();
+			usedSize = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// ---------------------------------------------------------------- get
+
+	/**
+	 * 获得缓存过的文件bytes，返回内容为缓存的拷贝
+	 *
+	 * @param path 文件路径
+	 * @return 缓存过的文件bytes
+	 * @throws IORuntimeException IO异常
+	 */
+	public byte[] getFileBytes(String path) throws IORuntimeException {
+		return getFileBytes(new File(path));
+	}
+
+	/**
+	 * 获得缓存过的文件bytes，返回内容为缓存的拷贝
+	 *
+	 * @param file 文件
+	 * @return 缓存过的文件bytes
+	 * @throws IORuntimeException IO异常
+	 */
+	public byte[] getFileBytes(File file) throws IORuntimeException {
+		final ByteBuffer buffer = getFileBuffer(file);
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 获得缓存过的文件内容的只读视图，不复制文件内容<br>
+	 * 每次调用返回独立的position和limit，可在多线程中分别读取
+	 *
+	 * @param path 文件路径
+	 * @return 文件内容的只读{@link ByteBuffer}
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getFileBuffer(String path) throws IORuntimeException {
+		return getFileBuffer(new File(path));
+	}
+
+	/**
+	 * 获得缓存过的文件内容的只读视图，不复制文件内容<br>
+	 * 每次调用返回独立的position和limit，可在多线程中分别读取
+	 *
+	 * @param file 文件
+	 * @return 文件内容的只读{@link ByteBuffer}
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getFileBuffer(File file) throws IORuntimeException {
+		DirectObj co;
+		lock.lock();
+		try {
+			co = cacheMap.get(file);
+			if (null != co && co.isExpired(timeout)) {
+				removeWithoutLock(file);
+				co = null;
+			}
+			if (null != co) {
+				co.lastAccess = System.currentTimeMillis();
+				return co.buffer.duplicate();
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		// add file
+		final long length = file.length();
+		if ((maxFileSize != 0) && (length > maxFileSize)) {
+			//大于缓存空间，不缓存，直接返回
+			return ByteBuffer.wrap(FileUtil.readBytes(file)).asReadOnlyBuffer();
+		}
+
+		final ByteBuffer buffer = readDirect(file);
+		lock.lock();
+		try {
+			co = cacheMap.get(file);
+			if (null == co) {
+				co = new DirectObj(buffer);
+				cacheMap.put(file, co);
+				usedSize += co.size();
+				evictWithoutLock();
+			}
+			return co.buffer.duplicate();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 淘汰最久未使用的文件直到已使用空间不超过容量
+	 */
+	private void evictWithoutLock() {
+		final Iterator<Map.Entry<File, DirectObj>> entries = cacheMap.entrySet().iterator();
+		while (usedSize > capacity && entries.hasNext()) {
+			usedSize -= entries.next().getValue().size();
+			entries.remove();
+		}
+	}
+
+	private void removeWithoutLock(File file) {
+		final DirectObj co = cacheMap.remove(file);
+		if (null != co) {
+			usedSize -= co.size();
+		}
+	}
+
+	/**
+	 * 读取文件内容到直接内存
+	 *
+	 * @param file 文件
+	 * @return 只读的直接内存{@link ByteBuffer}
+	 * @throws IORuntimeException IO异常
+	 */
+	private static ByteBuffer readDirect(File file) throws IORuntimeException {
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			final long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IORuntimeException("File [{}] is too large to cache: {}", file, size);
+			}
+			final ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+				// 读满为止
+			}
+			buffer.flip();
+			return buffer.asReadOnlyBuffer();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			IoUtil.close(channel);
+		}
+	}
+
+	/**
+	 * 缓存的文件内容
+	 */
+	private static class DirectObj {
+		private final ByteBuffer buffer;
+		private volatile long lastAccess;
+
+		DirectObj(ByteBuffer buffer) {
+			this.buffer = buffer;
+			this.lastAccess = System.currentTimeMillis();
+		}
+
+		int size() {
+			return buffer.capacity();
+		}
+
+		boolean isExpired(long timeout) {
+			return timeout > 0 && (System.currentTimeMillis() - this.lastAccess) > timeout;
+		}
+	}
+}
@@ -6,10 +6,14 @@ import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutableObj;
 import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.thread.GlobalThreadPool;
 
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -37,6 +41,11 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected final SafeConcurrentHashMap<K, Lock> keyLockMap = new SafeConcurrentHashMap<>();
 
+	/**
+	 * 正在异步加载的任务，同一个key共享一个加载任务
+	 */
+	protected final SafeConcurrentHashMap<K, CompletableFuture<V>> loadingFutureMap = new SafeConcurrentHashMap<>();
+
 	/**
 	 * 返回缓存容量，{@code 0}表示无大小限制
 	 */
@@ -46,6 +55,16 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected long timeout;
 
+	/**
+	 * 写入后多久异步刷新，{@code 0} 表示不刷新，单位毫秒
+	 */
+	protected long refreshAfterWrite;
+
+	/**
+	 * 异步加载使用的线程池，{@code null}表示使用{@link GlobalThreadPool}
+	 */
+	protected transient Executor executor;
+
 	/**
 	 * 每个对象是否有单独的失效时长，用于决定清理过期对象是否有必要。
 	 */
@@ -115,14 +134,15 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 			keyLock.lock();
 			try {
 				// 双重检查锁，防止在竞争锁的过程中已经有其它线程写入
-				final CacheObj<K, V> co = getWithoutLock(key);
+				final CacheObj<K, V> co = getWithLock(key);
 				if (null == co || co.isExpired()) {
 					try {
 						v = supplier.call();
 					} catch (Exception e) {
 						throw new RuntimeException(e);
 					}
-					put(key, v, this.timeout);
+					// 重新加载过期对象时保留其单独的超时时长
+					put(key, v, null == co ? this.timeout : co.ttl);
 				} else {
 					v = co.get(isUpdateLastAccess);
 				}
@@ -130,10 +150,121 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 				keyLock.unlock();
 				keyLockMap.remove(key);
 			}
+		} else if (null != v) {
+			refreshIfNecessary(key, supplier);
 		}
 		return v;
 	}
 
+	/**
+	 * 异步从缓存中获得对象，当对象不在缓存中或已经过期时，使用supplier异步加载<br>
+	 * 同一个key同时只有一个加载任务，并发调用共享同一个{@link CompletableFuture}
+	 *
+	 * @param key      键
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @return 值对象的{@link CompletableFuture}
+	 * @since 5.8.19
+	 */
+	public CompletableFuture<V> getAsync(K key, Func0<V> supplier) {
+		return getAsync(key, true, supplier);
+	}
+
+	/**
+	 * 异步从缓存中获得对象，当对象不在缓存中或已经过期时，使用supplier异步加载<br>
+	 * 同一个key同时只有一个加载任务，并发调用共享同一个{@link CompletableFuture}
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间，即重新计算超时时间。
+	 * @param supplier           如果不存在回调方法，用于生产值对象
+	 * @return 值对象的{@link CompletableFuture}
+	 * @since 5.8.19
+	 */
+	public CompletableFuture<V> getAsync(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		final V v = get(key, isUpdateLastAccess);
+		if (null != v) {
+			refreshIfNecessary(key, supplier);
+			return CompletableFuture.completedFuture(v);
+		}
+		return loadAsync(key, supplier);
+	}
+
+	/**
+	 * 使用supplier异步加载值并放入缓存，已有同一个key的加载任务时返回已有任务
+	 *
+	 * @param key      键
+	 * @param supplier 用于生产值对象
+	 * @return 加载任务
+	 * @since 5.8.19
+	 */
+	protected CompletableFuture<V> loadAsync(K key, Func0<V> supplier) {
+		return loadAsync(key, supplier, this.timeout);
+	}
+
+	/**
+	 * 使用supplier异步加载值并放入缓存，已有同一个key的加载任务时返回已有任务
+	 *
+	 * @param key      键
+	 * @param supplier 用于生产值对象
+	 * @param timeout  加载的值的超时时长
+	 * @return 加载任务
+	 * @since 5.8.19
+	 */
+	protected CompletableFuture<V> loadAsync(K key, Func0<V> supplier, long timeout) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> loading = loadingFutureMap.putIfAbsent(key, future);
+		if (null != loading) {
+			return loading;
+		}
+
+		final Executor executor = null != this.executor ? this.executor : GlobalThreadPool.getExecutor();
+		try {
+			executor.execute(() -> {
+				try {
+					final V v = supplier.call();
+					put(key, v, timeout);
+					future.complete(v);
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				} finally {
+					loadingFutureMap.remove(key, future);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			loadingFutureMap.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 对象写入时长超过{@link #refreshAfterWrite}时，使用supplier异步刷新，刷新完成前依旧返回旧值
+	 *
+	 * @param key      键
+	 * @param supplier 用于生产值对象
+	 */
+	private void refreshIfNecessary(K key, Func0<V> supplier) {
+		if (refreshAfterWrite <= 0 || null == supplier) {
+			return;
+		}
+		final CacheObj<K, V> co = getWithLock(key);
+		if (null != co && System.currentTimeMillis() - co.writeTime >= refreshAfterWrite) {
+			// 刷新失败时保留旧值，异常由返回的CompletableFuture持有；刷新后保留对象单独的超时时长
+			loadAsync(key, supplier, co.ttl);
+		}
+	}
+
+	/**
+	 * 线程安全地获取键对应的{@link CacheObj}，不计入命中数，用于在缓存锁之外读取缓存对象<br>
+	 * 默认直接读取，适用于线程安全的Map，使用锁保护Map的子类需重写此方法
+	 *
+	 * @param key 键
+	 * @return {@link CacheObj}
+	 * @since 5.8.19
+	 */
+	protected CacheObj<K, V> getWithLock(K key) {
+		return getWithoutLock(key);
+	}
+
 	/**
 	 * 获取键对应的{@link CacheObj}
 	 * @param key 键，实际使用时会被包装为{@link MutableObj}
@@ -218,6 +349,31 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return this;
 	}
 
+	/**
+	 * 设置写入后多久异步刷新，刷新只在通过supplier获取值时触发，刷新完成前依旧返回旧值<br>
+	 * 此值应小于过期时长，否则对象过期后会同步加载
+	 *
+	 * @param refreshAfterWrite 写入后多久刷新，{@code 0} 表示不刷新，单位毫秒
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public AbstractCache<K, V> setRefreshAfterWrite(long refreshAfterWrite) {
+		this.refreshAfterWrite = refreshAfterWrite;
+		return this;
+	}
+
+	/**
+	 * 设置异步加载和刷新使用的线程池
+	 *
+	 * @param executor 线程池，{@code null}表示使用{@link GlobalThreadPool}
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public AbstractCache<K, V> setExecutor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
 	/**
 	 * 返回所有键
 	 *
@@ -19,6 +19,10 @@ public class CacheObj<K, V> implements Serializable {
 	protected final K key;
 	protected final V obj;
 
+	/**
+	 * 写入时间
+	 */
+	protected final long writeTime;
 	/**
 	 * 上次访问时间
 	 */
@@ -43,7 +47,8 @@ public class CacheObj<K, V> implements Serializable {
 		this.key = key;
 		this.obj = obj;
 		this.ttl = ttl;
-		this.lastAccess = System.currentTimeMillis();
+		this.writeTime = System.currentTimeMillis();
+		this.lastAccess = this.writeTime;
 	}
 
 	/**
@@ -89,6 +94,16 @@ public class CacheObj<K, V> implements Serializable {
 		return null;
 	}
 
+	/**
+	 * 获取写入时间
+	 *
+	 * @return 写入时间
+	 * @since 5.8.19
+	 */
+	public long getWriteTime() {
+		return this.writeTime;
+	}
+
 	/**
 	 * 获取上次访问时间
 	 *
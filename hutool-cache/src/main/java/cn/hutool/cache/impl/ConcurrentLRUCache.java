@@ -0,0 +1,537 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.collection.CopiedIter;
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 并发LRU (least recently used)最近最久未使用缓存<br>
+ * 参考ConcurrentLinkedHashMap/Caffeine的实现思路，与{@link LRUCache}使用全局互斥锁不同：
+ * <ul>
+ *     <li>缓存对象存放于{@link SafeConcurrentHashMap}中，读操作无锁</li>
+ *     <li>读操作只将访问记录放入按线程分段的有界环形读缓冲区，不创建节点，也不竞争全局计数器；
+ *     读缓冲区满时丢弃访问记录，并尝试获取淘汰锁批量调整访问顺序</li>
+ *     <li>写操作将链表变更任务放入写缓冲区后尝试获取淘汰锁，获取失败时直接返回，由持有锁的线程处理，写线程不会在淘汰锁上排队；
+ *     写缓冲区积压过多时写线程才等待处理完成</li>
+ *     <li>获得淘汰锁的线程批量处理读写缓冲区，并淘汰超出容量的最久未使用对象，处理期间新加入的写任务由其继续处理</li>
+ * </ul>
+ * 由于访问顺序是批量调整的，淘汰顺序为近似LRU。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.19
+ */
+public class ConcurrentLRUCache<K, V> extends AbstractCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 读缓冲区分段数，不小于CPU核数的2的幂
+	 */
+	private static final int READ_BUFFER_STRIPES = ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors());
+	/**
+	 * 写缓冲区积压超过此数量时，写线程等待处理完成
+	 */
+	private static final int WRITE_BUFFER_MAX = 1024;
+
+	/**
+	 * 缓冲区处理状态：无待处理任务
+	 */
+	private static final int IDLE = 0;
+	/**
+	 * 缓冲区处理状态：有待处理任务
+	 */
+	private static final int REQUIRED = 1;
+	/**
+	 * 缓冲区处理状态：处理中，处理期间无新的写任务
+	 */
+	private static final int PROCESSING_TO_IDLE = 2;
+	/**
+	 * 缓冲区处理状态：处理中，处理期间有新的写任务，需再次处理
+	 */
+	private static final int PROCESSING_TO_REQUIRED = 3;
+
+	/**
+	 * 淘汰锁，保护访问顺序链表
+	 */
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	/**
+	 * 按线程分段的读缓冲区
+	 */
+	private final ReadBuffer<K, V>[] readBuffers;
+	/**
+	 * 写缓冲区
+	 */
+	private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger writeBufferSize = new AtomicInteger();
+	/**
+	 * 缓冲区处理状态
+	 */
+	private final AtomicInteger drainStatus = new AtomicInteger(IDLE);
+
+	/**
+	 * 访问顺序链表，头部为最久未使用对象
+	 */
+	private LinkedObj<K, V> head;
+	private LinkedObj<K, V> tail;
+
+	/**
+	 * 构造<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 容量
+	 */
+	public ConcurrentLRUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentLRUCache(int capacity, long timeout) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		cacheMap = new SafeConcurrentHashMap<>(capacity + 1);
+		readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+		for (int i = 0; i < READ_BUFFER_STRIPES; i++) {
+			readBuffers[i] = new ReadBuffer<>();
+		}
+	}
+
+	// ---------------------------------------------------------------- put and get
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		final LinkedObj<K, V> co = new LinkedObj<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+
+		final LinkedObj<K, V> old = (LinkedObj<K, V>) cacheMap.put(MutableObj.of(key), co);
+		if (null != old) {
+			// 替换已有对象，不触发移除事件
+			old.alive = false;
+			addWriteTask(() -> unlink(old));
+		}
+		addWriteTask(() -> {
+			if (co.alive) {
+				linkLast(co);
+			}
+		});
+		afterWrite();
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		final LinkedObj<K, V> co = (LinkedObj<K, V>) getWithoutLock(key);
+
+		// 未命中
+		if (null == co) {
+			missCount.increment();
+			return null;
+		} else if (false == co.isExpired()) {
+			hitCount.increment();
+			afterRead(co);
+			return co.get(isUpdateLastAccess);
+		}
+
+		// 过期，既不算命中也不算非命中
+		if (removeObj(co)) {
+			missCount.increment();
+			onRemove(co.key, co.obj);
+		}
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		final LinkedObj<K, V> co = (LinkedObj<K, V>) getWithoutLock(key);
+		if (null == co) {
+			return false;
+		}
+		if (false == co.isExpired()) {
+			return true;
+		}
+
+		// 过期
+		if (removeObj(co)) {
+			missCount.increment();
+			onRemove(co.key, co.obj);
+		}
+		return false;
+	}
+
+	// ---------------------------------------------------------------- remove and prune
+
+	@Override
+	public void remove(K key) {
+		final LinkedObj<K, V> co = (LinkedObj<K, V>) removeWithoutLock(key, false);
+		if (null != co) {
+			co.alive = false;
+			addWriteTask(() -> unlink(co));
+			afterWrite();
+			onRemove(co.key, co.obj);
+		}
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			// 逐个移除，保证并发加入的对象在写缓冲区执行时依旧可以正确链接
+			final Iterator<Map.Entry<Mutable<K>, CacheObj<K, V>>> entries = cacheMap.entrySet().iterator();
+			Map.Entry<Mutable<K>, CacheObj<K, V>> entry;
+			while (entries.hasNext()) {
+				entry = entries.next();
+				if (cacheMap.remove(entry.getKey(), entry.getValue())) {
+					((LinkedObj<K, V>) entry.getValue()).alive = false;
+				}
+			}
+			drainWriteBuffer();
+			LinkedObj<K, V> co = this.head;
+			while (null != co) {
+				final LinkedObj<K, V> next = co.next;
+				unlink(co);
+				co = next;
+			}
+			for (final ReadBuffer<K, V> readBuffer : readBuffers) {
+				readBuffer.clear();
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public int prune() {
+		if (false == isPruneExpiredActive()) {
+			return 0;
+		}
+		int count = 0;
+		for (CacheObj<K, V> co : cacheMap.values()) {
+			if (co.isExpired() && removeObj((LinkedObj<K, V>) co)) {
+				onRemove(co.key, co.obj);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 只清理超时对象，容量满时的淘汰在处理写缓冲区时完成
+	 *
+	 * @return 清理数
+	 */
+	@Override
+	protected int pruneCache() {
+		return prune();
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		return new CacheObjIterator<>(CopiedIter.copyOf(cacheObjIter()));
+	}
+
+	/**
+	 * 强制处理所有读写缓冲区，并淘汰超出容量的对象
+	 */
+	public void cleanUp() {
+		evictionLock.lock();
+		try {
+			maintenance();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	// ---------------------------------------------------------------- buffer
+
+	/**
+	 * 记录读操作，放入当前线程对应的读缓冲区，缓冲区已满时丢弃此次访问记录并尝试批量处理
+	 *
+	 * @param co 被访问的对象
+	 */
+	private void afterRead(LinkedObj<K, V> co) {
+		final int index = (int) Thread.currentThread().getId() & (READ_BUFFER_STRIPES - 1);
+		if (false == readBuffers[index].offer(co)) {
+			tryDrainBuffers();
+		}
+	}
+
+	/**
+	 * 加入写任务
+	 *
+	 * @param task 链表变更任务
+	 */
+	private void addWriteTask(Runnable task) {
+		writeBuffer.add(task);
+		writeBufferSize.incrementAndGet();
+	}
+
+	/**
+	 * 写操作后标记需要处理缓冲区并尝试处理，其它线程正在处理时由其继续处理新加入的写任务<br>
+	 * 写缓冲区积压过多时等待获取淘汰锁，避免写入速度超过处理速度导致缓冲区无限增长
+	 */
+	private void afterWrite() {
+		// 处理中时标记需再次处理，处理中的线程在结束前会处理此次的写任务
+		int status = drainStatus.get();
+		while (PROCESSING_TO_IDLE == status && false == drainStatus.compareAndSet(PROCESSING_TO_IDLE, PROCESSING_TO_REQUIRED)) {
+			status = drainStatus.get();
+		}
+		if (IDLE == status) {
+			drainStatus.compareAndSet(IDLE, REQUIRED);
+		}
+
+		if (writeBufferSize.get() > WRITE_BUFFER_MAX) {
+			evictionLock.lock();
+			try {
+				maintenance();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+		tryDrainBuffers();
+	}
+
+	/**
+	 * 尝试获取淘汰锁并处理缓冲区，其它线程正在处理时直接返回<br>
+	 * 释放锁后如有新的待处理任务（其它线程在持有锁期间标记且未能获取锁），继续尝试处理，保证写任务不会滞留
+	 */
+	private void tryDrainBuffers() {
+		do {
+			if (false == evictionLock.tryLock()) {
+				return;
+			}
+			try {
+				maintenance();
+			} finally {
+				evictionLock.unlock();
+			}
+		} while (REQUIRED == drainStatus.get());
+	}
+
+	/**
+	 * 批量处理读写缓冲区并淘汰超出容量的对象，处理期间有新的写任务时继续处理，需在淘汰锁保护下调用
+	 */
+	private void maintenance() {
+		do {
+			drainStatus.set(PROCESSING_TO_IDLE);
+			// 先处理读缓冲区，保证写入前的访问记录不会排在新加入对象之后
+			drainReadBuffers();
+			drainWriteBuffer();
+			evict();
+		} while (false == drainStatus.compareAndSet(PROCESSING_TO_IDLE, IDLE));
+	}
+
+	/**
+	 * 批量调整访问顺序，需在淘汰锁保护下调用
+	 */
+	private void drainReadBuffers() {
+		LinkedObj<K, V> co;
+		for (final ReadBuffer<K, V> readBuffer : readBuffers) {
+			while (null != (co = readBuffer.poll())) {
+				if (co.alive && co.linked) {
+					unlink(co);
+					linkLast(co);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 批量执行链表变更任务，需在淘汰锁保护下调用
+	 */
+	private void drainWriteBuffer() {
+		Runnable task;
+		while (null != (task = writeBuffer.poll())) {
+			writeBufferSize.decrementAndGet();
+			task.run();
+		}
+	}
+
+	/**
+	 * 淘汰超出容量的最久未使用对象，需在淘汰锁保护下调用
+	 */
+	private void evict() {
+		if (capacity <= 0) {
+			return;
+		}
+		LinkedObj<K, V> co;
+		while (cacheMap.size() > capacity && null != (co = this.head)) {
+			unlink(co);
+			if (removeObj(co)) {
+				onRemove(co.key, co.obj);
+			}
+		}
+	}
+
+	/**
+	 * 从Map中移除指定对象，对象已被替换或移除时返回{@code false}
+	 *
+	 * @param co 缓存对象
+	 * @return 是否移除成功
+	 */
+	private boolean removeObj(LinkedObj<K, V> co) {
+		if (cacheMap.remove(MutableObj.of(co.key), co)) {
+			co.alive = false;
+			addWriteTask(() -> unlink(co));
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 不小于指定值的2的幂
+	 *
+	 * @param value 值
+	 * @return 2的幂
+	 */
+	private static int ceilingPowerOfTwo(int value) {
+		return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+	}
+
+	// ---------------------------------------------------------------- linked list
+
+	private void linkLast(LinkedObj<K, V> co) {
+		co.prev = this.tail;
+		co.next = null;
+		if (null == this.tail) {
+			this.head = co;
+		} else {
+			this.tail.next = co;
+		}
+		this.tail = co;
+		co.linked = true;
+	}
+
+	private void unlink(LinkedObj<K, V> co) {
+		if (false == co.linked) {
+			return;
+		}
+		if (null == co.prev) {
+			this.head = co.next;
+		} else {
+			co.prev.next = co.next;
+		}
+		if (null == co.next) {
+			this.tail = co.prev;
+		} else {
+			co.next.prev = co.prev;
+		}
+		co.prev = null;
+		co.next = null;
+		co.linked = false;
+	}
+
+	/**
+	 * 带有访问顺序链表节点信息的缓存对象，链表节点信息只在淘汰锁保护下修改
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class LinkedObj<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 是否仍存在于Map中
+		 */
+		private volatile boolean alive = true;
+		private boolean linked;
+		private LinkedObj<K, V> prev;
+		private LinkedObj<K, V> next;
+
+		LinkedObj(K key, V obj, long ttl) {
+			super(key, obj, ttl);
+		}
+	}
+
+	/**
+	 * 有界的环形读缓冲区，多线程写入，持有淘汰锁的线程读取<br>
+	 * 写入时竞争失败或缓冲区已满则丢弃访问记录，访问顺序为近似LRU，丢弃不影响正确性
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class ReadBuffer<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private static final int SIZE = 16;
+		private static final int MASK = SIZE - 1;
+
+		private final AtomicReferenceArray<LinkedObj<K, V>> buffer = new AtomicReferenceArray<>(SIZE);
+		/**
+		 * 已写入数，只通过CAS增加
+		 */
+		private final AtomicLong writeCounter = new AtomicLong();
+		/**
+		 * 已读取数，只由持有淘汰锁的线程修改
+		 */
+		private volatile long readCounter;
+
+		/**
+		 * 写入访问记录，竞争失败时丢弃
+		 *
+		 * @param co 被访问的对象
+		 * @return 缓冲区是否未满
+		 */
+		boolean offer(LinkedObj<K, V> co) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			if (tail - head >= SIZE) {
+				return false;
+			}
+			if (writeCounter.compareAndSet(tail, tail + 1)) {
+				buffer.lazySet((int) (tail & MASK), co);
+			}
+			return true;
+		}
+
+		/**
+		 * 读取访问记录，需在淘汰锁保护下调用
+		 *
+		 * @return 访问记录，无记录或写入尚未完成时返回{@code null}
+		 */
+		LinkedObj<K, V> poll() {
+			final long head = readCounter;
+			if (head == writeCounter.get()) {
+				return null;
+			}
+			final int index = (int) (head & MASK);
+			final LinkedObj<K, V> co = buffer.get(index);
+			if (null == co) {
+				return null;
+			}
+			buffer.lazySet(index, null);
+			readCounter = head + 1;
+			return co;
+		}
+
+		/**
+		 * 清空，需在淘汰锁保护下调用
+		 */
+		void clear() {
+			//noinspection StatementWithEmptyBody
+			while (null != poll()) {
+			}
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * 过期队列，按照到期时间排列有过期时长的缓存对象，清理时只检查已到期的对象，无需遍历全部缓存<br>
+ * 被移除或替换的对象不会立即从队列中删除，在到期出队时跳过；
+ * 失效的对象过多（队列大小超过缓存大小的2倍）时压缩队列，保证队列大小与缓存大小在同一数量级。<br>
+ * 此类非线程安全，需在缓存的写锁（或互斥锁）保护下访问。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.19
+ */
+class ExpiryQueue<K, V> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 队列小于此大小时不压缩
+	 */
+	private static final int COMPACT_MIN_SIZE = 64;
+
+	/**
+	 * 缓存对象所在的Map，用于判断队列中的对象是否仍在缓存中
+	 */
+	private final Map<Mutable<K>, CacheObj<K, V>> cacheMap;
+	private PriorityQueue<ExpiryEntry<K, V>> queue = new PriorityQueue<>();
+
+	/**
+	 * 构造
+	 *
+	 * @param cacheMap 缓存对象所在的Map
+	 */
+	ExpiryQueue(Map<Mutable<K>, CacheObj<K, V>> cacheMap) {
+		this.cacheMap = cacheMap;
+	}
+
+	/**
+	 * 按照对象的到期时间加入队列，无过期时长或到期时间溢出（永不过期）的对象不加入
+	 *
+	 * @param co 缓存对象
+	 */
+	void add(CacheObj<K, V> co) {
+		if (co.ttl <= 0) {
+			return;
+		}
+		final long deadline = co.lastAccess + co.ttl;
+		if (deadline > co.lastAccess) {
+			queue.add(new ExpiryEntry<>(deadline, co));
+		}
+	}
+
+	/**
+	 * 清理已到期的对象<br>
+	 * 由于访问会刷新过期时间，到期但未过期的对象按照新的到期时间重新入队
+	 *
+	 * @param remover 移除过期对象，包括从缓存Map和缓存自身的结构中移除并触发移除事件
+	 * @return 清理数
+	 */
+	int prune(Consumer<CacheObj<K, V>> remover) {
+		int count = 0;
+		final long now = System.currentTimeMillis();
+		ExpiryEntry<K, V> entry;
+		CacheObj<K, V> co;
+		while (null != (entry = queue.peek()) && entry.deadline < now) {
+			queue.poll();
+			co = entry.co;
+			if (false == isLive(co)) {
+				// 已被移除或替换
+				continue;
+			}
+			if (co.isExpired()) {
+				remover.accept(co);
+				count++;
+			} else {
+				add(co);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 队列大小超过缓存大小的2倍时，移除队列中已被移除或替换的对象，释放其持有的值
+	 */
+	void compactIfNecessary() {
+		final int size = queue.size();
+		if (size <= COMPACT_MIN_SIZE || size <= 2 * cacheMap.size()) {
+			return;
+		}
+		final List<ExpiryEntry<K, V>> liveEntries = new ArrayList<>(cacheMap.size());
+		for (final ExpiryEntry<K, V> entry : queue) {
+			if (isLive(entry.co)) {
+				liveEntries.add(entry);
+			}
+		}
+		// 从集合构建时整体建堆，复杂度为O(n)
+		queue = new PriorityQueue<>(liveEntries);
+	}
+
+	/**
+	 * 清空队列
+	 */
+	void clear() {
+		queue.clear();
+	}
+
+	/**
+	 * 队列大小，包括已失效的对象
+	 *
+	 * @return 队列大小
+	 */
+	int size() {
+		return queue.size();
+	}
+
+	/**
+	 * 对象是否仍在缓存中
+	 *
+	 * @param co 缓存对象
+	 * @return 是否仍在缓存中
+	 */
+	private boolean isLive(CacheObj<K, V> co) {
+		return co == cacheMap.get(MutableObj.of(co.key));
+	}
+
+	/**
+	 * 队列中的对象，按照到期时间排序
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class ExpiryEntry<K, V> implements Comparable<ExpiryEntry<K, V>>, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final long deadline;
+		private final CacheObj<K, V> co;
+
+		ExpiryEntry(long deadline, CacheObj<K, V> co) {
+			this.deadline = deadline;
+			this.co = co;
+		}
+
+		@Override
+		public int compareTo(ExpiryEntry<K, V> o) {
+			return Long.compare(this.deadline, o.deadline);
+		}
+	}
+}
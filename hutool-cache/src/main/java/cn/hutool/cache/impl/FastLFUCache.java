@@ -0,0 +1,325 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.Serializable;
+import java.util.HashMap;
+
+/**
+ * 基于频率桶的LFU(least frequently used) 最少使用率缓存<br>
+ * 与{@link LFUCache}语义相近，区别在于淘汰时无需遍历全部缓存对象：
+ * <ul>
+ *     <li>相同访问次数的对象放在同一个频率桶（双向链表）中，桶按照访问次数由小到大排列</li>
+ *     <li>命中时将对象移入访问次数+1的桶，淘汰时直接移除最小频率桶中最早加入的对象</li>
+ * </ul>
+ * 因此put、get和淘汰操作的时间复杂度均为O(1)。<br>
+ * 由于get操作会改变频率桶结构，因此读写均使用互斥锁保护。<br>
+ * 有过期时长的对象按照到期时间加入过期队列，过期对象在get时移除；容量满时先清理过期队列中已到期的对象，仍满时才按照访问次数淘汰，
+ * 清理时只检查已到期的对象，无需遍历全部缓存。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.19
+ */
+public class FastLFUCache<K, V> extends ReentrantCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 访问次数最小的频率桶
+	 */
+	private FrequencyBucket<K, V> head;
+	/**
+	 * 按照到期时间排序的过期队列
+	 */
+	private final ExpiryQueue<K, V> expiryQueue;
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 */
+	public FastLFUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  过期时长
+	 */
+	public FastLFUCache(int capacity, long timeout) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		cacheMap = new HashMap<>(capacity + 1, 1.0f);
+		expiryQueue = new ExpiryQueue<>(cacheMap);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		FrequencyObj<K, V> co;
+		lock.lock();
+		try {
+			co = (FrequencyObj<K, V>) getWithoutLock(key);
+			if (null != co && false == co.isExpired()) {
+				// 命中则访问次数+1，移入下一个频率桶
+				increment(co);
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		// 未命中
+		if (null == co) {
+			missCount.increment();
+			return null;
+		} else if (false == co.isExpired()) {
+			hitCount.increment();
+			return co.get(isUpdateLastAccess);
+		}
+
+		// 过期，既不算命中也不算非命中
+		lock.lock();
+		try {
+			co = (FrequencyObj<K, V>) removeWithoutLock(key, true);
+		} finally {
+			lock.unlock();
+		}
+		if (null != co) {
+			onRemove(co.key, co.obj);
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		lock.lock();
+		try {
+			super.clear();
+			this.head = null;
+			this.expiryQueue.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		final FrequencyObj<K, V> co = new FrequencyObj<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+
+		final MutableObj<K> mKey = MutableObj.of(key);
+		final CacheObj<K, V> old = cacheMap.get(mKey);
+		if (null != old) {
+			// 替换已有对象，不触发移除事件
+			unlink((FrequencyObj<K, V>) old);
+		} else if (isFull()) {
+			// 优先清理已到期的对象，仍然满时才按访问次数淘汰
+			pruneCache();
+			if (isFull()) {
+				evict();
+			}
+		}
+
+		cacheMap.put(mKey, co);
+		link(co);
+		expiryQueue.add(co);
+		// 替换或淘汰的对象在队列中失效
+		expiryQueue.compactIfNecessary();
+	}
+
+	@Override
+	protected CacheObj<K, V> getWithoutLock(K key) {
+		// 锁可重入，此处加锁保证无锁调用时HashMap和频率桶的一致性
+		lock.lock();
+		try {
+			return super.getWithoutLock(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key, withMissCount);
+		if (null != co) {
+			unlink((FrequencyObj<K, V>) co);
+			expiryQueue.compactIfNecessary();
+		}
+		return co;
+	}
+
+	// ---------------------------------------------------------------- prune
+
+	/**
+	 * 只清理过期队列中已到期的对象，容量满时的淘汰由频率桶完成
+	 *
+	 * @return 清理个数
+	 */
+	@Override
+	protected int pruneCache() {
+		return expiryQueue.prune(co -> {
+			cacheMap.remove(MutableObj.of(co.key));
+			unlink((FrequencyObj<K, V>) co);
+			onRemove(co.key, co.obj);
+		});
+	}
+
+	/**
+	 * 淘汰访问次数最少的对象，访问次数相同时淘汰最早加入该频率桶的对象
+	 */
+	private void evict() {
+		if (null == this.head) {
+			return;
+		}
+		final FrequencyObj<K, V> co = this.head.first;
+		cacheMap.remove(MutableObj.of(co.key));
+		unlink(co);
+		onRemove(co.key, co.obj);
+	}
+
+	// ---------------------------------------------------------------- frequency bucket
+
+	/**
+	 * 新加入的对象放入访问次数为0的频率桶
+	 *
+	 * @param co 缓存对象
+	 */
+	private void link(FrequencyObj<K, V> co) {
+		FrequencyBucket<K, V> bucket = this.head;
+		if (null == bucket || bucket.frequency != 0) {
+			bucket = new FrequencyBucket<>(0);
+			bucket.next = this.head;
+			if (null != this.head) {
+				this.head.prev = bucket;
+			}
+			this.head = bucket;
+		}
+		bucket.append(co);
+	}
+
+	/**
+	 * 将对象从所在频率桶中移除，桶为空时一并移除桶
+	 *
+	 * @param co 缓存对象
+	 */
+	private void unlink(FrequencyObj<K, V> co) {
+		final FrequencyBucket<K, V> bucket = co.bucket;
+		if (null == bucket) {
+			return;
+		}
+		bucket.remove(co);
+		if (bucket.isEmpty()) {
+			if (null != bucket.prev) {
+				bucket.prev.next = bucket.next;
+			} else {
+				this.head = bucket.next;
+			}
+			if (null != bucket.next) {
+				bucket.next.prev = bucket.prev;
+			}
+			bucket.prev = null;
+			bucket.next = null;
+		}
+	}
+
+	/**
+	 * 对象访问次数+1，即移入下一个频率桶
+	 *
+	 * @param co 缓存对象
+	 */
+	private void increment(FrequencyObj<K, V> co) {
+		final FrequencyBucket<K, V> current = co.bucket;
+		final long frequency = current.frequency + 1;
+		FrequencyBucket<K, V> next = current.next;
+		if (null == next || next.frequency != frequency) {
+			// 在当前桶之后插入新桶
+			next = new FrequencyBucket<>(frequency);
+			next.prev = current;
+			next.next = current.next;
+			if (null != current.next) {
+				current.next.prev = next;
+			}
+			current.next = next;
+		}
+		unlink(co);
+		next.append(co);
+	}
+
+	/**
+	 * 带有频率桶链表节点信息的缓存对象
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class FrequencyObj<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private FrequencyBucket<K, V> bucket;
+		private FrequencyObj<K, V> prev;
+		private FrequencyObj<K, V> next;
+
+		FrequencyObj(K key, V obj, long ttl) {
+			super(key, obj, ttl);
+		}
+	}
+
+	/**
+	 * 频率桶，存放访问次数相同的缓存对象，桶内按照加入顺序排列
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class FrequencyBucket<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final long frequency;
+		private FrequencyBucket<K, V> prev;
+		private FrequencyBucket<K, V> next;
+		private FrequencyObj<K, V> first;
+		private FrequencyObj<K, V> last;
+
+		FrequencyBucket(long frequency) {
+			this.frequency = frequency;
+		}
+
+		boolean isEmpty() {
+			return null == first;
+		}
+
+		void append(FrequencyObj<K, V> co) {
+			co.bucket = this;
+			co.prev = last;
+			co.next = null;
+			if (null == last) {
+				first = co;
+			} else {
+				last.next = co;
+			}
+			last = co;
+		}
+
+		void remove(FrequencyObj<K, V> co) {
+			if (null == co.prev) {
+				first = co.next;
+			} else {
+				co.prev.next = co.next;
+			}
+			if (null == co.next) {
+				last = co.prev;
+			} else {
+				co.next.prev = co.prev;
+			}
+			co.bucket = null;
+			co.prev = null;
+			co.next = null;
+		}
+	}
+}
@@ -31,6 +31,16 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		}
 	}
 
+	@Override
+	protected CacheObj<K, V> getWithLock(K key) {
+		lock.lock();
+		try {
+			return getWithoutLock(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	@Override
 	public boolean containsKey(K key) {
 		lock.lock();
@@ -31,6 +31,16 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 		}
 	}
 
+	@Override
+	protected CacheObj<K, V> getWithLock(K key) {
+		final long stamp = lock.readLock();
+		try {
+			return getWithoutLock(key);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
 	@Override
 	public boolean containsKey(K key) {
 		final long stamp = lock.readLock();
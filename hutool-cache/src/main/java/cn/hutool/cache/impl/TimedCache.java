@@ -2,15 +2,16 @@ package cn.hutool.cache.impl;
 
 import cn.hutool.cache.GlobalPruneTimer;
 import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 
 /**
  * 定时缓存<br>
- * 此缓存没有容量限制，对象只有在过期后才会被移除
+ * 此缓存没有容量限制，对象只有在过期后才会被移除<br>
+ * 有过期时长的对象会按照到期时间加入过期队列，清理时只检查已到期的对象，无需遍历全部缓存。
  *
  * @author Looly
  *
@@ -23,6 +24,11 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 	/** 正在执行的定时任务 */
 	private ScheduledFuture<?> pruneJobFuture;
 
+	/**
+	 * 按照到期时间排序的过期队列，只在写锁保护下访问
+	 */
+	private final ExpiryQueue<K, V> expiryQueue;
+
 	/**
 	 * 构造
 	 *
@@ -42,28 +48,55 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 		this.capacity = 0;
 		this.timeout = timeout;
 		this.cacheMap = map;
+		this.expiryQueue = new ExpiryQueue<>(map);
+	}
+
+	@Override
+	public void clear() {
+		final long stamp = lock.writeLock();
+		try {
+			cacheMap.clear();
+			expiryQueue.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		super.putWithoutLock(key, object, timeout);
+		if (timeout > 0) {
+			final CacheObj<K, V> co = super.getWithoutLock(key);
+			if (null != co) {
+				expiryQueue.add(co);
+			}
+		}
+		// 替换的对象在队列中失效
+		expiryQueue.compactIfNecessary();
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key, withMissCount);
+		if (null != co) {
+			expiryQueue.compactIfNecessary();
+		}
+		return co;
 	}
 
 	// ---------------------------------------------------------------- prune
 	/**
-	 * 清理过期对象
+	 * 清理过期对象<br>
+	 * 只检查过期队列中已到期的对象，由于访问会刷新过期时间，未过期的对象按照新的到期时间重新入队
 	 *
 	 * @return 清理数
 	 */
 	@Override
 	protected int pruneCache() {
-		int count = 0;
-		final Iterator<CacheObj<K, V>> values = cacheObjIter();
-		CacheObj<K, V> co;
-		while (values.hasNext()) {
-			co = values.next();
-			if (co.isExpired()) {
-				values.remove();
-				onRemove(co.key, co.obj);
-				count++;
-			}
-		}
-		return count;
+		return expiryQueue.prune(co -> {
+			cacheMap.remove(MutableObj.of(co.key));
+			onRemove(co.key, co.obj);
+		});
 	}
 
 	// ---------------------------------------------------------------- auto prune
@@ -84,5 +117,4 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 			pruneJobFuture.cancel(true);
 		}
 	}
-
 }
@@ -0,0 +1,441 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.Serializable;
+import java.util.HashMap;
+
+/**
+ * W-TinyLFU(Window Tiny Least Frequently Used) 缓存<br>
+ * 参考Caffeine的实现思路，在LRU的基础上增加准入过滤，避免一次性的批量扫描冲掉热点数据：
+ * <ul>
+ *     <li>新对象首先进入容量约为1%的LRU窗口区（window）</li>
+ *     <li>窗口区溢出的对象作为候选者，与主区中试用区（probation）最久未使用的对象比较估算访问频率，频率低者被淘汰</li>
+ *     <li>主区为分段LRU(SLRU)，试用区中被再次访问的对象晋升到保护区（protected），保护区约占主区的80%</li>
+ *     <li>访问频率使用Count-Min Sketch估算，每个计数器4位，记录次数达到样本数量后所有计数器减半（衰减）</li>
+ * </ul>
+ * 由于get操作会改变链表结构，因此读写均使用互斥锁保护。<br>
+ * 有过期时长的对象按照到期时间加入过期队列，超出容量时先清理过期队列中已到期的对象，仍超出时才由准入策略淘汰，无需遍历全部缓存。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.19
+ */
+public class TinyLFUCache<K, V> extends ReentrantCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+
+	/**
+	 * 窗口区最大数量
+	 */
+	private final int maxWindow;
+	/**
+	 * 保护区最大数量
+	 */
+	private final int maxProtected;
+
+	private final AccessDeque<K, V> window = new AccessDeque<>();
+	private final AccessDeque<K, V> probation = new AccessDeque<>();
+	private final AccessDeque<K, V> protectedDeque = new AccessDeque<>();
+
+	/**
+	 * 访问频率估算
+	 */
+	private final FrequencySketch sketch;
+	/**
+	 * 按照到期时间排序的过期队列
+	 */
+	private final ExpiryQueue<K, V> expiryQueue;
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 */
+	public TinyLFUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	public TinyLFUCache(int capacity, long timeout) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		this.maxWindow = Math.max(1, capacity / 100);
+		this.maxProtected = (int) ((capacity - maxWindow) * 0.8);
+		this.sketch = new FrequencySketch(capacity);
+		cacheMap = new HashMap<>(capacity + 1, 1.0f);
+		expiryQueue = new ExpiryQueue<>(cacheMap);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		TinyObj<K, V> co;
+		lock.lock();
+		try {
+			sketch.increment(key);
+			co = (TinyObj<K, V>) getWithoutLock(key);
+			if (null != co && false == co.isExpired()) {
+				onHit(co);
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		// 未命中
+		if (null == co) {
+			missCount.increment();
+			return null;
+		} else if (false == co.isExpired()) {
+			hitCount.increment();
+			return co.get(isUpdateLastAccess);
+		}
+
+		// 过期，既不算命中也不算非命中
+		lock.lock();
+		try {
+			co = (TinyObj<K, V>) removeWithoutLock(key, true);
+		} finally {
+			lock.unlock();
+		}
+		if (null != co) {
+			onRemove(co.key, co.obj);
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		lock.lock();
+		try {
+			super.clear();
+			window.clear();
+			probation.clear();
+			protectedDeque.clear();
+			sketch.clear();
+			expiryQueue.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		final TinyObj<K, V> co = new TinyObj<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		sketch.increment(key);
+
+		final MutableObj<K> mKey = MutableObj.of(key);
+		final TinyObj<K, V> old = (TinyObj<K, V>) cacheMap.put(mKey, co);
+		expiryQueue.add(co);
+		if (null != old) {
+			// 替换已有对象，保留所在区域，不触发移除事件
+			final AccessDeque<K, V> deque = dequeOf(old.region);
+			deque.remove(old);
+			deque.addLast(co, old.region);
+		} else {
+			window.addLast(co, WINDOW);
+			if (capacity > 0) {
+				if (cacheMap.size() > capacity) {
+					// 优先清理已到期的对象，仍然超出容量时才由准入策略淘汰
+					pruneCache();
+				}
+				evict();
+			}
+		}
+		// 替换或淘汰的对象在队列中失效
+		expiryQueue.compactIfNecessary();
+	}
+
+	@Override
+	protected CacheObj<K, V> getWithoutLock(K key) {
+		// 锁可重入，此处加锁保证无锁调用时HashMap和链表的一致性
+		lock.lock();
+		try {
+			return super.getWithoutLock(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key, withMissCount);
+		if (null != co) {
+			final TinyObj<K, V> tinyObj = (TinyObj<K, V>) co;
+			dequeOf(tinyObj.region).remove(tinyObj);
+			expiryQueue.compactIfNecessary();
+		}
+		return co;
+	}
+
+	// ---------------------------------------------------------------- prune
+
+	/**
+	 * 只清理过期队列中已到期的对象，超出容量时的淘汰由准入策略完成
+	 *
+	 * @return 清理个数
+	 */
+	@Override
+	protected int pruneCache() {
+		return expiryQueue.prune(co -> {
+			final TinyObj<K, V> tinyObj = (TinyObj<K, V>) co;
+			cacheMap.remove(MutableObj.of(tinyObj.key));
+			dequeOf(tinyObj.region).remove(tinyObj);
+			onRemove(tinyObj.key, tinyObj.obj);
+		});
+	}
+
+	/**
+	 * 命中时调整对象所在区域
+	 *
+	 * @param co 命中的对象
+	 */
+	private void onHit(TinyObj<K, V> co) {
+		switch (co.region) {
+			case WINDOW:
+				window.moveToLast(co);
+				break;
+			case PROBATION:
+				// 晋升到保护区，保护区溢出时降级最久未使用对象到试用区
+				probation.remove(co);
+				protectedDeque.addLast(co, PROTECTED);
+				if (protectedDeque.size > maxProtected) {
+					final TinyObj<K, V> demoted = protectedDeque.first;
+					protectedDeque.remove(demoted);
+					probation.addLast(demoted, PROBATION);
+				}
+				break;
+			default:
+				protectedDeque.moveToLast(co);
+		}
+	}
+
+	/**
+	 * 窗口区溢出的对象进入试用区，缓存超出容量时由准入策略决定淘汰候选者还是试用区的牺牲者
+	 */
+	private void evict() {
+		TinyObj<K, V> candidate = null;
+		while (window.size > maxWindow) {
+			candidate = window.first;
+			window.remove(candidate);
+			probation.addLast(candidate, PROBATION);
+		}
+
+		while (cacheMap.size() > capacity) {
+			final TinyObj<K, V> victim = probation.first;
+			if (null == candidate || candidate == victim) {
+				// 无候选者时直接淘汰最久未使用的对象
+				evict(null != victim ? victim : firstOf(window, protectedDeque));
+			} else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+				evict(victim);
+			} else {
+				evict(candidate);
+			}
+			candidate = null;
+		}
+	}
+
+	private void evict(TinyObj<K, V> co) {
+		cacheMap.remove(MutableObj.of(co.key));
+		dequeOf(co.region).remove(co);
+		onRemove(co.key, co.obj);
+	}
+
+	private AccessDeque<K, V> dequeOf(int region) {
+		switch (region) {
+			case WINDOW:
+				return window;
+			case PROBATION:
+				return probation;
+			default:
+				return protectedDeque;
+		}
+	}
+
+	private static <K, V> TinyObj<K, V> firstOf(AccessDeque<K, V> first, AccessDeque<K, V> second) {
+		return null != first.first ? first.first : second.first;
+	}
+
+	/**
+	 * 带有区域和链表节点信息的缓存对象
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class TinyObj<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private int region;
+		private TinyObj<K, V> prev;
+		private TinyObj<K, V> next;
+
+		TinyObj(K key, V obj, long ttl) {
+			super(key, obj, ttl);
+		}
+	}
+
+	/**
+	 * 按访问顺序排列的双向链表，头部为最久未使用对象
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class AccessDeque<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private TinyObj<K, V> first;
+		private TinyObj<K, V> last;
+		private int size;
+
+		void addLast(TinyObj<K, V> co, int region) {
+			co.region = region;
+			co.prev = last;
+			co.next = null;
+			if (null == last) {
+				first = co;
+			} else {
+				last.next = co;
+			}
+			last = co;
+			size++;
+		}
+
+		void remove(TinyObj<K, V> co) {
+			if (null == co.prev) {
+				first = co.next;
+			} else {
+				co.prev.next = co.next;
+			}
+			if (null == co.next) {
+				last = co.prev;
+			} else {
+				co.next.prev = co.prev;
+			}
+			co.prev = null;
+			co.next = null;
+			size--;
+		}
+
+		void moveToLast(TinyObj<K, V> co) {
+			if (co != last) {
+				remove(co);
+				addLast(co, co.region);
+			}
+		}
+
+		void clear() {
+			first = null;
+			last = null;
+			size = 0;
+		}
+	}
+
+	/**
+	 * 基于Count-Min Sketch的访问频率估算<br>
+	 * 每个计数器占4位（最大15），每个long存放16个计数器，每个键对应4个计数器，频率取其中的最小值。<br>
+	 * 记录次数达到样本数量（容量的10倍）后，所有计数器减半，使历史热点逐渐衰减。
+	 */
+	private static class FrequencySketch implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private static final long[] SEED = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int counterMask;
+		private final int sampleSize;
+		private int size;
+
+		FrequencySketch(int capacity) {
+			final int maximum = Math.max(8, Math.min(capacity, 1 << 26));
+			int length = Integer.highestOneBit(maximum - 1) << 1;
+			this.table = new long[length];
+			this.counterMask = (length << 4) - 1;
+			this.sampleSize = (capacity <= 0) ? 10 * maximum : (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+		}
+
+		/**
+		 * 估算键的访问频率
+		 *
+		 * @param key 键
+		 * @return 频率，0~15
+		 */
+		int frequency(Object key) {
+			final int hash = spread(key);
+			int frequency = 15;
+			for (int i = 0; i < 4; i++) {
+				final int index = indexOf(hash, i);
+				frequency = Math.min(frequency, (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xfL));
+			}
+			return frequency;
+		}
+
+		/**
+		 * 键的访问频率+1，达到样本数量时衰减
+		 *
+		 * @param key 键
+		 */
+		void increment(Object key) {
+			final int hash = spread(key);
+			boolean added = false;
+			for (int i = 0; i < 4; i++) {
+				final int index = indexOf(hash, i);
+				final int word = index >>> 4;
+				final int offset = (index & 15) << 2;
+				if (((table[word] >>> offset) & 0xfL) != 0xfL) {
+					table[word] += (1L << offset);
+					added = true;
+				}
+			}
+			if (added && (++size >= sampleSize)) {
+				reset();
+			}
+		}
+
+		void clear() {
+			for (int i = 0; i < table.length; i++) {
+				table[i] = 0;
+			}
+			size = 0;
+		}
+
+		/**
+		 * 所有计数器减半
+		 */
+		private void reset() {
+			for (int i = 0; i < table.length; i++) {
+				table[i] = (table[i] >>> 1) & RESET_MASK;
+			}
+			size = size >>> 1;
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = (hash + SEED[i]) * SEED[i];
+			h += (h >>> 32);
+			return ((int) h) & counterMask;
+		}
+
+		private static int spread(Object key) {
+			int h = (null == key) ? 0 : key.hashCode();
+			h = ((h >>> 16) ^ h) * 0x45d9f3b;
+			h = ((h >>> 16) ^ h) * 0x45d9f3b;
+			return (h >>> 16) ^ h;
+		}
+	}
+}
@@ -1,12 +1,21 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.AbstractCache;
+import cn.hutool.cache.impl.LRUCache;
 import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.core.collection.ListUtil;
 import cn.hutool.core.date.DateUnit;
+import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.RandomUtil;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 缓存测试用例
  * @author Looly
@@ -121,4 +130,129 @@ public class CacheTest {
 		//取消定时清理
 		timedCache.cancelPruneSchedule();
 	}
+
+	@Test
+	public void timedCachePruneTest(){
+		final TimedCache<String, String> timedCache = CacheUtil.newTimedCache(100);
+		final AtomicInteger removeCount = new AtomicInteger();
+		timedCache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		timedCache.put("key1", "value1");
+		timedCache.put("key2", "value2");
+		timedCache.put("key3", "value3", DateUnit.SECOND.getMillis() * 5);
+		timedCache.put("key4", "value4", Long.MAX_VALUE);
+		// 替换后旧对象不再参与清理
+		timedCache.put("key1", "value11", 10);
+
+		ThreadUtil.sleep(60);
+		// 访问刷新过期时间
+		Assert.assertEquals("value2", timedCache.get("key2"));
+		Assert.assertEquals(1, timedCache.prune());
+		Assert.assertNull(timedCache.get("key1"));
+
+		ThreadUtil.sleep(80);
+		// key2的过期时间已刷新，此时未过期
+		Assert.assertEquals(0, timedCache.prune());
+		Assert.assertEquals(3, timedCache.size());
+
+		ThreadUtil.sleep(120);
+		Assert.assertEquals(1, timedCache.prune());
+		Assert.assertEquals(2, timedCache.size());
+		Assert.assertEquals(2, removeCount.get());
+	}
+
+	@Test
+	public void timedCacheExpiryQueueTest() {
+		final TimedCache<Integer, String> timedCache = CacheUtil.newTimedCache(DateUnit.HOUR.getMillis());
+		// 频繁覆盖和移除时，过期队列不随写入次数增长
+		for (int i = 0; i < 10000; i++) {
+			timedCache.put(i % 10, "value" + i);
+			if (i % 3 == 0) {
+				timedCache.remove(i % 7);
+			}
+		}
+		final Object expiryQueue = ReflectUtil.getFieldValue(timedCache, "expiryQueue");
+		Assert.assertTrue((int) ReflectUtil.invoke(expiryQueue, "size") <= 64 + 1);
+
+		timedCache.put(1, "value", 1);
+		ThreadUtil.sleep(10);
+		Assert.assertEquals(1, timedCache.prune());
+		Assert.assertEquals(timedCache.size(), timedCache.keySet().size());
+	}
+
+	@Test
+	public void getAsyncTest() throws Exception {
+		final List<AbstractCache<String, Integer>> caches = ListUtil.of(
+				CacheUtil.newTimedCache(10000), CacheUtil.newLRUCache(10), CacheUtil.newLFUCache(10));
+		for (AbstractCache<String, Integer> cache : caches) {
+			final AtomicInteger loadCount = new AtomicInteger();
+			final CompletableFuture<Integer> future1 = cache.getAsync("key", () -> {
+				ThreadUtil.sleep(100);
+				return loadCount.incrementAndGet();
+			});
+			// 加载中的key共享同一个任务
+			final CompletableFuture<Integer> future2 = cache.getAsync("key", loadCount::incrementAndGet);
+			Assert.assertSame(future1, future2);
+			Assert.assertEquals(1, future1.get().intValue());
+			Assert.assertEquals(1, cache.get("key").intValue());
+			Assert.assertEquals(1, cache.getAsync("key", loadCount::incrementAndGet).get().intValue());
+			Assert.assertEquals(1, loadCount.get());
+		}
+	}
+
+	@Test
+	public void refreshAfterWriteTest() {
+		final List<AbstractCache<String, Integer>> caches = ListUtil.of(
+				CacheUtil.newTimedCache(10000), CacheUtil.newLRUCache(10), CacheUtil.newLFUCache(10));
+		for (AbstractCache<String, Integer> cache : caches) {
+			cache.setRefreshAfterWrite(50);
+			final AtomicInteger loadCount = new AtomicInteger();
+			final Func0<Integer> supplier = () -> {
+				ThreadUtil.sleep(50);
+				return loadCount.incrementAndGet();
+			};
+
+			Assert.assertEquals(1, cache.get("key", supplier).intValue());
+			ThreadUtil.sleep(60);
+			// 触发刷新，刷新完成前返回旧值
+			Assert.assertEquals(1, cache.get("key", supplier).intValue());
+			Assert.assertEquals(1, cache.get("key", supplier).intValue());
+			ThreadUtil.sleep(200);
+			Assert.assertEquals(2, cache.get("key").intValue());
+			Assert.assertEquals(2, loadCount.get());
+		}
+	}
+
+	@Test
+	public void refreshKeepTtlTest() {
+		final TimedCache<String, Integer> cache = CacheUtil.newTimedCache(10);
+		// 同步执行刷新
+		cache.setRefreshAfterWrite(1).setExecutor(Runnable::run);
+		cache.put("key", 1, 100000);
+		ThreadUtil.sleep(20);
+		Assert.assertEquals(1, cache.get("key", () -> 2).intValue());
+		ThreadUtil.sleep(20);
+		// 刷新后的值保留单独设置的超时时长，默认的10ms超时不生效
+		Assert.assertEquals(2, cache.get("key", false).intValue());
+	}
+
+	@Test
+	public void refreshConcurrentTest() {
+		final LRUCache<Integer, Integer> cache = CacheUtil.newLRUCache(64);
+		cache.setRefreshAfterWrite(1);
+		ThreadUtil.concurrencyTest(8, () -> {
+			for (int i = 0; i < 20000; i++) {
+				final int key = RandomUtil.randomInt(128);
+				cache.get(key, () -> key);
+			}
+		});
+
+		int count = 0;
+		for (final Integer value : cache) {
+			Assert.assertNotNull(value);
+			count++;
+		}
+		Assert.assertTrue(count <= 64);
+		Assert.assertEquals(cache.size(), count);
+	}
 }
@@ -0,0 +1,176 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.ConcurrentLRUCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ConcurrencyTester;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConcurrentLRUCacheTest {
+
+	@Test
+	public void readWriteTest() throws InterruptedException {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+
+		final CountDownLatch countDownLatch = new CountDownLatch(10);
+		// 10个线程分别读0-9 10000次
+		for (int i = 0; i < 10; i++) {
+			final int finalI = i;
+			new Thread(() -> {
+				for (int j = 0; j < 10000; j++) {
+					cache.get(finalI);
+				}
+				countDownLatch.countDown();
+			}).start();
+		}
+		// 等待读线程结束
+		countDownLatch.await();
+		// 按顺序读0-9
+		final StringBuilder sb1 = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			sb1.append(cache.get(i));
+		}
+		Assert.assertEquals("0123456789", sb1.toString());
+		Assert.assertEquals(100010, cache.getHitCount());
+
+		// 新加11，此时0最久未使用，应该淘汰0
+		cache.put(11, 11);
+
+		final StringBuilder sb2 = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			sb2.append(cache.get(i));
+		}
+		Assert.assertEquals("null123456789", sb2.toString());
+		Assert.assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void listenerTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+
+		final ConcurrentLRUCache<String, Integer> cache = CacheUtil.newConcurrentLRUCache(3);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		for (int i = 0; i < 10; i++) {
+			cache.put(StrUtil.format("key-{}", i), i);
+		}
+
+		Assert.assertEquals(7, removeCount.get());
+		Assert.assertEquals(3, cache.size());
+
+		cache.remove("key-9");
+		Assert.assertEquals(8, removeCount.get());
+		Assert.assertFalse(cache.containsKey("key-9"));
+
+		cache.clear();
+		Assert.assertTrue(cache.isEmpty());
+		cache.put("key-10", 10);
+		Assert.assertEquals(10, cache.get("key-10").intValue());
+	}
+
+	@Test
+	public void timeoutTest() {
+		final ConcurrentLRUCache<String, String> cache = CacheUtil.newConcurrentLRUCache(3, 10);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 3000);
+		ThreadUtil.sleep(100);
+		Assert.assertNull(cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+
+		cache.put("key3", "value3");
+		ThreadUtil.sleep(100);
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void concurrentTest() {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(100);
+		ThreadUtil.concurrencyTest(32, () -> {
+			for (int i = 0; i < 10000; i++) {
+				final int key = RandomUtil.randomInt(1000);
+				cache.get(key, () -> key);
+			}
+		});
+		cache.cleanUp();
+		Assert.assertEquals(100, cache.size());
+	}
+
+	@Test(timeout = 10000)
+	public void writeNotBlockedTest() throws InterruptedException {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(10);
+		final ReentrantLock evictionLock = (ReentrantLock) ReflectUtil.getFieldValue(cache, "evictionLock");
+		final CountDownLatch locked = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final Thread holder = new Thread(() -> {
+			evictionLock.lock();
+			try {
+				locked.countDown();
+				release.await();
+			} catch (final InterruptedException ignore) {
+				// ignore
+			} finally {
+				evictionLock.unlock();
+			}
+		});
+		holder.start();
+		locked.await();
+
+		// 淘汰锁被占用时，写入只加入写缓冲，不阻塞
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i);
+		}
+		Assert.assertEquals(100, cache.size());
+
+		release.countDown();
+		holder.join();
+		cache.cleanUp();
+		Assert.assertEquals(10, cache.size());
+		Assert.assertEquals(Integer.valueOf(99), cache.get(99));
+		Assert.assertNull(cache.get(0));
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkTest() {
+		final int threadCount = 32;
+		final int count = 100000;
+
+		final LRUCache<Integer, Integer> lruCache = CacheUtil.newLRUCache(1000);
+		final ConcurrentLRUCache<Integer, Integer> concurrentLruCache = CacheUtil.newConcurrentLRUCache(1000);
+		for (int i = 0; i < 1000; i++) {
+			lruCache.put(i, i);
+			concurrentLruCache.put(i, i);
+		}
+
+		final TimeInterval timer = new TimeInterval();
+		ConcurrencyTester tester = ThreadUtil.concurrencyTest(threadCount, () -> {
+			for (int i = 0; i < count; i++) {
+				lruCache.get(RandomUtil.randomInt(1200), () -> 0);
+			}
+		});
+		Console.log("LRUCache: {}ms", tester.getInterval());
+
+		tester = ThreadUtil.concurrencyTest(threadCount, () -> {
+			for (int i = 0; i < count; i++) {
+				concurrentLruCache.get(RandomUtil.randomInt(1200), () -> 0);
+			}
+		});
+		Console.log("ConcurrentLRUCache: {}ms", tester.getInterval());
+		Console.log("Total: {}ms", timer.interval());
+	}
+}
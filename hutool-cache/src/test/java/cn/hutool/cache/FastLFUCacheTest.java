@@ -0,0 +1,161 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.FastLFUCache;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.core.date.DateUnit;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ReflectUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FastLFUCacheTest {
+
+	@Test
+	public void evictTest() {
+		final List<String> removed = new ArrayList<>();
+		final Cache<String, String> cache = CacheUtil.newFastLFUCache(3);
+		cache.setListener((key, value) -> removed.add(key));
+
+		cache.put("key1", "value1", DateUnit.SECOND.getMillis() * 3);
+		cache.get("key1");
+		cache.get("key1");
+		cache.put("key2", "value2", DateUnit.SECOND.getMillis() * 3);
+		cache.get("key2");
+		cache.put("key3", "value3", DateUnit.SECOND.getMillis() * 3);
+
+		// key3访问次数最少，被淘汰
+		cache.put("key4", "value4", DateUnit.SECOND.getMillis() * 3);
+		Assert.assertEquals(3, cache.size());
+		Assert.assertNull(cache.get("key3"));
+
+		// key4访问次数最少，被淘汰
+		cache.put("key5", "value5");
+		Assert.assertNull(cache.get("key4"));
+		Assert.assertEquals("value1", cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+		Assert.assertEquals("value5", cache.get("key5"));
+
+		Assert.assertEquals(2, removed.size());
+		Assert.assertEquals("key3", removed.get(0));
+		Assert.assertEquals("key4", removed.get(1));
+	}
+
+	@Test
+	public void sameFrequencyTest() {
+		final Cache<Integer, Integer> cache = CacheUtil.newFastLFUCache(3);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+		// 访问次数相同时先淘汰先加入的
+		Assert.assertEquals(3, cache.size());
+		Assert.assertTrue(cache.containsKey(7));
+		Assert.assertTrue(cache.containsKey(8));
+		Assert.assertTrue(cache.containsKey(9));
+	}
+
+	@Test
+	public void replaceTest() {
+		final Cache<String, String> cache = CacheUtil.newFastLFUCache(2);
+		cache.put("a", "1");
+		cache.get("a");
+		// 替换后访问次数重新计算
+		cache.put("a", "2");
+		Assert.assertEquals("2", cache.get("a"));
+		cache.put("b", "1");
+		cache.put("c", "1");
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals("2", cache.get("a"));
+		Assert.assertNull(cache.get("b"));
+
+		cache.clear();
+		Assert.assertTrue(cache.isEmpty());
+		cache.put("d", "1");
+		Assert.assertEquals("1", cache.get("d"));
+	}
+
+	@Test
+	public void timeoutTest() {
+		final Cache<String, String> cache = CacheUtil.newFastLFUCache(3, 10);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", DateUnit.SECOND.getMillis() * 3);
+		ThreadUtil.sleep(100);
+
+		Assert.assertNull(cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+		Assert.assertEquals(1, cache.size());
+
+		cache.put("key3", "value3");
+		ThreadUtil.sleep(100);
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void evictExpiredFirstTest() {
+		final List<String> removed = new ArrayList<>();
+		final Cache<String, String> cache = CacheUtil.newFastLFUCache(3);
+		cache.setListener((key, value) -> removed.add(key));
+
+		cache.put("key1", "value1");
+		cache.get("key1");
+		cache.put("key2", "value2", 10);
+		cache.get("key2");
+		cache.get("key2");
+		cache.put("key3", "value3");
+		ThreadUtil.sleep(100);
+
+		// 容量满时优先清理过期的key2，访问次数最少的key3保留
+		cache.put("key4", "value4");
+		Assert.assertEquals(3, cache.size());
+		Assert.assertEquals("value3", cache.get("key3"));
+		Assert.assertEquals(1, removed.size());
+		Assert.assertEquals("key2", removed.get(0));
+	}
+
+	@Test
+	public void expiryQueueTest() {
+		final FastLFUCache<Integer, Integer> cache = new FastLFUCache<>(10, DateUnit.HOUR.getMillis());
+		for (int i = 0; i < 10000; i++) {
+			cache.put(i, i);
+		}
+		// 淘汰的对象在过期队列中失效，队列大小与缓存大小在同一数量级
+		Assert.assertEquals(10, cache.size());
+		final Object expiryQueue = ReflectUtil.getFieldValue(cache, "expiryQueue");
+		Assert.assertTrue((int) ReflectUtil.invoke(expiryQueue, "size") <= 64 + 1);
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkTest() {
+		final int capacity = 100000;
+		final int count = 1000000;
+		final int[] keys = new int[count];
+		for (int i = 0; i < count; i++) {
+			keys[i] = RandomUtil.randomInt(capacity * 2);
+		}
+
+		final TimeInterval timer = new TimeInterval();
+		final Cache<Integer, Integer> lfuCache = new LFUCache<>(capacity);
+		for (int key : keys) {
+			if (null == lfuCache.get(key)) {
+				lfuCache.put(key, key);
+			}
+		}
+		Console.log("LFUCache: {}ms", timer.intervalRestart());
+
+		final Cache<Integer, Integer> fastLfuCache = new FastLFUCache<>(capacity);
+		for (int key : keys) {
+			if (null == fastLfuCache.get(key)) {
+				fastLfuCache.put(key, key);
+			}
+		}
+		Console.log("FastLFUCache: {}ms", timer.intervalRestart());
+	}
+}
@@ -1,9 +1,14 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.file.DirectLRUFileCache;
+import cn.hutool.cache.file.LFUFileCache;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.RandomUtil;
 import org.junit.Assert;
 import org.junit.Test;
 
-import cn.hutool.cache.file.LFUFileCache;
+import java.io.File;
+import java.nio.ByteBuffer;
 
 /**
  * 文件缓存单元测试
@@ -16,4 +21,49 @@ public class FileCacheTest {
 		LFUFileCache cache = new LFUFileCache(1000, 500, 2000);
 		Assert.assertNotNull(cache);
 	}
+
+	@Test
+	public void directLruFileCacheTest() {
+		final File file1 = FileUtil.createTempFile();
+		final File file2 = FileUtil.createTempFile();
+		final File file3 = FileUtil.createTempFile();
+		try {
+			final byte[] bytes1 = RandomUtil.randomBytes(400);
+			FileUtil.writeBytes(bytes1, file1);
+			FileUtil.writeBytes(RandomUtil.randomBytes(400), file2);
+			FileUtil.writeBytes(RandomUtil.randomBytes(600), file3);
+
+			final DirectLRUFileCache cache = new DirectLRUFileCache(1000, 500);
+			Assert.assertArrayEquals(bytes1, cache.getFileBytes(file1));
+			final ByteBuffer buffer = cache.getFileBuffer(file1);
+			Assert.assertTrue(buffer.isDirect());
+			Assert.assertTrue(buffer.isReadOnly());
+			Assert.assertEquals(400, buffer.remaining());
+			Assert.assertEquals(bytes1[10], buffer.get(10));
+
+			cache.getFileBytes(file2);
+			Assert.assertEquals(800, cache.getUsedSize());
+			Assert.assertEquals(2, cache.getCachedFilesCount());
+
+			// 超过最大文件大小，不缓存
+			Assert.assertEquals(600, cache.getFileBytes(file3).length);
+			Assert.assertEquals(2, cache.getCachedFilesCount());
+
+			// 超出容量，淘汰最久未使用的file1
+			cache.getFileBytes(file2);
+			final File file4 = FileUtil.createTempFile();
+			FileUtil.writeBytes(RandomUtil.randomBytes(300), file4);
+			cache.getFileBuffer(file4);
+			FileUtil.del(file4);
+			Assert.assertEquals(700, cache.getUsedSize());
+			Assert.assertEquals(2, cache.getCachedFilesCount());
+
+			cache.clear();
+			Assert.assertEquals(0, cache.getUsedSize());
+		} finally {
+			FileUtil.del(file1);
+			FileUtil.del(file2);
+			FileUtil.del(file3);
+		}
+	}
 }
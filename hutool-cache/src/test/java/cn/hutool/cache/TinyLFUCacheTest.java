@@ -0,0 +1,181 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.FastLFUCache;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.TinyLFUCache;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ReflectUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TinyLFUCacheTest {
+
+	@Test
+	public void scanResistantTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TinyLFUCache<Integer, Integer> cache = CacheUtil.newTinyLFUCache(100);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		// 热点数据
+		for (int i = 0; i < 20; i++) {
+			for (int key = 0; key < 50; key++) {
+				cache.get(key, () -> 0);
+			}
+		}
+		Assert.assertEquals(50, cache.size());
+
+		// 批量扫描冷数据
+		for (int key = 1000; key < 11000; key++) {
+			cache.get(key, () -> 0);
+		}
+		Assert.assertEquals(100, cache.size());
+		Assert.assertEquals(10050 - 100, removeCount.get());
+
+		// 最后访问的热点数据仍在窗口区，可能被淘汰，其它热点数据已进入保护区
+		int hotCount = 0;
+		for (int key = 0; key < 50; key++) {
+			if (cache.containsKey(key)) {
+				hotCount++;
+			}
+		}
+		Assert.assertTrue(hotCount >= 49);
+	}
+
+	@Test
+	public void putAndRemoveTest() {
+		final Cache<String, String> cache = CacheUtil.newTinyLFUCache(3);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		cache.put("key4", "value4");
+		Assert.assertEquals(3, cache.size());
+
+		cache.put("key4", "value44");
+		Assert.assertEquals("value44", cache.get("key4"));
+		cache.remove("key4");
+		Assert.assertFalse(cache.containsKey("key4"));
+
+		cache.clear();
+		Assert.assertTrue(cache.isEmpty());
+		cache.put("key5", "value5");
+		Assert.assertEquals("value5", cache.get("key5"));
+	}
+
+	@Test
+	public void timeoutTest() {
+		final Cache<String, String> cache = CacheUtil.newTinyLFUCache(3, 10);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 3000);
+		ThreadUtil.sleep(100);
+		Assert.assertNull(cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+
+		cache.put("key3", "value3");
+		ThreadUtil.sleep(100);
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void evictExpiredFirstTest() {
+		final AtomicInteger removed = new AtomicInteger();
+		final Cache<String, String> cache = CacheUtil.newTinyLFUCache(3);
+		cache.setListener((key, value) -> {
+			Assert.assertEquals("key2", key);
+			removed.incrementAndGet();
+		});
+
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 10);
+		cache.put("key3", "value3");
+		ThreadUtil.sleep(100);
+
+		// 超出容量时优先清理过期的key2，未过期的对象都保留
+		cache.put("key4", "value4");
+		Assert.assertEquals(3, cache.size());
+		Assert.assertEquals("value1", cache.get("key1"));
+		Assert.assertEquals("value3", cache.get("key3"));
+		Assert.assertEquals("value4", cache.get("key4"));
+		Assert.assertEquals(1, removed.get());
+	}
+
+	@Test
+	public void expiryQueueTest() {
+		final TinyLFUCache<Integer, Integer> cache = new TinyLFUCache<>(10, 3600 * 1000);
+		for (int i = 0; i < 10000; i++) {
+			cache.put(i, i);
+		}
+		// 淘汰的对象在过期队列中失效，队列大小与缓存大小在同一数量级
+		Assert.assertEquals(10, cache.size());
+		final Object expiryQueue = ReflectUtil.getFieldValue(cache, "expiryQueue");
+		Assert.assertTrue((int) ReflectUtil.invoke(expiryQueue, "size") <= 64 + 1);
+	}
+
+	/**
+	 * 命中率对比，分别使用Zipf分布和Zipf分布中插入批量扫描的访问序列
+	 */
+	@Test
+	@Ignore
+	public void hitRatioTest() {
+		final int capacity = 1000;
+		final int[] zipf = zipf(100000, 1000000);
+		final int[] scan = new int[zipf.length];
+		int coldKey = Integer.MAX_VALUE;
+		for (int i = 0; i < scan.length; i++) {
+			// 每10万次访问中插入3万次一次性扫描
+			scan[i] = (i % 100000 < 30000) ? coldKey-- : zipf[i];
+		}
+
+		for (int[] trace : new int[][]{zipf, scan}) {
+			Console.log("FIFOCache    : {}", hitRatio(new FIFOCache<>(capacity), trace));
+			Console.log("LRUCache     : {}", hitRatio(new LRUCache<>(capacity), trace));
+			Console.log("LFUCache     : {}", hitRatio(new LFUCache<>(capacity), trace));
+			Console.log("FastLFUCache : {}", hitRatio(new FastLFUCache<>(capacity), trace));
+			Console.log("TinyLFUCache : {}", hitRatio(new TinyLFUCache<>(capacity), trace));
+			Console.log("----------------------------");
+		}
+	}
+
+	private static double hitRatio(Cache<Integer, Integer> cache, int[] trace) {
+		int hit = 0;
+		for (int key : trace) {
+			if (null != cache.get(key)) {
+				hit++;
+			} else {
+				cache.put(key, key);
+			}
+		}
+		return (double) hit / trace.length;
+	}
+
+	/**
+	 * 生成Zipf分布的访问序列
+	 *
+	 * @param itemCount 键数量
+	 * @param length    序列长度
+	 * @return 访问序列
+	 */
+	private static int[] zipf(int itemCount, int length) {
+		final double[] cdf = new double[itemCount];
+		double sum = 0;
+		for (int i = 0; i < itemCount; i++) {
+			sum += 1.0 / (i + 1);
+			cdf[i] = sum;
+		}
+
+		final int[] trace = new int[length];
+		for (int i = 0; i < length; i++) {
+			final int index = Arrays.binarySearch(cdf, RandomUtil.randomDouble() * sum);
+			trace[i] = index >= 0 ? index : -index - 1;
+		}
+		return trace;
+	}
+}
@@ -0,0 +1,144 @@
+package cn.hutool.core.bean;
+
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.lang.reflect.LookupFactory;
+import cn.hutool.core.util.ClassUtil;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 属性访问器工厂，为Getter和Setter方法生成{@link Function}和{@link BiConsumer}实现<br>
+ * 优先使用{@link LambdaMetafactory}生成与直接方法调用等价的实现，生成失败（如跨类加载器、模块限制等）时使用{@link MethodHandle}，
+ * 均不可用时返回{@code null}，由调用方使用反射执行。<br>
+ * 生成的访问器不做参数转换和异常包装，由{@link PropDesc}负责。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class PropAccessor {
+
+	private static final MethodType GETTER_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_SAM_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * 为Getter方法生成访问器
+	 *
+	 * @param getter Getter方法
+	 * @return 访问器，无法生成时返回{@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	static Function<Object, Object> getter(Method getter) {
+		if (false == isSupported(getter, 0)) {
+			return null;
+		}
+
+		final Class<?> declaringClass = getter.getDeclaringClass();
+		try {
+			final MethodHandles.Lookup lookup = LookupFactory.lookup(declaringClass);
+			final CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+					MethodType.methodType(Function.class), GETTER_SAM_TYPE, lookup.unreflect(getter),
+					MethodType.methodType(BasicType.wrap(getter.getReturnType()), declaringClass));
+			return (Function<Object, Object>) callSite.getTarget().invoke();
+		} catch (Throwable ignore) {
+			// 无法生成Lambda，使用MethodHandle
+		}
+
+		final MethodHandle handle = unreflect(getter, GETTER_SAM_TYPE);
+		if (null == handle) {
+			return null;
+		}
+		return bean -> {
+			try {
+				return handle.invokeExact(bean);
+			} catch (Throwable e) {
+				throw sneakyThrow(e);
+			}
+		};
+	}
+
+	/**
+	 * 为Setter方法生成访问器，Setter的返回值（如链式调用返回this）被忽略
+	 *
+	 * @param setter Setter方法
+	 * @return 访问器，无法生成时返回{@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	static BiConsumer<Object, Object> setter(Method setter) {
+		if (false == isSupported(setter, 1)) {
+			return null;
+		}
+
+		final Class<?> declaringClass = setter.getDeclaringClass();
+		try {
+			final MethodHandles.Lookup lookup = LookupFactory.lookup(declaringClass);
+			final CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+					MethodType.methodType(BiConsumer.class), SETTER_SAM_TYPE, lookup.unreflect(setter),
+					MethodType.methodType(void.class, declaringClass, BasicType.wrap(setter.getParameterTypes()[0])));
+			return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+		} catch (Throwable ignore) {
+			// 无法生成Lambda，使用MethodHandle
+		}
+
+		final MethodHandle handle = unreflect(setter, SETTER_SAM_TYPE);
+		if (null == handle) {
+			return null;
+		}
+		return (bean, value) -> {
+			try {
+				handle.invokeExact(bean, value);
+			} catch (Throwable e) {
+				throw sneakyThrow(e);
+			}
+		};
+	}
+
+	/**
+	 * 检查方法是否可生成访问器<br>
+	 * default方法在代理对象上需要特殊调用（见{@link cn.hutool.core.util.ReflectUtil#invokeRaw(Object, Method, Object...)}），静态方法无需Bean对象，均保留反射方式。
+	 *
+	 * @param method         方法
+	 * @param parameterCount 参数个数
+	 * @return 是否支持
+	 */
+	private static boolean isSupported(Method method, int parameterCount) {
+		return null != method
+				&& method.getParameterCount() == parameterCount
+				&& false == method.isDefault()
+				&& false == ClassUtil.isStatic(method);
+	}
+
+	/**
+	 * 获取适配为指定类型的{@link MethodHandle}
+	 *
+	 * @param method 方法，需已设置为可访问
+	 * @param type   适配的类型
+	 * @return {@link MethodHandle}，失败返回{@code null}
+	 */
+	private static MethodHandle unreflect(Method method, MethodType type) {
+		try {
+			return MethodHandles.lookup().unreflect(method).asType(type);
+		} catch (Exception ignore) {
+			return null;
+		}
+	}
+
+	/**
+	 * 原样抛出异常，与Lambda方式中的异常行为保持一致
+	 *
+	 * @param <E> 异常类型
+	 * @param e   异常
+	 * @return 不返回
+	 * @throws E 原异常
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E extends Throwable> RuntimeException sneakyThrow(Throwable e) throws E {
+		throw (E) e;
+	}
+}
@@ -2,16 +2,22 @@ package cn.hutool.core.bean;
 
 import cn.hutool.core.annotation.AnnotationUtil;
 import cn.hutool.core.annotation.PropIgnore;
+import cn.hutool.core.convert.BasicType;
 import cn.hutool.core.convert.Convert;
+import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
 import cn.hutool.core.util.ClassUtil;
 import cn.hutool.core.util.ModifierUtil;
 import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.SystemPropsUtil;
 import cn.hutool.core.util.TypeUtil;
 
 import java.beans.Transient;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * 属性描述，包括了字段、getter、setter和相应的方法执行
@@ -20,6 +26,23 @@ import java.lang.reflect.Type;
  */
 public class PropDesc {
 
+	/**
+	 * 是否使用生成的访问器调用Getter和Setter，可通过系统属性"hutool.bean.accessor"设置默认值
+	 */
+	private static volatile boolean accessorEnabled = SystemPropsUtil.getBoolean("hutool.bean.accessor", true);
+
+	/**
+	 * 设置是否使用生成的访问器调用Getter和Setter<br>
+	 * 开启时（默认）首次访问属性时通过{@link java.lang.invoke.LambdaMetafactory}生成访问器并缓存在属性描述中，随{@link BeanDescCache}一起缓存；
+	 * 关闭时使用反射方式调用。
+	 *
+	 * @param enabled 是否使用生成的访问器
+	 * @since 5.8.19
+	 */
+	public static void setAccessorEnabled(boolean enabled) {
+		accessorEnabled = enabled;
+	}
+
 	/**
 	 * 字段
 	 */
@@ -33,6 +56,18 @@ public class PropDesc {
 	 */
 	protected Method setter;
 
+	/**
+	 * Getter访问器，首次使用时生成，{@code null}表示不支持，使用反射
+	 */
+	private Function<Object, Object> getterAccessor;
+	private volatile boolean getterAccessorCreated;
+	/**
+	 * Setter访问器，首次使用时生成，{@code null}表示不支持，使用反射
+	 */
+	private BiConsumer<Object, Object> setterAccessor;
+	private Class<?> setterParamType;
+	private volatile boolean setterAccessorCreated;
+
 	/**
 	 * 构造<br>
 	 * Getter和Setter方法设置为默认可访问
@@ -152,7 +187,7 @@ public class PropDesc {
 	 */
 	public Object getValue(Object bean) {
 		if (null != this.getter) {
-			return ReflectUtil.invoke(bean, this.getter);
+			return invokeGetter(bean);
 		} else if (ModifierUtil.isPublic(this.field)) {
 			return ReflectUtil.getFieldValue(bean, this.field);
 		}
@@ -223,7 +258,7 @@ public class PropDesc {
 	 */
 	public PropDesc setValue(Object bean, Object value) {
 		if (null != this.setter) {
-			ReflectUtil.invoke(bean, this.setter, value);
+			invokeSetter(bean, value);
 		} else if (ModifierUtil.isPublic(this.field)) {
 			ReflectUtil.setFieldValue(bean, this.field, value);
 		}
@@ -291,6 +326,70 @@ public class PropDesc {
 
 	//------------------------------------------------------------------------------------ Private method start
 
+	/**
+	 * 调用Getter方法，异常包装与{@link ReflectUtil#invoke(Object, Method, Object...)}一致
+	 *
+	 * @param bean Bean对象
+	 * @return 属性值
+	 */
+	private Object invokeGetter(Object bean) {
+		if (accessorEnabled) {
+			if (false == getterAccessorCreated) {
+				getterAccessor = PropAccessor.getter(this.getter);
+				getterAccessorCreated = true;
+			}
+			if (null != getterAccessor) {
+				try {
+					return getterAccessor.apply(bean);
+				} catch (Throwable e) {
+					throw new InvocationTargetRuntimeException(new InvocationTargetException(e));
+				}
+			}
+		}
+		return ReflectUtil.invoke(bean, this.getter);
+	}
+
+	/**
+	 * 调用Setter方法，参数转换和异常包装与{@link ReflectUtil#invoke(Object, Method, Object...)}一致
+	 *
+	 * @param bean  Bean对象
+	 * @param value 值
+	 */
+	private void invokeSetter(Object bean, Object value) {
+		if (accessorEnabled) {
+			if (false == setterAccessorCreated) {
+				setterAccessor = PropAccessor.setter(this.setter);
+				if (null != setterAccessor) {
+					setterParamType = this.setter.getParameterTypes()[0];
+				}
+				setterAccessorCreated = true;
+			}
+			if (null != setterAccessor) {
+				final Class<?> paramType = this.setterParamType;
+				if (null == value) {
+					// 获取null对应默认值，防止原始类型造成空指针问题
+					value = ClassUtil.getDefaultValue(paramType);
+				} else if (value instanceof NullWrapperBean) {
+					value = null;
+				} else if (false == BasicType.wrap(paramType).isInstance(value)) {
+					// 对于类型不同的字段，尝试转换，转换失败则使用原对象类型
+					final Object targetValue = Convert.convertWithCheck(paramType, value, null, true);
+					if (null != targetValue) {
+						value = targetValue;
+					}
+				}
+
+				try {
+					setterAccessor.accept(bean, value);
+				} catch (Throwable e) {
+					throw new InvocationTargetRuntimeException(new InvocationTargetException(e));
+				}
+				return;
+			}
+		}
+		ReflectUtil.invoke(bean, this.setter, value);
+	}
+
 	/**
 	 * 通过Getter和Setter方法中找到属性类型
 	 *
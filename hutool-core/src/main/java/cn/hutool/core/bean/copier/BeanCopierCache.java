@@ -0,0 +1,71 @@
+package cn.hutool.core.bean.copier;
+
+import cn.hutool.core.map.WeakConcurrentMap;
+
+/**
+ * Bean到Bean的拷贝计划缓存<br>
+ * 拷贝计划按照源类、目标类和影响属性匹配的拷贝选项（忽略大小写、transient支持）缓存，
+ * 避免每次拷贝时重复获取属性Map和匹配属性。<br>
+ * 与{@link cn.hutool.core.bean.BeanDescCache}一致，缓存以类为弱引用键，目标泛型类型不作为键。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public enum BeanCopierCache {
+	INSTANCE;
+
+	/**
+	 * 按拷贝选项组合分别缓存，下标为{@link #optionIndex(boolean, boolean)}，每个缓存为：目标类 -&gt; 源类 -&gt; 拷贝计划
+	 */
+	private final WeakConcurrentMap<Class<?>, WeakConcurrentMap<Class<?>, BeanCopyPlan>>[] planCaches = newPlanCaches();
+
+	/**
+	 * 获取拷贝计划，不存在时创建
+	 *
+	 * @param sourceClass 源Bean类型
+	 * @param targetClass 目标Bean类型（或限制的可编辑类型）
+	 * @param copyOptions 拷贝选项
+	 * @return 拷贝计划
+	 */
+	BeanCopyPlan getPlan(Class<?> sourceClass, Class<?> targetClass, CopyOptions copyOptions) {
+		final boolean ignoreCase = copyOptions.ignoreCase;
+		final boolean transientSupport = copyOptions.transientSupport;
+		return planCaches[optionIndex(ignoreCase, transientSupport)]
+				.computeIfAbsent(targetClass, (key) -> new WeakConcurrentMap<>())
+				.computeIfAbsent(sourceClass, (key) -> new BeanCopyPlan(sourceClass, targetClass, ignoreCase, transientSupport));
+	}
+
+	/**
+	 * 清空全局的拷贝计划缓存
+	 */
+	public void clear() {
+		for (final WeakConcurrentMap<Class<?>, WeakConcurrentMap<Class<?>, BeanCopyPlan>> planCache : this.planCaches) {
+			planCache.clear();
+		}
+	}
+
+	/**
+	 * 拷贝选项组合对应的缓存下标
+	 *
+	 * @param ignoreCase       是否忽略大小写
+	 * @param transientSupport 是否支持transient
+	 * @return 下标
+	 */
+	private static int optionIndex(boolean ignoreCase, boolean transientSupport) {
+		return (ignoreCase ? 1 : 0) | (transientSupport ? 2 : 0);
+	}
+
+	/**
+	 * 创建每种拷贝选项组合对应的缓存
+	 *
+	 * @return 缓存数组
+	 */
+	@SuppressWarnings("unchecked")
+	private static WeakConcurrentMap<Class<?>, WeakConcurrentMap<Class<?>, BeanCopyPlan>>[] newPlanCaches() {
+		final WeakConcurrentMap<Class<?>, WeakConcurrentMap<Class<?>, BeanCopyPlan>>[] planCaches = new WeakConcurrentMap[4];
+		for (int i = 0; i < planCaches.length; i++) {
+			planCaches[i] = new WeakConcurrentMap<>();
+		}
+		return planCaches;
+	}
+}
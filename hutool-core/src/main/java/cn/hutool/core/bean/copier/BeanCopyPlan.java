@@ -0,0 +1,175 @@
+package cn.hutool.core.bean.copier;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.AbstractConverter;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Converter;
+import cn.hutool.core.convert.ConverterRegistry;
+import cn.hutool.core.convert.TypeConverter;
+import cn.hutool.core.map.CaseInsensitiveMap;
+import cn.hutool.core.util.TypeUtil;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bean到Bean的拷贝计划，预先计算：
+ * <ul>
+ *     <li>可读的源属性列表</li>
+ *     <li>可写的目标属性及其实际类型</li>
+ *     <li>未设置字段名编辑器时，源属性与目标属性的对应关系</li>
+ *     <li>使用默认转换器时，值已是目标类型可跳过转换的判断类型</li>
+ * </ul>
+ * 计划只依赖源类、目标类和{@link CopyOptions}中影响属性匹配的选项，其它选项在每次拷贝时按原有顺序执行，保证与逐个属性匹配的结果一致。<br>
+ * 目标泛型类型不参与计划，含泛型变量的目标属性类型在每次拷贝时按目标泛型类型解析。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class BeanCopyPlan {
+
+	/**
+	 * 可读的源属性，顺序与源属性Map一致
+	 */
+	final SourceProp[] sourceProps;
+	/**
+	 * 可写的目标属性，忽略大小写时为{@link CaseInsensitiveMap}
+	 */
+	private final Map<String, TargetProp> targetProps;
+
+	/**
+	 * 构造
+	 *
+	 * @param sourceClass      源Bean类型
+	 * @param targetClass      目标Bean类型
+	 * @param ignoreCase       是否忽略大小写
+	 * @param transientSupport 是否支持transient
+	 */
+	BeanCopyPlan(Class<?> sourceClass, Class<?> targetClass, boolean ignoreCase, boolean transientSupport) {
+		final Map<String, PropDesc> targetPropDescMap = BeanUtil.getBeanDesc(targetClass).getPropMap(ignoreCase);
+		this.targetProps = ignoreCase ? new CaseInsensitiveMap<>() : new HashMap<>(targetPropDescMap.size(), 1);
+		targetPropDescMap.forEach((name, tDesc) -> {
+			if (tDesc.isWritable(transientSupport)) {
+				targetProps.put(name, new TargetProp(tDesc));
+			}
+		});
+
+		final Map<String, PropDesc> sourcePropDescMap = BeanUtil.getBeanDesc(sourceClass).getPropMap(ignoreCase);
+		final List<SourceProp> sourceProps = new ArrayList<>(sourcePropDescMap.size());
+		sourcePropDescMap.forEach((name, sDesc) -> {
+			if (null != name && sDesc.isReadable(transientSupport)) {
+				sourceProps.add(new SourceProp(name, sDesc, targetProps.get(name)));
+			}
+		});
+		this.sourceProps = sourceProps.toArray(new SourceProp[0]);
+	}
+
+	/**
+	 * 获取可写的目标属性
+	 *
+	 * @param name 属性名
+	 * @return 目标属性，不存在或不可写返回{@code null}
+	 */
+	TargetProp getTargetProp(String name) {
+		return targetProps.get(name);
+	}
+
+	/**
+	 * 源属性
+	 */
+	static final class SourceProp {
+		final String name;
+		final PropDesc desc;
+		/**
+		 * 同名的可写目标属性，未设置字段名编辑器时使用
+		 */
+		final TargetProp target;
+
+		SourceProp(String name, PropDesc desc, TargetProp target) {
+			this.name = name;
+			this.desc = desc;
+			this.target = target;
+		}
+	}
+
+	/**
+	 * 目标属性
+	 */
+	static final class TargetProp {
+		final PropDesc desc;
+		/**
+		 * 目标属性声明的类型，可能含有泛型变量
+		 */
+		private final Type fieldType;
+		/**
+		 * 默认转换器对此类型的实例直接返回原值时，为此类型（原始类型为包装类型），否则为{@code null}
+		 */
+		private final Class<?> identityClass;
+
+		TargetProp(PropDesc desc) {
+			this.desc = desc;
+			this.fieldType = desc.getFieldType();
+			this.identityClass = getIdentityClass(fieldType);
+		}
+
+		/**
+		 * 转换源值为目标类型，使用默认转换器且值已是目标类型时直接返回原值
+		 *
+		 * @param copyOptions 拷贝选项
+		 * @param targetType  目标泛型类型，用于解析属性类型中的泛型变量
+		 * @param value       源值
+		 * @return 转换后的值
+		 */
+		Object convert(CopyOptions copyOptions, Type targetType, Object value) {
+			if (null != identityClass && copyOptions.isDefaultConverter()) {
+				if (null == value) {
+					return null;
+				}
+				if (identityClass.isInstance(value)
+						// JSON对象、集合和自定义转换的对象走默认转换器
+						&& false == (value instanceof Map || value instanceof Collection || value instanceof TypeConverter)
+						&& null == ConverterRegistry.getInstance().getCustomConverter(fieldType)) {
+					return value;
+				}
+			}
+
+			// 类型为Class时无需解析泛型变量
+			final Type actualType = fieldType instanceof Class ? fieldType : TypeUtil.getActualType(targetType, fieldType);
+			return copyOptions.convertField(actualType, value);
+		}
+
+		/**
+		 * 获取默认转换器对其实例直接返回原值的类型，规则见{@link ConverterRegistry#convert(Type, Object)}：
+		 * <ul>
+		 *     <li>默认转换器为{@link AbstractConverter}时，值为转换器目标类型的实例则原样返回（Map除外）</li>
+		 *     <li>无默认转换器时，非集合、Map、Entry的类型，值为其实例则原样返回</li>
+		 * </ul>
+		 *
+		 * @param fieldType 目标类型
+		 * @return 类型，不满足条件返回{@code null}
+		 */
+		private static Class<?> getIdentityClass(Type fieldType) {
+			if (false == fieldType instanceof Class) {
+				return null;
+			}
+			final Class<?> clazz = (Class<?>) fieldType;
+			if (Map.class.isAssignableFrom(clazz) || Collection.class.isAssignableFrom(clazz) || Map.Entry.class.isAssignableFrom(clazz)) {
+				return null;
+			}
+
+			final Converter<?> converter = ConverterRegistry.getInstance().getDefaultConverter(clazz);
+			if (null == converter) {
+				return BasicType.wrap(clazz);
+			}
+			if (converter instanceof AbstractConverter) {
+				return BasicType.wrap(((AbstractConverter<?>) converter).getTargetType());
+			}
+			return null;
+		}
+	}
+}
@@ -1,15 +1,12 @@
 package cn.hutool.core.bean.copier;
 
-import cn.hutool.core.bean.BeanUtil;
-import cn.hutool.core.bean.PropDesc;
 import cn.hutool.core.lang.Assert;
-import cn.hutool.core.util.TypeUtil;
 
 import java.lang.reflect.Type;
-import java.util.Map;
 
 /**
- * Bean属性拷贝到Bean中的拷贝器
+ * Bean属性拷贝到Bean中的拷贝器<br>
+ * 属性的匹配关系通过{@link BeanCopierCache}按源类型、目标类型和拷贝选项缓存
  *
  * @param <S> 源Bean类型
  * @param <T> 目标Bean类型
@@ -44,48 +41,49 @@ public class BeanToBeanCopier<S, T> extends AbsCopier<S, T> {
 					"Target class [{}] not assignable to Editable class [{}]", actualEditable.getName(), copyOptions.editable.getName());
 			actualEditable = copyOptions.editable;
 		}
-		final Map<String, PropDesc> targetPropDescMap = BeanUtil.getBeanDesc(actualEditable).getPropMap(copyOptions.ignoreCase);
-
-		final Map<String, PropDesc> sourcePropDescMap = BeanUtil.getBeanDesc(source.getClass()).getPropMap(copyOptions.ignoreCase);
-		sourcePropDescMap.forEach((sFieldName, sDesc) -> {
-			if (null == sFieldName || false == sDesc.isReadable(copyOptions.transientSupport)) {
-				// 字段空或不可读，跳过
-				return;
-			}
-
-			sFieldName = copyOptions.editFieldName(sFieldName);
-			// 对key做转换，转换后为null的跳过
-			if (null == sFieldName) {
-				return;
+		final BeanCopyPlan plan = BeanCopierCache.INSTANCE.getPlan(source.getClass(), actualEditable, copyOptions);
+		// 自定义的CopyOptions子类可能重写字段名编辑规则，按有编辑器处理
+		final boolean hasFieldNameEditor = copyOptions.hasFieldNameEditor() || CopyOptions.class != copyOptions.getClass();
+		for (final BeanCopyPlan.SourceProp sProp : plan.sourceProps) {
+			String sFieldName = sProp.name;
+			final BeanCopyPlan.TargetProp tProp;
+			if (hasFieldNameEditor) {
+				sFieldName = copyOptions.editFieldName(sFieldName);
+				// 对key做转换，转换后为null的跳过
+				if (null == sFieldName) {
+					continue;
+				}
+				// 忽略不需要拷贝的 key,
+				if (false == copyOptions.testKeyFilter(sFieldName)) {
+					continue;
+				}
+				tProp = plan.getTargetProp(sFieldName);
+			} else {
+				// 忽略不需要拷贝的 key,
+				if (false == copyOptions.testKeyFilter(sFieldName)) {
+					continue;
+				}
+				tProp = sProp.target;
 			}
 
-			// 忽略不需要拷贝的 key,
-			if (false == copyOptions.testKeyFilter(sFieldName)) {
-				return;
-			}
-
-			// 检查目标字段可写性
-			final PropDesc tDesc = targetPropDescMap.get(sFieldName);
-			if (null == tDesc || false == tDesc.isWritable(this.copyOptions.transientSupport)) {
-				// 字段不可写，跳过之
-				return;
+			// 目标字段不存在或不可写，跳过之
+			if (null == tProp) {
+				continue;
 			}
 
 			// 检查源对象属性是否过滤属性
-			Object sValue = sDesc.getValue(this.source);
-			if (false == copyOptions.testPropertyFilter(sDesc.getField(), sValue)) {
-				return;
+			Object sValue = sProp.desc.getValue(this.source);
+			if (false == copyOptions.testPropertyFilter(sProp.desc.getField(), sValue)) {
+				continue;
 			}
 
-			// 获取目标字段真实类型并转换源值
-			final Type fieldType = TypeUtil.getActualType(this.targetType, tDesc.getFieldType());
-			//sValue = Convert.convertWithCheck(fieldType, sValue, null, this.copyOptions.ignoreError);
-			sValue = this.copyOptions.convertField(fieldType, sValue);
+			// 转换源值为目标字段真实类型
+			sValue = tProp.convert(copyOptions, this.targetType, sValue);
 			sValue = copyOptions.editFieldValue(sFieldName, sValue);
 
 			// 目标赋值
-			tDesc.setValue(this.target, sValue, copyOptions.ignoreNullValue, copyOptions.ignoreError, copyOptions.override);
-		});
+			tProp.desc.setValue(this.target, sValue, copyOptions.ignoreNullValue, copyOptions.ignoreError, copyOptions.override);
+		}
 		return this.target;
 	}
 }
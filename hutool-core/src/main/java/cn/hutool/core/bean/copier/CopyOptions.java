@@ -76,9 +76,9 @@ public class CopyOptions implements Serializable {
 	private Set<String> ignoreKeySet;
 
 	/**
-	 * 自定义类型转换器，默认使用全局万能转换器转换
+	 * 默认的全局万能转换器，用于在拷贝时识别默认转换器，跳过类型已匹配的值的转换
 	 */
-	protected TypeConverter converter = (type, value) -> {
+	private final transient TypeConverter defaultConverter = (type, value) -> {
 		if(null == value){
 			return null;
 		}
@@ -92,6 +92,11 @@ public class CopyOptions implements Serializable {
 		return Convert.convertWithCheck(type, value, null, ignoreError);
 	};
 
+	/**
+	 * 自定义类型转换器，默认使用全局万能转换器转换
+	 */
+	protected TypeConverter converter = defaultConverter;
+
 	//region create
 
 	/**
@@ -349,6 +354,26 @@ public class CopyOptions implements Serializable {
 				this.converter.convert(targetType, fieldValue) : fieldValue;
 	}
 
+	/**
+	 * 是否使用默认的全局万能转换器转换字段值，子类可能重写{@link #convertField(Type, Object)}，此时返回{@code false}
+	 *
+	 * @return 是否使用默认转换器
+	 * @since 5.8.19
+	 */
+	boolean isDefaultConverter() {
+		return null != this.converter && this.converter == this.defaultConverter && CopyOptions.class == getClass();
+	}
+
+	/**
+	 * 是否设置了字段名编辑器
+	 *
+	 * @return 是否设置了字段名编辑器
+	 * @since 5.8.19
+	 */
+	boolean hasFieldNameEditor() {
+		return null != this.fieldNameEditor;
+	}
+
 	/**
 	 * 转换字段名为编辑后的字段名
 	 *
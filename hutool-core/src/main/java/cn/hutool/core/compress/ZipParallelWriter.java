@@ -0,0 +1,689 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.resource.Resource;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * 并行Zip生成封装<br>
+ * 与{@link ZipWriter}的单线程逐个压缩不同，此类将每个条目提交到{@link ForkJoinPool}中并行压缩：
+ * <ul>
+ *     <li>每个条目独立压缩到内存缓冲区，压缩后数据超过{@link #setMemoryThreshold(int)}时转存到临时文件</li>
+ *     <li>条目按照加入的顺序写出，同时压缩中的条目数不超过并行度的2倍，以限制内存和打开的文件数；并行度小于2时在当前线程压缩</li>
+ *     <li>压缩完成后直接写出本地文件头和数据，关闭时写出中央目录，条目数或大小超出限制时自动使用Zip64格式</li>
+ * </ul>
+ * 生成的压缩包与{@link ZipWriter}内容一致，可被{@link java.util.zip.ZipFile}和{@link java.util.zip.ZipInputStream}读取。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class ZipParallelWriter implements Closeable {
+
+	private static final int LOCAL_HEADER_SIG = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+	private static final int ZIP64_END_SIG = 0x06064b50;
+	private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+	private static final int END_SIG = 0x06054b50;
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+	private static final int ZIP64_EXTRA_ID = 0x0001;
+	private static final int UTF8_FLAG = 0x0800;
+	/**
+	 * 默认内存缓冲阈值：4MB
+	 */
+	private static final int DEFAULT_MEMORY_THRESHOLD = 4 * 1024 * 1024;
+
+	/**
+	 * 创建ZipParallelWriter
+	 *
+	 * @param zipFile 生成的Zip文件
+	 * @param charset 编码
+	 * @return ZipParallelWriter
+	 */
+	public static ZipParallelWriter of(File zipFile, Charset charset) {
+		return new ZipParallelWriter(zipFile, charset);
+	}
+
+	/**
+	 * 创建ZipParallelWriter
+	 *
+	 * @param out     Zip输出的流，一般为输出文件流
+	 * @param charset 编码
+	 * @return ZipParallelWriter
+	 */
+	public static ZipParallelWriter of(OutputStream out, Charset charset) {
+		return new ZipParallelWriter(out, charset, null);
+	}
+
+	private final OutputStream out;
+	private final Charset charset;
+	private final ForkJoinPool pool;
+	/**
+	 * 同时压缩中的最大条目数
+	 */
+	private final int window;
+	/**
+	 * 压缩中的条目，按照加入顺序排列
+	 */
+	private final Deque<ForkJoinTask<Entry>> tasks;
+	/**
+	 * 已写出的条目，用于生成中央目录
+	 */
+	private final List<Entry> entries = new ArrayList<>();
+	/**
+	 * 已加入的条目名，用于检查重复条目
+	 */
+	private final Set<String> names = new HashSet<>();
+
+	private int level = Deflater.DEFAULT_COMPRESSION;
+	private int memoryThreshold = DEFAULT_MEMORY_THRESHOLD;
+	private byte[] comment;
+	/**
+	 * 已写出的字节数，即下一个条目的偏移
+	 */
+	private long written;
+
+	/**
+	 * 构造
+	 *
+	 * @param zipFile 生成的Zip文件
+	 * @param charset 编码
+	 */
+	public ZipParallelWriter(File zipFile, Charset charset) {
+		this(FileUtil.getOutputStream(zipFile), charset, null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param out     Zip输出的流，一般为输出文件流
+	 * @param charset 编码，{@code null}表示UTF-8
+	 * @param pool    压缩使用的线程池，{@code null}表示{@link ForkJoinPool#commonPool()}
+	 */
+	public ZipParallelWriter(OutputStream out, Charset charset, ForkJoinPool pool) {
+		this.out = IoUtil.toBuffered(out);
+		this.charset = ObjectUtil.defaultIfNull(charset, CharsetUtil.CHARSET_UTF_8);
+		this.pool = ObjectUtil.defaultIfNull(pool, ForkJoinPool::commonPool);
+		this.window = Math.max(2, this.pool.getParallelism() * 2);
+		this.tasks = new ArrayDeque<>(this.window);
+	}
+
+	/**
+	 * 设置压缩级别，可选1~9，-1表示默认，只对之后加入的条目有效
+	 *
+	 * @param level 压缩级别
+	 * @return this
+	 */
+	public ZipParallelWriter setLevel(int level) {
+		if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+			throw new IllegalArgumentException("invalid compression level");
+		}
+		this.level = level;
+		return this;
+	}
+
+	/**
+	 * 设置注释
+	 *
+	 * @param comment 注释
+	 * @return this
+	 */
+	public ZipParallelWriter setComment(String comment) {
+		if (null != comment) {
+			this.comment = comment.getBytes(this.charset);
+			if (this.comment.length > 0xFFFF) {
+				throw new IllegalArgumentException("ZIP file comment too long.");
+			}
+		} else {
+			this.comment = null;
+		}
+		return this;
+	}
+
+	/**
+	 * 设置单个条目压缩后数据在内存中缓冲的最大字节数，超出后转存到临时文件，只对之后加入的条目有效
+	 *
+	 * @param memoryThreshold 内存缓冲的最大字节数
+	 * @return this
+	 */
+	public ZipParallelWriter setMemoryThreshold(int memoryThreshold) {
+		this.memoryThreshold = memoryThreshold;
+		return this;
+	}
+
+	/**
+	 * 对文件或文件目录进行压缩
+	 *
+	 * @param withSrcDir 是否包含被打包目录，只针对压缩目录有效。若为false，则只压缩目录下的文件或目录，为true则将本目录也压缩
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩），{@code null}表示不过滤
+	 * @param files      要压缩的源文件或目录。如果压缩一个文件，则为该文件的全路径；如果压缩一个目录，则为该目录的顶层目录路径
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ZipParallelWriter add(boolean withSrcDir, FileFilter filter, File... files) throws IORuntimeException {
+		for (File file : files) {
+			// 如果只是压缩一个文件，则需要截取该文件的父目录
+			String srcRootDir;
+			try {
+				srcRootDir = file.getCanonicalPath();
+				if ((false == file.isDirectory()) || withSrcDir) {
+					// 若是文件，则将父目录完整路径都截取掉；若设置包含目录，则将上级目录全部截取掉，保留本目录名
+					srcRootDir = file.getCanonicalFile().getParentFile().getCanonicalPath();
+				}
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+
+			_add(file, srcRootDir, filter);
+		}
+		return this;
+	}
+
+	/**
+	 * 添加资源到压缩包，添加后关闭资源流
+	 *
+	 * @param resources 需要压缩的资源，资源的路径为{@link Resource#getName()}
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ZipParallelWriter add(Resource... resources) throws IORuntimeException {
+		for (Resource resource : resources) {
+			if (null != resource) {
+				putEntry(resource.getName(), resource::getStream);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 添加文件流到压缩包，添加后关闭输入文件流<br>
+	 * 如果输入流为{@code null}，则只创建空目录<br>
+	 * 流在压缩线程中读取，调用者不应再使用此流
+	 *
+	 * @param path 压缩的路径, {@code null}和""表示根目录下
+	 * @param in   需要压缩的输入流，使用完后自动关闭，{@code null}表示加入空目录
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ZipParallelWriter add(String path, InputStream in) throws IORuntimeException {
+		path = StrUtil.nullToEmpty(path);
+		if (null == in) {
+			// 空目录需要检查路径规范性，目录以"/"结尾
+			path = StrUtil.addSuffixIfNot(path, StrUtil.SLASH);
+			if (StrUtil.isBlank(path)) {
+				return this;
+			}
+			return putEntry(path, null);
+		}
+
+		return putEntry(path, () -> in);
+	}
+
+	/**
+	 * 对流中的数据加入到压缩文件<br>
+	 * 路径列表和流列表长度必须一致
+	 *
+	 * @param paths 流数据在压缩文件中的路径或文件名
+	 * @param ins   要压缩的源，添加完成后自动关闭流
+	 * @return 压缩文件
+	 * @throws IORuntimeException IO异常
+	 */
+	public ZipParallelWriter add(String[] paths, InputStream[] ins) throws IORuntimeException {
+		if (ArrayUtil.isEmpty(paths) || ArrayUtil.isEmpty(ins)) {
+			throw new IllegalArgumentException("Paths or ins is empty !");
+		}
+		if (paths.length != ins.length) {
+			throw new IllegalArgumentException("Paths length is not equals to ins length !");
+		}
+
+		for (int i = 0; i < paths.length; i++) {
+			add(paths[i], ins[i]);
+		}
+
+		return this;
+	}
+
+	/**
+	 * 等待所有条目压缩完成并写出，之后写出中央目录并关闭输出流
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void close() throws IORuntimeException {
+		try {
+			while (false == this.tasks.isEmpty()) {
+				writeEntry(this.tasks.poll().join());
+			}
+			writeCentralDirectory();
+			this.out.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			// 出错时清理未写出条目的临时文件
+			ForkJoinTask<Entry> task;
+			while (null != (task = this.tasks.poll())) {
+				try {
+					task.join().release();
+				} catch (Exception ignore) {
+					// ignore
+				}
+			}
+			IoUtil.close(this.out);
+		}
+	}
+
+	/**
+	 * 递归压缩文件夹或压缩文件<br>
+	 * srcRootDir决定了路径截取的位置，例如：<br>
+	 * file的路径为d:/a/b/c/d.txt，srcRootDir为d:/a/b，则压缩后的文件与目录为结构为c/d.txt
+	 *
+	 * @param srcRootDir 被压缩的文件夹根目录
+	 * @param file       当前递归压缩的文件或目录对象
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩），{@code null}表示不过滤
+	 * @throws IORuntimeException IO异常
+	 */
+	private void _add(File file, String srcRootDir, FileFilter filter) throws IORuntimeException {
+		if (null == file || (null != filter && false == filter.accept(file))) {
+			return;
+		}
+
+		// 获取文件相对于压缩文件夹根目录的子路径
+		final String subPath = FileUtil.subPath(srcRootDir, file);
+		if (file.isDirectory()) {
+			// 如果是目录，则压缩压缩目录中的文件或子目录
+			final File[] files = file.listFiles();
+			if (ArrayUtil.isEmpty(files)) {
+				// 加入目录，只有空目录时才加入目录，非空时会在创建文件时自动添加父级目录
+				add(subPath, null);
+			} else {
+				// 压缩目录下的子文件或目录
+				for (File childFile : files) {
+					_add(childFile, srcRootDir, filter);
+				}
+			}
+		} else {
+			// 如果是文件或其它符号，则直接压缩该文件，文件在压缩线程中打开
+			putEntry(subPath, () -> FileUtil.getInputStream(file));
+		}
+	}
+
+	/**
+	 * 提交条目压缩任务，压缩中的条目达到上限时，先按照顺序写出最早加入的条目
+	 *
+	 * @param path 压缩的路径
+	 * @param in   输入流提供者，{@code null}表示目录
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	private ZipParallelWriter putEntry(String path, Supplier<InputStream> in) throws IORuntimeException {
+		if (false == this.names.add(path)) {
+			if (null != in) {
+				IoUtil.close(in.get());
+			}
+			throw new IORuntimeException(new ZipException("duplicate entry: " + path));
+		}
+
+		try {
+			while (this.tasks.size() >= this.window) {
+				writeEntry(this.tasks.poll().join());
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		final Entry entry = new Entry(path.getBytes(this.charset), System.currentTimeMillis());
+		final int level = this.level;
+		final int memoryThreshold = this.memoryThreshold;
+		final ForkJoinTask<Entry> task = ForkJoinTask.adapt(() -> null == in ? entry : entry.deflate(in.get(), level, memoryThreshold));
+		if (this.pool.getParallelism() < 2) {
+			// 单线程时直接在当前线程压缩，避免线程切换的开销
+			task.invoke();
+		} else {
+			this.pool.execute(task);
+		}
+		this.tasks.add(task);
+		return this;
+	}
+
+	/**
+	 * 写出压缩完成的条目，包括本地文件头和压缩后的数据
+	 *
+	 * @param entry 条目
+	 * @throws IOException IO异常
+	 */
+	private void writeEntry(Entry entry) throws IOException {
+		try {
+			entry.offset = this.written;
+			final boolean zip64 = entry.size >= ZIP64_MAGIC || entry.csize >= ZIP64_MAGIC;
+			final ByteBuffer header = newBuffer(30 + entry.name.length + (zip64 ? 20 : 0));
+			header.putInt(LOCAL_HEADER_SIG);
+			header.putShort((short) entry.version(zip64));
+			header.putShort((short) flag());
+			header.putShort((short) entry.method);
+			header.putInt((int) entry.dosTime);
+			header.putInt((int) entry.crc);
+			header.putInt((int) (zip64 ? ZIP64_MAGIC : entry.csize));
+			header.putInt((int) (zip64 ? ZIP64_MAGIC : entry.size));
+			header.putShort((short) entry.name.length);
+			header.putShort((short) (zip64 ? 20 : 0));
+			header.put(entry.name);
+			if (zip64) {
+				header.putShort((short) ZIP64_EXTRA_ID);
+				header.putShort((short) 16);
+				header.putLong(entry.size);
+				header.putLong(entry.csize);
+			}
+			write(header);
+
+			entry.writeTo(this.out);
+			this.written += entry.csize;
+			this.entries.add(entry);
+		} finally {
+			entry.release();
+		}
+	}
+
+	/**
+	 * 写出中央目录和目录结束标识，超出限制时写出Zip64的目录结束标识
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void writeCentralDirectory() throws IOException {
+		final long centralOffset = this.written;
+		for (Entry entry : this.entries) {
+			final boolean zip64Size = entry.size >= ZIP64_MAGIC || entry.csize >= ZIP64_MAGIC;
+			final boolean zip64Offset = entry.offset >= ZIP64_MAGIC;
+			final int extraLength = (zip64Size || zip64Offset) ? 4 + (zip64Size ? 16 : 0) + (zip64Offset ? 8 : 0) : 0;
+			final ByteBuffer header = newBuffer(46 + entry.name.length + extraLength);
+			header.putInt(CENTRAL_HEADER_SIG);
+			final int version = entry.version(extraLength > 0);
+			header.putShort((short) version);
+			header.putShort((short) version);
+			header.putShort((short) flag());
+			header.putShort((short) entry.method);
+			header.putInt((int) entry.dosTime);
+			header.putInt((int) entry.crc);
+			header.putInt((int) (zip64Size ? ZIP64_MAGIC : entry.csize));
+			header.putInt((int) (zip64Size ? ZIP64_MAGIC : entry.size));
+			header.putShort((short) entry.name.length);
+			header.putShort((short) extraLength);
+			// 注释长度、起始磁盘号、内部属性、外部属性
+			header.putShort((short) 0);
+			header.putShort((short) 0);
+			header.putShort((short) 0);
+			header.putInt(0);
+			header.putInt((int) (zip64Offset ? ZIP64_MAGIC : entry.offset));
+			header.put(entry.name);
+			if (extraLength > 0) {
+				header.putShort((short) ZIP64_EXTRA_ID);
+				header.putShort((short) (extraLength - 4));
+				if (zip64Size) {
+					header.putLong(entry.size);
+					header.putLong(entry.csize);
+				}
+				if (zip64Offset) {
+					header.putLong(entry.offset);
+				}
+			}
+			write(header);
+		}
+
+		final long centralSize = this.written - centralOffset;
+		final int count = this.entries.size();
+		if (count >= ZIP64_MAGIC_COUNT || centralSize >= ZIP64_MAGIC || centralOffset >= ZIP64_MAGIC) {
+			final long zip64EndOffset = this.written;
+			final ByteBuffer zip64End = newBuffer(56 + 20);
+			zip64End.putInt(ZIP64_END_SIG);
+			zip64End.putLong(44);
+			zip64End.putShort((short) 45);
+			zip64End.putShort((short) 45);
+			zip64End.putInt(0);
+			zip64End.putInt(0);
+			zip64End.putLong(count);
+			zip64End.putLong(count);
+			zip64End.putLong(centralSize);
+			zip64End.putLong(centralOffset);
+			zip64End.putInt(ZIP64_LOCATOR_SIG);
+			zip64End.putInt(0);
+			zip64End.putLong(zip64EndOffset);
+			zip64End.putInt(1);
+			write(zip64End);
+		}
+
+		final byte[] comment = ObjectUtil.defaultIfNull(this.comment, new byte[0]);
+		final ByteBuffer end = newBuffer(22 + comment.length);
+		end.putInt(END_SIG);
+		end.putShort((short) 0);
+		end.putShort((short) 0);
+		end.putShort((short) Math.min(count, ZIP64_MAGIC_COUNT));
+		end.putShort((short) Math.min(count, ZIP64_MAGIC_COUNT));
+		end.putInt((int) Math.min(centralSize, ZIP64_MAGIC));
+		end.putInt((int) Math.min(centralOffset, ZIP64_MAGIC));
+		end.putShort((short) comment.length);
+		end.put(comment);
+		write(end);
+	}
+
+	/**
+	 * 通用标志位，UTF-8编码时标记文件名为UTF-8
+	 *
+	 * @return 标志位
+	 */
+	private int flag() {
+		return CharsetUtil.CHARSET_UTF_8.equals(this.charset) ? UTF8_FLAG : 0;
+	}
+
+	/**
+	 * 写出缓冲区中的数据
+	 *
+	 * @param buffer 缓冲区
+	 * @throws IOException IO异常
+	 */
+	private void write(ByteBuffer buffer) throws IOException {
+		this.out.write(buffer.array(), 0, buffer.position());
+		this.written += buffer.position();
+	}
+
+	/**
+	 * 创建小端序的缓冲区
+	 *
+	 * @param size 大小
+	 * @return 缓冲区
+	 */
+	private static ByteBuffer newBuffer(int size) {
+		return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * 压缩条目，保存压缩后的数据和中央目录需要的信息
+	 */
+	private static class Entry {
+		private final byte[] name;
+		private final long dosTime;
+		private int method = ZipEntry.STORED;
+		private long crc;
+		private long size;
+		private long csize;
+		private long offset;
+		private FastByteArrayOutputStream memory;
+		private File tempFile;
+
+		/**
+		 * 构造，默认为目录条目
+		 *
+		 * @param name 条目名
+		 * @param time 修改时间
+		 */
+		Entry(byte[] name, long time) {
+			this.name = name;
+			this.dosTime = toDosTime(time);
+		}
+
+		/**
+		 * 压缩流中的数据，压缩后关闭流
+		 *
+		 * @param in              输入流
+		 * @param level           压缩级别
+		 * @param memoryThreshold 内存缓冲的最大字节数
+		 * @return this
+		 * @throws IORuntimeException IO异常
+		 */
+		Entry deflate(InputStream in, int level, int memoryThreshold) throws IORuntimeException {
+			this.method = ZipEntry.DEFLATED;
+			final CRC32 crc = new CRC32();
+			final Deflater deflater = new Deflater(level, true);
+			final SpillOutputStream data = new SpillOutputStream(memoryThreshold);
+			try {
+				final DeflaterOutputStream deflaterOut = new DeflaterOutputStream(data, deflater, IoUtil.DEFAULT_BUFFER_SIZE);
+				final byte[] buffer = new byte[IoUtil.DEFAULT_BUFFER_SIZE];
+				int length;
+				while ((length = in.read(buffer)) > -1) {
+					crc.update(buffer, 0, length);
+					deflaterOut.write(buffer, 0, length);
+				}
+				deflaterOut.finish();
+				this.crc = crc.getValue();
+				this.size = deflater.getBytesRead();
+				this.csize = deflater.getBytesWritten();
+			} catch (IOException e) {
+				IoUtil.close(data);
+				FileUtil.del(data.tempFile);
+				throw new IORuntimeException(e);
+			} finally {
+				deflater.end();
+				IoUtil.close(in);
+			}
+			IoUtil.close(data);
+			this.memory = data.memory;
+			this.tempFile = data.tempFile;
+			return this;
+		}
+
+		/**
+		 * 写出压缩后的数据
+		 *
+		 * @param out 输出流
+		 * @throws IOException IO异常
+		 */
+		void writeTo(OutputStream out) throws IOException {
+			if (null != this.tempFile) {
+				Files.copy(this.tempFile.toPath(), out);
+			} else if (null != this.memory) {
+				this.memory.writeTo(out);
+			}
+		}
+
+		/**
+		 * 释放压缩后的数据
+		 */
+		void release() {
+			this.memory = null;
+			if (null != this.tempFile) {
+				FileUtil.del(this.tempFile);
+				this.tempFile = null;
+			}
+		}
+
+		/**
+		 * 解压所需的最低版本
+		 *
+		 * @param zip64 是否使用Zip64
+		 * @return 版本
+		 */
+		int version(boolean zip64) {
+			if (zip64) {
+				return 45;
+			}
+			return this.method == ZipEntry.DEFLATED ? 20 : 10;
+		}
+
+		/**
+		 * 转换为DOS格式的时间
+		 *
+		 * @param time 毫秒数
+		 * @return DOS格式的时间
+		 */
+		private static long toDosTime(long time) {
+			final LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+			final int year = dateTime.getYear();
+			if (year < 1980) {
+				return (1 << 21) | (1 << 16);
+			}
+			return ((year - 1980L) << 25) | ((long) dateTime.getMonthValue() << 21) | ((long) dateTime.getDayOfMonth() << 16)
+					| ((long) dateTime.getHour() << 11) | ((long) dateTime.getMinute() << 5) | (dateTime.getSecond() >> 1);
+		}
+	}
+
+	/**
+	 * 先写入内存，超过阈值后转存到临时文件的输出流
+	 */
+	private static class SpillOutputStream extends OutputStream {
+		private final int threshold;
+		private FastByteArrayOutputStream memory = new FastByteArrayOutputStream();
+		private File tempFile;
+		private OutputStream fileOut;
+
+		SpillOutputStream(int threshold) {
+			this.threshold = threshold;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (null == this.fileOut && this.memory.size() + len > this.threshold) {
+				this.tempFile = FileUtil.createTempFile("hutool", ".zip.tmp", null, true);
+				this.fileOut = FileUtil.getOutputStream(this.tempFile);
+				this.memory.writeTo(this.fileOut);
+				this.memory = null;
+			}
+			if (null != this.fileOut) {
+				this.fileOut.write(b, off, len);
+			} else {
+				this.memory.write(b, off, len);
+			}
+		}
+
+		@Override
+		public void close() {
+			IoUtil.close(this.fileOut);
+		}
+	}
+}
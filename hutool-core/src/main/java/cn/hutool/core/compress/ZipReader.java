@@ -5,6 +5,7 @@ import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.lang.Filter;
+import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.core.util.ZipUtil;
 
@@ -13,7 +14,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -146,14 +153,7 @@ public class ZipReader implements Closeable {
 	public File readTo(File outFile, Filter<ZipEntry> entryFilter) throws IORuntimeException {
 		read((zipEntry) -> {
 			if (null == entryFilter || entryFilter.accept(zipEntry)) {
-				//gitee issue #I4ZDQI
-				String path = zipEntry.getName();
-				if (FileUtil.isWindows()) {
-					// Win系统下
-					path = StrUtil.replace(path, "*", "_");
-				}
-				// FileUtil.file会检查slip漏洞，漏洞说明见http://blog.nsfocus.net/zip-slip-2/
-				final File outItemFile = FileUtil.file(outFile, path);
+				final File outItemFile = getOutItemFile(outFile, zipEntry);
 				if (zipEntry.isDirectory()) {
 					// 目录
 					//noinspection ResultOfMethodCallIgnored
@@ -173,6 +173,74 @@ public class ZipReader implements Closeable {
 		return outFile;
 	}
 
+	/**
+	 * 并行解压到指定目录中<br>
+	 * 文件模式下，各文件条目在{@link ForkJoinPool#commonPool()}中并行读取并解压写出，每个条目直接从{@link ZipFile}流式写出到文件，
+	 * 同时解压中的条目数不超过并行度的2倍，内存占用与条目大小无关；流模式无法并行读取，与并行度小于2时一样等同于{@link #readTo(File, Filter)}
+	 *
+	 * @param outFile     解压到的目录
+	 * @param entryFilter 过滤器，排除不需要的文件，{@code null}表示不过滤
+	 * @return 解压的目录
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.19
+	 */
+	public File readToParallel(File outFile, Filter<ZipEntry> entryFilter) throws IORuntimeException {
+		return readToParallel(outFile, entryFilter, null);
+	}
+
+	/**
+	 * 使用指定线程池并行解压到指定目录中
+	 *
+	 * @param outFile     解压到的目录
+	 * @param entryFilter 过滤器，排除不需要的文件，{@code null}表示不过滤
+	 * @param pool        解压使用的线程池，{@code null}表示{@link ForkJoinPool#commonPool()}
+	 * @return 解压的目录
+	 * @throws IORuntimeException IO异常
+	 * @see #readToParallel(File, Filter)
+	 * @since 5.8.19
+	 */
+	public File readToParallel(File outFile, Filter<ZipEntry> entryFilter, ForkJoinPool pool) throws IORuntimeException {
+		final ForkJoinPool actualPool = ObjectUtil.defaultIfNull(pool, ForkJoinPool::commonPool);
+		if (null == this.zipFile || actualPool.getParallelism() < 2) {
+			return readTo(outFile, entryFilter);
+		}
+
+		final ZipFile zipFile = this.zipFile;
+		final int window = Math.max(2, actualPool.getParallelism() * 2);
+		final Deque<ForkJoinTask<File>> tasks = new ArrayDeque<>(window);
+		final Set<File> outItemFiles = new HashSet<>();
+		try {
+			read((zipEntry) -> {
+				if (null != entryFilter && false == entryFilter.accept(zipEntry)) {
+					return;
+				}
+				final File outItemFile = getOutItemFile(outFile, zipEntry);
+				if (zipEntry.isDirectory()) {
+					//noinspection ResultOfMethodCallIgnored
+					outItemFile.mkdirs();
+					return;
+				}
+
+				// 同名条目需等待之前的条目写出完毕，保证与顺序解压一样后者覆盖前者
+				if (false == outItemFiles.add(outItemFile)) {
+					joinAll(tasks);
+				}
+				while (tasks.size() >= window) {
+					tasks.poll().join();
+				}
+				tasks.add(actualPool.submit(() -> FileUtil.writeFromStream(ZipUtil.getStream(zipFile, zipEntry), outItemFile, true)));
+			});
+			joinAll(tasks);
+		} finally {
+			// 出错时等待已提交的条目结束，避免返回后仍在写出
+			ForkJoinTask<File> task;
+			while (null != (task = tasks.poll())) {
+				task.quietlyJoin();
+			}
+		}
+		return outFile;
+	}
+
 	/**
 	 * 读取并处理Zip文件中的每一个{@link ZipEntry}
 	 *
@@ -229,6 +297,35 @@ public class ZipReader implements Closeable {
 		}
 	}
 
+	/**
+	 * 获取条目解压后的文件
+	 *
+	 * @param outFile  解压到的目录
+	 * @param zipEntry {@link ZipEntry}
+	 * @return 解压后的文件
+	 */
+	private static File getOutItemFile(File outFile, ZipEntry zipEntry) {
+		//gitee issue #I4ZDQI
+		String path = zipEntry.getName();
+		if (FileUtil.isWindows()) {
+			// Win系统下
+			path = StrUtil.replace(path, "*", "_");
+		}
+		// FileUtil.file会检查slip漏洞，漏洞说明见http://blog.nsfocus.net/zip-slip-2/
+		return FileUtil.file(outFile, path);
+	}
+
+	/**
+	 * 按照顺序等待所有任务完成
+	 *
+	 * @param tasks 任务
+	 */
+	private static void joinAll(Deque<ForkJoinTask<File>> tasks) {
+		while (false == tasks.isEmpty()) {
+			tasks.poll().join();
+		}
+	}
+
 	/**
 	 * 检查Zip bomb漏洞
 	 *
@@ -240,6 +240,35 @@ public class Convert {
 		return toInt(value, null);
 	}
 
+	/**
+	 * 转换为int原始类型，规则与{@link #toInt(Object, Integer)}一致<br>
+	 * 对于数字和十进制整数字符串直接转换，避免装箱和通用转换流程的开销；
+	 * 如果给定的值为空，或者转换失败，返回默认值，转换失败不会报错
+	 *
+	 * @param value        被转换的值
+	 * @param defaultValue 转换错误时的默认值
+	 * @return 结果
+	 * @since 5.8.19
+	 */
+	public static int toIntPrimitive(Object value, int defaultValue) {
+		if (null == value) {
+			return defaultValue;
+		}
+		if (isDefaultConvert(Integer.class)) {
+			if (value instanceof Number) {
+				return ((Number) value).intValue();
+			}
+			if (value instanceof String) {
+				final long result = parseDecimal((String) value, 9);
+				if (Long.MIN_VALUE != result) {
+					return (int) result;
+				}
+			}
+		}
+		final Integer result = toInt(value, null);
+		return null == result ? defaultValue : result;
+	}
+
 	/**
 	 * 转换为Integer数组<br>
 	 *
@@ -275,6 +304,35 @@ public class Convert {
 		return toLong(value, null);
 	}
 
+	/**
+	 * 转换为long原始类型，规则与{@link #toLong(Object, Long)}一致<br>
+	 * 对于数字和十进制整数字符串直接转换，避免装箱和通用转换流程的开销；
+	 * 如果给定的值为空，或者转换失败，返回默认值，转换失败不会报错
+	 *
+	 * @param value        被转换的值
+	 * @param defaultValue 转换错误时的默认值
+	 * @return 结果
+	 * @since 5.8.19
+	 */
+	public static long toLongPrimitive(Object value, long defaultValue) {
+		if (null == value) {
+			return defaultValue;
+		}
+		if (isDefaultConvert(Long.class)) {
+			if (value instanceof Number) {
+				return ((Number) value).longValue();
+			}
+			if (value instanceof String) {
+				final long result = parseDecimal((String) value, 18);
+				if (Long.MIN_VALUE != result) {
+					return result;
+				}
+			}
+		}
+		final Long result = toLong(value, null);
+		return null == result ? defaultValue : result;
+	}
+
 	/**
 	 * 转换为Long数组<br>
 	 *
@@ -310,6 +368,36 @@ public class Convert {
 		return toDouble(value, null);
 	}
 
+	/**
+	 * 转换为double原始类型，规则与{@link #toDouble(Object, Double)}一致<br>
+	 * 对于数字和十进制整数字符串直接转换，避免装箱和通用转换流程的开销；
+	 * 如果给定的值为空，或者转换失败，返回默认值，转换失败不会报错
+	 *
+	 * @param value        被转换的值
+	 * @param defaultValue 转换错误时的默认值
+	 * @return 结果
+	 * @since 5.8.19
+	 */
+	public static double toDoublePrimitive(Object value, double defaultValue) {
+		if (null == value) {
+			return defaultValue;
+		}
+		if (isDefaultConvert(Double.class)) {
+			if (value instanceof Number) {
+				return NumberUtil.toDouble((Number) value);
+			}
+			if (value instanceof String) {
+				final long result = parseDecimal((String) value, 15);
+				// "-0"对应-0.0，交由通用流程处理
+				if (Long.MIN_VALUE != result && (0 != result || '-' != ((String) value).charAt(0))) {
+					return result;
+				}
+			}
+		}
+		final Double result = toDouble(value, null);
+		return null == result ? defaultValue : result;
+	}
+
 	/**
 	 * 转换为Double数组<br>
 	 *
@@ -1147,4 +1235,48 @@ public class Convert {
 	public static long bytesToLong(byte[] bytes) {
 		return ByteUtil.bytesToLong(bytes);
 	}
+
+	// ----------------------------------------------------------------------- Private method start
+
+	/**
+	 * 目标类型是否使用默认转换器转换，即未登记此类型的自定义转换器
+	 *
+	 * @param type 目标类型
+	 * @return 是否使用默认转换器
+	 */
+	private static boolean isDefaultConvert(Class<?> type) {
+		return null == ConverterRegistry.getInstance().getCustomConverter(type);
+	}
+
+	/**
+	 * 解析简单的十进制整数字符串，仅支持可选的负号和不超过指定位数的数字，其它格式交由通用转换流程处理
+	 *
+	 * @param str       字符串
+	 * @param maxDigits 最大位数，保证结果不溢出
+	 * @return 解析结果，格式不支持时返回{@link Long#MIN_VALUE}
+	 */
+	private static long parseDecimal(String str, int maxDigits) {
+		final int length = str.length();
+		int i = 0;
+		boolean negative = false;
+		if (length > 0 && str.charAt(0) == '-') {
+			negative = true;
+			i = 1;
+		}
+		if (i == length || length - i > maxDigits) {
+			return Long.MIN_VALUE;
+		}
+
+		long result = 0;
+		char c;
+		for (; i < length; i++) {
+			c = str.charAt(i);
+			if (c < '0' || c > '9') {
+				return Long.MIN_VALUE;
+			}
+			result = result * 10 + (c - '0');
+		}
+		return negative ? -result : result;
+	}
+	// ----------------------------------------------------------------------- Private method end
 }
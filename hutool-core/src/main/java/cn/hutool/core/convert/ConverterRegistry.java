@@ -7,6 +7,7 @@ import cn.hutool.core.lang.Opt;
 import cn.hutool.core.lang.Pair;
 import cn.hutool.core.lang.TypeReference;
 import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.map.WeakConcurrentMap;
 import cn.hutool.core.util.*;
 
 import java.io.Serializable;
@@ -46,6 +47,11 @@ public class ConverterRegistry implements Serializable {
 	 * 用户自定义类型转换器
 	 */
 	private volatile Map<Type, Converter<?>> customConverterMap;
+	/**
+	 * 无登记转换器的类型解析结果缓存，按原始类缓存其为集合、Map、枚举、数组或Bean等的判断结果，避免每次转换重复判断<br>
+	 * 缓存值不引用类本身，以免弱引用的键无法回收；泛型类型每次调用可能为新对象，因此不作为键
+	 */
+	private transient volatile Map<Class<?>, SpecialConverter> specialConverterCache;
 
 	/**
 	 * 类级的内部类，也就是静态的成员式内部类，该内部类的实例与外部类的实例 没有绑定关系，而且只有被调用到才会装载，从而实现了延迟加载
@@ -207,29 +213,17 @@ public class ConverterRegistry implements Serializable {
 			return converter.convert(value, defaultValue);
 		}
 
-		Class<T> rowType = (Class<T>) TypeUtil.getClass(type);
+		Class<?> rowType = TypeUtil.getClass(type);
 		if (null == rowType) {
-			if (null != defaultValue) {
-				rowType = (Class<T>) defaultValue.getClass();
-			} else {
+			if (null == defaultValue) {
 				// 无法识别的泛型类型，按照Object处理
 				return (T) value;
 			}
+			rowType = defaultValue.getClass();
 		}
 
-		// 特殊类型转换，包括Collection、Map、强转、Array等
-		final T result = convertSpecial(type, rowType, value, defaultValue);
-		if (null != result) {
-			return result;
-		}
-
-		// 尝试转Bean
-		if (BeanUtil.isBean(rowType)) {
-			return new BeanConverter<T>(type).convert(value, defaultValue);
-		}
-
-		// 无法转换
-		throw new ConvertException("Can not Converter from [{}] to [{}]", value.getClass().getName(), type.getTypeName());
+		return getSpecialConverterCache().computeIfAbsent(rowType, SpecialConverter::new)
+				.convert(type, rowType, value, defaultValue);
 	}
 
 	/**
@@ -263,64 +257,19 @@ public class ConverterRegistry implements Serializable {
 	// ----------------------------------------------------------- Private method start
 
 	/**
-	 * 特殊类型转换<br>
-	 * 包括：
-	 *
-	 * <pre>
-	 * Collection
-	 * Map
-	 * 强转（无需转换）
-	 * 数组
-	 * </pre>
+	 * 获取特殊类型转换器缓存
 	 *
-	 * @param <T>          转换的目标类型（转换器转换到的类型）
-	 * @param type         类型
-	 * @param value        值
-	 * @param defaultValue 默认值
-	 * @return 转换后的值
+	 * @return 特殊类型转换器缓存
 	 */
-	@SuppressWarnings("unchecked")
-	private <T> T convertSpecial(Type type, Class<T> rowType, Object value, T defaultValue) {
-		if (null == rowType) {
-			return null;
-		}
-
-		// 集合转换（不可以默认强转）
-		if (Collection.class.isAssignableFrom(rowType)) {
-			final CollectionConverter collectionConverter = new CollectionConverter(type);
-			return (T) collectionConverter.convert(value, (Collection<?>) defaultValue);
-		}
-
-		// Map类型（不可以默认强转）
-		if (Map.class.isAssignableFrom(rowType)) {
-			final MapConverter mapConverter = new MapConverter(type);
-			return (T) mapConverter.convert(value, (Map<?, ?>) defaultValue);
-		}
-
-		// Map类型（不可以默认强转）
-		if (Map.Entry.class.isAssignableFrom(rowType)) {
-			final EntryConverter mapConverter = new EntryConverter(type);
-			return (T) mapConverter.convert(value, (Map.Entry<?, ?>) defaultValue);
-		}
-
-		// 默认强转
-		if (rowType.isInstance(value)) {
-			return (T) value;
-		}
-
-		// 枚举转换
-		if (rowType.isEnum()) {
-			return (T) new EnumConverter(rowType).convert(value, defaultValue);
-		}
-
-		// 数组转换
-		if (rowType.isArray()) {
-			final ArrayConverter arrayConverter = new ArrayConverter(rowType);
-			return (T) arrayConverter.convert(value, defaultValue);
+	private Map<Class<?>, SpecialConverter> getSpecialConverterCache() {
+		if (null == specialConverterCache) {
+			synchronized (this) {
+				if (null == specialConverterCache) {
+					specialConverterCache = new WeakConcurrentMap<>();
+				}
+			}
 		}
-
-		// 表示非需要特殊转换的对象
-		return null;
+		return specialConverterCache;
 	}
 
 	/**
@@ -413,4 +362,104 @@ public class ConverterRegistry implements Serializable {
 		return this;
 	}
 	// ----------------------------------------------------------- Private method end
+
+	/**
+	 * 无登记转换器的类型对应的转换规则，按顺序为：
+	 *
+	 * <pre>
+	 * Collection、Map、Entry（不可以默认强转）
+	 * 强转（无需转换）
+	 * 枚举、数组
+	 * Bean
+	 * </pre>
+	 * <p>
+	 * 此对象只保存对原始类的判断结果，不引用类本身，转换器在转换时按实际类型创建
+	 */
+	private static class SpecialConverter {
+		private static final int KIND_OTHER = 0;
+		private static final int KIND_COLLECTION = 1;
+		private static final int KIND_MAP = 2;
+		private static final int KIND_ENTRY = 3;
+		private static final int KIND_ENUM = 4;
+		private static final int KIND_ARRAY = 5;
+
+		/**
+		 * 目标类型的种类
+		 */
+		private final int kind;
+		/**
+		 * 目标类型是否为Bean
+		 */
+		private final boolean isBean;
+
+		/**
+		 * 构造
+		 *
+		 * @param rowType 目标类型的原始类
+		 */
+		SpecialConverter(Class<?> rowType) {
+			if (Collection.class.isAssignableFrom(rowType)) {
+				kind = KIND_COLLECTION;
+			} else if (Map.class.isAssignableFrom(rowType)) {
+				kind = KIND_MAP;
+			} else if (Map.Entry.class.isAssignableFrom(rowType)) {
+				kind = KIND_ENTRY;
+			} else if (rowType.isEnum()) {
+				kind = KIND_ENUM;
+			} else if (rowType.isArray()) {
+				kind = KIND_ARRAY;
+			} else {
+				kind = KIND_OTHER;
+			}
+			isBean = BeanUtil.isBean(rowType);
+		}
+
+		/**
+		 * 转换值
+		 *
+		 * @param <T>          目标类型
+		 * @param type         目标类型
+		 * @param rowType      目标类型的原始类，与构造时传入的类一致
+		 * @param value        值，非{@code null}
+		 * @param defaultValue 默认值
+		 * @return 转换后的值
+		 * @throws ConvertException 无法转换
+		 */
+		@SuppressWarnings("unchecked")
+		<T> T convert(Type type, Class<?> rowType, Object value, T defaultValue) throws ConvertException {
+			T result = null;
+			switch (kind) {
+				case KIND_COLLECTION:
+					result = (T) new CollectionConverter(type).convert(value, (Collection<?>) defaultValue);
+					break;
+				case KIND_MAP:
+					result = (T) new MapConverter(type).convert(value, (Map<?, ?>) defaultValue);
+					break;
+				case KIND_ENTRY:
+					result = (T) new EntryConverter(type).convert(value, (Map.Entry<?, ?>) defaultValue);
+					break;
+				default:
+					if (rowType.isInstance(value)) {
+						// 默认强转
+						return (T) value;
+					}
+					if (KIND_ENUM == kind) {
+						result = (T) new EnumConverter(rowType).convert(value, defaultValue);
+					} else if (KIND_ARRAY == kind) {
+						result = (T) new ArrayConverter(rowType).convert(value, defaultValue);
+					}
+			}
+			if (null != result) {
+				return result;
+			}
+
+			// 尝试转Bean
+			if (isBean) {
+				return new BeanConverter<T>(type).convert(value, defaultValue);
+			}
+
+			// 无法转换
+			throw new ConvertException("Can not Converter from [{}] to [{}]", value.getClass().getName(), type.getTypeName());
+		}
+	}
 }
@@ -40,6 +40,7 @@ import java.io.Reader;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
@@ -2023,6 +2024,19 @@ public class FileUtil extends PathUtil {
 		return FileReader.create(file).readBytes();
 	}
 
+	/**
+	 * 按块读取文件数据，小文件一次读入内存，大文件分段映射到内存，适用于大文件的校验、扫描等
+	 *
+	 * @param file     文件
+	 * @param consumer 数据块处理器，传入的{@link ByteBuffer}只在回调中有效
+	 * @throws IORuntimeException IO异常
+	 * @see FileReader#readBytes(Consumer)
+	 * @since 5.8.19
+	 */
+	public static void readBytes(File file, Consumer<ByteBuffer> consumer) throws IORuntimeException {
+		FileReader.create(file).readBytes(consumer);
+	}
+
 	/**
 	 * 读取文件所有数据<br>
 	 * 文件的长度不能超过Integer.MAX_VALUE
@@ -9,6 +9,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -20,6 +21,11 @@ import java.nio.channels.WritableByteChannel;
  */
 public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteChannel> {
 
+	/**
+	 * 有进度条时，使用transferTo每次传输的最大长度：8MB
+	 */
+	private static final long TRANSFER_SIZE = 8 * 1024 * 1024;
+
 	/**
 	 * 构造
 	 */
@@ -57,6 +63,17 @@ public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteCha
 		super(bufferSize, count, progress);
 	}
 
+	/**
+	 * 拷贝，源为{@link FileChannel}时使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}，
+	 * 由系统直接在文件与目标（文件或Socket等）之间传输数据（如Linux下的sendfile），避免数据复制到用户空间，
+	 * 从源通道的当前位置开始拷贝，拷贝后源通道的位置移动到拷贝结束处，与按缓存读取一致<br>
+	 * 不支持定位的通道（如管道）按缓存读取；传输到文件报告的末尾后继续按缓存读取直到{@code -1}，
+	 * 避免报告大小不准确（如/proc下的文件或增长中的文件）的内容丢失
+	 *
+	 * @param source 源
+	 * @param target 目标
+	 * @return 拷贝的字节数
+	 */
 	@Override
 	public long copy(ReadableByteChannel source, WritableByteChannel target) {
 		Assert.notNull(source, "InputStream is null !");
@@ -66,9 +83,18 @@ public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteCha
 		if (null != progress) {
 			progress.start();
 		}
-		final long size;
+		long size = -1;
 		try {
-			size = doCopy(source, target, ByteBuffer.allocate(bufferSize(this.count)), progress);
+			if (source instanceof FileChannel) {
+				size = doTransfer((FileChannel) source, target, progress);
+			}
+			if (size < 0) {
+				// 不支持定位的通道（如管道）按缓存读取
+				size = doCopy(source, target, ByteBuffer.allocate(bufferSize(this.count)), progress, 0);
+			} else if (size < this.count) {
+				// 已传输到报告的末尾，继续读取可能遗漏的内容，普通文件此时直接读取到-1
+				size = doCopy(source, target, ByteBuffer.allocate(bufferSize(this.count - size)), progress, size);
+			}
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
 		}
@@ -79,6 +105,50 @@ public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteCha
 		return size;
 	}
 
+	/**
+	 * 使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}执行拷贝，如果限制最大长度，则按照最大长度拷贝，否则拷贝到文件末尾<br>
+	 * 有进度条时，每次传输不超过{@link #TRANSFER_SIZE}，以便回调进度
+	 *
+	 * @param source   {@link FileChannel}
+	 * @param target   {@link WritableByteChannel}
+	 * @param progress 进度条
+	 * @return 拷贝总长度，通道不支持定位时返回{@code -1}
+	 * @throws IOException IO异常
+	 */
+	private long doTransfer(FileChannel source, WritableByteChannel target, StreamProgress progress) throws IOException {
+		final long position;
+		final long size;
+		try {
+			position = source.position();
+			size = source.size();
+		} catch (IOException e) {
+			// 管道等不支持定位的通道（Illegal seek），此时尚未读取任何内容
+			return -1;
+		}
+		long numToRead = Math.min(Math.max(0, size - position), this.count);
+		final long maxTransfer = null == progress ? Long.MAX_VALUE : TRANSFER_SIZE;
+
+		long total = 0;
+		long transferred;
+		while (numToRead > 0) {
+			// transferTo的返回值可能小于请求的长度，需循环确保内容完整
+			transferred = source.transferTo(position + total, Math.min(numToRead, maxTransfer), target);
+			if (transferred <= 0) {
+				// 文件被截断等原因无法继续传输
+				break;
+			}
+
+			numToRead -= transferred;
+			total += transferred;
+			if (null != progress) {
+				progress.progress(this.count, total);
+			}
+		}
+
+		source.position(position + total);
+		return total;
+	}
+
 	/**
 	 * 执行拷贝，如果限制最大长度，则按照最大长度读取，否则一直读取直到遇到-1
 	 *
@@ -86,15 +156,17 @@ public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteCha
 	 * @param target   {@link OutputStream}
 	 * @param buffer   缓存
 	 * @param progress 进度条
-	 * @return 拷贝总长度
+	 * @param copied   已拷贝的长度
+	 * @return 拷贝总长度，包括已拷贝的长度
 	 * @throws IOException IO异常
 	 */
-	private long doCopy(ReadableByteChannel source, WritableByteChannel target, ByteBuffer buffer, StreamProgress progress) throws IOException {
-		long numToRead = this.count > 0 ? this.count : Long.MAX_VALUE;
-		long total = 0;
+	private long doCopy(ReadableByteChannel source, WritableByteChannel target, ByteBuffer buffer, StreamProgress progress, long copied) throws IOException {
+		long numToRead = this.count - copied;
+		long total = copied;
 
 		int read;
 		while (numToRead > 0) {
+			buffer.limit((int) Math.min(buffer.capacity(), numToRead));
 			read = source.read(buffer);
 			if (read < 0) {
 				// 提前读取到末尾
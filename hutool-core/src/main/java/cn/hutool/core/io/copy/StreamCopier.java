@@ -5,6 +5,8 @@ import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.io.StreamProgress;
 import cn.hutool.core.lang.Assert;
 
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -54,11 +56,24 @@ public class StreamCopier extends IoCopier<InputStream, OutputStream> {
 		super(bufferSize, count, progress);
 	}
 
+	/**
+	 * 拷贝，源和目标都为文件流时，使用{@link ChannelCopier}通过文件通道直接传输
+	 *
+	 * @param source 源
+	 * @param target 目标
+	 * @return 拷贝的字节数
+	 */
 	@Override
 	public long copy(InputStream source, OutputStream target) {
 		Assert.notNull(source, "InputStream is null !");
 		Assert.notNull(target, "OutputStream is null !");
 
+		// 只处理文件流本身（子类可能重写读写方法），通道与流共享位置，拷贝后不能关闭通道
+		if (source.getClass() == FileInputStream.class && target.getClass() == FileOutputStream.class) {
+			return new ChannelCopier(this.bufferSize, this.count, this.progress)
+					.copy(((FileInputStream) source).getChannel(), ((FileOutputStream) target).getChannel());
+		}
+
 		final StreamProgress progress = this.progress;
 		if (null != progress) {
 			progress.start();
@@ -2,6 +2,9 @@ package cn.hutool.core.io.file;
 
 import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.StreamProgress;
+import cn.hutool.core.io.copy.ChannelCopier;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.copier.SrcToDestCopier;
 import cn.hutool.core.util.ArrayUtil;
@@ -9,9 +12,15 @@ import cn.hutool.core.util.StrUtil;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.CopyOption;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.ArrayList;
 
 /**
@@ -38,6 +47,8 @@ public class FileCopier extends SrcToDestCopier<File, FileCopier>{
 	private boolean isCopyContentIfDir;
 	/** 当拷贝来源是目录时是否只拷贝文件而忽略子目录 */
 	private boolean isOnlyCopyFile;
+	/** 拷贝进度，每个文件单独回调 */
+	private transient StreamProgress progress;
 
 	//-------------------------------------------------------------------------------------------------------- static method start
 	/**
@@ -147,6 +158,29 @@ public class FileCopier extends SrcToDestCopier<File, FileCopier>{
 		this.isOnlyCopyFile = isOnlyCopyFile;
 		return this;
 	}
+	/**
+	 * 获取拷贝进度
+	 *
+	 * @return 拷贝进度，{@code null}表示不回调进度
+	 * @since 5.8.19
+	 */
+	public StreamProgress getProgress() {
+		return progress;
+	}
+
+	/**
+	 * 设置拷贝进度，每个文件拷贝时单独回调，回调的总大小为文件大小<br>
+	 * 设置进度后使用{@link java.nio.channels.FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}拷贝文件，
+	 * 拷贝属性时只拷贝时间和权限
+	 *
+	 * @param progress 拷贝进度，{@code null}表示不回调进度
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public FileCopier setProgress(StreamProgress progress) {
+		this.progress = progress;
+		return this;
+	}
 	//-------------------------------------------------------------------------------------------------------- Getters and Setters end
 
 	/**
@@ -271,6 +305,11 @@ public class FileCopier extends SrcToDestCopier<File, FileCopier>{
 			FileUtil.mkParentDirs(dest);
 		}
 
+		if (null != this.progress && false == dest.isDirectory()) {
+			transferFile(src, dest);
+			return dest;
+		}
+
 		final ArrayList<CopyOption> optionList = new ArrayList<>(2);
 		if(isOverride) {
 			optionList.add(StandardCopyOption.REPLACE_EXISTING);
@@ -287,5 +326,37 @@ public class FileCopier extends SrcToDestCopier<File, FileCopier>{
 
 		return dest;
 	}
+	/**
+	 * 使用文件通道拷贝文件并回调进度，拷贝属性时只拷贝时间和权限
+	 *
+	 * @param src  源文件
+	 * @param dest 目标文件
+	 * @throws IORuntimeException IO异常
+	 */
+	private void transferFile(File src, File dest) throws IORuntimeException {
+		final Path srcPath = src.toPath();
+		final Path destPath = dest.toPath();
+		try (final FileChannel in = FileChannel.open(srcPath, StandardOpenOption.READ);
+			 final FileChannel out = FileChannel.open(destPath,
+					 StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			new ChannelCopier(IoUtil.DEFAULT_BUFFER_SIZE, in.size(), this.progress).copy(in, out);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		if (isCopyAttributes) {
+			try {
+				final BasicFileAttributes attributes = Files.readAttributes(srcPath, BasicFileAttributes.class);
+				Files.getFileAttributeView(destPath, BasicFileAttributeView.class)
+						.setTimes(attributes.lastModifiedTime(), attributes.lastAccessTime(), attributes.creationTime());
+				final PosixFileAttributeView posixView = Files.getFileAttributeView(srcPath, PosixFileAttributeView.class);
+				if (null != posixView) {
+					Files.setPosixFilePermissions(destPath, posixView.readAttributes().permissions());
+				}
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+		}
+	}
 	//----------------------------------------------------------------------------------------- Private method end
 }
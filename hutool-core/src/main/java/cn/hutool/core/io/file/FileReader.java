@@ -13,10 +13,14 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 文件读取器
@@ -27,6 +31,15 @@ import java.util.List;
 public class FileReader extends FileWrapper {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * 小于此大小的文件按块读取时一次读入堆内存，否则使用内存映射
+	 */
+	private static final long MAPPED_THRESHOLD = 1024 * 1024;
+	/**
+	 * 内存映射时每段的大小
+	 */
+	private static final long MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+
 	/**
 	 * 创建 FileReader
 	 * @param file 文件
@@ -134,6 +147,37 @@ public class FileReader extends FileWrapper {
 		return bytes;
 	}
 
+	/**
+	 * 按块读取文件内容，小文件一次读入堆内存，大文件以只读方式分段映射到内存，避免将整个文件复制到数组中<br>
+	 * 传入的{@link ByteBuffer}只在回调中有效，空文件不回调
+	 *
+	 * @param consumer 数据块处理器，每次传入一段文件内容
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.19
+	 */
+	public void readBytes(Consumer<ByteBuffer> consumer) throws IORuntimeException {
+		try (final FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if (size < MAPPED_THRESHOLD) {
+				final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+				while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+					// 读满或到达文件末尾
+				}
+				buffer.flip();
+				if (buffer.hasRemaining()) {
+					consumer.accept(buffer);
+				}
+				return;
+			}
+
+			for (long position = 0; position < size; position += MAPPED_REGION_SIZE) {
+				consumer.accept(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPED_REGION_SIZE, size - position)));
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
 	/**
 	 * 读取文件内容
 	 *
@@ -3,6 +3,7 @@ package cn.hutool.core.io.file;
 import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.copy.ChannelCopier;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.StrUtil;
@@ -10,14 +11,17 @@ import cn.hutool.core.util.StrUtil;
 import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -340,8 +344,16 @@ public class FileWriter extends FileWrapper {
 	public File writeFromStream(InputStream in, boolean isCloseIn) throws IORuntimeException {
 		OutputStream out = null;
 		try {
-			out = Files.newOutputStream(FileUtil.touch(file).toPath());
-			IoUtil.copy(in, out);
+			if (null != in && FileInputStream.class == in.getClass()) {
+				// 从文件读取时使用通道直接传输
+				try (final FileChannel outChannel = FileChannel.open(FileUtil.touch(file).toPath(),
+						StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+					new ChannelCopier().copy(((FileInputStream) in).getChannel(), outChannel);
+				}
+			} else {
+				out = Files.newOutputStream(FileUtil.touch(file).toPath());
+				IoUtil.copy(in, out);
+			}
 		} catch (final IOException e) {
 			throw new IORuntimeException(e);
 		} finally {
@@ -0,0 +1,178 @@
+package cn.hutool.core.lang;
+
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁的Snowflake 算法实现<br>
+ * ID结构与{@link Snowflake}一致，上次生成ID的时间戳和序号打包在一个{@link AtomicLong}中，通过CAS更新，
+ * 多线程竞争时无需获取监视器锁。<br>
+ * {@link #nextIds(int)}一次CAS预留同一毫秒内的一段连续序号，适用于批量生成ID的场景。
+ *
+ * <p>
+ * 注意：与{@link Snowflake}相同，此对象在单台机器上必须单例使用，否则会产生重复ID。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class AtomicSnowflake extends Snowflake {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 上次生成ID的状态，高位为时间戳，低12位为序号，初始时间戳为-1
+	 */
+	private final AtomicLong state = new AtomicLong(-1L);
+
+	/**
+	 * 构造，使用自动生成的工作节点ID和数据中心ID
+	 */
+	public AtomicSnowflake() {
+		super();
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param workerId 终端ID
+	 */
+	public AtomicSnowflake(long workerId) {
+		super(workerId);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param workerId     终端ID
+	 * @param dataCenterId 数据中心ID
+	 */
+	public AtomicSnowflake(long workerId, long dataCenterId) {
+		super(workerId, dataCenterId);
+	}
+
+	/**
+	 * @param epochDate           初始化时间起点（null表示默认起始日期）,后期修改会导致id重复,如果要修改连workerId dataCenterId，慎用
+	 * @param workerId            工作机器节点id
+	 * @param dataCenterId        数据中心id
+	 * @param isUseSystemClock    是否使用{@link cn.hutool.core.date.SystemClock} 获取当前时间戳
+	 * @param timeOffset          允许时间回拨的毫秒数
+	 * @param randomSequenceLimit 限定一个随机上限，在不同毫秒下生成序号时，给定一个随机数，避免偶数问题，0表示无随机，上限不包括值本身。
+	 */
+	public AtomicSnowflake(Date epochDate, long workerId, long dataCenterId,
+						   boolean isUseSystemClock, long timeOffset, long randomSequenceLimit) {
+		super(epochDate, workerId, dataCenterId, isUseSystemClock, timeOffset, randomSequenceLimit);
+	}
+
+	/**
+	 * 下一个ID
+	 *
+	 * @return ID
+	 */
+	@Override
+	public long nextId() {
+		long current;
+		long timestamp;
+		long sequence;
+		do {
+			current = this.state.get();
+			final long lastTimestamp = current >> SEQUENCE_BITS;
+			timestamp = currentTimestamp(lastTimestamp);
+			if (timestamp == lastTimestamp) {
+				sequence = (current & SEQUENCE_MASK) + 1;
+				if (sequence > SEQUENCE_MASK) {
+					// 当前毫秒序号用尽，等待下一毫秒，序号从0开始
+					timestamp = tilNextMillis(lastTimestamp);
+					sequence = 0;
+				}
+			} else {
+				sequence = firstSequence();
+			}
+		} while (false == this.state.compareAndSet(current, (timestamp << SEQUENCE_BITS) | sequence));
+
+		return toId(timestamp, sequence);
+	}
+
+	/**
+	 * 批量生成ID，每次CAS预留当前毫秒内剩余的连续序号，生成的ID有序且不重复
+	 *
+	 * @param n 生成的ID个数
+	 * @return ID数组
+	 */
+	@Override
+	public long[] nextIds(int n) {
+		Assert.isTrue(n >= 0, "Id count must be not negative!");
+		final long[] ids = new long[n];
+		int filled = 0;
+		while (filled < n) {
+			final long current = this.state.get();
+			final long lastTimestamp = current >> SEQUENCE_BITS;
+			final long timestamp = currentTimestamp(lastTimestamp);
+			final long first;
+			if (timestamp == lastTimestamp) {
+				first = (current & SEQUENCE_MASK) + 1;
+				if (first > SEQUENCE_MASK) {
+					// 当前毫秒序号用尽，等待下一毫秒后重新预留
+					tilNextMillis(lastTimestamp);
+					continue;
+				}
+			} else {
+				first = firstSequence();
+			}
+
+			final long last = Math.min(first + (n - filled) - 1, SEQUENCE_MASK);
+			if (this.state.compareAndSet(current, (timestamp << SEQUENCE_BITS) | last)) {
+				for (long sequence = first; sequence <= last; sequence++) {
+					ids[filled++] = toId(timestamp, sequence);
+				}
+			}
+		}
+		return ids;
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 获取当前时间戳，容忍指定的时钟回拨
+	 *
+	 * @param lastTimestamp 上次生成ID的时间戳
+	 * @return 当前时间戳，回拨在容忍范围内时返回上次的时间戳
+	 */
+	private long currentTimestamp(long lastTimestamp) {
+		final long timestamp = genTime();
+		if (timestamp < lastTimestamp) {
+			if (lastTimestamp - timestamp < timeOffset) {
+				// 容忍指定的回拨，避免NTP校时造成的异常
+				return lastTimestamp;
+			}
+			// 如果服务器时间有问题(时钟后退) 报错。
+			throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
+		}
+		return timestamp;
+	}
+
+	/**
+	 * 新的毫秒内的起始序号，issue#I51EJY
+	 *
+	 * @return 起始序号
+	 */
+	private long firstSequence() {
+		return randomSequenceLimit > 1 ? RandomUtil.randomLong(randomSequenceLimit) : 0L;
+	}
+
+	/**
+	 * 组装ID
+	 *
+	 * @param timestamp 时间戳
+	 * @param sequence  序号
+	 * @return ID
+	 */
+	private long toId(long timestamp, long sequence) {
+		return ((timestamp - twepoch) << TIMESTAMP_LEFT_SHIFT)
+				| (dataCenterId << DATA_CENTER_ID_SHIFT)
+				| (workerId << WORKER_ID_SHIFT)
+				| sequence;
+	}
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+}
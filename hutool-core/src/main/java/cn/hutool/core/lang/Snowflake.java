@@ -54,34 +54,34 @@ public class Snowflake implements Serializable {
 	@SuppressWarnings({"PointlessBitwiseExpression", "FieldCanBeLocal"})
 	private static final long MAX_DATA_CENTER_ID = -1L ^ (-1L << DATA_CENTER_ID_BITS);
 	// 序列号12位（表示只允许workId的范围为：0-4095）
-	private static final long SEQUENCE_BITS = 12L;
+	protected static final long SEQUENCE_BITS = 12L;
 	// 机器节点左移12位
-	private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+	protected static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
 	// 数据中心节点左移17位
-	private static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+	protected static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
 	// 时间毫秒数左移22位
-	private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
+	protected static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
 	// 序列掩码，用于限定序列最大值不能超过4095
-	private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);// 4095
+	protected static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);// 4095
 
 	/**
 	 * 初始化时间点
 	 */
-	private final long twepoch;
-	private final long workerId;
-	private final long dataCenterId;
+	protected final long twepoch;
+	protected final long workerId;
+	protected final long dataCenterId;
 	private final boolean useSystemClock;
 	/**
 	 * 允许的时钟回拨毫秒数
 	 */
-	private final long timeOffset;
+	protected final long timeOffset;
 	/**
 	 * 当在低频模式下时，序号始终为0，导致生成ID始终为偶数<br>
 	 * 此属性用于限定一个随机上限，在不同毫秒下生成序号时，给定一个随机数，避免偶数问题。<br>
 	 * 注意次数必须小于{@link #SEQUENCE_MASK}，{@code 0}表示不使用随机数。<br>
 	 * 这个上限不包括值本身。
 	 */
-	private final long randomSequenceLimit;
+	protected final long randomSequenceLimit;
 
 	/**
 	 * 自增序号，当高频模式下时，同一毫秒内生成N个ID，则这个序号在同一毫秒下，自增以避免ID重复。
@@ -238,6 +238,22 @@ public class Snowflake implements Serializable {
 				| sequence;
 	}
 
+	/**
+	 * 批量生成ID，生成的ID有序且不重复
+	 *
+	 * @param n 生成的ID个数
+	 * @return ID数组
+	 * @since 5.8.19
+	 */
+	public synchronized long[] nextIds(int n) {
+		Assert.isTrue(n >= 0, "Id count must be not negative!");
+		final long[] ids = new long[n];
+		for (int i = 0; i < n; i++) {
+			ids[i] = nextId();
+		}
+		return ids;
+	}
+
 	/**
 	 * 下一个ID（字符串形式）
 	 *
@@ -247,7 +263,7 @@ public class Snowflake implements Serializable {
 		return Long.toString(nextId());
 	}
 
-	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+	// ------------------------------------------------------------------------------------------------------------------------------------ Protected method start
 
 	/**
 	 * 循环等待下一个时间
@@ -255,7 +271,7 @@ public class Snowflake implements Serializable {
 	 * @param lastTimestamp 上次记录的时间
 	 * @return 下一个时间
 	 */
-	private long tilNextMillis(long lastTimestamp) {
+	protected long tilNextMillis(long lastTimestamp) {
 		long timestamp = genTime();
 		// 循环直到操作系统时间戳变化
 		while (timestamp == lastTimestamp) {
@@ -274,8 +290,8 @@ public class Snowflake implements Serializable {
 	 *
 	 * @return 时间戳
 	 */
-	private long genTime() {
+	protected long genTime() {
 		return this.useSystemClock ? SystemClock.now() : System.currentTimeMillis();
 	}
-	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+	// ------------------------------------------------------------------------------------------------------------------------------------ Protected method end
 }
@@ -28,7 +28,17 @@ public class SnowflakeGenerator implements Generator<Long> {
 	 * @param dataCenterId 数据中心ID
 	 */
 	public SnowflakeGenerator(long workerId, long dataCenterId) {
-		snowflake = new Snowflake(workerId, dataCenterId);
+		this(new Snowflake(workerId, dataCenterId));
+	}
+
+	/**
+	 * 构造，使用指定的Snowflake实现，如{@link cn.hutool.core.lang.AtomicSnowflake}
+	 *
+	 * @param snowflake {@link Snowflake}
+	 * @since 5.8.19
+	 */
+	public SnowflakeGenerator(Snowflake snowflake) {
+		this.snowflake = snowflake;
 	}
 
 	@Override
@@ -17,6 +17,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * CSV文件读取器基础类，提供灵活的文件、路径中的CSV读取，一次构造可多次调用读取不同数据，参考：FastCSV
@@ -225,10 +231,29 @@ public class CsvBaseReader implements Serializable {
 		this.config.setContainsHeader(true);
 
 		final List<T> result = new ArrayList<>();
-		read(reader, (row) -> result.add(row.toBean(clazz)));
+		read(reader, clazz, result::add);
 		return result;
 	}
 
+	/**
+	 * 从Reader中读取CSV数据并逐行转换为Bean，读取后关闭Reader。<br>
+	 * 此方法默认识别首行为标题行，标题与Bean属性的对应关系只解析一次，结果与{@link CsvRow#toBean(Class)}一致。
+	 *
+	 * @param <T>          Bean类型
+	 * @param reader       Reader
+	 * @param clazz        Bean类型
+	 * @param beanConsumer Bean处理器，用于一个一个的处理Bean
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.19
+	 */
+	public <T> void read(Reader reader, Class<T> clazz, Consumer<? super T> beanConsumer) throws IORuntimeException {
+		// 此方法必须包含标题
+		this.config.setContainsHeader(true);
+
+		final CsvBeanMapper<T> mapper = new CsvBeanMapper<>(clazz);
+		read(reader, (row) -> beanConsumer.accept(mapper.apply(row)));
+	}
+
 	/**
 	 * 从字符串中读取CSV数据并转换为Bean列表，读取后关闭Reader。<br>
 	 * 此方法默认识别首行为标题行。
@@ -239,12 +264,7 @@ public class CsvBaseReader implements Serializable {
 	 * @return Bean列表
 	 */
 	public <T> List<T> read(String csvStr, Class<T> clazz) {
-		// 此方法必须包含标题
-		this.config.setContainsHeader(true);
-
-		final List<T> result = new ArrayList<>();
-		read(new StringReader(csvStr), (row) -> result.add(row.toBean(clazz)));
-		return result;
+		return read(new StringReader(csvStr), clazz);
 	}
 
 	/**
@@ -270,6 +290,85 @@ public class CsvBaseReader implements Serializable {
 		read(parse(reader), close, rowHandler);
 	}
 
+	/**
+	 * 创建CSV游标，用于低内存分配地逐行读取字段，游标关闭时关闭Reader
+	 *
+	 * @param reader Reader
+	 * @return {@link CsvCursor}
+	 * @since 5.8.19
+	 */
+	public CsvCursor cursor(Reader reader) {
+		return new CsvCursor(reader, this.config);
+	}
+
+	/**
+	 * 并行读取CSV文件，默认UTF-8编码，行处理器在当前线程中按照文件中行的顺序调用
+	 *
+	 * @param file       CSV文件
+	 * @param rowHandler 行处理器，用于一行一行的处理数据
+	 * @throws IORuntimeException IO异常
+	 * @see #readParallel(Path, Charset, CsvRowHandler)
+	 * @since 5.8.19
+	 */
+	public void readParallel(File file, CsvRowHandler rowHandler) throws IORuntimeException {
+		readParallel(Objects.requireNonNull(file, "file must not be null").toPath(), DEFAULT_CHARSET, rowHandler);
+	}
+
+	/**
+	 * 并行读取CSV文件，行处理器在当前线程中按照文件中行的顺序调用<br>
+	 * 文件按照字节范围切分为多个分块，分块边界为文本包装符外的行首，各分块在{@link ForkJoinPool#commonPool()}中并行解析，
+	 * 标题行、跳过空行、文本包装符、注释符、起止行等配置与顺序读取结果一致。<br>
+	 * 按字节切分仅支持UTF-8、单字节编码和GBK系列编码，其它编码或公共线程池并行度为1时退化为顺序读取。
+	 *
+	 * @param path       CSV文件
+	 * @param charset    文件编码
+	 * @param rowHandler 行处理器，用于一行一行的处理数据
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.19
+	 */
+	public void readParallel(Path path, Charset charset, CsvRowHandler rowHandler) throws IORuntimeException {
+		Assert.notNull(path, "path must not be null");
+		final CsvParallelParser parser = new CsvParallelParser(path, charset, this.config, null);
+		try {
+			while (parser.hasNext()) {
+				rowHandler.handle(parser.next());
+			}
+		} finally {
+			IoUtil.close(parser);
+		}
+	}
+
+	/**
+	 * 并行读取CSV文件为{@link Stream}，默认UTF-8编码，Stream中行的顺序与文件一致，使用结束后需关闭Stream
+	 *
+	 * @param file CSV文件
+	 * @return {@link Stream}
+	 * @throws IORuntimeException IO异常
+	 * @see #readParallel(Path, Charset, CsvRowHandler)
+	 * @since 5.8.19
+	 */
+	public Stream<CsvRow> streamParallel(File file) throws IORuntimeException {
+		return streamParallel(Objects.requireNonNull(file, "file must not be null").toPath(), DEFAULT_CHARSET);
+	}
+
+	/**
+	 * 并行读取CSV文件为{@link Stream}，Stream中行的顺序与文件一致，使用结束后需关闭Stream
+	 *
+	 * @param path    CSV文件
+	 * @param charset 文件编码
+	 * @return {@link Stream}
+	 * @throws IORuntimeException IO异常
+	 * @see #readParallel(Path, Charset, CsvRowHandler)
+	 * @since 5.8.19
+	 */
+	public Stream<CsvRow> streamParallel(Path path, Charset charset) throws IORuntimeException {
+		Assert.notNull(path, "path must not be null");
+		final CsvParallelParser parser = new CsvParallelParser(path, charset, this.config, null);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(parser,
+						Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(() -> IoUtil.close(parser));
+	}
+
 	//--------------------------------------------------------------------------------------------- Private method start
 
 	/**
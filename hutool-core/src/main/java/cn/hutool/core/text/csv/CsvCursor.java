@@ -0,0 +1,754 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * CSV游标，低层级的CSV读取方式<br>
+ * 游标在一个可复用的大{@code char[]}缓冲区上逐行解析，字段以缓冲区上的{@link CharSequence}视图（偏移和长度）的方式提供，
+ * 只有调用{@link #getString(int)}或{@link #toRow()}时才生成字符串，{@link #getInt(int)}、{@link #getLong(int)}、
+ * {@link #getDouble(int)}直接从缓冲区解析数字。适用于宽表中只读取少量列或大量数值列的场景。
+ *
+ * <p>
+ * 字段的去包装、去转义、标题行、起止行、跳过空行、字段数检查和列投影（{@link CsvReadConfig#setColumnIndexes(int...)}）
+ * 与{@link CsvParser}一致，设置列投影时列序号为投影后的序号，未选中的列不做处理。
+ * </p>
+ *
+ * <p>
+ * 注意：{@link #get(int)}返回的视图和缓冲区都会被复用，调用{@link #next()}后失效，需要保留的值请使用{@link #getString(int)}。
+ * </p>
+ *
+ * <pre>
+ * try (CsvCursor cursor = CsvUtil.getReader().cursor(reader)) {
+ *     while (cursor.next()) {
+ *         long id = cursor.getLong(0);
+ *         CharSequence name = cursor.get(1);
+ *     }
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public final class CsvCursor implements Closeable {
+
+	private static final int DEFAULT_ROW_CAPACITY = 10;
+	/**
+	 * 10的幂，用于快速解析小数
+	 */
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	/**
+	 * 可以用double精确表示的最大整数
+	 */
+	private static final long MAX_EXACT_LONG = 1L << 53;
+
+	private final Reader reader;
+	private final CsvReadConfig config;
+	/**
+	 * 列投影的列序号，null表示读取所有列
+	 */
+	private final int[] columnIndexes;
+	private final boolean[] selectedColumns;
+
+	// ------------------------------------------------------------------------ 缓冲区
+	private char[] buf;
+	/**
+	 * 缓冲区中有效数据的长度
+	 */
+	private int limit;
+	/**
+	 * 下一行在缓冲区中的起始位置
+	 */
+	private int position;
+	/**
+	 * 前一个字符
+	 */
+	private int preChar = -1;
+	/**
+	 * 已读取的换行数，即下一个字符所在的行号
+	 */
+	private long lineCount;
+	/**
+	 * 是否读取结束
+	 */
+	private boolean finished;
+
+	// ------------------------------------------------------------------------ 当前行
+	/**
+	 * 当前行行号
+	 */
+	private long lineNo = -1;
+	/**
+	 * 当前行的原始字段数
+	 */
+	private int fieldCount;
+	/**
+	 * 字段在缓冲区中的起始位置（包括）
+	 */
+	private int[] fieldStarts = new int[DEFAULT_ROW_CAPACITY];
+	/**
+	 * 字段在缓冲区中的结束位置（不包括）
+	 */
+	private int[] fieldEnds = new int[DEFAULT_ROW_CAPACITY];
+	/**
+	 * 字段中是否包含文本包装符，包含时需要去包装和去转义
+	 */
+	private boolean[] fieldQuoted = new boolean[DEFAULT_ROW_CAPACITY];
+	/**
+	 * 字段视图，按照列复用
+	 */
+	private FieldView[] views = new FieldView[0];
+	/**
+	 * 第一行字段数，用于检查每行字段数是否一致
+	 */
+	private int firstLineFieldCount = -1;
+
+	/**
+	 * 标题行
+	 */
+	private List<String> header;
+	private Map<String, Integer> headerMap;
+
+	/**
+	 * 构造
+	 *
+	 * @param reader Reader
+	 * @param config 配置，null则为默认配置
+	 */
+	public CsvCursor(Reader reader, CsvReadConfig config) {
+		this(reader, config, IoUtil.DEFAULT_LARGE_BUFFER_SIZE);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader     Reader
+	 * @param config     配置，null则为默认配置
+	 * @param bufferSize 初始缓冲区大小，一行的长度超过缓冲区大小时自动扩容
+	 */
+	public CsvCursor(Reader reader, CsvReadConfig config, int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "Buffer size must be positive!");
+		this.reader = Objects.requireNonNull(reader, "reader must not be null");
+		this.config = ObjectUtil.defaultIfNull(config, CsvReadConfig::defaultConfig);
+		this.columnIndexes = this.config.columnIndexes;
+		this.selectedColumns = CsvParser.selectedColumns(this.columnIndexes);
+		this.buf = new char[bufferSize];
+	}
+
+	/**
+	 * 移动到下一行
+	 *
+	 * @return 是否有下一行，{@code false}表示读取结束
+	 * @throws IORuntimeException IO异常或字段数不一致
+	 */
+	public boolean next() throws IORuntimeException {
+		while (false == finished) {
+			if (false == readRecord()) {
+				break;
+			}
+
+			// 读取范围校验
+			if (lineNo < config.beginLineNo) {
+				continue;
+			}
+			if (lineNo > config.endLineNo) {
+				break;
+			}
+
+			processFields();
+
+			// 跳过空行
+			if (config.skipEmptyRows && fieldCount == 1 && fieldStarts[0] == fieldEnds[0]) {
+				continue;
+			}
+
+			// 检查每行的字段数是否一致
+			if (config.errorOnDifferentFieldCount) {
+				if (firstLineFieldCount < 0) {
+					firstLineFieldCount = fieldCount;
+				} else if (fieldCount != firstLineFieldCount) {
+					throw new IORuntimeException(String.format("Line %d has %d fields, but first line has %d fields", lineNo, fieldCount, firstLineFieldCount));
+				}
+			}
+
+			//初始化标题
+			if (lineNo == config.headerLineNo && null == header) {
+				initHeader();
+				continue;
+			}
+			return true;
+		}
+
+		this.finished = true;
+		this.fieldCount = 0;
+		return false;
+	}
+
+	/**
+	 * 获取当前行的原始行号，多行情况下为首行行号。忽略注释行
+	 *
+	 * @return 行号
+	 */
+	public long getOriginalLineNumber() {
+		return this.lineNo;
+	}
+
+	/**
+	 * 获取当前行的字段数，设置列投影时为投影的列数
+	 *
+	 * @return 字段数
+	 */
+	public int getFieldCount() {
+		return null == this.columnIndexes ? this.fieldCount : this.columnIndexes.length;
+	}
+
+	/**
+	 * 获取标题行，如果headerLineNo &lt; 0，抛出异常
+	 *
+	 * @return 标题行，设置列投影时为投影后的标题
+	 * @throws IllegalStateException 如果不解析头部或者尚未读取到标题行
+	 */
+	public List<String> getHeader() {
+		if (config.headerLineNo < 0) {
+			throw new IllegalStateException("No header available - header parsing is disabled");
+		}
+		if (null == this.header) {
+			throw new IllegalStateException("No header available - call next() first");
+		}
+		return this.header;
+	}
+
+	/**
+	 * 获取标题对应的列序号
+	 *
+	 * @param name 标题名
+	 * @return 列序号，无此标题返回-1
+	 * @throws IllegalArgumentException 无标题行抛出此异常
+	 */
+	public int indexOf(String name) {
+		Assert.notNull(this.headerMap, "No header available!");
+		final Integer col = this.headerMap.get(name);
+		return null == col ? -1 : col;
+	}
+
+	/**
+	 * 获取字段视图，视图和缓冲区会被复用，调用{@link #next()}后失效
+	 *
+	 * @param col 列序号，从0开始，设置列投影时为投影后的序号
+	 * @return 字段视图，设置列投影且当前行不存在此列时返回{@code null}
+	 * @throws IndexOutOfBoundsException 列序号超出范围
+	 */
+	public CharSequence get(int col) {
+		final int index = toFieldIndex(col);
+		if (index < 0) {
+			return null;
+		}
+		if (col >= views.length) {
+			final int oldLength = views.length;
+			views = Arrays.copyOf(views, Math.max(col + 1, oldLength * 2));
+		}
+		FieldView view = views[col];
+		if (null == view) {
+			view = new FieldView();
+			views[col] = view;
+		}
+		view.offset = fieldStarts[index];
+		view.length = fieldEnds[index] - fieldStarts[index];
+		return view;
+	}
+
+	/**
+	 * 获取标题对应的字段视图，视图和缓冲区会被复用，调用{@link #next()}后失效
+	 *
+	 * @param name 标题名
+	 * @return 字段视图，无此标题返回{@code null}
+	 * @throws IllegalArgumentException 无标题行抛出此异常
+	 */
+	public CharSequence getByName(String name) {
+		final int col = indexOf(name);
+		return col < 0 ? null : get(col);
+	}
+
+	/**
+	 * 获取字段字符串，此方法会生成新的字符串
+	 *
+	 * @param col 列序号，从0开始，设置列投影时为投影后的序号
+	 * @return 字段值，设置列投影且当前行不存在此列时返回{@code null}
+	 * @throws IndexOutOfBoundsException 列序号超出范围
+	 */
+	public String getString(int col) {
+		final int index = toFieldIndex(col);
+		if (index < 0) {
+			return null;
+		}
+		return new String(buf, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+	}
+
+	/**
+	 * 直接从缓冲区解析int值，规则同{@link Integer#parseInt(String)}
+	 *
+	 * @param col 列序号，从0开始，设置列投影时为投影后的序号
+	 * @return int值
+	 * @throws NumberFormatException 字段不存在或不是合法的十进制整数
+	 * @throws IndexOutOfBoundsException 列序号超出范围
+	 */
+	public int getInt(int col) throws NumberFormatException {
+		final int index = toExistsFieldIndex(col);
+		final long value = parseLong(fieldStarts[index], fieldEnds[index]);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw numberFormatException(index);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * 直接从缓冲区解析long值，规则同{@link Long#parseLong(String)}
+	 *
+	 * @param col 列序号，从0开始，设置列投影时为投影后的序号
+	 * @return long值
+	 * @throws NumberFormatException 字段不存在或不是合法的十进制整数
+	 * @throws IndexOutOfBoundsException 列序号超出范围
+	 */
+	public long getLong(int col) throws NumberFormatException {
+		final int index = toExistsFieldIndex(col);
+		return parseLong(fieldStarts[index], fieldEnds[index]);
+	}
+
+	/**
+	 * 解析double值，规则同{@link Double#parseDouble(String)}<br>
+	 * 有效数字不超过15位且无指数部分的普通小数直接从缓冲区解析，其它格式生成字符串后解析
+	 *
+	 * @param col 列序号，从0开始，设置列投影时为投影后的序号
+	 * @return double值
+	 * @throws NumberFormatException 字段不存在或不是合法的数字
+	 * @throws IndexOutOfBoundsException 列序号超出范围
+	 */
+	public double getDouble(int col) throws NumberFormatException {
+		final int index = toExistsFieldIndex(col);
+		final int start = fieldStarts[index];
+		final int end = fieldEnds[index];
+
+		int i = start;
+		boolean negative = false;
+		if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+			negative = buf[i] == '-';
+			i++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int scale = -1;
+		for (; i < end; i++) {
+			final char c = buf[i];
+			if (c >= '0' && c <= '9') {
+				mantissa = mantissa * 10 + (c - '0');
+				if (++digits > 15) {
+					break;
+				}
+				if (scale >= 0) {
+					scale++;
+				}
+			} else if (c == '.' && scale < 0) {
+				scale = 0;
+			} else {
+				break;
+			}
+		}
+		if (i == end && digits > 0 && mantissa < MAX_EXACT_LONG && scale < POWERS_OF_TEN.length) {
+			// 尾数和10的幂都可以用double精确表示，一次除法的结果即为正确舍入的值
+			final double value = scale > 0 ? mantissa / POWERS_OF_TEN[scale] : mantissa;
+			return negative ? -value : value;
+		}
+		return Double.parseDouble(new String(buf, start, end - start));
+	}
+
+	/**
+	 * 将当前行转换为{@link CsvRow}，此方法会为每个字段生成新的字符串
+	 *
+	 * @return {@link CsvRow}
+	 */
+	public CsvRow toRow() {
+		final int count = getFieldCount();
+		final List<String> fields = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			fields.add(getString(i));
+		}
+		return new CsvRow(this.lineNo, this.headerMap, fields);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 读取一行到缓冲区，记录各字段的位置，规则同{@link CsvParser}
+	 *
+	 * @return 是否读取到行，{@code false}表示读取结束
+	 * @throws IORuntimeException IO异常
+	 */
+	private boolean readRecord() throws IORuntimeException {
+		final char fieldSeparator = config.fieldSeparator;
+		final char textDelimiter = config.textDelimiter;
+		final int commentCharacter = null == config.commentCharacter ? -1 : config.commentCharacter;
+
+		this.fieldCount = 0;
+		int pos = this.position;
+		int preChar = this.preChar;
+		// 当前行和字段在缓冲区中的起始位置
+		int recordStart = pos;
+		int fieldStart = pos;
+		// 是否已开始读取行内容，行首的注释行和\r\n中的\n不属于行内容
+		boolean inRecord = false;
+		boolean inComment = false;
+		boolean inQuotes = false;
+		boolean quoted = false;
+
+		while (true) {
+			if (pos >= limit) {
+				// 保留当前行已读取的部分，读取下一段
+				if (recordStart > 0) {
+					compact(recordStart);
+					pos -= recordStart;
+					fieldStart -= recordStart;
+					recordStart = 0;
+				}
+				if (false == fill()) {
+					// 读取结束，剩余部分作为一个字段
+					this.finished = true;
+					if (inRecord && (pos > fieldStart || preChar == fieldSeparator)) {
+						addField(fieldStart, pos, quoted);
+					}
+					break;
+				}
+			}
+
+			final char c = buf[pos++];
+			if (false == inRecord) {
+				if (inComment) {
+					if (c == CharUtil.CR || c == CharUtil.LF) {
+						// 注释行以换行符为结尾
+						lineCount++;
+						inComment = false;
+					}
+				} else if (c == CharUtil.LF && preChar == CharUtil.CR) {
+					// 上一行以\r\n结尾，跳过\n
+				} else if (c == commentCharacter && (preChar < 0 || preChar == CharUtil.CR || preChar == CharUtil.LF)) {
+					inComment = true;
+				} else {
+					inRecord = true;
+					this.lineNo = lineCount;
+					recordStart = fieldStart = pos - 1;
+				}
+				if (false == inRecord) {
+					recordStart = fieldStart = pos;
+					preChar = c;
+					continue;
+				}
+			}
+
+			if (inQuotes) {
+				if (c == textDelimiter) {
+					inQuotes = false;
+				} else if (c == CharUtil.CR || (c == CharUtil.LF && preChar != CharUtil.CR)) {
+					// 字段内容中新行
+					lineCount++;
+				}
+			} else if (c == fieldSeparator) {
+				addField(fieldStart, pos - 1, quoted);
+				fieldStart = pos;
+				quoted = false;
+			} else if (c == textDelimiter) {
+				inQuotes = true;
+				quoted = true;
+			} else if (c == CharUtil.CR || c == CharUtil.LF) {
+				addField(fieldStart, pos - 1, quoted);
+				lineCount++;
+				preChar = c;
+				break;
+			}
+			preChar = c;
+		}
+
+		this.position = pos;
+		this.preChar = preChar;
+		return this.fieldCount > 0;
+	}
+
+	/**
+	 * 将缓冲区中指定位置之后的数据移动到缓冲区开头
+	 *
+	 * @param from 起始位置
+	 */
+	private void compact(int from) {
+		System.arraycopy(buf, from, buf, 0, limit - from);
+		limit -= from;
+		for (int i = 0; i < fieldCount; i++) {
+			fieldStarts[i] -= from;
+			fieldEnds[i] -= from;
+		}
+	}
+
+	/**
+	 * 读取数据到缓冲区末尾，缓冲区已满时扩容
+	 *
+	 * @return 是否读取到数据，{@code false}表示读取结束
+	 * @throws IORuntimeException IO异常
+	 */
+	private boolean fill() throws IORuntimeException {
+		if (limit == buf.length) {
+			buf = Arrays.copyOf(buf, buf.length * 2);
+		}
+		final int length;
+		try {
+			length = reader.read(buf, limit, buf.length - limit);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		if (length < 0) {
+			return false;
+		}
+		limit += length;
+		return true;
+	}
+
+	/**
+	 * 记录字段位置
+	 *
+	 * @param start  起始位置（包括）
+	 * @param end    结束位置（不包括）
+	 * @param quoted 是否包含文本包装符
+	 */
+	private void addField(int start, int end, boolean quoted) {
+		if (fieldCount == fieldStarts.length) {
+			final int newLength = fieldCount * 2;
+			fieldStarts = Arrays.copyOf(fieldStarts, newLength);
+			fieldEnds = Arrays.copyOf(fieldEnds, newLength);
+			fieldQuoted = Arrays.copyOf(fieldQuoted, newLength);
+		}
+		fieldStarts[fieldCount] = start;
+		fieldEnds[fieldCount] = end;
+		fieldQuoted[fieldCount] = quoted;
+		fieldCount++;
+	}
+
+	/**
+	 * 处理选中的字段（首列用于判断空行，总是处理），在缓冲区中原地去包装、去转义和去除空白符
+	 */
+	private void processFields() {
+		final boolean trimField = config.trimField;
+		for (int i = 0; i < fieldCount; i++) {
+			if (i > 0 && null != selectedColumns && (i >= selectedColumns.length || false == selectedColumns[i])) {
+				continue;
+			}
+			if (false == fieldQuoted[i] && false == trimField) {
+				continue;
+			}
+
+			int start = fieldStarts[i];
+			int end = fieldEnds[i];
+			if (fieldQuoted[i]) {
+				final char textDelimiter = config.textDelimiter;
+				// 忽略多余引号后的换行符
+				while (end > start && (buf[end - 1] == CharUtil.CR || buf[end - 1] == CharUtil.LF)) {
+					end--;
+				}
+				// 去包装
+				if (end - start > 1 && buf[start] == textDelimiter && buf[end - 1] == textDelimiter) {
+					start++;
+					end--;
+				}
+				// 去转义，双包装符替换为单包装符
+				int write = start;
+				for (int read = start; read < end; read++) {
+					buf[write++] = buf[read];
+					if (buf[read] == textDelimiter && read + 1 < end && buf[read + 1] == textDelimiter) {
+						read++;
+					}
+				}
+				end = write;
+			}
+			if (trimField) {
+				while (start < end && CharUtil.isBlankChar(buf[start])) {
+					start++;
+				}
+				while (end > start && CharUtil.isBlankChar(buf[end - 1])) {
+					end--;
+				}
+			}
+			fieldStarts[i] = start;
+			fieldEnds[i] = end;
+		}
+	}
+
+	/**
+	 * 当前行做为标题行
+	 */
+	private void initHeader() {
+		final int count = getFieldCount();
+		final List<String> header = new ArrayList<>(count);
+		final Map<String, Integer> localHeaderMap = new LinkedHashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			String field = getString(i);
+			header.add(field);
+			if (MapUtil.isNotEmpty(this.config.headerAlias)) {
+				// 自定义别名
+				field = ObjectUtil.defaultIfNull(this.config.headerAlias.get(field), field);
+			}
+			if (StrUtil.isNotEmpty(field) && false == localHeaderMap.containsKey(field)) {
+				localHeaderMap.put(field, i);
+			}
+		}
+		this.header = Collections.unmodifiableList(header);
+		this.headerMap = Collections.unmodifiableMap(localHeaderMap);
+	}
+
+	/**
+	 * 将列序号转换为原始字段序号
+	 *
+	 * @param col 列序号，设置列投影时为投影后的序号
+	 * @return 原始字段序号，设置列投影且当前行不存在此列时返回-1
+	 * @throws IndexOutOfBoundsException 列序号超出范围
+	 */
+	private int toFieldIndex(int col) {
+		if (null == columnIndexes) {
+			if (col < 0 || col >= fieldCount) {
+				throw new IndexOutOfBoundsException(StrUtil.format("Index: {}, Size: {}", col, fieldCount));
+			}
+			return col;
+		}
+		if (col < 0 || col >= columnIndexes.length) {
+			throw new IndexOutOfBoundsException(StrUtil.format("Index: {}, Size: {}", col, columnIndexes.length));
+		}
+		final int index = columnIndexes[col];
+		return index >= 0 && index < fieldCount ? index : -1;
+	}
+
+	/**
+	 * 将列序号转换为原始字段序号，字段不存在时抛出{@link NumberFormatException}
+	 *
+	 * @param col 列序号，设置列投影时为投影后的序号
+	 * @return 原始字段序号
+	 */
+	private int toExistsFieldIndex(int col) {
+		final int index = toFieldIndex(col);
+		if (index < 0) {
+			throw new NumberFormatException("Column " + col + " not exists in line " + lineNo);
+		}
+		return index;
+	}
+
+	/**
+	 * 从缓冲区解析十进制long值，规则同{@link Long#parseLong(String)}
+	 *
+	 * @param start 起始位置（包括）
+	 * @param end   结束位置（不包括）
+	 * @return long值
+	 */
+	private long parseLong(int start, int end) {
+		if (start >= end) {
+			throw new NumberFormatException("For input string: \"\"");
+		}
+		int i = start;
+		boolean negative = false;
+		if (buf[i] == '-' || buf[i] == '+') {
+			negative = buf[i] == '-';
+			if (++i == end) {
+				throw numberFormatException(start, end);
+			}
+		}
+
+		// 按照负数累加，避免Long.MIN_VALUE溢出
+		final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		final long multmin = limit / 10;
+		long result = 0;
+		for (; i < end; i++) {
+			final int digit = buf[i] - '0';
+			if (digit < 0 || digit > 9 || result < multmin) {
+				throw numberFormatException(start, end);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw numberFormatException(start, end);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * 创建字段的数字格式异常
+	 *
+	 * @param index 原始字段序号
+	 * @return {@link NumberFormatException}
+	 */
+	private NumberFormatException numberFormatException(int index) {
+		return numberFormatException(fieldStarts[index], fieldEnds[index]);
+	}
+
+	/**
+	 * 创建数字格式异常
+	 *
+	 * @param start 起始位置（包括）
+	 * @param end   结束位置（不包括）
+	 * @return {@link NumberFormatException}
+	 */
+	private NumberFormatException numberFormatException(int start, int end) {
+		return new NumberFormatException("For input string: \"" + new String(buf, start, end - start) + "\"");
+	}
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+
+	/**
+	 * 缓冲区上的字段视图
+	 */
+	private final class FieldView implements CharSequence {
+		private int offset;
+		private int length;
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length) {
+				throw new StringIndexOutOfBoundsException(index);
+			}
+			return buf[offset + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start < 0 || end > length || start > end) {
+				throw new StringIndexOutOfBoundsException(StrUtil.format("begin {}, end {}, length {}", start, end, length));
+			}
+			return new String(buf, offset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return new String(buf, offset, length);
+		}
+	}
+}
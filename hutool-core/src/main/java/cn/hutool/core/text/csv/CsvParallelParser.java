@@ -0,0 +1,553 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.collection.ComputeIter;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ObjectUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * CSV文件并行解析器<br>
+ * 解析过程如下：
+ * <ol>
+ *     <li>顺序扫描文件字节，跟踪文本包装符和注释行，在引号外的换行符处将文件切分为多个字节范围的分块，并记录每个分块的起始行号；
+ *     扫描在提交分块时按需进行，与已提交分块的解析同时执行</li>
+ *     <li>各分块使用独立的{@link CsvParser}在{@link ForkJoinPool}中并行解析</li>
+ *     <li>按照分块顺序返回解析结果，保证行的顺序与文件一致</li>
+ * </ol>
+ * 标题行所在分块优先解析，解析出的标题行传递给其它分块；行号、起止行、跳过空行和字段数检查与顺序解析结果一致。<br>
+ * 为限制内存占用，同时解析中的分块数不超过并行度的2倍，且分块的总字节数不超过{@link #MAX_IN_FLIGHT_BYTES}（至少解析一个分块）。
+ *
+ * <p>
+ * 按字节切分要求换行符、文本包装符和注释符在文件中只以单字节出现，因此仅支持UTF-8、单字节编码和GBK系列编码，
+ * 其它编码（如UTF-16）退化为顺序解析；线程池并行度为1时，切分和分块调度没有收益，同样使用顺序解析。
+ * </p>
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+final class CsvParallelParser extends ComputeIter<CsvRow> implements Closeable {
+
+	/**
+	 * 分块最小字节数
+	 */
+	private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+	/**
+	 * 自动计算时分块的最大字节数
+	 */
+	private static final long MAX_CHUNK_SIZE = 4 * 1024 * 1024;
+	/**
+	 * 同时解析中的分块的最大总字节数，解析结果占用的内存与此成正比
+	 */
+	private static final long MAX_IN_FLIGHT_BYTES = 64 * 1024 * 1024;
+
+	private final CsvReadConfig config;
+	private final Charset charset;
+	private final ForkJoinPool pool;
+
+	/**
+	 * 文件通道，各分块使用按位置读取，不修改通道位置，可并发使用
+	 */
+	private FileChannel channel;
+	/**
+	 * 分块切分器
+	 */
+	private ChunkSplitter splitter;
+	/**
+	 * 已切分但未提交的分块
+	 */
+	private Chunk nextChunk;
+	/**
+	 * 解析中的分块，按照文件顺序排列
+	 */
+	private final Deque<ForkJoinTask<ChunkResult>> tasks = new ArrayDeque<>();
+	/**
+	 * 同时解析中的最大分块数
+	 */
+	private final int window;
+	/**
+	 * 解析中的分块的总字节数
+	 */
+	private long inFlightBytes;
+
+	/**
+	 * 标题行
+	 */
+	private CsvRow header;
+	/**
+	 * 第一行字段数，用于检查各分块之间字段数是否一致
+	 */
+	private int firstLineFieldCount = -1;
+	/**
+	 * 当前返回的分块
+	 */
+	private ChunkResult current;
+	private Iterator<CsvRow> currentRows = Collections.emptyIterator();
+
+	/**
+	 * 编码不支持切分或线程池无法并行时，使用的顺序解析器
+	 */
+	private CsvParser sequentialParser;
+
+	/**
+	 * 构造
+	 *
+	 * @param path    CSV文件
+	 * @param charset 编码
+	 * @param config  配置，null则为默认配置
+	 * @param pool    解析使用的线程池
+	 */
+	CsvParallelParser(Path path, Charset charset, CsvReadConfig config, ForkJoinPool pool) {
+		this(path, charset, config, pool, -1);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param path      CSV文件
+	 * @param charset   编码
+	 * @param config    配置，null则为默认配置
+	 * @param pool      解析使用的线程池
+	 * @param chunkSize 分块大小，小于等于0表示根据文件大小和并行度自动计算
+	 */
+	CsvParallelParser(Path path, Charset charset, CsvReadConfig config, ForkJoinPool pool, long chunkSize) {
+		this.config = ObjectUtil.defaultIfNull(config, CsvReadConfig::defaultConfig);
+		this.charset = ObjectUtil.defaultIfNull(charset, CsvBaseReader.DEFAULT_CHARSET);
+		this.pool = ObjectUtil.defaultIfNull(pool, ForkJoinPool::commonPool);
+		this.window = Math.max(2, this.pool.getParallelism() * 2);
+
+		if ((chunkSize <= 0 && this.pool.getParallelism() < 2) || false == isSplittable()) {
+			this.sequentialParser = new CsvParser(FileUtil.getReader(path, this.charset), this.config);
+			return;
+		}
+
+		try {
+			this.channel = FileChannel.open(path, StandardOpenOption.READ);
+			final long size = this.channel.size();
+			if (chunkSize <= 0) {
+				chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, size / (this.pool.getParallelism() * 4L)));
+			}
+			this.splitter = new ChunkSplitter(size, chunkSize);
+		} catch (IOException e) {
+			IoUtil.close(this.channel);
+			throw new IORuntimeException(e);
+		}
+	}
+
+	@Override
+	protected CsvRow computeNext() {
+		if (null != this.sequentialParser) {
+			return this.sequentialParser.nextRow();
+		}
+
+		while (false == currentRows.hasNext()) {
+			if (null != current && null != current.error) {
+				// 分块中出错行之前的行已经返回，此时抛出异常
+				throw current.error;
+			}
+			current = nextResult();
+			if (null == current) {
+				return null;
+			}
+			checkFieldCount(current);
+			currentRows = current.rows.iterator();
+		}
+		return currentRows.next();
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (ForkJoinTask<ChunkResult> task : this.tasks) {
+			task.cancel(false);
+		}
+		this.tasks.clear();
+		if (null != this.sequentialParser) {
+			this.sequentialParser.close();
+		}
+		IoUtil.close(this.channel);
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 获取下一个分块的解析结果，并补充提交待解析的分块
+	 *
+	 * @return 解析结果，无更多分块返回{@code null}
+	 */
+	private ChunkResult nextResult() {
+		if (null == this.current && this.config.headerLineNo > -1 && null != peekChunk()) {
+			// 首个分块包含标题行，优先解析，以便其它分块使用标题行
+			final ChunkResult first = this.pool.submit(parseTask(pollChunk(), null)).join();
+			this.header = first.header;
+			submit();
+			return first;
+		}
+
+		submit();
+		final ForkJoinTask<ChunkResult> task = this.tasks.poll();
+		if (null == task) {
+			return null;
+		}
+		final ChunkResult result = task.join();
+		this.inFlightBytes -= result.length;
+		submit();
+		return result;
+	}
+
+	/**
+	 * 提交待解析的分块，直到解析中的分块数或总字节数达到上限
+	 */
+	private void submit() {
+		Chunk chunk;
+		while (this.tasks.size() < this.window && null != (chunk = peekChunk())) {
+			if (false == this.tasks.isEmpty() && this.inFlightBytes + chunk.length > MAX_IN_FLIGHT_BYTES) {
+				break;
+			}
+			pollChunk();
+			this.inFlightBytes += chunk.length;
+			this.tasks.add(this.pool.submit(parseTask(chunk, this.header)));
+		}
+	}
+
+	/**
+	 * 获取下一个待提交的分块，不移除
+	 *
+	 * @return 分块，无更多分块返回{@code null}
+	 * @throws IORuntimeException IO异常
+	 */
+	private Chunk peekChunk() throws IORuntimeException {
+		if (null == this.nextChunk) {
+			try {
+				this.nextChunk = this.splitter.next();
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+		}
+		return this.nextChunk;
+	}
+
+	/**
+	 * 获取并移除下一个待提交的分块
+	 *
+	 * @return 分块，无更多分块返回{@code null}
+	 * @throws IORuntimeException IO异常
+	 */
+	private Chunk pollChunk() throws IORuntimeException {
+		final Chunk chunk = peekChunk();
+		this.nextChunk = null;
+		return chunk;
+	}
+
+	/**
+	 * 检查分块第一行与文件第一行的字段数是否一致，分块内部的一致性由{@link CsvParser}检查
+	 *
+	 * @param result 分块解析结果
+	 */
+	private void checkFieldCount(ChunkResult result) {
+		if (false == this.config.errorOnDifferentFieldCount || result.firstLineFieldCount < 0) {
+			return;
+		}
+		if (this.firstLineFieldCount < 0) {
+			this.firstLineFieldCount = result.firstLineFieldCount;
+		} else if (result.firstLineFieldCount != this.firstLineFieldCount) {
+			// 分块中的第一个计数行不是标题行（标题行只在首个分块中），即为分块的第一行
+			throw new IORuntimeException(String.format("Line %d has %d fields, but first line has %d fields",
+					result.rows.get(0).getOriginalLineNumber(), result.firstLineFieldCount, this.firstLineFieldCount));
+		}
+	}
+
+	/**
+	 * 创建分块解析任务
+	 *
+	 * @param chunk  分块
+	 * @param header 标题行
+	 * @return 解析任务
+	 */
+	private ForkJoinTask<ChunkResult> parseTask(Chunk chunk, CsvRow header) {
+		return ForkJoinTask.adapt(() -> parse(chunk, header));
+	}
+
+	/**
+	 * 解析一个分块，解析异常记录在结果中，以便在返回此前的行后抛出
+	 *
+	 * @param chunk  分块
+	 * @param header 标题行
+	 * @return 解析结果
+	 * @throws IORuntimeException 读取文件异常
+	 */
+	private ChunkResult parse(Chunk chunk, CsvRow header) throws IORuntimeException {
+		final ByteBuffer buffer = ByteBuffer.allocate(chunk.length);
+		try {
+			while (buffer.hasRemaining()) {
+				if (this.channel.read(buffer, chunk.start + buffer.position()) < 0) {
+					break;
+				}
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		final CsvParser parser = new CsvParser(new InputStreamReader(
+				new ByteArrayInputStream(buffer.array(), 0, buffer.position()), this.charset),
+				this.config, chunk.lineNo - 1, header);
+		final List<CsvRow> rows = new ArrayList<>();
+		RuntimeException error = null;
+		try {
+			CsvRow row;
+			while (null != (row = parser.nextRow())) {
+				rows.add(row);
+			}
+		} catch (RuntimeException e) {
+			error = e;
+		}
+		return new ChunkResult(chunk.length, rows, parser.getHeaderRow(), parser.getFirstLineFieldCount(), error);
+	}
+
+	/**
+	 * 编码是否支持按字节切分，要求换行符、文本包装符和注释符编码为同值的单字节，且不会出现在多字节字符中
+	 *
+	 * @return 是否支持
+	 */
+	private boolean isSplittable() {
+		final int limit;
+		if (CharsetUtil.CHARSET_UTF_8.equals(this.charset) || this.charset.newEncoder().maxBytesPerChar() <= 1) {
+			limit = 0x80;
+		} else if (this.charset.name().startsWith("GB")) {
+			// GBK系列编码中多字节字符的后续字节不小于0x30
+			limit = 0x30;
+		} else {
+			return false;
+		}
+
+		final StringBuilder chars = new StringBuilder().append(CharUtil.CR).append(CharUtil.LF).append(this.config.textDelimiter);
+		if (null != this.config.commentCharacter) {
+			chars.append(this.config.commentCharacter.charValue());
+		}
+		for (int i = 0; i < chars.length(); i++) {
+			final char c = chars.charAt(i);
+			if (c >= limit) {
+				return false;
+			}
+			final byte[] bytes = String.valueOf(c).getBytes(this.charset);
+			if (bytes.length != 1 || bytes[0] != c) {
+				return false;
+			}
+		}
+		return true;
+	}
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+
+	/**
+	 * 分块切分器，按需扫描文件，在引号外的行首处切分分块，跳过起止行范围外的分块<br>
+	 * 扫描规则与{@link CsvParser}一致：行首的注释符开始注释行，注释行内的文本包装符忽略；
+	 * 引号外的文本包装符开始引号，引号内的文本包装符结束引号（转义的双包装符相当于结束后再开始）；\r\n视为一个换行。
+	 */
+	private final class ChunkSplitter {
+		private final long size;
+		private final long chunkSize;
+		private final int separator;
+		private final int delimiter;
+		private final int comment;
+		private final boolean splitAfterHeader;
+
+		private final ByteBuffer buffer = ByteBuffer.allocate(IoUtil.DEFAULT_LARGE_BUFFER_SIZE);
+		private int bufferIndex;
+		private int bufferLength;
+
+		private long position;
+		private long chunkStart;
+		private long chunkLineNo;
+		private long lineCount;
+		private int preChar = -1;
+		private boolean inQuotes;
+		private boolean inComment;
+		/**
+		 * 是否已经切分出分块（不包括跳过的分块）
+		 */
+		private boolean hasChunk;
+		private boolean finished;
+
+		/**
+		 * 构造
+		 *
+		 * @param size      文件大小
+		 * @param chunkSize 分块大小
+		 */
+		ChunkSplitter(long size, long chunkSize) {
+			this.size = size;
+			this.chunkSize = chunkSize;
+			this.separator = config.fieldSeparator;
+			this.delimiter = config.textDelimiter;
+			this.comment = null == config.commentCharacter ? -1 : config.commentCharacter;
+			this.splitAfterHeader = config.headerLineNo > -1;
+		}
+
+		/**
+		 * 扫描到下一个分块
+		 *
+		 * @return 分块，无更多分块返回{@code null}
+		 * @throws IOException IO异常
+		 */
+		Chunk next() throws IOException {
+			Chunk chunk = null;
+			while (null == chunk && false == finished) {
+				if (bufferIndex == bufferLength && false == fill()) {
+					finished = true;
+					if (size > chunkStart) {
+						chunk = toChunk(chunkStart, size, chunkLineNo, lineCount + 1);
+					}
+					break;
+				}
+
+				final int c = buffer.get(bufferIndex) & 0xFF;
+				final boolean lineStart = preChar < 0 || preChar == CharUtil.CR || preChar == CharUtil.LF;
+
+				// 引号外的行首（不拆分\r\n）可作为分块起点，标题行之后强制切分，使标题行所在分块尽量小
+				if (lineStart && preChar >= 0 && false == inQuotes && false == (preChar == CharUtil.CR && c == CharUtil.LF)) {
+					if ((false == hasChunk && splitAfterHeader) ? lineCount > config.headerLineNo : position - chunkStart >= chunkSize) {
+						chunk = toChunk(chunkStart, position, chunkLineNo, lineCount);
+						chunkStart = position;
+						chunkLineNo = lineCount;
+						if (chunkLineNo > config.endLineNo) {
+							// 之后的行都在结束行之后，无需继续扫描
+							finished = true;
+							break;
+						}
+					}
+				}
+
+				if (lineStart && c == comment) {
+					inComment = true;
+				}
+				if (inComment) {
+					if (c == CharUtil.CR || c == CharUtil.LF) {
+						inComment = false;
+					}
+				} else if (inQuotes) {
+					if (c == delimiter) {
+						inQuotes = false;
+					}
+				} else if (c != separator && c == delimiter) {
+					inQuotes = true;
+				}
+
+				if (c == CharUtil.CR || (c == CharUtil.LF && preChar != CharUtil.CR)) {
+					lineCount++;
+				}
+				preChar = c;
+				bufferIndex++;
+				position++;
+			}
+			return chunk;
+		}
+
+		/**
+		 * 读取下一段文件内容到缓冲区
+		 *
+		 * @return 是否读取到内容
+		 * @throws IOException IO异常
+		 */
+		private boolean fill() throws IOException {
+			if (position >= size) {
+				return false;
+			}
+			buffer.clear();
+			final int length = channel.read(buffer, position);
+			if (length <= 0) {
+				return false;
+			}
+			bufferIndex = 0;
+			bufferLength = length;
+			return true;
+		}
+
+		/**
+		 * 创建分块，所有行都在起止行范围外的分块直接跳过
+		 *
+		 * @param start     起始位置（包括）
+		 * @param end       结束位置（不包括）
+		 * @param lineNo    起始行号
+		 * @param endLineNo 结束行号（不包括）
+		 * @return 分块，跳过返回{@code null}
+		 */
+		private Chunk toChunk(long start, long end, long lineNo, long endLineNo) {
+			if (endLineNo <= config.beginLineNo || lineNo > config.endLineNo) {
+				return null;
+			}
+			if (end - start > Integer.MAX_VALUE - 8) {
+				throw new IORuntimeException("CSV row from line {} is too large to split", lineNo);
+			}
+			hasChunk = true;
+			return new Chunk(start, (int) (end - start), lineNo);
+		}
+	}
+
+	/**
+	 * 文件分块，起始位置为引号外的行首
+	 */
+	private static final class Chunk {
+		final long start;
+		final int length;
+		/**
+		 * 起始行号
+		 */
+		final long lineNo;
+
+		Chunk(long start, int length, long lineNo) {
+			this.start = start;
+			this.length = length;
+			this.lineNo = lineNo;
+		}
+	}
+
+	/**
+	 * 分块解析结果
+	 */
+	private static final class ChunkResult {
+		/**
+		 * 分块的字节数
+		 */
+		final int length;
+		final List<CsvRow> rows;
+		/**
+		 * 分块中解析出的标题行
+		 */
+		final CsvRow header;
+		/**
+		 * 分块中第一行的字段数，-1表示未检查
+		 */
+		final int firstLineFieldCount;
+		/**
+		 * 解析异常，在返回出错行之前的行后抛出
+		 */
+		final RuntimeException error;
+
+		ChunkResult(int length, List<CsvRow> rows, CsvRow header, int firstLineFieldCount, RuntimeException error) {
+			this.length = length;
+			this.rows = rows;
+			this.header = header;
+			this.firstLineFieldCount = firstLineFieldCount;
+			this.error = error;
+		}
+	}
+}
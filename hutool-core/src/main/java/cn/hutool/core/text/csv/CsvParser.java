@@ -71,6 +71,10 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 	 * 是否读取结束
 	 */
 	private boolean finished;
+	/**
+	 * 列投影时被选中的列，null表示读取所有列
+	 */
+	private final boolean[] selectedColumns;
 
 	/**
 	 * CSV解析器
@@ -81,6 +85,22 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 	public CsvParser(final Reader reader, CsvReadConfig config) {
 		this.reader = Objects.requireNonNull(reader, "reader must not be null");
 		this.config = ObjectUtil.defaultIfNull(config, CsvReadConfig::defaultConfig);
+		this.selectedColumns = selectedColumns(this.config.columnIndexes);
+	}
+
+	/**
+	 * CSV解析器，用于从文件中间的某一行开始解析，如并行读取时的分块
+	 *
+	 * @param reader Reader，其内容须从一行的行首开始
+	 * @param config 配置，null则为默认配置
+	 * @param lineNo 起始行之前的行号，即起始行行号减1
+	 * @param header 已解析的标题行，无标题行或标题行在此范围内时为{@code null}
+	 * @since 5.8.19
+	 */
+	CsvParser(final Reader reader, CsvReadConfig config, long lineNo, CsvRow header) {
+		this(reader, config);
+		this.lineNo = lineNo;
+		this.header = header;
 	}
 
 	/**
@@ -99,6 +119,26 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 		return header.fields;
 	}
 
+	/**
+	 * 获取解析到的标题行，未解析到返回{@code null}
+	 *
+	 * @return 标题行
+	 * @since 5.8.19
+	 */
+	CsvRow getHeaderRow() {
+		return this.header;
+	}
+
+	/**
+	 * 获取第一行（包括标题行）的字段数，未开启{@link CsvReadConfig#setErrorOnDifferentFieldCount(boolean)}或未读取到行时返回-1
+	 *
+	 * @return 第一行的字段数
+	 * @since 5.8.19
+	 */
+	int getFirstLineFieldCount() {
+		return this.firstLineFieldCount;
+	}
+
 	@Override
 	protected CsvRow computeNext() {
 		return nextRow();
@@ -153,17 +193,35 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 
 			//初始化标题
 			if (lineNo == config.headerLineNo && null == header) {
-				initHeader(currentFields);
+				initHeader(project(currentFields));
 				// 作为标题行后，此行跳过，下一行做为第一行
 				continue;
 			}
 
-			return new CsvRow(lineNo, null == header ? null : header.headerMap, currentFields);
+			return new CsvRow(lineNo, null == header ? null : header.headerMap, project(currentFields));
 		}
 
 		return null;
 	}
 
+	/**
+	 * 按照{@link CsvReadConfig#setColumnIndexes(int...)}投影字段列表
+	 *
+	 * @param currentFields 当前行字段列表
+	 * @return 投影后的字段列表，未设置列投影返回原列表
+	 */
+	private List<String> project(final List<String> currentFields) {
+		final int[] columnIndexes = this.config.columnIndexes;
+		if (null == columnIndexes) {
+			return currentFields;
+		}
+		final List<String> fields = new ArrayList<>(columnIndexes.length);
+		for (int index : columnIndexes) {
+			fields.add(index >= 0 && index < currentFields.size() ? currentFields.get(index) : null);
+		}
+		return fields;
+	}
+
 	/**
 	 * 当前行做为标题行
 	 *
@@ -225,7 +283,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 
 					if (currentField.hasContent() || preChar == config.fieldSeparator) {
 						//剩余部分作为一个字段
-						addField(currentFields, currentField.toStringAndReset());
+						addField(currentFields, currentField);
 					}
 					break;
 				}
@@ -279,7 +337,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 						copyLen = 0;
 					}
 					buf.mark();
-					addField(currentFields, currentField.toStringAndReset());
+					addField(currentFields, currentField);
 				} else if (c == config.textDelimiter) {
 					// 引号开始
 					inQuotes = true;
@@ -290,7 +348,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 						buf.appendTo(currentField, copyLen);
 					}
 					buf.mark();
-					addField(currentFields, currentField.toStringAndReset());
+					addField(currentFields, currentField);
 					preChar = c;
 					break;
 				} else if (c == CharUtil.LF) {
@@ -300,7 +358,7 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 							buf.appendTo(currentField, copyLen);
 						}
 						buf.mark();
-						addField(currentFields, currentField.toStringAndReset());
+						addField(currentFields, currentField);
 						preChar = c;
 						break;
 					}
@@ -327,6 +385,23 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 		reader.close();
 	}
 
+	/**
+	 * 将当前读取的字段加入字段列表并重置，列投影时未选中的列（首列除外，用于判断空行）以{@code null}占位，不生成字符串
+	 *
+	 * @param currentFields 当前的字段列表（即为行）
+	 * @param field         当前读取的字段
+	 */
+	private void addField(List<String> currentFields, StrBuilder field) {
+		final int index = currentFields.size();
+		if (index > 0 && null != this.selectedColumns
+				&& (index >= this.selectedColumns.length || false == this.selectedColumns[index])) {
+			field.reset();
+			currentFields.add(null);
+			return;
+		}
+		addField(currentFields, field.toStringAndReset());
+	}
+
 	/**
 	 * 将字段加入字段列表并自动去包装和去转义
 	 *
@@ -348,6 +423,29 @@ public final class CsvParser extends ComputeIter<CsvRow> implements Closeable, S
 		currentFields.add(field);
 	}
 
+	/**
+	 * 将列投影的列序号转换为是否选中的数组
+	 *
+	 * @param columnIndexes 列序号，null表示读取所有列
+	 * @return 是否选中的数组，null表示读取所有列
+	 */
+	static boolean[] selectedColumns(int[] columnIndexes) {
+		if (null == columnIndexes) {
+			return null;
+		}
+		int max = -1;
+		for (int index : columnIndexes) {
+			max = Math.max(max, index);
+		}
+		final boolean[] selected = new boolean[max + 1];
+		for (int index : columnIndexes) {
+			if (index >= 0) {
+				selected[index] = true;
+			}
+		}
+		return selected;
+	}
+
 	/**
 	 * 是否行结束符
 	 *
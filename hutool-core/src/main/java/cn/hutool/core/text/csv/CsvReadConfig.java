@@ -23,6 +23,8 @@ public class CsvReadConfig extends CsvConfig<CsvReadConfig> implements Serializa
 	protected long endLineNo = Long.MAX_VALUE-1;
 	/** 每个字段是否去除两边空白符 */
 	protected boolean trimField;
+	/** 只读取的列序号（从0开始），null表示读取所有列 */
+	protected int[] columnIndexes;
 
 	/**
 	 * 默认配置
@@ -115,4 +117,18 @@ public class CsvReadConfig extends CsvConfig<CsvReadConfig> implements Serializa
 		this.trimField = trimField;
 		return this;
 	}
+
+	/**
+	 * 设置只读取的列序号（从0开始），用于列投影<br>
+	 * 设置后读取的行只包含指定的列，顺序与指定的顺序一致，行中不存在的列为{@code null}，标题行同样按照此规则投影。<br>
+	 * 未指定的列不生成字符串，可减少读取宽表时的内存分配；行号、跳过空行和字段数检查仍按照原始行处理。
+	 *
+	 * @param columnIndexes 列序号，null或空表示读取所有列
+	 * @return this
+	 * @since 5.8.19
+	 */
+	public CsvReadConfig setColumnIndexes(int... columnIndexes) {
+		this.columnIndexes = (null == columnIndexes || 0 == columnIndexes.length) ? null : columnIndexes.clone();
+		return this;
+	}
 }
@@ -141,6 +141,32 @@ public class CsvReader extends CsvBaseReader implements Iterable<CsvRow>, Closea
 				});
 	}
 
+	/**
+	 * 根据Reader创建Bean的{@link Stream}，以便使用stream方式读取csv行并转换为Bean<br>
+	 * 此方法默认识别首行为标题行，标题与Bean属性的对应关系只解析一次，结果与{@link CsvRow#toBean(Class)}一致。
+	 *
+	 * @param <T>   Bean类型
+	 * @param clazz Bean类型
+	 * @return {@link Stream}
+	 * @since 5.8.19
+	 */
+	public <T> Stream<T> stream(Class<T> clazz) {
+		// 此方法必须包含标题
+		setContainsHeader(true);
+		return stream().map(new CsvBeanMapper<>(clazz));
+	}
+
+	/**
+	 * 根据Reader创建{@link CsvCursor}，以便低内存分配地读取字段，此方法只能调用一次<br>
+	 * 调用此方法的前提是构造中传入文件路径或Reader
+	 *
+	 * @return {@link CsvCursor}
+	 * @since 5.8.19
+	 */
+	public CsvCursor cursor() {
+		return cursor(this.reader);
+	}
+
 	@Override
 	public Iterator<CsvRow> iterator() {
 		return parse(this.reader);
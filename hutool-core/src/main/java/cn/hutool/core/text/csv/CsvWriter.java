@@ -1,6 +1,8 @@
 package cn.hutool.core.text.csv;
 
 import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.bean.copier.ValueProvider;
 import cn.hutool.core.collection.ArrayIter;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.convert.Convert;
@@ -22,8 +24,11 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * CSV数据写出器
@@ -237,16 +242,23 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 	 */
 	public CsvWriter writeBeans(Iterable<?> beans) {
 		if (CollUtil.isNotEmpty(beans)) {
-			boolean isFirst = true;
-			Map<String, Object> map;
-			for (Object bean : beans) {
-				map = BeanUtil.beanToMap(bean);
-				if (isFirst) {
-					writeHeaderLine(map.keySet().toArray(new String[0]));
-					isFirst = false;
-				}
-				writeLine(Convert.toStrArray(map.values()));
-			}
+			writeBeans(beans.iterator());
+			flush();
+		}
+		return this;
+	}
+
+	/**
+	 * 将Bean的{@link Stream}按照顺序写出到Writer，并自动生成表头，Stream由调用者关闭
+	 *
+	 * @param beans Bean的{@link Stream}
+	 * @return this
+	 * @see #writeBeans(Iterable)
+	 * @since 5.8.19
+	 */
+	public CsvWriter writeBeans(Stream<?> beans) {
+		if (null != beans) {
+			writeBeans(beans.iterator());
 			flush();
 		}
 		return this;
@@ -355,6 +367,59 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 
 	// --------------------------------------------------------------------------------------------------- Private method start
 
+	/**
+	 * 将Bean逐个写出，第一个Bean的属性名作为表头<br>
+	 * 同一类型的Bean只解析一次可读属性列表，直接读取属性值写出，结果与{@link BeanUtil#beanToMap(Object, String...)}后写出一致；
+	 * Map等非Bean对象仍转换为Map后写出。
+	 *
+	 * @param beans Bean迭代器
+	 * @throws IORuntimeException IO异常
+	 */
+	private void writeBeans(Iterator<?> beans) throws IORuntimeException {
+		boolean isFirst = true;
+		Class<?> beanClass = null;
+		String[] header = null;
+		PropDesc[] props = null;
+		Object bean;
+		String[] fields;
+		while (beans.hasNext()) {
+			bean = beans.next();
+			if (null == bean || bean instanceof Map || bean instanceof ValueProvider) {
+				final Map<String, Object> map = BeanUtil.beanToMap(bean);
+				if (isFirst) {
+					writeHeaderLine(map.keySet().toArray(new String[0]));
+					isFirst = false;
+				}
+				writeLine(Convert.toStrArray(map.values()));
+				continue;
+			}
+
+			if (bean.getClass() != beanClass) {
+				beanClass = bean.getClass();
+				final List<String> names = new ArrayList<>();
+				final List<PropDesc> readableProps = new ArrayList<>();
+				BeanUtil.getBeanDesc(beanClass).getPropMap(false).forEach((name, prop) -> {
+					if (null != name && prop.isReadable(true)) {
+						names.add(name);
+						readableProps.add(prop);
+					}
+				});
+				header = names.toArray(new String[0]);
+				props = readableProps.toArray(new PropDesc[0]);
+			}
+			if (isFirst) {
+				writeHeaderLine(header.clone());
+				isFirst = false;
+			}
+
+			fields = new String[props.length];
+			for (int i = 0; i < props.length; i++) {
+				fields[i] = Convert.convertWithCheck(String.class, props[i].getValue(bean), null, false);
+			}
+			writeLine(fields);
+		}
+	}
+
 	/**
 	 * 追加一行，末尾会自动换行，但是追加前不会换行
 	 *
@@ -2,6 +2,7 @@ package cn.hutool.core.util;
 
 import cn.hutool.core.exceptions.UtilException;
 import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.AtomicSnowflake;
 import cn.hutool.core.lang.ObjectId;
 import cn.hutool.core.lang.Singleton;
 import cn.hutool.core.lang.Snowflake;
@@ -192,6 +193,29 @@ public class IdUtil {
 		return Singleton.get(Snowflake.class);
 	}
 
+	/**
+	 * 获取单例的无锁Snowflake 算法生成器对象，ID结构与{@link #getSnowflake(long, long)}一致<br>
+	 * 通过CAS生成ID，适用于多线程高并发生成ID及批量生成ID的场景，见{@link AtomicSnowflake}
+	 *
+	 * @param workerId     终端ID
+	 * @param datacenterId 数据中心ID
+	 * @return {@link AtomicSnowflake}
+	 * @since 5.8.19
+	 */
+	public static AtomicSnowflake getAtomicSnowflake(long workerId, long datacenterId) {
+		return Singleton.get(AtomicSnowflake.class, workerId, datacenterId);
+	}
+
+	/**
+	 * 获取单例的无锁Snowflake 算法生成器对象，使用自动生成的工作节点ID和数据中心ID，见{@link AtomicSnowflake}
+	 *
+	 * @return {@link AtomicSnowflake}
+	 * @since 5.8.19
+	 */
+	public static AtomicSnowflake getAtomicSnowflake() {
+		return Singleton.get(AtomicSnowflake.class);
+	}
+
 	/**
 	 * 获取数据中心ID<br>
 	 * 数据中心ID依赖于本地网卡MAC地址。
@@ -4,6 +4,7 @@ import cn.hutool.core.collection.EnumerationIter;
 import cn.hutool.core.compress.Deflate;
 import cn.hutool.core.compress.Gzip;
 import cn.hutool.core.compress.ZipCopyVisitor;
+import cn.hutool.core.compress.ZipParallelWriter;
 import cn.hutool.core.compress.ZipReader;
 import cn.hutool.core.compress.ZipWriter;
 import cn.hutool.core.exceptions.UtilException;
@@ -269,6 +270,27 @@ public class ZipUtil {
 		return zipFile;
 	}
 
+	/**
+	 * 对文件或文件目录进行并行压缩<br>
+	 * 各文件在{@link java.util.concurrent.ForkJoinPool#commonPool()}中并行压缩，并按照顺序合并为一个压缩包，见{@link ZipParallelWriter}
+	 *
+	 * @param zipFile    生成的Zip文件，包括文件名。注意：zipPath不能是srcPath路径下的子文件夹
+	 * @param charset    编码
+	 * @param withSrcDir 是否包含被打包目录，只针对压缩目录有效。若为false，则只压缩目录下的文件或目录，为true则将本目录也压缩
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩），{@code null}表示不过滤
+	 * @param srcFiles   要压缩的源文件或目录。如果压缩一个文件，则为该文件的全路径；如果压缩一个目录，则为该目录的顶层目录路径
+	 * @return 压缩文件
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.19
+	 */
+	public static File zipParallel(File zipFile, Charset charset, boolean withSrcDir, FileFilter filter, File... srcFiles) throws IORuntimeException {
+		validateFiles(zipFile, srcFiles);
+		try (final ZipParallelWriter zipWriter = ZipParallelWriter.of(zipFile, charset)) {
+			zipWriter.add(withSrcDir, filter, srcFiles);
+		}
+		return zipFile;
+	}
+
 	/**
 	 * 对文件或文件目录进行压缩
 	 *
@@ -590,6 +612,29 @@ public class ZipUtil {
 		return outFile;
 	}
 
+	/**
+	 * 并行解压<br>
+	 * 各文件条目在{@link java.util.concurrent.ForkJoinPool#commonPool()}中并行解压写出，见{@link ZipReader#readToParallel(File, cn.hutool.core.lang.Filter)}
+	 *
+	 * @param zipFile zip文件
+	 * @param outFile 解压到的目录
+	 * @param charset 编码
+	 * @return 解压的目录
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.19
+	 */
+	public static File unzipParallel(File zipFile, File outFile, Charset charset) throws IORuntimeException {
+		if (outFile.exists() && outFile.isFile()) {
+			throw new IllegalArgumentException(
+					StrUtil.format("Target path [{}] exist!", outFile.getAbsolutePath()));
+		}
+
+		try (final ZipReader reader = new ZipReader(toZipFile(zipFile, charset))) {
+			reader.readToParallel(outFile, null);
+		}
+		return outFile;
+	}
+
 	/**
 	 * 获取压缩包中的指定文件流
 	 *
@@ -0,0 +1,145 @@
+package cn.hutool.core.bean;
+
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.exceptions.InvocationTargetRuntimeException;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.ReflectUtil;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+public class PropAccessorTest {
+
+	@Test
+	public void getterAndSetterTest() {
+		final BeanDesc desc = BeanUtil.getBeanDesc(TestBean.class);
+		final Function<Object, Object> getter = PropAccessor.getter(desc.getGetter("age"));
+		final BiConsumer<Object, Object> setter = PropAccessor.setter(desc.getSetter("age"));
+		Assert.assertNotNull(getter);
+		Assert.assertNotNull(setter);
+
+		final TestBean bean = new TestBean();
+		setter.accept(bean, 12);
+		Assert.assertEquals(12, getter.apply(bean));
+
+		// 私有内部类和继承的方法
+		final BeanDesc childDesc = BeanUtil.getBeanDesc(PrivateChild.class);
+		final PrivateChild child = new PrivateChild();
+		childDesc.getProp("name").setValue(child, "child");
+		childDesc.getProp("age").setValue(child, "3");
+		Assert.assertEquals("child", childDesc.getProp("name").getValue(child));
+		Assert.assertEquals(3, childDesc.getProp("age").getValue(child));
+	}
+
+	@Test
+	public void setValueTest() {
+		final PropDesc age = BeanUtil.getBeanDesc(TestBean.class).getProp("age");
+		final PropDesc name = BeanUtil.getBeanDesc(TestBean.class).getProp("name");
+		final TestBean bean = new TestBean();
+
+		// 类型转换和原始类型默认值与反射方式一致
+		age.setValue(bean, "20");
+		Assert.assertEquals(20, bean.getAge());
+		age.setValue(bean, null);
+		Assert.assertEquals(0, bean.getAge());
+		name.setValue(bean, 1);
+		Assert.assertEquals("1", bean.getName());
+		name.setValue(bean, new NullWrapperBean<>(String.class));
+		Assert.assertNull(bean.getName());
+
+		// 链式Setter
+		final PropDesc chain = BeanUtil.getBeanDesc(TestBean.class).getProp("chain");
+		chain.setValue(bean, "chain");
+		Assert.assertEquals("chain", chain.getValue(bean));
+	}
+
+	@Test
+	public void exceptionTest() {
+		final PropDesc error = BeanUtil.getBeanDesc(TestBean.class).getProp("error");
+		final InvocationTargetRuntimeException e = Assert.assertThrows(InvocationTargetRuntimeException.class,
+				() -> error.getValue(new TestBean()));
+		Assert.assertEquals("error", e.getCause().getCause().getMessage());
+
+		Assert.assertThrows(BeanException.class, () -> error.getValue(new TestBean(), null, false));
+		Assert.assertNull(error.getValue(new TestBean(), null, true));
+	}
+
+	@Test
+	public void disableTest() {
+		final PropDesc name = BeanUtil.getBeanDesc(TestBean.class).getProp("name");
+		final TestBean bean = new TestBean();
+		PropDesc.setAccessorEnabled(false);
+		try {
+			name.setValue(bean, "reflect");
+			Assert.assertEquals("reflect", name.getValue(bean));
+		} finally {
+			PropDesc.setAccessorEnabled(true);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void getValuePerformanceTest() {
+		final PropDesc name = BeanUtil.getBeanDesc(TestBean.class).getProp("name");
+		final TestBean bean = new TestBean();
+		final int count = 10000000;
+		name.setValue(bean, "hutool");
+
+		final TimeInterval timer = new TimeInterval();
+		for (int i = 0; i < count; i++) {
+			ReflectUtil.invoke(bean, name.getGetter());
+			ReflectUtil.invoke(bean, name.getSetter(), "hutool");
+		}
+		Console.log("Reflect : {}ms", timer.intervalRestart());
+		for (int i = 0; i < count; i++) {
+			name.getValue(bean);
+			name.setValue(bean, "hutool");
+		}
+		Console.log("Accessor: {}ms", timer.intervalRestart());
+	}
+
+	@Data
+	public static class TestBean {
+		private int age;
+		private String name;
+		private String chain;
+		private String error;
+
+		public TestBean setChain(String chain) {
+			this.chain = chain;
+			return this;
+		}
+
+		public String getError() {
+			throw new IllegalStateException("error");
+		}
+	}
+
+	private static class PrivateParent {
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class PrivateChild extends PrivateParent {
+		private int age;
+
+		int getAge() {
+			return age;
+		}
+
+		void setAge(int age) {
+			this.age = age;
+		}
+	}
+}
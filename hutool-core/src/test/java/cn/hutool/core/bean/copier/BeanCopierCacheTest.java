@@ -0,0 +1,191 @@
+package cn.hutool.core.bean.copier;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.convert.ConverterRegistry;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.lang.ParameterizedTypeImpl;
+import cn.hutool.core.map.MapUtil;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.List;
+
+public class BeanCopierCacheTest {
+
+	@Test
+	public void copyTest() {
+		final Source source = createSource();
+		final Target target = BeanUtil.copyProperties(source, Target.class);
+		Assert.assertEquals(Integer.valueOf(1), target.getId());
+		Assert.assertEquals("hutool", target.getName());
+		// 同类型的值直接赋值
+		Assert.assertSame(source.getCreated(), target.getCreated());
+		Assert.assertSame(source.getChild(), target.getChild());
+		// 类型不同时转换
+		Assert.assertEquals(12L, target.getAge());
+		Assert.assertEquals(ListUtil.of(1, 2), target.getScores());
+		Assert.assertNull(target.getSecret());
+
+		// 再次拷贝使用缓存的计划
+		final Target target2 = BeanUtil.copyProperties(source, Target.class);
+		Assert.assertEquals(target, target2);
+	}
+
+	@Test
+	public void copyOptionsTest() {
+		final Source source = createSource();
+
+		// 忽略属性和属性过滤
+		Target target = new Target();
+		BeanUtil.copyProperties(source, target, CopyOptions.create()
+				.setIgnoreProperties("name")
+				.setPropertiesFilter((field, value) -> false == "id".equals(field.getName())));
+		Assert.assertNull(target.getName());
+		Assert.assertNull(target.getId());
+		Assert.assertEquals(12L, target.getAge());
+
+		// 字段名映射和值编辑
+		target = new Target();
+		BeanUtil.copyProperties(source, target, CopyOptions.create()
+				.setFieldMapping(MapUtil.of("name", "alias"))
+				.setFieldValueEditor((name, value) -> "alias".equals(name) ? value + "!" : value));
+		Assert.assertEquals("hutool!", target.getAlias());
+		Assert.assertNull(target.getName());
+
+		// 忽略大小写
+		final UpperSource upperSource = new UpperSource();
+		upperSource.setNAME("upper");
+		target = new Target();
+		BeanUtil.copyProperties(upperSource, target, CopyOptions.create().ignoreCase());
+		Assert.assertEquals("upper", target.getName());
+		target = new Target();
+		BeanUtil.copyProperties(upperSource, target);
+		Assert.assertNull(target.getName());
+
+		// 自定义转换器对同类型值也生效
+		target = new Target();
+		BeanUtil.copyProperties(source, target, CopyOptions.create()
+				.setConverter((type, value) -> value instanceof String ? value + "?" : value));
+		Assert.assertEquals("hutool?", target.getName());
+
+		// transient
+		target = new Target();
+		BeanUtil.copyProperties(source, target, CopyOptions.create().setTransientSupport(false));
+		Assert.assertEquals("secret", target.getSecret());
+	}
+
+	@Test
+	public void customConverterTest() {
+		final ConverterRegistry registry = ConverterRegistry.getInstance();
+		registry.putCustom(Child.class, (value, defaultValue) -> {
+			final Child child = new Child();
+			child.setName("custom");
+			return child;
+		});
+		try {
+			final Target target = BeanUtil.copyProperties(createSource(), Target.class);
+			Assert.assertEquals("custom", target.getChild().getName());
+		} finally {
+			registry.putCustom(Child.class, (value, defaultValue) -> value);
+		}
+	}
+
+	@Test
+	public void genericTargetTest() {
+		final GenericSource source = new GenericSource();
+		source.setValue(12);
+		source.setValues(new String[]{"1", "2"});
+
+		// 不同的泛型类型共用拷贝计划，属性类型按每次的目标泛型类型解析
+		for (int i = 0; i < 100; i++) {
+			final GenericTarget<String> target = BeanCopier.create(source, new GenericTarget<String>(),
+					new ParameterizedTypeImpl(new Type[]{String.class}, null, GenericTarget.class), CopyOptions.create()).copy();
+			Assert.assertEquals("12", target.getValue());
+			Assert.assertEquals(ListUtil.of("1", "2"), target.getValues());
+		}
+		final GenericTarget<Long> target = BeanCopier.create(source, new GenericTarget<Long>(),
+				new ParameterizedTypeImpl(new Type[]{Long.class}, null, GenericTarget.class), CopyOptions.create()).copy();
+		Assert.assertEquals(Long.valueOf(12), target.getValue());
+		Assert.assertEquals(ListUtil.of(1L, 2L), target.getValues());
+	}
+
+	private static Source createSource() {
+		final Child child = new Child();
+		child.setName("child");
+
+		final Source source = new Source();
+		source.setId(1);
+		source.setName("hutool");
+		source.setAge(12);
+		source.setCreated(new Date());
+		source.setChild(child);
+		source.setScores(new String[]{"1", "2"});
+		source.setSecret("secret");
+		return source;
+	}
+
+	@Test
+	@Ignore
+	public void copyPerformanceTest() {
+		final Source source = createSource();
+		final int count = 1000000;
+		BeanUtil.copyProperties(source, Target.class);
+
+		final TimeInterval timer = new TimeInterval();
+		for (int i = 0; i < count; i++) {
+			BeanUtil.copyProperties(source, Target.class);
+		}
+		Console.log("Copy: {}ms", timer.intervalRestart());
+	}
+
+	@Data
+	public static class Source {
+		private Integer id;
+		private String name;
+		private int age;
+		private Date created;
+		private Child child;
+		private String[] scores;
+		private transient String secret;
+	}
+
+	@Data
+	public static class UpperSource {
+		private String NAME;
+	}
+
+	@Data
+	public static class Target {
+		private Integer id;
+		private String name;
+		private String alias;
+		private long age;
+		private Date created;
+		private Child child;
+		private List<Integer> scores;
+		private String secret;
+	}
+
+	@Data
+	public static class GenericSource {
+		private Integer value;
+		private String[] values;
+	}
+
+	@Data
+	public static class GenericTarget<T> {
+		private T value;
+		private List<T> values;
+	}
+
+	@Data
+	public static class Child {
+		private String name;
+	}
+}
@@ -0,0 +1,215 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.ZipUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+public class ZipParallelWriterTest {
+
+	@Test
+	public void sameAsZipWriterTest() {
+		final File dir = createTestDir(new Random(20230521L), 200);
+		final File zip = FileUtil.createTempFile("zip", ".zip", null, true);
+		final File parallelZip = FileUtil.createTempFile("zip", ".zip", null, true);
+		try {
+			for (final Charset charset : ListUtil.of(CharsetUtil.CHARSET_UTF_8, CharsetUtil.CHARSET_GBK)) {
+				ZipUtil.zip(zip, charset, true, dir);
+				final Map<String, byte[]> expected = readZipFile(zip, charset);
+
+				ZipUtil.zipParallel(parallelZip, charset, true, null, dir);
+				assertEntriesEquals(expected, readZipFile(parallelZip, charset));
+				assertEntriesEquals(expected, readZipStream(parallelZip, charset));
+
+				// 小内存阈值使压缩数据转存临时文件，多线程压缩
+				final ForkJoinPool pool = new ForkJoinPool(4);
+				try (final ZipParallelWriter writer = new ZipParallelWriter(FileUtil.getOutputStream(parallelZip), charset, pool)) {
+					writer.setMemoryThreshold(100).setLevel(9).setComment("注释");
+					writer.add(true, null, dir);
+				} finally {
+					pool.shutdown();
+				}
+				assertEntriesEquals(expected, readZipFile(parallelZip, charset));
+				assertEntriesEquals(expected, readZipStream(parallelZip, charset));
+				try (final ZipFile zipFile = new ZipFile(parallelZip, charset)) {
+					Assert.assertEquals("注释", zipFile.getComment());
+				}
+			}
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			FileUtil.del(dir);
+			FileUtil.del(zip);
+			FileUtil.del(parallelZip);
+		}
+	}
+
+	@Test
+	public void duplicateEntryTest() {
+		final File zip = FileUtil.createTempFile("zip", ".zip", null, true);
+		try (final ZipParallelWriter writer = ZipParallelWriter.of(zip, CharsetUtil.CHARSET_UTF_8)) {
+			writer.add("a.txt", IoUtil.toUtf8Stream("a"));
+			final IORuntimeException e = Assert.assertThrows(IORuntimeException.class,
+					() -> writer.add("a.txt", IoUtil.toUtf8Stream("b")));
+			Assert.assertTrue(e.getMessage().contains("duplicate entry: a.txt"));
+		} finally {
+			FileUtil.del(zip);
+		}
+	}
+
+	@Test
+	public void zip64Test() throws IOException {
+		final File zip = FileUtil.createTempFile("zip", ".zip", null, true);
+		final int count = 0xFFFF + 10;
+		try {
+			try (final ZipParallelWriter writer = ZipParallelWriter.of(zip, CharsetUtil.CHARSET_UTF_8)) {
+				for (int i = 0; i < count; i++) {
+					writer.add("dir/" + i + ".txt", new ByteArrayInputStream(StrUtil.bytes(String.valueOf(i))));
+				}
+			}
+
+			try (final ZipFile zipFile = new ZipFile(zip)) {
+				Assert.assertEquals(count, zipFile.size());
+				final ZipEntry entry = zipFile.getEntry("dir/" + (count - 1) + ".txt");
+				Assert.assertEquals(String.valueOf(count - 1), IoUtil.readUtf8(zipFile.getInputStream(entry)));
+			}
+			Assert.assertEquals(count, readZipStream(zip, CharsetUtil.CHARSET_UTF_8).size());
+		} finally {
+			FileUtil.del(zip);
+		}
+	}
+
+	@Test
+	public void unzipParallelTest() {
+		final File dir = createTestDir(new Random(20230522L), 100);
+		final File zip = FileUtil.createTempFile("zip", ".zip", null, true);
+		final File out = FileUtil.file(FileUtil.getTmpDir(), "hutool-unzip-" + RandomUtil.randomString(8));
+		try {
+			ZipUtil.zip(zip, CharsetUtil.CHARSET_UTF_8, false, dir);
+			ZipUtil.unzipParallel(zip, out, CharsetUtil.CHARSET_UTF_8);
+			assertDirEquals(dir, out);
+			FileUtil.del(out);
+
+			final ForkJoinPool pool = new ForkJoinPool(4);
+			try (final ZipReader reader = ZipReader.of(zip, CharsetUtil.CHARSET_UTF_8)) {
+				reader.readToParallel(out, null, pool);
+			} finally {
+				pool.shutdown();
+			}
+			assertDirEquals(dir, out);
+		} finally {
+			FileUtil.del(dir);
+			FileUtil.del(zip);
+			FileUtil.del(out);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void zipPerformanceTest() {
+		final File dir = createTestDir(new Random(), 20000);
+		final File zip = FileUtil.createTempFile("zip", ".zip", null, true);
+		final File out = FileUtil.file(FileUtil.getTmpDir(), "hutool-unzip-" + RandomUtil.randomString(8));
+		try {
+			final TimeInterval timer = new TimeInterval();
+			ZipUtil.zip(zip, CharsetUtil.CHARSET_UTF_8, false, dir);
+			Console.log("Zip: {}ms, {} bytes", timer.intervalRestart(), zip.length());
+			ZipUtil.zipParallel(zip, CharsetUtil.CHARSET_UTF_8, false, null, dir);
+			Console.log("Zip parallel({}): {}ms, {} bytes", ForkJoinPool.commonPool().getParallelism(), timer.intervalRestart(), zip.length());
+
+			ZipUtil.unzip(zip, out, CharsetUtil.CHARSET_UTF_8);
+			Console.log("Unzip: {}ms", timer.intervalRestart());
+			FileUtil.del(out);
+			timer.restart();
+			ZipUtil.unzipParallel(zip, out, CharsetUtil.CHARSET_UTF_8);
+			Console.log("Unzip parallel: {}ms", timer.intervalRestart());
+		} finally {
+			FileUtil.del(dir);
+			FileUtil.del(zip);
+			FileUtil.del(out);
+		}
+	}
+
+	/**
+	 * 创建测试目录，包括多级目录、空目录、空文件和不同压缩率的文件
+	 */
+	private static File createTestDir(Random random, int fileCount) {
+		final File dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "hutool-zip-" + RandomUtil.randomString(8)));
+		FileUtil.mkdir(FileUtil.file(dir, "empty"));
+		FileUtil.touch(FileUtil.file(dir, "空文件.txt"));
+		for (int i = 0; i < fileCount; i++) {
+			final byte[] bytes = new byte[random.nextInt(i % 10 == 0 ? 200000 : 5000)];
+			if (i % 2 == 0) {
+				random.nextBytes(bytes);
+			} else {
+				for (int j = 0; j < bytes.length; j++) {
+					bytes[j] = (byte) ('a' + random.nextInt(4));
+				}
+			}
+			FileUtil.writeBytes(bytes, FileUtil.file(dir, "子目录" + (i % 7), "sub" + (i % 3), "文件" + i + ".bin"));
+		}
+		return dir;
+	}
+
+	private static void assertDirEquals(File dir, File out) {
+		final List<File> expected = FileUtil.loopFiles(dir);
+		Assert.assertEquals(expected.size(), FileUtil.loopFiles(out).size());
+		for (final File file : expected) {
+			final File unzipped = FileUtil.file(out, FileUtil.subPath(dir.getAbsolutePath(), file));
+			Assert.assertArrayEquals(FileUtil.readBytes(file), FileUtil.readBytes(unzipped));
+		}
+		Assert.assertTrue(FileUtil.isDirEmpty(FileUtil.file(out, "empty")));
+	}
+
+	private static Map<String, byte[]> readZipFile(File zip, Charset charset) throws IOException {
+		final Map<String, byte[]> entries = new LinkedHashMap<>();
+		try (final ZipFile zipFile = new ZipFile(zip, charset)) {
+			final Enumeration<? extends ZipEntry> em = zipFile.entries();
+			while (em.hasMoreElements()) {
+				final ZipEntry entry = em.nextElement();
+				entries.put(entry.getName(), IoUtil.readBytes(zipFile.getInputStream(entry)));
+			}
+		}
+		return entries;
+	}
+
+	private static Map<String, byte[]> readZipStream(File zip, Charset charset) throws IOException {
+		final Map<String, byte[]> entries = new LinkedHashMap<>();
+		try (final ZipInputStream in = new ZipInputStream(FileUtil.getInputStream(zip), charset)) {
+			ZipEntry entry;
+			while (null != (entry = in.getNextEntry())) {
+				entries.put(entry.getName(), IoUtil.readBytes(in, false));
+			}
+		}
+		return entries;
+	}
+
+	private static void assertEntriesEquals(Map<String, byte[]> expected, Map<String, byte[]> actual) {
+		Assert.assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+		expected.forEach((name, bytes) -> Assert.assertArrayEquals(name, bytes, actual.get(name)));
+	}
+}
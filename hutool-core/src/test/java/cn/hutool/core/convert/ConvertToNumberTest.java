@@ -2,7 +2,10 @@ package cn.hutool.core.convert;
 
 import cn.hutool.core.date.DateTime;
 import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
 import org.junit.Assert;
+import org.junit.Ignore;
 import org.junit.Test;
 
 import java.math.BigDecimal;
@@ -41,4 +44,35 @@ public class ConvertToNumberTest {
 		bigDecimal = Convert.toBigDecimal("1L");
 		Assert.assertEquals(1L, bigDecimal.longValue());
 	}
+
+	@Test
+	public void toPrimitiveTest() {
+		final Object[] values = {"123", "-123", "007", "-0", " 12 ", "12L", "1.5", "1e3", "0x10", "2147483648",
+				"-9223372036854775808", "123456789012345678", "", "abc", 12.5D, 1.1F, 3L, true,
+				DateUtil.parse("2020-05-17 12:32:00"), new BigDecimal("12.34"), null};
+		for (final Object value : values) {
+			Assert.assertEquals(String.valueOf(value), Convert.toInt(value, -1).intValue(), Convert.toIntPrimitive(value, -1));
+			Assert.assertEquals(String.valueOf(value), Convert.toLong(value, -1L).longValue(), Convert.toLongPrimitive(value, -1L));
+			Assert.assertEquals(String.valueOf(value), Convert.toDouble(value, -1D), Convert.toDoublePrimitive(value, -1D), 0);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void toPrimitivePerformanceTest() {
+		final String[] values = {"1", "12", "123", "1234", "12345", "123456"};
+		final int count = 10000000;
+		long sum = 0;
+
+		final TimeInterval timer = new TimeInterval();
+		for (int i = 0; i < count; i++) {
+			sum += Convert.toInt(values[i % values.length], 0);
+		}
+		Console.log("toInt         : {}ms", timer.intervalRestart());
+		for (int i = 0; i < count; i++) {
+			sum += Convert.toIntPrimitive(values[i % values.length], 0);
+		}
+		Console.log("toIntPrimitive: {}ms", timer.intervalRestart());
+		Console.log(sum);
+	}
 }
@@ -1,8 +1,17 @@
 package cn.hutool.core.convert;
 
+import cn.hutool.core.bean.BeanUtilTest;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.lang.ParameterizedTypeImpl;
+import cn.hutool.core.lang.TypeReference;
+import cn.hutool.core.util.ReflectUtil;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
 /**
  * ConverterRegistry 单元测试
  * @author Looly
@@ -31,6 +40,33 @@ public class ConverterRegistryTest {
 		Assert.assertEquals("Custom: 454553", result);
 	}
 	
+	@Test
+	public void specialConverterCacheTest() {
+		final ConverterRegistry converterRegistry = ConverterRegistry.getInstance();
+		final TypeReference<List<Integer>> listType = new TypeReference<List<Integer>>() {};
+		// 重复转换使用缓存的转换器，结果一致
+		for (int i = 0; i < 3; i++) {
+			final List<Integer> list = converterRegistry.convert(listType, new String[]{"1", "2"});
+			Assert.assertEquals(ListUtil.of(1, 2), list);
+		}
+
+		final BeanUtilTest.SubPerson person = new BeanUtilTest.SubPerson();
+		Assert.assertSame(person, converterRegistry.convert(BeanUtilTest.SubPerson.class, person));
+		Assert.assertArrayEquals(new int[]{1, 2}, converterRegistry.convert(int[].class, "1,2"));
+		Assert.assertThrows(ConvertException.class, () -> converterRegistry.convert(Runnable.class, "abc"));
+
+		// 每次新建的泛型类型不应使缓存增长
+		final Map<?, ?> cache = (Map<?, ?>) ReflectUtil.getFieldValue(converterRegistry, "specialConverterCache");
+		converterRegistry.convert(new ParameterizedTypeImpl(new Type[]{String.class}, null, List.class), "a");
+		final int size = cache.size();
+		for (int i = 0; i < 100; i++) {
+			final List<String> list = converterRegistry.convert(
+					new ParameterizedTypeImpl(new Type[]{String.class}, null, List.class), new int[]{i});
+			Assert.assertEquals(ListUtil.of(String.valueOf(i)), list);
+		}
+		Assert.assertEquals(size, cache.size());
+	}
+
 	public static class CustomConverter implements Converter<CharSequence>{
 		@Override
 		public CharSequence convert(Object value, CharSequence defaultValue) throws IllegalArgumentException {
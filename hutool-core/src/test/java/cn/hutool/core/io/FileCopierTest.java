@@ -5,8 +5,10 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import cn.hutool.core.io.file.FileCopier;
+import cn.hutool.core.util.RandomUtil;
 
 import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 文件拷贝单元测试
@@ -56,4 +58,48 @@ public class FileCopierTest {
 		final boolean delete = new File("aaa.txt").delete();
 		Assert.assertTrue(delete);
 	}
+
+	@Test
+	public void copyWithProgressTest() {
+		final byte[] bytes = RandomUtil.randomBytes(20000);
+		final File src = FileUtil.createTempFile("src", ".bin", null, true);
+		final File dest = FileUtil.file(FileUtil.getTmpDir(), "hutool-copy-" + RandomUtil.randomString(8), src.getName());
+		try {
+			FileUtil.writeBytes(bytes, src);
+			Assert.assertTrue(src.setLastModified(1684771200000L));
+			FileUtil.writeUtf8String("old content", dest);
+
+			final AtomicLong progressSize = new AtomicLong();
+			final FileCopier copier = FileCopier.create(src, dest)
+					.setOverride(true)
+					.setCopyAttributes(true)
+					.setProgress(new StreamProgress() {
+						@Override
+						public void start() {
+						}
+
+						@Override
+						public void progress(long total, long size) {
+							progressSize.set(size);
+						}
+
+						@Override
+						public void finish() {
+						}
+					});
+			Assert.assertEquals(dest, copier.copy());
+			Assert.assertArrayEquals(bytes, FileUtil.readBytes(dest));
+			Assert.assertEquals(bytes.length, progressSize.get());
+			Assert.assertEquals(src.lastModified(), dest.lastModified());
+
+			// 目标为目录时在目录下创建同名文件
+			FileUtil.del(dest);
+			FileUtil.mkdir(dest.getParentFile());
+			FileCopier.create(src, dest.getParentFile()).setProgress(copier.getProgress()).copy();
+			Assert.assertArrayEquals(bytes, FileUtil.readBytes(dest));
+		} finally {
+			FileUtil.del(src);
+			FileUtil.del(dest.getParentFile());
+		}
+	}
 }
@@ -5,6 +5,10 @@ import org.junit.Test;
 
 import cn.hutool.core.io.file.FileReader;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Random;
+
 /**
  * 文件读取测试
  * @author Looly
@@ -18,4 +22,27 @@ public class FileReaderTest {
 		String result = fileReader.readString();
 		Assert.assertNotNull(result);
 	}
+
+	@Test
+	public void readBytesByConsumerTest() {
+		final Random random = new Random(20230523L);
+		final File file = FileUtil.createTempFile("bytes", ".bin", null, true);
+		try {
+			for (final int size : new int[]{0, 1000, 3 * 1024 * 1024 + 7}) {
+				final byte[] bytes = new byte[size];
+				random.nextBytes(bytes);
+				FileUtil.writeBytes(bytes, file);
+
+				final ByteArrayOutputStream out = new ByteArrayOutputStream();
+				FileUtil.readBytes(file, buffer -> {
+					final byte[] chunk = new byte[buffer.remaining()];
+					buffer.get(chunk);
+					out.write(chunk, 0, chunk.length);
+				});
+				Assert.assertArrayEquals(bytes, out.toByteArray());
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
 }
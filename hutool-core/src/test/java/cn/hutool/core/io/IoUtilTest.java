@@ -1,12 +1,27 @@
 package cn.hutool.core.io;
 
 import cn.hutool.core.io.resource.ResourceUtil;
+import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.RuntimeUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadUtil;
 import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class IoUtilTest {
 
@@ -32,4 +47,124 @@ public class IoUtilTest {
 			throw new IORuntimeException(e);
 		}
 	}
+
+	@Test
+	public void copyFileStreamTest() throws IOException {
+		final byte[] bytes = RandomUtil.randomBytes(100000);
+		final File src = FileUtil.createTempFile("src", ".bin", null, true);
+		final File dest = FileUtil.createTempFile("dest", ".bin", null, true);
+		try {
+			FileUtil.writeBytes(bytes, src);
+			final AtomicLong progressSize = new AtomicLong();
+			try (final FileInputStream in = new FileInputStream(src); final FileOutputStream out = new FileOutputStream(dest)) {
+				Assert.assertEquals(100, in.skip(100));
+				// 从流的当前位置开始拷贝，拷贝后流的位置移动到拷贝结束处
+				final long size = IoUtil.copy(in, out, IoUtil.DEFAULT_BUFFER_SIZE, 5000, new StreamProgress() {
+					@Override
+					public void start() {
+					}
+
+					@Override
+					public void progress(long total, long size) {
+						progressSize.set(size);
+					}
+
+					@Override
+					public void finish() {
+					}
+				});
+				Assert.assertEquals(5000, size);
+				Assert.assertEquals(bytes[5100], (byte) in.read());
+				out.write(bytes[0]);
+			}
+			Assert.assertEquals(5000, progressSize.get());
+			final byte[] expected = Arrays.copyOf(Arrays.copyOfRange(bytes, 100, 5101), 5001);
+			expected[5000] = bytes[0];
+			Assert.assertArrayEquals(expected, FileUtil.readBytes(dest));
+
+			// 从文件流写出文件
+			try (final FileInputStream in = new FileInputStream(src)) {
+				Assert.assertEquals(2000, in.skip(2000));
+				FileUtil.writeFromStream(in, dest, false);
+				Assert.assertEquals(-1, in.read());
+			}
+			Assert.assertArrayEquals(Arrays.copyOfRange(bytes, 2000, bytes.length), FileUtil.readBytes(dest));
+		} finally {
+			FileUtil.del(src);
+			FileUtil.del(dest);
+		}
+	}
+
+	@Test
+	public void copyFifoStreamTest() throws IOException {
+		Assume.assumeFalse(FileUtil.isWindows());
+		final File fifo = FileUtil.file(FileUtil.getTmpDir(), "hutool-fifo-" + RandomUtil.randomString(8));
+		final File dest = FileUtil.createTempFile("dest", ".bin", null, true);
+		try {
+			RuntimeUtil.execForStr("mkfifo", fifo.getAbsolutePath());
+			Assume.assumeTrue(fifo.exists());
+
+			// 管道不支持定位，按缓存读取
+			for (int i = 0; i < 2; i++) {
+				final Thread writer = writeFifoAsync(fifo, "0123456789");
+				try (final InputStream in = new FileInputStream(fifo)) {
+					if (0 == i) {
+						try (final OutputStream out = new FileOutputStream(dest)) {
+							Assert.assertEquals(10, IoUtil.copy(in, out));
+						}
+					} else {
+						FileUtil.writeFromStream(in, dest, false);
+					}
+				}
+				ThreadUtil.waitForDie(writer);
+				Assert.assertEquals("0123456789", FileUtil.readUtf8String(dest));
+			}
+		} finally {
+			FileUtil.del(fifo);
+			FileUtil.del(dest);
+		}
+	}
+
+	private static Thread writeFifoAsync(File fifo, String content) {
+		final Thread writer = new Thread(() -> {
+			try (final FileOutputStream out = new FileOutputStream(fifo)) {
+				out.write(content.getBytes(CharsetUtil.CHARSET_UTF_8));
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+		});
+		writer.start();
+		return writer;
+	}
+
+	@Test
+	@Ignore
+	public void copyFileStreamPerformanceTest() throws IOException {
+		final File src = FileUtil.createTempFile("src", ".bin", null, true);
+		final File dest = FileUtil.createTempFile("dest", ".bin", null, true);
+		try {
+			try (final FileOutputStream out = new FileOutputStream(src)) {
+				final byte[] bytes = RandomUtil.randomBytes(1024 * 1024);
+				for (int i = 0; i < 200; i++) {
+					out.write(bytes);
+				}
+			}
+
+			final TimeInterval timer = new TimeInterval();
+			for (int i = 0; i < 3; i++) {
+				timer.restart();
+				try (final BufferedInputStream in = new BufferedInputStream(new FileInputStream(src)); final FileOutputStream out = new FileOutputStream(dest)) {
+					IoUtil.copy(in, out);
+				}
+				Console.log("Buffer copy: {}ms", timer.intervalRestart());
+				try (final FileInputStream in = new FileInputStream(src); final FileOutputStream out = new FileOutputStream(dest)) {
+					IoUtil.copy(in, out, IoUtil.DEFAULT_BUFFER_SIZE);
+				}
+				Console.log("Transfer copy: {}ms", timer.intervalRestart());
+			}
+		} finally {
+			FileUtil.del(src);
+			FileUtil.del(dest);
+		}
+	}
 }
@@ -0,0 +1,101 @@
+package cn.hutool.core.lang;
+
+import cn.hutool.core.collection.ConcurrentHashSet;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.lang.generator.SnowflakeGenerator;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.IdUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Set;
+
+public class AtomicSnowflakeTest {
+
+	@Test
+	public void nextIdTest() {
+		final AtomicSnowflake snowflake = new AtomicSnowflake(1, 2);
+		long last = 0;
+		for (int i = 0; i < 10000; i++) {
+			final long id = snowflake.nextId();
+			Assert.assertTrue(id > last);
+			last = id;
+		}
+		Assert.assertEquals(1, snowflake.getWorkerId(last));
+		Assert.assertEquals(2, snowflake.getDataCenterId(last));
+		Assert.assertTrue(Math.abs(snowflake.getGenerateDateTime(last) - System.currentTimeMillis()) < 1000);
+
+		Assert.assertSame(IdUtil.getAtomicSnowflake(1, 2), IdUtil.getAtomicSnowflake(1, 2));
+		Assert.assertTrue(new SnowflakeGenerator(snowflake).next() > last);
+	}
+
+	@Test
+	public void nextIdsTest() {
+		final AtomicSnowflake snowflake = new AtomicSnowflake(null, 0, 0,
+				false, Snowflake.DEFAULT_TIME_OFFSET, 100);
+		final long[] ids = snowflake.nextIds(10000);
+		Assert.assertEquals(10000, ids.length);
+		for (int i = 1; i < ids.length; i++) {
+			Assert.assertTrue(ids[i] > ids[i - 1]);
+		}
+		Assert.assertTrue(snowflake.nextId() > ids[ids.length - 1]);
+		Assert.assertEquals(0, snowflake.nextIds(0).length);
+
+		// 同步实现的批量生成
+		final long[] syncIds = new Snowflake(0, 0).nextIds(100);
+		for (int i = 1; i < syncIds.length; i++) {
+			Assert.assertTrue(syncIds[i] > syncIds[i - 1]);
+		}
+	}
+
+	@Test
+	public void uniqueTest() {
+		// 测试并发环境下生成ID是否重复
+		final AtomicSnowflake snowflake = new AtomicSnowflake(0, 0);
+		final Set<Long> ids = new ConcurrentHashSet<>();
+		ThreadUtil.concurrencyTest(16, () -> {
+			for (int i = 0; i < 2000; i++) {
+				if (false == ids.add(snowflake.nextId())) {
+					throw new UtilException("重复ID！");
+				}
+				for (final long id : snowflake.nextIds(10)) {
+					if (false == ids.add(id)) {
+						throw new UtilException("重复ID！");
+					}
+				}
+			}
+		});
+		Assert.assertEquals(16 * 2000 * 11, ids.size());
+	}
+
+	@Test
+	@Ignore
+	public void concurrencyPerformanceTest() {
+		final int threads = 64;
+		final int count = 100000;
+		final Snowflake snowflake = new Snowflake(0, 0);
+		final AtomicSnowflake atomicSnowflake = new AtomicSnowflake(1, 0);
+
+		final TimeInterval timer = new TimeInterval();
+		ThreadUtil.concurrencyTest(threads, () -> {
+			for (int i = 0; i < count; i++) {
+				snowflake.nextId();
+			}
+		});
+		Console.log("Synchronized nextId: {}ms", timer.intervalRestart());
+		ThreadUtil.concurrencyTest(threads, () -> {
+			for (int i = 0; i < count; i++) {
+				atomicSnowflake.nextId();
+			}
+		});
+		Console.log("CAS nextId         : {}ms", timer.intervalRestart());
+		ThreadUtil.concurrencyTest(threads, () -> {
+			for (int i = 0; i < count; i += 100) {
+				atomicSnowflake.nextIds(100);
+			}
+		});
+		Console.log("CAS nextIds(100)   : {}ms", timer.intervalRestart());
+	}
+}
@@ -0,0 +1,175 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.annotation.Alias;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.io.resource.ResourceUtil;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.map.MapUtil;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class CsvBeanMapperTest {
+
+	@Test
+	public void readSameAsToBeanTest() {
+		final String csv = "姓名,user_id,score,birthday,unknown,nickName,score\n"
+				+ "张三,1,99.5,2023-05-20 12:00:00,x,zs,\n"
+				+ "李四,abc,,,y,\"l,s\",60\n"
+				+ "王五\n";
+		final List<CsvRow> rows = CsvUtil.getReader(CsvReadConfig.defaultConfig().setContainsHeader(true)).read(new StringReader(csv)).getRows();
+		final List<TestBean> expected = rows.stream().map(row -> row.toBean(TestBean.class)).collect(Collectors.toList());
+
+		Assert.assertEquals(expected, CsvUtil.getReader().read(new StringReader(csv), TestBean.class));
+		Assert.assertEquals(expected, CsvUtil.getReader().read(csv, TestBean.class));
+		try (final Stream<TestBean> stream = CsvUtil.getReader(new StringReader(csv)).stream(TestBean.class)) {
+			Assert.assertEquals(expected, stream.collect(Collectors.toList()));
+		}
+
+		Assert.assertEquals("张三", expected.get(0).getName());
+		Assert.assertEquals(Long.valueOf(1), expected.get(0).getUserId());
+		Assert.assertEquals(DateUtil.parse("2023-05-20 12:00:00"), expected.get(0).getBirthday());
+		Assert.assertNull(expected.get(1).getUserId());
+		Assert.assertEquals(Double.valueOf(99.5), expected.get(0).getScore());
+	}
+
+	@Test
+	public void readBeanConsumerTest() {
+		final List<String> names = new ArrayList<>();
+		CsvUtil.getReader().read(ResourceUtil.getUtf8Reader("test_bean.csv"), TestBean.class, bean -> names.add(bean.getName()));
+		Assert.assertEquals(ListUtil.of("张三", "李四", "王妹妹"), names);
+	}
+
+	@Test
+	public void readWithoutHeaderTest() {
+		final CsvReader reader = CsvUtil.getReader(new StringReader(""));
+		try (final Stream<TestBean> stream = reader.stream(TestBean.class)) {
+			Assert.assertEquals(0, stream.count());
+		}
+	}
+
+	@Test
+	public void writeSameAsBeanToMapTest() {
+		final List<Object> beans = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			final TestBean bean = new TestBean();
+			bean.setName(i % 2 == 0 ? "name," + i : null);
+			bean.setUserId((long) i);
+			bean.setScore(i * 1.5);
+			bean.setBirthday(i % 3 == 0 ? null : DateUtil.parse("2023-05-2" + i));
+			beans.add(bean);
+		}
+		beans.add(MapUtil.builder("name", (Object) "map").put("userId", 9).build());
+
+		final StringWriter expected = new StringWriter();
+		final CsvWriter expectedWriter = CsvUtil.getWriter(expected);
+		boolean isFirst = true;
+		for (final Object bean : beans) {
+			final Map<String, Object> map = BeanUtil.beanToMap(bean);
+			if (isFirst) {
+				expectedWriter.writeHeaderLine(map.keySet().toArray(new String[0]));
+				isFirst = false;
+			}
+			expectedWriter.writeLine(Convert.toStrArray(map.values()));
+		}
+		expectedWriter.flush();
+
+		final StringWriter actual = new StringWriter();
+		CsvUtil.getWriter(actual).writeBeans(beans);
+		Assert.assertEquals(expected.toString(), actual.toString());
+
+		final StringWriter streamActual = new StringWriter();
+		CsvUtil.getWriter(streamActual).writeBeans(beans.stream());
+		Assert.assertEquals(expected.toString(), streamActual.toString());
+	}
+
+	@Test
+	public void writeAndReadTest() {
+		final List<TestBean> beans = IntStream.range(0, 10).mapToObj(i -> {
+			final TestBean bean = new TestBean();
+			bean.setName("名称\"" + i);
+			bean.setUserId((long) i);
+			bean.setScore(i / 4.0);
+			bean.setNickName(i % 2 == 0 ? null : "a\nb");
+			return bean;
+		}).collect(Collectors.toList());
+
+		final StringWriter writer = new StringWriter();
+		CsvUtil.getWriter(writer).writeBeans(beans.stream());
+		final List<TestBean> read = CsvUtil.getReader().read(writer.toString(), TestBean.class);
+		// 空值写出后读取为空串
+		beans.forEach(bean -> bean.setNickName(null == bean.getNickName() ? "" : bean.getNickName()));
+		Assert.assertEquals(beans, read);
+	}
+
+	@Test
+	@Ignore
+	public void beanPerformanceTest() {
+		final List<TestBean> beans = IntStream.range(0, 500000).mapToObj(i -> {
+			final TestBean bean = new TestBean();
+			bean.setName("name" + i);
+			bean.setUserId((long) i);
+			bean.setScore(i / 4.0);
+			bean.setNickName("nick" + i);
+			return bean;
+		}).collect(Collectors.toList());
+
+		final TimeInterval timer = new TimeInterval();
+		final StringWriter mapWriter = new StringWriter();
+		final CsvWriter csvWriter = CsvUtil.getWriter(mapWriter);
+		boolean isFirst = true;
+		for (final TestBean bean : beans) {
+			final Map<String, Object> map = BeanUtil.beanToMap(bean);
+			if (isFirst) {
+				csvWriter.writeHeaderLine(map.keySet().toArray(new String[0]));
+				isFirst = false;
+			}
+			csvWriter.writeLine(Convert.toStrArray(map.values()));
+		}
+		csvWriter.flush();
+		Console.log("Write by beanToMap: {}ms", timer.intervalRestart());
+
+		final StringWriter writer = new StringWriter();
+		CsvUtil.getWriter(writer).writeBeans(beans.stream());
+		Console.log("Write beans: {}ms", timer.intervalRestart());
+
+		final String csv = writer.toString();
+		timer.restart();
+		long count = 0;
+		for (final CsvRow row : CsvUtil.getReader(new StringReader(csv), CsvReadConfig.defaultConfig().setContainsHeader(true))) {
+			count += row.toBean(TestBean.class).getUserId();
+		}
+		Console.log("Read by toBean: {}ms, {}", timer.intervalRestart(), count);
+
+		count = 0;
+		try (final Stream<TestBean> stream = CsvUtil.getReader(new StringReader(csv)).stream(TestBean.class)) {
+			count = stream.mapToLong(TestBean::getUserId).sum();
+		}
+		Console.log("Read beans: {}ms, {}", timer.intervalRestart(), count);
+	}
+
+	@Data
+	public static class TestBean {
+		@Alias("姓名")
+		private String name;
+		private Long userId;
+		private Double score;
+		private Date birthday;
+		private String nickName;
+	}
+}
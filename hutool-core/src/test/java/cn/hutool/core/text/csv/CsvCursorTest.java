@@ -0,0 +1,187 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Console;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CsvCursorTest {
+
+	@Test
+	public void cursorTest() {
+		final String csv = "# comment\r\n"
+				+ "id,name,score,desc\r\n"
+				+ "1,\"张三\",99.5,\"a \"\"quoted\"\"\r\ntext\"\r\n"
+				+ "\r\n"
+				+ "-9223372036854775808,李四,-0.125,\n"
+				+ "2147483648,王五,1e3";
+		final CsvCursor cursor = CsvUtil.getReader(CsvReadConfig.defaultConfig().setHeaderLineNo(1))
+				.cursor(new StringReader(csv));
+		try {
+			Assert.assertTrue(cursor.next());
+			Assert.assertEquals(ListUtil.of("id", "name", "score", "desc"), cursor.getHeader());
+			Assert.assertEquals(2, cursor.getOriginalLineNumber());
+			Assert.assertEquals(4, cursor.getFieldCount());
+			Assert.assertEquals(1, cursor.getInt(0));
+			Assert.assertEquals("张三", cursor.getByName("name").toString());
+			Assert.assertEquals(99.5, cursor.getDouble(2), 0);
+			final CharSequence desc = cursor.get(cursor.indexOf("desc"));
+			Assert.assertEquals("a \"quoted\"\r\ntext", desc.toString());
+			Assert.assertEquals('q', desc.charAt(3));
+			Assert.assertEquals("quoted", desc.subSequence(3, 9));
+
+			Assert.assertTrue(cursor.next());
+			Assert.assertEquals(5, cursor.getOriginalLineNumber());
+			Assert.assertEquals(Long.MIN_VALUE, cursor.getLong(0));
+			Assert.assertEquals(-0.125, cursor.getDouble(2), 0);
+			Assert.assertEquals("", cursor.getString(3));
+			Assert.assertThrows(NumberFormatException.class, () -> cursor.getInt(0));
+			Assert.assertThrows(NumberFormatException.class, () -> cursor.getLong(1));
+			Assert.assertThrows(NumberFormatException.class, () -> cursor.getLong(3));
+
+			Assert.assertTrue(cursor.next());
+			Assert.assertEquals(2147483648L, cursor.getLong(0));
+			Assert.assertEquals(1000, cursor.getDouble(2), 0);
+			Assert.assertThrows(IndexOutOfBoundsException.class, () -> cursor.get(3));
+			final CsvRow row = cursor.toRow();
+			Assert.assertEquals("王五", row.getByName("name"));
+			Assert.assertEquals(6, row.getOriginalLineNumber());
+
+			Assert.assertFalse(cursor.next());
+		} finally {
+			IoUtil.close(cursor);
+		}
+	}
+
+	@Test
+	public void getDoubleTest() {
+		final String[] values = {"0", "-0", "+1.5", "1.", ".5", "3.141592653589793", "0.1", "123456789012345",
+				"1234567890123456789", "0.30000000000000004", "1e-5", "NaN", "-Infinity", "9007199254740993"};
+		final CsvCursor cursor = new CsvCursor(new StringReader(String.join(",", values)), null);
+		Assert.assertTrue(cursor.next());
+		for (int i = 0; i < values.length; i++) {
+			Assert.assertEquals(values[i], Double.doubleToRawLongBits(Double.parseDouble(values[i])),
+					Double.doubleToRawLongBits(cursor.getDouble(i)));
+		}
+	}
+
+	@Test
+	public void columnIndexesTest() {
+		final String csv = "a,b,c,d\n1,2,3,4\n5,6\n\n7,,9,10";
+		final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true).setColumnIndexes(3, 0);
+
+		final CsvData data = CsvUtil.getReader(config).readFromStr(csv);
+		Assert.assertEquals(ListUtil.of("d", "a"), data.getHeader());
+		Assert.assertEquals(ListUtil.of("4", "1"), data.getRow(0).getRawList());
+		Assert.assertEquals("1", data.getRow(0).getByName("a"));
+		Assert.assertEquals(ListUtil.of(null, "5"), data.getRow(1).getRawList());
+		Assert.assertEquals(ListUtil.of("10", "7"), data.getRow(2).getRawList());
+
+		final CsvCursor cursor = CsvUtil.getReader(config).cursor(new StringReader(csv));
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals(ListUtil.of("d", "a"), cursor.getHeader());
+		Assert.assertEquals(2, cursor.getFieldCount());
+		Assert.assertEquals(4, cursor.getInt(0));
+		Assert.assertEquals(1, cursor.getInt(cursor.indexOf("a")));
+		Assert.assertTrue(cursor.next());
+		Assert.assertNull(cursor.get(0));
+		Assert.assertEquals(5, cursor.getInt(1));
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals(ListUtil.of("10", "7"), cursor.toRow().getRawList());
+		Assert.assertFalse(cursor.next());
+	}
+
+	@Test
+	public void sameAsParserTest() {
+		final Random random = new Random(20230520L);
+		final String[] parts = {"a", "中文", " b ", "\"q,\"\"x\"\"\r\ny\"", "'s,\n'", "a#", ",", "", "\"\"", "1.5", "\"\"\"\""};
+		final String[] lineEnds = {"\n", "\r\n", "\r"};
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 500; i++) {
+			if (random.nextInt(10) == 0) {
+				builder.append("# comment \"").append(lineEnds[random.nextInt(lineEnds.length)]);
+				continue;
+			}
+			final int fields = random.nextInt(5);
+			for (int j = 0; j < fields; j++) {
+				if (j > 0) {
+					builder.append(',');
+				}
+				builder.append(parts[random.nextInt(parts.length)]);
+			}
+			if (i < 499 || random.nextBoolean()) {
+				builder.append(lineEnds[random.nextInt(lineEnds.length)]);
+			}
+		}
+		final String csv = builder.toString();
+
+		final List<CsvReadConfig> configs = ListUtil.of(
+				CsvReadConfig.defaultConfig(),
+				CsvReadConfig.defaultConfig().setContainsHeader(true).setSkipEmptyRows(false),
+				CsvReadConfig.defaultConfig().setBeginLineNo(100).setEndLineNo(300).setTrimField(true),
+				CsvReadConfig.defaultConfig().disableComment().setTextDelimiter('\'').setColumnIndexes(2, 0, 7)
+		);
+		for (final CsvReadConfig config : configs) {
+			final List<CsvRow> expected = new ArrayList<>();
+			new CsvReader(config).read(new StringReader(csv), expected::add);
+			for (final int bufferSize : new int[]{1, 3, 16, 1024}) {
+				final List<CsvRow> actual = new ArrayList<>();
+				final CsvCursor cursor = new CsvCursor(new StringReader(csv), config, bufferSize);
+				while (cursor.next()) {
+					actual.add(cursor.toRow());
+				}
+				Assert.assertEquals(expected.size(), actual.size());
+				for (int i = 0; i < expected.size(); i++) {
+					Assert.assertEquals(expected.get(i).getOriginalLineNumber(), actual.get(i).getOriginalLineNumber());
+					Assert.assertEquals(expected.get(i).getRawList(), actual.get(i).getRawList());
+					Assert.assertEquals(expected.get(i).headerMap, actual.get(i).headerMap);
+				}
+			}
+		}
+	}
+
+	@Test
+	@Ignore
+	public void cursorPerformanceTest() {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 200000; i++) {
+			for (int j = 0; j < 50; j++) {
+				if (j > 0) {
+					builder.append(',');
+				}
+				builder.append(i + j).append('.').append(j);
+			}
+			builder.append('\n');
+		}
+		final String csv = builder.toString();
+
+		final TimeInterval timer = new TimeInterval();
+		double sum = 0;
+		for (final CsvRow row : CsvUtil.getReader(new StringReader(csv))) {
+			sum += Double.parseDouble(row.get(1)) + Double.parseDouble(row.get(30));
+		}
+		Console.log("CsvRow: {}ms, {}", timer.intervalRestart(), sum);
+
+		sum = 0;
+		final CsvCursor cursor = CsvUtil.getReader().cursor(new StringReader(csv));
+		while (cursor.next()) {
+			sum += cursor.getDouble(1) + cursor.getDouble(30);
+		}
+		Console.log("Cursor: {}ms, {}", timer.intervalRestart(), sum);
+
+		sum = 0;
+		final CsvReadConfig config = CsvReadConfig.defaultConfig().setColumnIndexes(1, 30);
+		for (final CsvRow row : CsvUtil.getReader(new StringReader(csv), config)) {
+			sum += Double.parseDouble(row.get(0)) + Double.parseDouble(row.get(1));
+		}
+		Console.log("CsvRow with column indexes: {}ms, {}", timer.intervalRestart(), sum);
+	}
+}
@@ -0,0 +1,231 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ReflectUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class CsvParallelParserTest {
+
+	private static final String CSV = "# comment \"with quote\r\n"
+			+ "name,age,\"desc\"\r\n"
+			+ "\r\n"
+			+ "\"张三\",33,\"multi\nline, \"\"quoted\"\"\"\r\n"
+			+ "李四,23,\"a\r\nb\"\n"
+			+ "王五,22,\n"
+			+ "# another comment\n"
+			+ "\n"
+			+ "赵六,20,last";
+
+	@Test
+	public void readParallelTest() {
+		final File file = writeTemp(CSV, CharsetUtil.CHARSET_UTF_8);
+		try {
+			final CsvReadConfig config = CsvReadConfig.defaultConfig().setHeaderLineNo(1);
+			final List<CsvRow> rows = new ArrayList<>();
+			CsvUtil.getReader(config).readParallel(file, rows::add);
+			Assert.assertEquals(4, rows.size());
+			Assert.assertEquals("multi\nline, \"quoted\"", rows.get(0).getByName("desc"));
+			Assert.assertEquals(3, rows.get(0).getOriginalLineNumber());
+			Assert.assertEquals("a\r\nb", rows.get(1).getByName("desc"));
+			Assert.assertEquals("赵六", rows.get(3).getByName("name"));
+			Assert.assertEquals(10, rows.get(3).getOriginalLineNumber());
+
+			try (final Stream<CsvRow> stream = CsvUtil.getReader(config).streamParallel(file)) {
+				Assert.assertEquals(ListUtil.of("张三", "李四", "王五", "赵六"),
+						stream.map(row -> row.getByName("name")).collect(Collectors.toList()));
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void sameAsSequentialTest() {
+		final Random random = new Random(20230519L);
+		final StringBuilder csv = new StringBuilder();
+		for (int i = 0; i < 300; i++) {
+			appendRandomLine(random, csv);
+		}
+
+		final List<CsvReadConfig> configs = ListUtil.of(
+				CsvReadConfig.defaultConfig(),
+				CsvReadConfig.defaultConfig().setContainsHeader(true),
+				CsvReadConfig.defaultConfig().setHeaderLineNo(5).setSkipEmptyRows(false),
+				CsvReadConfig.defaultConfig().setBeginLineNo(100).setEndLineNo(200).setTrimField(true),
+				CsvReadConfig.defaultConfig().disableComment().setTextDelimiter('\'')
+		);
+		for (final Charset charset : ListUtil.of(CharsetUtil.CHARSET_UTF_8, CharsetUtil.CHARSET_GBK, CharsetUtil.CHARSET_ISO_8859_1)) {
+			final String content = new String(csv.toString().getBytes(charset), charset);
+			final File file = writeTemp(content, charset);
+			try {
+				for (final CsvReadConfig config : configs) {
+					final List<CsvRow> expected = new ArrayList<>();
+					new CsvReader(config).read(new StringReader(content), expected::add);
+					for (final long chunkSize : new long[]{1, 7, 64, 1024, -1}) {
+						assertRowsEquals(expected, parseParallel(file, charset, config, chunkSize));
+					}
+				}
+			} finally {
+				FileUtil.del(file);
+			}
+		}
+	}
+
+	@Test
+	public void unsplittableCharsetTest() {
+		final File file = writeTemp(CSV, StandardCharsets.UTF_16);
+		try {
+			final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true);
+			final List<CsvRow> expected = new ArrayList<>();
+			new CsvReader(config).read(new StringReader(CSV), expected::add);
+			assertRowsEquals(expected, parseParallel(file, StandardCharsets.UTF_16, config, 1));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void errorOnDifferentFieldCountTest() {
+		final File file = writeTemp("a,b\n1,2\n3,4\n5\n6,7", CharsetUtil.CHARSET_UTF_8);
+		try {
+			final CsvReadConfig config = CsvReadConfig.defaultConfig().setErrorOnDifferentFieldCount(true);
+			for (final long chunkSize : new long[]{1, 5, 1024}) {
+				final List<CsvRow> rows = new ArrayList<>();
+				final CsvParallelParser parser = new CsvParallelParser(file.toPath(), CharsetUtil.CHARSET_UTF_8, config, null, chunkSize);
+				try {
+					while (parser.hasNext()) {
+						rows.add(parser.next());
+					}
+					Assert.fail("No exception thrown");
+				} catch (final IORuntimeException e) {
+					// 出错行之前的行正常返回
+					Assert.assertEquals(3, rows.size());
+					Assert.assertEquals("Line 3 has 1 fields, but first line has 2 fields", e.getMessage());
+				} finally {
+					IoUtil.close(parser);
+				}
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void splitLazilyTest() {
+		final StringBuilder csv = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			csv.append(i).append(",value").append(i).append('\n');
+		}
+		final File file = writeTemp(csv.toString(), CharsetUtil.CHARSET_UTF_8);
+		try {
+			final CsvReadConfig config = CsvReadConfig.defaultConfig().setEndLineNo(9);
+			final CsvParallelParser parser = new CsvParallelParser(file.toPath(), CharsetUtil.CHARSET_UTF_8, config, null, 1);
+			try {
+				// 构造时不扫描文件
+				final Object splitter = ReflectUtil.getFieldValue(parser, "splitter");
+				Assert.assertEquals(0L, ReflectUtil.getFieldValue(splitter, "position"));
+
+				final List<CsvRow> rows = new ArrayList<>();
+				while (parser.hasNext()) {
+					rows.add(parser.next());
+				}
+				Assert.assertEquals(10, rows.size());
+				Assert.assertEquals("9", rows.get(9).get(0));
+				// 超过结束行后停止扫描
+				Assert.assertTrue((long) ReflectUtil.getFieldValue(splitter, "position") < 200);
+			} finally {
+				IoUtil.close(parser);
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void readPerformanceTest() {
+		final Random random = new Random();
+		final StringBuilder csv = new StringBuilder("id,name,score,desc\n");
+		for (int i = 0; i < 1000000; i++) {
+			csv.append(i).append(",name").append(random.nextInt(1000)).append(',')
+					.append(random.nextDouble()).append(",\"desc, ").append(i).append("\"\n");
+		}
+		final File file = writeTemp(csv.toString(), CharsetUtil.CHARSET_UTF_8);
+		try {
+			final CsvReader reader = CsvUtil.getReader(CsvReadConfig.defaultConfig().setContainsHeader(true));
+			final long[] count = new long[1];
+			final TimeInterval timer = new TimeInterval();
+			reader.read(FileUtil.getUtf8Reader(file), row -> count[0]++);
+			Console.log("Sequential: {} rows, {}ms", count[0], timer.intervalRestart());
+			count[0] = 0;
+			reader.readParallel(file, row -> count[0]++);
+			Console.log("Parallel({}): {} rows, {}ms", ForkJoinPool.commonPool().getParallelism(), count[0], timer.intervalRestart());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	private static List<CsvRow> parseParallel(File file, Charset charset, CsvReadConfig config, long chunkSize) {
+		final List<CsvRow> rows = new ArrayList<>();
+		final CsvParallelParser parser = new CsvParallelParser(file.toPath(), charset, config, null, chunkSize);
+		try {
+			while (parser.hasNext()) {
+				rows.add(parser.next());
+			}
+		} finally {
+			IoUtil.close(parser);
+		}
+		return rows;
+	}
+
+	private static void assertRowsEquals(List<CsvRow> expected, List<CsvRow> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i).getOriginalLineNumber(), actual.get(i).getOriginalLineNumber());
+			Assert.assertEquals(expected.get(i).getRawList(), actual.get(i).getRawList());
+			Assert.assertEquals(expected.get(i).headerMap, actual.get(i).headerMap);
+		}
+	}
+
+	private static void appendRandomLine(Random random, StringBuilder csv) {
+		final String[] parts = {"a", "中文", " b ", "\"q,\"\"x\"\"\r\ny\"", "'s,\n'", "a#", ",", "", "\"\"", "1.5"};
+		final String[] lineEnds = {"\n", "\r\n", "\r"};
+		if (random.nextInt(10) == 0) {
+			csv.append("# comment \"").append(lineEnds[random.nextInt(lineEnds.length)]);
+			return;
+		}
+		final int fields = random.nextInt(4);
+		for (int i = 0; i < fields; i++) {
+			if (i > 0) {
+				csv.append(',');
+			}
+			csv.append(parts[random.nextInt(parts.length)]);
+		}
+		csv.append(lineEnds[random.nextInt(lineEnds.length)]);
+	}
+
+	private static File writeTemp(String content, Charset charset) {
+		final File file = FileUtil.createTempFile("csv", ".csv", null, true);
+		FileUtil.writeString(content, file, charset);
+		return file;
+	}
+}
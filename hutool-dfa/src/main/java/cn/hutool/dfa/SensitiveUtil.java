@@ -6,10 +6,13 @@ import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.json.JSONUtil;
 
+import java.io.Reader;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 敏感词工具类
@@ -20,6 +23,10 @@ public final class SensitiveUtil {
 
 	public static final char DEFAULT_SEPARATOR = StrUtil.C_COMMA;
 	private static final WordTree sensitiveTree = new WordTree();
+	/**
+	 * 由敏感词树编译的AC自动机，用于实际匹配，敏感词树或过滤规则变更时重新编译
+	 */
+	private static volatile WordAutomaton sensitiveAutomaton = sensitiveTree.compile();
 
 	/**
 	 * @return 是否已经被初始化
@@ -53,6 +60,7 @@ public final class SensitiveUtil {
 	public static void init(Collection<String> sensitiveWords) {
 		sensitiveTree.clear();
 		sensitiveTree.addWords(sensitiveWords);
+		sensitiveAutomaton = sensitiveTree.compile();
 //		log.debug("Sensitive init finished, sensitives: {}", sensitiveWords);
 	}
 
@@ -89,6 +97,7 @@ public final class SensitiveUtil {
 	public static void setCharFilter(Filter<Character> charFilter) {
 		if (charFilter != null) {
 			sensitiveTree.setCharFilter(charFilter);
+			sensitiveAutomaton = sensitiveTree.compile();
 		}
 	}
 
@@ -99,7 +108,7 @@ public final class SensitiveUtil {
 	 * @return 是否包含
 	 */
 	public static boolean containsSensitive(String text) {
-		return sensitiveTree.isMatch(text);
+		return sensitiveAutomaton.isMatch(text);
 	}
 
 	/**
@@ -109,7 +118,7 @@ public final class SensitiveUtil {
 	 * @return 是否包含
 	 */
 	public static boolean containsSensitive(Object obj) {
-		return sensitiveTree.isMatch(JSONUtil.toJsonStr(obj));
+		return sensitiveAutomaton.isMatch(JSONUtil.toJsonStr(obj));
 	}
 
 	/**
@@ -120,7 +129,7 @@ public final class SensitiveUtil {
 	 * @since 5.5.3
 	 */
 	public static FoundWord getFoundFirstSensitive(String text) {
-		return sensitiveTree.matchWord(text);
+		return sensitiveAutomaton.matchWord(text);
 	}
 
 	/**
@@ -130,7 +139,7 @@ public final class SensitiveUtil {
 	 * @return 敏感词
 	 */
 	public static FoundWord getFoundFirstSensitive(Object obj) {
-		return sensitiveTree.matchWord(JSONUtil.toJsonStr(obj));
+		return sensitiveAutomaton.matchWord(JSONUtil.toJsonStr(obj));
 	}
 
 	/**
@@ -141,7 +150,7 @@ public final class SensitiveUtil {
 	 * @since 5.5.3
 	 */
 	public static List<FoundWord> getFoundAllSensitive(String text) {
-		return sensitiveTree.matchAllWords(text);
+		return sensitiveAutomaton.matchAllWords(text);
 	}
 
 	/**
@@ -155,7 +164,22 @@ public final class SensitiveUtil {
 	 * @return 敏感词
 	 */
 	public static List<FoundWord> getFoundAllSensitive(String text, boolean isDensityMatch, boolean isGreedMatch) {
-		return sensitiveTree.matchAllWords(text, -1, isDensityMatch, isGreedMatch);
+		return sensitiveAutomaton.matchAllWords(text, -1, isDensityMatch, isGreedMatch);
+	}
+
+	/**
+	 * 从{@link Reader}中流式查找敏感词，找到的敏感词按照起始位置顺序传给consumer，适用于大文件或日志流<br>
+	 * 密集匹配原则：假如关键词有 ab,b，文本是abab，将匹配 [ab,b,ab]<br>
+	 * 贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 *
+	 * @param reader         {@link Reader}，不会被关闭
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @param consumer       找到的敏感词处理
+	 * @since 5.8.19
+	 */
+	public static void getFoundAllSensitive(Reader reader, boolean isDensityMatch, boolean isGreedMatch, Consumer<FoundWord> consumer) {
+		sensitiveAutomaton.matchAllWords(reader, -1, isDensityMatch, isGreedMatch, consumer);
 	}
 
 	/**
@@ -166,7 +190,7 @@ public final class SensitiveUtil {
 	 * @since 5.5.3
 	 */
 	public static List<FoundWord> getFoundAllSensitive(Object bean) {
-		return sensitiveTree.matchAllWords(JSONUtil.toJsonStr(bean));
+		return sensitiveAutomaton.matchAllWords(JSONUtil.toJsonStr(bean));
 	}
 
 	/**
@@ -246,4 +270,18 @@ public final class SensitiveUtil {
 		}
 		return textStringBuilder.toString();
 	}
+
+	/**
+	 * 流式处理过滤文本中的敏感词，从{@link Reader}中逐块读取文本，替换后写出到{@link Writer}，适用于大文件或日志流<br>
+	 * 替换结果与{@link #sensitiveFilter(String, boolean, SensitiveProcessor)}一致，Reader和Writer不会被关闭
+	 *
+	 * @param reader             {@link Reader}
+	 * @param writer             {@link Writer}
+	 * @param isGreedMatch       贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 * @param sensitiveProcessor 敏感词处理器，默认按匹配内容的字符数替换成*
+	 * @since 5.8.19
+	 */
+	public static void sensitiveFilter(Reader reader, Writer writer, boolean isGreedMatch, SensitiveProcessor sensitiveProcessor) {
+		sensitiveAutomaton.replaceAll(reader, writer, isGreedMatch, sensitiveProcessor, null);
+	}
 }
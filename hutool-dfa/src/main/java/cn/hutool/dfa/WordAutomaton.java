@@ -0,0 +1,743 @@
+package cn.hutool.dfa;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.Filter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * AC自动机（Aho-Corasick Automaton），由{@link WordTree}编译而来的只读匹配器<br>
+ * {@link WordTree}在每个位置重新从树根开始查找，长文本下复杂度为O(n*m)，且每次查找需要装箱{@link Character}。
+ * AC自动机通过失败指针只扫描文本一遍即可找出所有关键词：
+ * <ul>
+ *     <li>节点按广度优先顺序编号，子节点连续存放并按字符排序，使用原始类型数组存储，查找时二分，无装箱</li>
+ *     <li>根节点的转移使用长度为65536的数组直接定位</li>
+ *     <li>字符过滤规则在编译时展开为按字符索引的表</li>
+ * </ul>
+ * 匹配结果与{@link WordTree}一致，包括密集匹配、贪婪匹配原则以及停顿词的处理。<br>
+ * 编译后对{@link WordTree}的修改不会影响已编译的自动机，需要重新编译。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class WordAutomaton implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int ROOT = 0;
+
+	/**
+	 * 字符是否参与匹配，按字符索引
+	 */
+	private final boolean[] accepted;
+	/**
+	 * 根节点的转移表，按字符索引，0表示无此转移
+	 */
+	private final int[] rootNext;
+	/**
+	 * 节点的第一个子节点编号
+	 */
+	private final int[] firstChild;
+	/**
+	 * 节点的子节点数
+	 */
+	private final int[] childCount;
+	/**
+	 * 进入节点的字符
+	 */
+	private final char[] nodeChar;
+	/**
+	 * 失败指针
+	 */
+	private final int[] fail;
+	/**
+	 * 节点深度，即从根节点到此节点的字符数
+	 */
+	private final int[] depth;
+	/**
+	 * 节点自身或失败指针链上最近的单词结尾节点，0表示无
+	 */
+	private final int[] output;
+	/**
+	 * 单词结尾节点对应的单词，非结尾节点为{@code null}
+	 */
+	private final String[] words;
+	/**
+	 * 最长单词的字符数（不含停顿词）
+	 */
+	private final int maxDepth;
+
+	/**
+	 * 构造，编译给定的单词树，使用单词树的字符过滤规则
+	 *
+	 * @param wordTree 单词树
+	 */
+	public WordAutomaton(WordTree wordTree) {
+		Assert.notNull(wordTree, "WordTree must be not null!");
+
+		// 广度优先遍历，同一节点的子节点编号连续且按字符排序
+		final List<WordTree> nodes = new ArrayList<>();
+		final List<Integer> parents = new ArrayList<>();
+		final StringBuilder chars = new StringBuilder();
+		final List<Boolean> ends = new ArrayList<>();
+		nodes.add(wordTree);
+		parents.add(-1);
+		chars.append('\0');
+		ends.add(false);
+
+		int[] firstChild = new int[16];
+		int[] childCount = new int[16];
+		for (int i = 0; i < nodes.size(); i++) {
+			final WordTree node = nodes.get(i);
+			final Character[] keys = node.keySet().toArray(new Character[0]);
+			Arrays.sort(keys);
+			if (i >= firstChild.length) {
+				firstChild = Arrays.copyOf(firstChild, firstChild.length << 1);
+				childCount = Arrays.copyOf(childCount, childCount.length << 1);
+			}
+			firstChild[i] = nodes.size();
+			childCount[i] = keys.length;
+			for (Character key : keys) {
+				nodes.add(node.get(key));
+				parents.add(i);
+				chars.append(key.charValue());
+				ends.add(node.isEnd(key));
+			}
+		}
+
+		final int size = nodes.size();
+		this.firstChild = Arrays.copyOf(firstChild, size);
+		this.childCount = Arrays.copyOf(childCount, size);
+		this.nodeChar = chars.toString().toCharArray();
+		this.rootNext = new int[Character.MAX_VALUE + 1];
+		for (int i = 0; i < this.childCount[ROOT]; i++) {
+			final int child = this.firstChild[ROOT] + i;
+			rootNext[nodeChar[child]] = child;
+		}
+
+		this.fail = new int[size];
+		this.depth = new int[size];
+		this.output = new int[size];
+		this.words = new String[size];
+		int maxDepth = 0;
+		// 按编号顺序即广度优先顺序，计算失败指针时父节点和失败节点均已处理
+		for (int i = 1; i < size; i++) {
+			final int parent = parents.get(i);
+			depth[i] = depth[parent] + 1;
+			maxDepth = Math.max(maxDepth, depth[i]);
+			if (ROOT != parent) {
+				fail[i] = next(fail[parent], nodeChar[i]);
+			}
+			if (ends.get(i)) {
+				words[i] = pathOf(i, parents);
+				output[i] = i;
+			} else {
+				output[i] = output[fail[i]];
+			}
+		}
+		this.maxDepth = maxDepth;
+
+		final Filter<Character> charFilter = wordTree.getCharFilter();
+		this.accepted = new boolean[Character.MAX_VALUE + 1];
+		for (int c = 0; c <= Character.MAX_VALUE; c++) {
+			accepted[c] = charFilter.accept((char) c);
+		}
+	}
+
+	//------------------------------------------------------------------------------- match
+
+	/**
+	 * 指定文本是否包含自动机中的词
+	 *
+	 * @param text 被检查的文本
+	 * @return 是否包含
+	 */
+	public boolean isMatch(String text) {
+		if (null == text) {
+			return false;
+		}
+		int state = ROOT;
+		char c;
+		final int length = text.length();
+		for (int i = 0; i < length; i++) {
+			c = text.charAt(i);
+			if (accepted[c]) {
+				state = next(state, c);
+				if (ROOT != output[state]) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 获得第一个匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配到的关键字
+	 */
+	public String match(String text) {
+		final FoundWord foundWord = matchWord(text);
+		return null != foundWord ? foundWord.toString() : null;
+	}
+
+	/**
+	 * 获得第一个匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配到的关键字
+	 */
+	public FoundWord matchWord(String text) {
+		if (null == text) {
+			return null;
+		}
+		final List<FoundWord> matchAll = matchAllWords(text, 1);
+		return CollUtil.get(matchAll, 0);
+	}
+
+	//------------------------------------------------------------------------------- match all
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配的词列表
+	 */
+	public List<String> matchAll(String text) {
+		return matchAll(text, -1);
+	}
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配的词列表
+	 */
+	public List<FoundWord> matchAllWords(String text) {
+		return matchAllWords(text, -1);
+	}
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text  被检查的文本
+	 * @param limit 限制匹配个数
+	 * @return 匹配的词列表
+	 */
+	public List<String> matchAll(String text, int limit) {
+		return matchAll(text, limit, false, false);
+	}
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text  被检查的文本
+	 * @param limit 限制匹配个数
+	 * @return 匹配的词列表
+	 */
+	public List<FoundWord> matchAllWords(String text, int limit) {
+		return matchAllWords(text, limit, false, false);
+	}
+
+	/**
+	 * 找出所有匹配的关键字<br>
+	 * 密集匹配原则：假如关键词有 ab,b，文本是abab，将匹配 [ab,b,ab]<br>
+	 * 贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 *
+	 * @param text           被检查的文本
+	 * @param limit          限制匹配个数
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @return 匹配的词列表
+	 */
+	public List<String> matchAll(String text, int limit, boolean isDensityMatch, boolean isGreedMatch) {
+		final List<FoundWord> matchAllWords = matchAllWords(text, limit, isDensityMatch, isGreedMatch);
+		return CollUtil.map(matchAllWords, FoundWord::toString, true);
+	}
+
+	/**
+	 * 找出所有匹配的关键字<br>
+	 * 密集匹配原则：假如关键词有 ab,b，文本是abab，将匹配 [ab,b,ab]<br>
+	 * 贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 *
+	 * @param text           被检查的文本
+	 * @param limit          限制匹配个数
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @return 匹配的词列表
+	 */
+	public List<FoundWord> matchAllWords(String text, int limit, boolean isDensityMatch, boolean isGreedMatch) {
+		if (null == text) {
+			return null;
+		}
+
+		final List<FoundWord> foundWords = new ArrayList<>();
+		final Matcher matcher = new Matcher(this, limit, isDensityMatch, isGreedMatch,
+				(word, startIndex, endIndex) -> foundWords.add(
+						new FoundWord(word, text.substring(startIndex, endIndex + 1), startIndex, endIndex)));
+		final int length = text.length();
+		for (int i = 0; i < length && false == matcher.isDone(); i++) {
+			matcher.feed(text.charAt(i), i);
+		}
+		matcher.finish();
+		return foundWords;
+	}
+
+	//------------------------------------------------------------------------------- match stream
+
+	/**
+	 * 从{@link Reader}中逐块读取文本并找出所有匹配的关键字，匹配到的关键字按照起始位置顺序传给consumer<br>
+	 * 自动机状态在读取的块之间延续，跨越块边界的关键字也可被匹配，只缓存尚未确定的文本，内存占用与文本长度无关。<br>
+	 * 匹配结果与{@link #matchAllWords(String, int, boolean, boolean)}一致，位置为字符在整个流中的位置。<br>
+	 * 此方法不关闭Reader
+	 *
+	 * @param reader         {@link Reader}
+	 * @param limit          限制匹配个数
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @param consumer       匹配到的关键字处理
+	 * @throws IORuntimeException IO异常
+	 */
+	public void matchAllWords(Reader reader, int limit, boolean isDensityMatch, boolean isGreedMatch,
+							  Consumer<FoundWord> consumer) throws IORuntimeException {
+		new StreamMatcher(this, limit, isDensityMatch, isGreedMatch, consumer, null, null).match(reader);
+	}
+
+	/**
+	 * 从{@link Reader}中逐块读取文本，将其中的关键字替换后写出到{@link Writer}<br>
+	 * 替换规则与{@link SensitiveUtil#sensitiveFilter(String, boolean, SensitiveProcessor)}一致：
+	 * 使用密集匹配，同一位置开始的多个关键字取最后匹配到的，替换后跳过被替换的部分。<br>
+	 * 内存占用与文本长度无关。此方法不关闭也不刷新Reader和Writer
+	 *
+	 * @param reader       {@link Reader}
+	 * @param writer       {@link Writer}，替换后的文本写出到此
+	 * @param isGreedMatch 是否使用贪婪匹配（最长匹配）原则
+	 * @param processor    关键字处理器，{@code null}表示按匹配内容的字符数替换成*
+	 * @param consumer     匹配到的关键字处理，{@code null}表示不处理
+	 * @throws IORuntimeException IO异常
+	 */
+	public void replaceAll(Reader reader, Writer writer, boolean isGreedMatch,
+						   SensitiveProcessor processor, Consumer<FoundWord> consumer) throws IORuntimeException {
+		Assert.notNull(writer, "Writer must be not null!");
+		if (null == processor) {
+			processor = new SensitiveProcessor() {
+			};
+		}
+		new StreamMatcher(this, -1, true, isGreedMatch, consumer, writer, processor).match(reader);
+	}
+
+	//--------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 状态转移，无对应子节点时沿失败指针回退
+	 *
+	 * @param state 当前状态
+	 * @param c     字符
+	 * @return 新状态
+	 */
+	private int next(int state, char c) {
+		int child;
+		while (true) {
+			child = child(state, c);
+			if (ROOT != child) {
+				return child;
+			}
+			if (ROOT == state) {
+				return ROOT;
+			}
+			state = fail[state];
+		}
+	}
+
+	/**
+	 * 查找子节点
+	 *
+	 * @param state 节点
+	 * @param c     字符
+	 * @return 子节点，无对应子节点返回0
+	 */
+	private int child(int state, char c) {
+		if (ROOT == state) {
+			return rootNext[c];
+		}
+		int low = firstChild[state];
+		int high = low + childCount[state] - 1;
+		int mid;
+		char midChar;
+		while (low <= high) {
+			mid = (low + high) >>> 1;
+			midChar = nodeChar[mid];
+			if (midChar < c) {
+				low = mid + 1;
+			} else if (midChar > c) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return ROOT;
+	}
+
+	/**
+	 * 从节点回溯到根节点，得到节点对应的单词
+	 *
+	 * @param node    节点
+	 * @param parents 父节点列表
+	 * @return 单词
+	 */
+	private String pathOf(int node, List<Integer> parents) {
+		final char[] path = new char[depth[node]];
+		for (int i = path.length - 1; i >= 0; i--) {
+			path[i] = nodeChar[node];
+			node = parents.get(node);
+		}
+		return new String(path);
+	}
+	//--------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 匹配到单词时的回调
+	 */
+	@FunctionalInterface
+	interface MatchHandler {
+		/**
+		 * 处理匹配到的单词
+		 *
+		 * @param word       单词树中的词
+		 * @param startIndex 起始位置（包含）
+		 * @param endIndex   结束位置（包含）
+		 */
+		void handle(String word, int startIndex, int endIndex);
+	}
+
+	/**
+	 * 逐字符匹配的状态，用于在单次扫描中还原{@link WordTree}的匹配顺序<br>
+	 * AC自动机在单词结尾处发现单词，而{@link WordTree}按单词起始位置输出，
+	 * 因此匹配到的单词按起始位置暂存，当某个起始位置之后不可能再有以其开始的单词（即早于当前状态对应的最长后缀起点）时才输出。
+	 * 暂存的起始位置不会多于最长单词的长度，因此所需内存与文本长度无关。
+	 */
+	static class Matcher {
+		private final WordAutomaton automaton;
+		private final int limit;
+		private final boolean isDensityMatch;
+		private final boolean isGreedMatch;
+		private final MatchHandler handler;
+
+		/**
+		 * 环形缓冲区大小，覆盖所有未输出的起始位置
+		 */
+		private final int ringSize;
+		/**
+		 * 过滤停顿词后的位置对应的原文位置
+		 */
+		private final int[] indexes;
+		/**
+		 * 以对应位置开始的已发现单词，按结束位置排序
+		 */
+		private final Pending[] pendingHeads;
+		private final Pending[] pendingTails;
+
+		private int state = ROOT;
+		/**
+		 * 已读取的有效字符（非停顿词）数
+		 */
+		private int position;
+		/**
+		 * 下一个待输出的起始位置
+		 */
+		private int flushPosition;
+		/**
+		 * 非密集匹配下最后输出单词的结束位置
+		 */
+		private int lastEndPosition = -1;
+		private int count;
+		private boolean done;
+
+		/**
+		 * 构造
+		 *
+		 * @param automaton      自动机
+		 * @param limit          限制匹配个数
+		 * @param isDensityMatch 是否使用密集匹配原则
+		 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+		 * @param handler        匹配到单词时的回调
+		 */
+		Matcher(WordAutomaton automaton, int limit, boolean isDensityMatch, boolean isGreedMatch, MatchHandler handler) {
+			this.automaton = automaton;
+			this.limit = limit;
+			this.isDensityMatch = isDensityMatch;
+			this.isGreedMatch = isGreedMatch;
+			this.handler = handler;
+			this.ringSize = automaton.maxDepth + 1;
+			this.indexes = new int[ringSize];
+			this.pendingHeads = new Pending[ringSize];
+			this.pendingTails = new Pending[ringSize];
+		}
+
+		/**
+		 * 是否已达到匹配限制个数
+		 *
+		 * @return 是否结束
+		 */
+		boolean isDone() {
+			return done;
+		}
+
+		/**
+		 * 读入一个字符
+		 *
+		 * @param c     字符
+		 * @param index 字符在原文中的位置
+		 */
+		void feed(char c, int index) {
+			final WordAutomaton automaton = this.automaton;
+			if (done || false == automaton.accepted[c]) {
+				// 停顿词不参与匹配，单词中间的停顿词通过原文位置包含在匹配内容中
+				return;
+			}
+			state = automaton.next(state, c);
+			final int position = this.position++;
+			// 当前状态对应最长后缀之前的起始位置不会再有新单词
+			flush(position - automaton.depth[state]);
+
+			indexes[position % ringSize] = index;
+			for (int node = automaton.output[state]; ROOT != node; node = automaton.output[automaton.fail[node]]) {
+				addPending(position - automaton.depth[node] + 1, position, index, node);
+			}
+		}
+
+		/**
+		 * 获取仍可能有单词以其开始的最早原文位置，此位置之前的文本不会再出现在匹配结果中
+		 *
+		 * @param nextIndex 下一个读入字符的原文位置，无待定起始位置时返回此值
+		 * @return 原文位置
+		 */
+		int pendingStartIndex(int nextIndex) {
+			return (false == done && flushPosition < position) ? indexes[flushPosition % ringSize] : nextIndex;
+		}
+
+		/**
+		 * 文本结束，输出所有暂存的单词
+		 */
+		void finish() {
+			flush(position - 1);
+		}
+
+		/**
+		 * 按起始位置顺序输出暂存的单词
+		 *
+		 * @param toPosition 最后一个输出的起始位置（包含）
+		 */
+		private void flush(int toPosition) {
+			for (; flushPosition <= toPosition && false == done; flushPosition++) {
+				final int slot = flushPosition % ringSize;
+				Pending pending = pendingHeads[slot];
+				if (null == pending) {
+					continue;
+				}
+				pendingHeads[slot] = null;
+				pendingTails[slot] = null;
+
+				final int startIndex = indexes[slot];
+				if (false == isDensityMatch) {
+					// 非密集匹配，跳过已匹配的词，每个位置只取最短的词
+					if (flushPosition > lastEndPosition) {
+						lastEndPosition = pending.endPosition;
+						emit(pending, startIndex);
+					}
+				} else if (false == isGreedMatch) {
+					emit(pending, startIndex);
+				} else {
+					for (; null != pending && false == done; pending = pending.next) {
+						emit(pending, startIndex);
+					}
+				}
+			}
+		}
+
+		private void emit(Pending pending, int startIndex) {
+			handler.handle(automaton.words[pending.node], startIndex, pending.endIndex);
+			count++;
+			if (limit > 0 && count >= limit) {
+				done = true;
+			}
+		}
+
+		private void addPending(int startPosition, int endPosition, int endIndex, int node) {
+			final int slot = startPosition % ringSize;
+			final Pending tail = pendingTails[slot];
+			if (null != tail && false == (isDensityMatch && isGreedMatch)) {
+				// 非贪婪匹配或非密集匹配只需要以此位置开始的最短单词
+				return;
+			}
+			final Pending pending = new Pending(endPosition, endIndex, node);
+			if (null == tail) {
+				pendingHeads[slot] = pending;
+			} else {
+				tail.next = pending;
+			}
+			pendingTails[slot] = pending;
+		}
+	}
+
+	/**
+	 * 流式匹配，只缓存最早的待定起始位置之后的文本，以及尚未写出的文本
+	 */
+	private static class StreamMatcher implements MatchHandler {
+		private final Matcher matcher;
+		private final Consumer<FoundWord> consumer;
+		private final Writer writer;
+		private final SensitiveProcessor processor;
+
+		/**
+		 * 缓存的文本
+		 */
+		private final StringBuilder window = new StringBuilder();
+		/**
+		 * 缓存文本第一个字符在流中的位置
+		 */
+		private int windowStart;
+		/**
+		 * 下一个读入字符在流中的位置
+		 */
+		private int nextIndex;
+		/**
+		 * 下一个待写出字符在流中的位置
+		 */
+		private int writtenIndex;
+		/**
+		 * 等待替换的关键字，同一起始位置只替换最后匹配到的关键字
+		 */
+		private FoundWord replacing;
+
+		StreamMatcher(WordAutomaton automaton, int limit, boolean isDensityMatch, boolean isGreedMatch,
+					  Consumer<FoundWord> consumer, Writer writer, SensitiveProcessor processor) {
+			this.matcher = new Matcher(automaton, limit, isDensityMatch, isGreedMatch, this);
+			this.consumer = consumer;
+			this.writer = writer;
+			this.processor = processor;
+		}
+
+		/**
+		 * 读取并匹配
+		 *
+		 * @param reader {@link Reader}
+		 * @throws IORuntimeException IO异常
+		 */
+		void match(Reader reader) throws IORuntimeException {
+			Assert.notNull(reader, "Reader must be not null!");
+			final char[] buffer = new char[IoUtil.DEFAULT_BUFFER_SIZE];
+			int length;
+			try {
+				while (false == matcher.isDone() && (length = reader.read(buffer)) > -1) {
+					window.append(buffer, 0, length);
+					for (int i = 0; i < length && false == matcher.isDone(); i++) {
+						matcher.feed(buffer[i], nextIndex++);
+					}
+					release(matcher.pendingStartIndex(nextIndex));
+				}
+				matcher.finish();
+				release(nextIndex);
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+		}
+
+		@Override
+		public void handle(String word, int startIndex, int endIndex) {
+			final FoundWord foundWord = new FoundWord(word,
+					window.substring(startIndex - windowStart, endIndex - windowStart + 1), startIndex, endIndex);
+			if (null != consumer) {
+				consumer.accept(foundWord);
+			}
+			if (null != writer) {
+				if (null != replacing && replacing.getStartIndex() != startIndex) {
+					replace(replacing);
+				}
+				replacing = foundWord;
+			}
+		}
+
+		/**
+		 * 写出已确定的文本并丢弃不再需要的缓存
+		 *
+		 * @param safeIndex 此位置之前的文本不会再出现在新的匹配结果中
+		 * @throws IOException IO异常
+		 */
+		private void release(int safeIndex) throws IOException {
+			int keepIndex = safeIndex;
+			if (null != writer) {
+				if (null != replacing && replacing.getStartIndex() < safeIndex) {
+					replace(replacing);
+					replacing = null;
+				}
+				final int writeEnd = null == replacing ? safeIndex : replacing.getStartIndex();
+				write(writeEnd);
+				keepIndex = Math.min(keepIndex, writtenIndex);
+			}
+			if (keepIndex > windowStart) {
+				window.delete(0, keepIndex - windowStart);
+				windowStart = keepIndex;
+			}
+		}
+
+		/**
+		 * 替换关键字，起始位置已被之前的替换覆盖时跳过
+		 *
+		 * @param foundWord 关键字
+		 * @throws IORuntimeException IO异常
+		 */
+		private void replace(FoundWord foundWord) throws IORuntimeException {
+			final int startIndex = foundWord.getStartIndex();
+			if (startIndex < writtenIndex) {
+				return;
+			}
+			try {
+				write(startIndex);
+				writer.write(processor.process(foundWord));
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+			writtenIndex = foundWord.getEndIndex() + 1;
+		}
+
+		/**
+		 * 原样写出缓存中的文本
+		 *
+		 * @param endIndex 结束位置（不包含）
+		 * @throws IOException IO异常
+		 */
+		private void write(int endIndex) throws IOException {
+			if (writtenIndex < endIndex) {
+				writer.append(window, writtenIndex - windowStart, endIndex - windowStart);
+				writtenIndex = endIndex;
+			}
+		}
+	}
+
+	/**
+	 * 暂存的匹配结果
+	 */
+	private static class Pending {
+		private final int endPosition;
+		private final int endIndex;
+		private final int node;
+		private Pending next;
+
+		Pending(int endPosition, int endIndex, int node) {
+			this.endPosition = endPosition;
+			this.endIndex = endIndex;
+			this.node = node;
+		}
+	}
+}
@@ -60,6 +60,27 @@ public class WordTree extends HashMap<Character, WordTree> {
 		return this;
 	}
 
+	/**
+	 * 获取字符过滤规则
+	 *
+	 * @return 字符过滤规则
+	 * @since 5.8.19
+	 */
+	Filter<Character> getCharFilter() {
+		return this.charFilter;
+	}
+
+	/**
+	 * 将当前单词树编译为AC自动机，适用于单词树构建完成后对大量文本的匹配<br>
+	 * 编译后对单词树的修改不会影响已编译的自动机
+	 *
+	 * @return {@link WordAutomaton}
+	 * @since 5.8.19
+	 */
+	public WordAutomaton compile() {
+		return new WordAutomaton(this);
+	}
+
 	//------------------------------------------------------------------------------- add word
 
 	/**
@@ -305,7 +326,7 @@ public class WordTree extends HashMap<Character, WordTree> {
 	 * @param c 检查的字符
 	 * @return 是否末尾
 	 */
-	private boolean isEnd(Character c) {
+	boolean isEnd(Character c) {
 		return this.endCharacterSet.contains(c);
 	}
 
@@ -0,0 +1,191 @@
+package cn.hutool.dfa;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WordAutomatonTest {
+
+	final String text = "我有一颗$大土^豆，刚出锅的";
+
+	@Test
+	public void matchAllTest() {
+		final WordAutomaton automaton = buildWordTree().compile();
+		Assert.assertEquals(CollUtil.newArrayList("大", "土^豆", "刚出锅"), automaton.matchAll(text, -1, false, false));
+		Assert.assertEquals(CollUtil.newArrayList("大", "土^豆", "刚出锅", "出锅"), automaton.matchAll(text, -1, true, false));
+		Assert.assertEquals(CollUtil.newArrayList("大", "土^豆", "刚出锅"), automaton.matchAll(text, -1, false, true));
+		Assert.assertEquals(CollUtil.newArrayList("大", "大土^豆", "土^豆", "刚出锅", "出锅"), automaton.matchAll(text, -1, true, true));
+	}
+
+	@Test
+	public void matchWordTest() {
+		final WordTree tree = new WordTree();
+		tree.addWords("abcde", "c");
+		final WordAutomaton automaton = tree.compile();
+
+		// 较短的"c"先于"abcde"结束，但按起始位置"abcde"为第一个匹配
+		final FoundWord foundWord = automaton.matchWord("xabcde");
+		Assert.assertEquals("abcde", foundWord.getWord());
+		Assert.assertEquals(1, foundWord.getStartIndex().intValue());
+		Assert.assertEquals(5, foundWord.getEndIndex().intValue());
+
+		Assert.assertTrue(automaton.isMatch("xxcxx"));
+		Assert.assertFalse(automaton.isMatch("abd"));
+		Assert.assertNull(automaton.match("abd"));
+	}
+
+	@Test
+	public void stopWordTest() {
+		final WordTree tree = new WordTree();
+		tree.addWord("tio");
+		final List<FoundWord> all = tree.compile().matchAllWords("AAAAAAAt-ioBBBBBBB");
+		Assert.assertEquals(1, all.size());
+		Assert.assertEquals("tio", all.get(0).getWord());
+		Assert.assertEquals("t-io", all.get(0).getFoundWord());
+		Assert.assertEquals(7, all.get(0).getStartIndex().intValue());
+		Assert.assertEquals(10, all.get(0).getEndIndex().intValue());
+	}
+
+	/**
+	 * 随机生成词典和文本，结果应与{@link WordTree}一致
+	 */
+	@Test
+	public void sameAsWordTreeTest() {
+		for (int round = 0; round < 200; round++) {
+			final WordTree tree = new WordTree();
+			final int wordCount = RandomUtil.randomInt(1, 20);
+			for (int i = 0; i < wordCount; i++) {
+				tree.addWord(RandomUtil.randomString("abc-", RandomUtil.randomInt(1, 6)));
+			}
+			final WordAutomaton automaton = tree.compile();
+
+			for (int t = 0; t < 20; t++) {
+				final String text = RandomUtil.randomString("abcd- ", RandomUtil.randomInt(0, 60));
+				for (int limit : new int[]{-1, 1, 3}) {
+					for (boolean isDensityMatch : new boolean[]{false, true}) {
+						for (boolean isGreedMatch : new boolean[]{false, true}) {
+							assertSame(tree.matchAllWords(text, limit, isDensityMatch, isGreedMatch),
+									automaton.matchAllWords(text, limit, isDensityMatch, isGreedMatch));
+						}
+					}
+				}
+				Assert.assertEquals(tree.isMatch(text), automaton.isMatch(text));
+			}
+		}
+	}
+
+	/**
+	 * 流式匹配结果应与字符串匹配一致，每次只读取少量字符以覆盖跨块的关键字
+	 */
+	@Test
+	public void matchStreamTest() {
+		for (int round = 0; round < 100; round++) {
+			final WordTree tree = new WordTree();
+			final int wordCount = RandomUtil.randomInt(1, 20);
+			for (int i = 0; i < wordCount; i++) {
+				tree.addWord(RandomUtil.randomString("abc-", RandomUtil.randomInt(1, 6)));
+			}
+			final WordAutomaton automaton = tree.compile();
+
+			final String text = RandomUtil.randomString("abcd- ", RandomUtil.randomInt(0, 200));
+			for (int limit : new int[]{-1, 2}) {
+				for (boolean isDensityMatch : new boolean[]{false, true}) {
+					for (boolean isGreedMatch : new boolean[]{false, true}) {
+						final List<FoundWord> found = new ArrayList<>();
+						automaton.matchAllWords(new ChunkedReader(text), limit, isDensityMatch, isGreedMatch, found::add);
+						assertSame(automaton.matchAllWords(text, limit, isDensityMatch, isGreedMatch), found);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void sensitiveFilterStreamTest() {
+		SensitiveUtil.init(CollUtil.newArrayList("大", "大土豆", "土豆", "刚出锅", "出锅", "锅的"));
+		for (int round = 0; round < 50; round++) {
+			final String text = StrUtil.repeat(RandomUtil.randomString("我有一颗$大土^豆，刚出锅的", 30), 10);
+			for (boolean isGreedMatch : new boolean[]{false, true}) {
+				final StringWriter writer = new StringWriter();
+				SensitiveUtil.sensitiveFilter(new ChunkedReader(text), writer, isGreedMatch, null);
+				Assert.assertEquals(SensitiveUtil.sensitiveFilter(text, isGreedMatch, null), writer.toString());
+			}
+		}
+	}
+
+	@Test
+	@Ignore
+	public void matchPerformanceTest() {
+		final List<String> words = new ArrayList<>();
+		for (int i = 0; i < 50000; i++) {
+			words.add(RandomUtil.randomString(RandomUtil.randomInt(4, 8)));
+		}
+		final WordTree tree = new WordTree();
+		tree.addWords(words);
+		final WordAutomaton automaton = tree.compile();
+		final String text = StrUtil.repeat(RandomUtil.randomString(1000) + words.get(0), 1000);
+
+		final TimeInterval timer = new TimeInterval();
+		for (int i = 0; i < 10; i++) {
+			tree.matchAllWords(text, -1, true, true);
+		}
+		Console.log("WordTree      : {}ms", timer.intervalRestart());
+		for (int i = 0; i < 10; i++) {
+			automaton.matchAllWords(text, -1, true, true);
+		}
+		Console.log("WordAutomaton : {}ms", timer.intervalRestart());
+	}
+
+	private static void assertSame(List<FoundWord> expected, List<FoundWord> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i).getWord(), actual.get(i).getWord());
+			Assert.assertEquals(expected.get(i).getFoundWord(), actual.get(i).getFoundWord());
+			Assert.assertEquals(expected.get(i).getStartIndex(), actual.get(i).getStartIndex());
+			Assert.assertEquals(expected.get(i).getEndIndex(), actual.get(i).getEndIndex());
+		}
+	}
+
+	private static WordTree buildWordTree() {
+		final WordTree tree = new WordTree();
+		tree.addWord("大");
+		tree.addWord("大土豆");
+		tree.addWord("土豆");
+		tree.addWord("刚出锅");
+		tree.addWord("出锅");
+		return tree;
+	}
+
+	/**
+	 * 每次只读取1~5个字符的Reader
+	 */
+	private static class ChunkedReader extends Reader {
+		private final StringReader reader;
+
+		ChunkedReader(String text) {
+			this.reader = new StringReader(text);
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			return reader.read(cbuf, off, Math.min(len, RandomUtil.randomInt(1, 6)));
+		}
+
+		@Override
+		public void close() {
+			reader.close();
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package cn.hutool.json;
 
-import cn.hutool.core.bean.BeanPath;
 import cn.hutool.core.lang.TypeReference;
 
 import java.io.Serializable;
@@ -37,11 +36,14 @@ public interface JSON extends Cloneable, Serializable {
 	 * persion.name
 	 * persons[3]
 	 * person.friends[5].name
+	 * persons[*].name
+	 * $..name
 	 * </pre>
+	 * 表达式编译后被缓存，反复使用同一表达式时不再重复解析，详见{@link JSONPath}。
 	 *
 	 * @param expression 表达式
 	 * @return 对象
-	 * @see BeanPath#get(Object)
+	 * @see JSONPath#get(Object)
 	 * @since 4.0.6
 	 */
 	Object getByPath(String expression);
@@ -66,6 +68,7 @@ public interface JSON extends Cloneable, Serializable {
 	 *
 	 * @param expression 表达式
 	 * @param value      值
+	 * @see JSONPath#set(Object, Object)
 	 */
 	void putByPath(String expression, Object value);
 
@@ -91,7 +94,7 @@ public interface JSON extends Cloneable, Serializable {
 	 * @param expression 表达式
 	 * @param resultType 返回值类型
 	 * @return 对象
-	 * @see BeanPath#get(Object)
+	 * @see JSONPath#get(Object)
 	 * @since 4.0.6
 	 */
 	<T> T getByPath(String expression, Class<T> resultType);
@@ -0,0 +1,229 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+import cn.hutool.json.serialize.GlobalSerializeMapping;
+
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON直接转Bean的解析器<br>
+ * {@link JSONUtil#toBean(String, Class)}原有流程先将JSON字符串解析为{@link JSONObject}，再通过{@link cn.hutool.core.bean.copier.BeanCopier}拷贝到Bean中，
+ * 中间的{@link JSONObject}在转换后即被丢弃。此解析器从{@link JSONTokener}读取键值对后直接注入Bean的属性：
+ * <ul>
+ *     <li>属性信息使用{@link BeanUtil#getBeanDesc(Class)}缓存的{@link PropDesc}</li>
+ *     <li>Bean中不存在或不可写的键，其值被跳过</li>
+ *     <li>嵌套的普通Bean递归直接解析，Map、集合、泛型类型等其它值依旧解析为JSON后转换</li>
+ * </ul>
+ * 值的转换规则与原有流程一致，支持{@link JSONConfig}中的忽略大小写、忽略null值、忽略错误、日期格式、transient等配置。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class JSONBeanDeserializer {
+
+	/**
+	 * 类是否为包含setter的普通Bean的缓存
+	 */
+	private static final WeakConcurrentMap<Class<?>, Boolean> BEAN_CLASS_CACHE = new WeakConcurrentMap<>();
+
+	/**
+	 * 创建JSONBeanDeserializer
+	 *
+	 * @param tokener {@link JSONTokener}
+	 * @param config  JSON配置，需与tokener使用的配置一致
+	 * @return JSONBeanDeserializer
+	 */
+	public static JSONBeanDeserializer of(JSONTokener tokener, JSONConfig config) {
+		return new JSONBeanDeserializer(tokener, config);
+	}
+
+	/**
+	 * 指定类型是否可以直接解析，规则与{@link JSONConverter}中JSONObject转Bean的判断一致：
+	 * 非{@link JSON}、非{@link JSONBeanParser}、非{@link Map.Entry}、无自定义反序列化器且包含setter的普通类
+	 *
+	 * @param type 类型
+	 * @return 是否可以直接解析
+	 */
+	public static boolean isSupported(Type type) {
+		if (false == type instanceof Class) {
+			return false;
+		}
+		final Class<?> clazz = (Class<?>) type;
+		return false == JSON.class.isAssignableFrom(clazz)
+				&& false == JSONBeanParser.class.isAssignableFrom(clazz)
+				&& false == Map.Entry.class.isAssignableFrom(clazz)
+				&& null == GlobalSerializeMapping.getDeserializer(clazz)
+				&& BEAN_CLASS_CACHE.computeIfAbsent(clazz, BeanUtil::hasSetter);
+	}
+
+	private final JSONTokener tokener;
+	private final JSONConfig config;
+
+	/**
+	 * 构造
+	 *
+	 * @param tokener {@link JSONTokener}
+	 * @param config  JSON配置，需与tokener使用的配置一致
+	 */
+	public JSONBeanDeserializer(JSONTokener tokener, JSONConfig config) {
+		this.tokener = tokener;
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+	}
+
+	/**
+	 * 解析JSONObject文本为Bean，不支持直接解析的类型先解析为JSON再转换
+	 *
+	 * @param <T>  Bean类型
+	 * @param type Bean类型
+	 * @return Bean
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T toBean(Type type) {
+		if (isSupported(type)) {
+			return (T) readBean((Class<?>) type);
+		}
+		return JSONConverter.jsonConvert(type, tokener.nextValue(), config);
+	}
+
+	/**
+	 * 读取JSONObject并注入到新建的Bean中，语法检查规则与{@link JSONParser#parseTo(JSONObject, cn.hutool.core.lang.Filter)}一致
+	 *
+	 * @param beanClass Bean类
+	 * @return Bean
+	 */
+	private Object readBean(Class<?> beanClass) {
+		final Object bean = ReflectUtil.newInstanceIfPossible(beanClass);
+		if (null == bean) {
+			// 无法实例化，按照原有流程转换
+			return JSONConverter.jsonConvert(beanClass, tokener.nextValue(), config);
+		}
+		final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(config.isIgnoreCase());
+		final Set<String> keys = config.isCheckDuplicate() ? new HashSet<>() : null;
+
+		final JSONTokener tokener = this.tokener;
+		if (tokener.nextClean() != '{') {
+			throw tokener.syntaxError("A JSONObject text must begin with '{'");
+		}
+
+		char prev;
+		char c;
+		String key;
+		while (true) {
+			prev = tokener.getPrevious();
+			c = tokener.nextClean();
+			switch (c) {
+				case 0:
+					throw tokener.syntaxError("A JSONObject text must end with '}'");
+				case '}':
+					return bean;
+				case '{':
+				case '[':
+					if (prev == '{') {
+						throw tokener.syntaxError("A JSONObject can not directly nest another JSONObject or JSONArray.");
+					}
+				default:
+					tokener.back();
+					key = tokener.nextValue().toString();
+			}
+
+			c = tokener.nextClean();
+			if (c != ':') {
+				throw tokener.syntaxError("Expected a ':' after a key");
+			}
+			if (null != keys && false == keys.add(key)) {
+				throw new JSONException("Duplicate key \"{}\"", key);
+			}
+
+			final PropDesc propDesc = findPropDesc(propMap, key);
+			if (null == propDesc || false == propDesc.isWritable(config.isTransientSupport())) {
+				// 字段不可写，跳过值
+				tokener.nextValue();
+			} else {
+				readProp(bean, beanClass, propDesc);
+			}
+
+			switch (tokener.nextClean()) {
+				case ';':
+				case ',':
+					if (tokener.nextClean() == '}') {
+						// issue#2380，尾后逗号
+						return bean;
+					}
+					tokener.back();
+					break;
+				case '}':
+					return bean;
+				default:
+					throw tokener.syntaxError("Expected a ',' or '}'");
+			}
+		}
+	}
+
+	/**
+	 * 读取值并注入到属性
+	 *
+	 * @param bean      Bean
+	 * @param beanClass Bean类，用于获取泛型属性的实际类型
+	 * @param propDesc  属性
+	 */
+	private void readProp(Object bean, Class<?> beanClass, PropDesc propDesc) {
+		final Type fieldType = TypeUtil.getActualType(beanClass, propDesc.getFieldType());
+		final char c = tokener.nextClean();
+		tokener.back();
+
+		Object value;
+		if ('{' == c && isSupported(fieldType)) {
+			value = readBean((Class<?>) fieldType);
+		} else {
+			value = tokener.nextValue();
+			if (ObjectUtil.isNull(value) && config.isIgnoreNullValue()) {
+				return;
+			}
+			// 与JSONObject中存储的值保持一致
+			value = convert(fieldType, JSONUtil.wrap(InternalJSONUtil.testValidity(value), config));
+		}
+		propDesc.setValue(bean, value, config.isIgnoreNullValue(), config.isIgnoreError(), true);
+	}
+
+	/**
+	 * 转换值，规则与{@link cn.hutool.core.bean.copier.CopyOptions}默认的转换器一致
+	 *
+	 * @param type  目标类型
+	 * @param value 值
+	 * @return 转换后的值
+	 */
+	private Object convert(Type type, Object value) {
+		if (null == value) {
+			return null;
+		}
+		if (value instanceof JSONObject || value instanceof JSONArray) {
+			return ((JSON) value).toBean(ObjectUtil.defaultIfNull(type, Object.class));
+		}
+		return Convert.convertWithCheck(type, value, null, config.isIgnoreError());
+	}
+
+	/**
+	 * 查找键对应的属性，尝试原名称和转驼峰名称
+	 *
+	 * @param propMap 属性Map
+	 * @param key     键
+	 * @return {@link PropDesc}
+	 */
+	private static PropDesc findPropDesc(Map<String, PropDesc> propMap, String key) {
+		final PropDesc propDesc = propMap.get(key);
+		if (null != propDesc) {
+			return propDesc;
+		}
+		return propMap.get(StrUtil.toCamelCase(key));
+	}
+}
@@ -0,0 +1,349 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.ObjectUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON Lines（NDJSON）读取器，每行一个JSON记录，以迭代器或{@link Stream}的方式逐条读取：
+ * <pre>
+ * try (JSONLinesReader&lt;Event&gt; reader = JSONLinesReader.of(FileUtil.getUtf8Reader(file), Event.class)) {
+ *     for (Event event : reader) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * 每行必须为且只能为一条完整的JSON记录，空行被跳过，记录跨行或一行中有多条记录时抛出{@link JSONException}。<br>
+ * 默认逐行顺序解析；通过{@link #setParallel(int)}开启并行模式后，每次读取一批行，在{@link java.util.concurrent.ForkJoinPool#commonPool()}中并行解析，
+ * 记录顺序与原文一致。两种模式使用相同的行解析规则，接受的输入和错误信息一致。<br>
+ * 读取器自行按行切分字符，顺序模式下所有行复用同一个字符缓存和{@link JSONTokener}，不为每行创建字符串和解析器。
+ *
+ * @param <T> 记录类型
+ * @author looly
+ * @since 5.8.19
+ */
+public class JSONLinesReader<T> implements Iterator<T>, Iterable<T>, Closeable {
+
+	/**
+	 * 创建读取器，记录读取为{@link JSONObject}
+	 *
+	 * @param reader {@link Reader}
+	 * @return JSONLinesReader
+	 */
+	public static JSONLinesReader<JSONObject> of(Reader reader) {
+		return of(reader, JSONObject.class);
+	}
+
+	/**
+	 * 创建读取器
+	 *
+	 * @param <T>    记录类型
+	 * @param reader {@link Reader}
+	 * @param type   记录类型，{@link JSONObject}表示读取为JSONObject
+	 * @return JSONLinesReader
+	 */
+	public static <T> JSONLinesReader<T> of(Reader reader, Type type) {
+		return new JSONLinesReader<>(reader, type, null);
+	}
+
+	/**
+	 * 创建读取器
+	 *
+	 * @param <T>     记录类型
+	 * @param file    JSON Lines文件
+	 * @param charset 编码
+	 * @param type    记录类型，{@link JSONObject}表示读取为JSONObject
+	 * @return JSONLinesReader
+	 * @throws IORuntimeException IO异常
+	 */
+	public static <T> JSONLinesReader<T> of(File file, Charset charset, Type type) throws IORuntimeException {
+		return new JSONLinesReader<>(FileUtil.getReader(file, charset), type, null);
+	}
+
+	private final Reader reader;
+	private final Type type;
+	private final JSONConfig config;
+
+	/**
+	 * 读取缓存
+	 */
+	private final char[] readBuffer = new char[IoUtil.DEFAULT_BUFFER_SIZE];
+	private int readPos;
+	private int readLimit;
+	/**
+	 * 上一行是否以\r结尾，此时下一个\n属于上一行的换行符
+	 */
+	private boolean skipLF;
+	/**
+	 * 当前行的字符，所有行复用
+	 */
+	private char[] lineBuffer = new char[128];
+	private int lineLength;
+	/**
+	 * 顺序模式下复用的解析器
+	 */
+	private final JSONTokener tokener;
+
+	/**
+	 * 已读取的行数，即当前行的行号
+	 */
+	private int lineNo;
+	/**
+	 * 顺序模式下是否有已读取但未解析的行
+	 */
+	private boolean hasLine;
+	/**
+	 * 并行模式下每批读取的行数，0表示顺序读取
+	 */
+	private int batchSize;
+	/**
+	 * 并行模式下已解析的当前批次记录
+	 */
+	private List<T> batch = Collections.emptyList();
+	private int batchIndex;
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}
+	 * @param type   记录类型，{@link JSONObject}表示读取为JSONObject
+	 * @param config JSON配置，{@code null}表示默认配置
+	 */
+	public JSONLinesReader(Reader reader, Type type, JSONConfig config) {
+		this.reader = Assert.notNull(reader, "Reader must be not null!");
+		this.type = type;
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+		this.tokener = new JSONTokener(this.lineBuffer, this.config);
+	}
+
+	/**
+	 * 开启并行模式，每次读取指定行数，并行解析后按原顺序返回，需在读取记录前调用<br>
+	 * 适用于单条记录解析较重（如记录较大或转换为复杂Bean）的场景。
+	 *
+	 * @param batchSize 每批读取的行数，0表示顺序读取
+	 * @return this
+	 */
+	public JSONLinesReader<T> setParallel(int batchSize) {
+		Assert.isTrue(batchSize >= 0, "Batch size must be not negative!");
+		Assert.isTrue(0 == this.lineNo, "Records have been read!");
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (batchSize > 0) {
+			return batchIndex < batch.size() || readBatch();
+		}
+		if (false == hasLine) {
+			hasLine = readLine();
+		}
+		return hasLine;
+	}
+
+	@Override
+	public T next() {
+		if (false == hasNext()) {
+			throw new NoSuchElementException();
+		}
+		if (batchSize > 0) {
+			return batch.get(batchIndex++);
+		}
+		hasLine = false;
+		return parseLine(tokener.reset(lineBuffer, 0, lineLength), lineNo);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return this;
+	}
+
+	/**
+	 * 转为{@link Stream}，关闭Stream时同时关闭读取器
+	 *
+	 * @return {@link Stream}
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+				.onClose(this::close);
+	}
+
+	/**
+	 * 关闭，同时关闭{@link Reader}
+	 */
+	@Override
+	public void close() {
+		IoUtil.close(reader);
+	}
+
+	/**
+	 * 读取并并行解析下一批行
+	 *
+	 * @return 是否读取到记录
+	 */
+	private boolean readBatch() {
+		// 并行解析的行需要各自的字符数组
+		final List<char[]> lines = new ArrayList<>(batchSize);
+		final int[] lineNos = new int[batchSize];
+		while (lines.size() < batchSize && readLine()) {
+			lineNos[lines.size()] = lineNo;
+			lines.add(Arrays.copyOf(lineBuffer, lineLength));
+		}
+		batch = IntStream.range(0, lines.size()).parallel()
+				.mapToObj(i -> parseLine(new JSONTokener(lines.get(i), config), lineNos[i]))
+				.collect(Collectors.toList());
+		batchIndex = 0;
+		return false == batch.isEmpty();
+	}
+
+	/**
+	 * 读取下一个非空行到{@link #lineBuffer}
+	 *
+	 * @return 是否读取到行
+	 */
+	private boolean readLine() {
+		try {
+			do {
+				if (false == readRawLine()) {
+					return false;
+				}
+				lineNo++;
+			} while (isBlankLine());
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return true;
+	}
+
+	/**
+	 * 读取下一行到{@link #lineBuffer}，换行符为\n、\r或\r\n，规则与{@link java.io.BufferedReader#readLine()}一致
+	 *
+	 * @return 是否读取到行
+	 * @throws IOException IO异常
+	 */
+	private boolean readRawLine() throws IOException {
+		lineLength = 0;
+		boolean read = false;
+		int i;
+		while (true) {
+			if (readPos >= readLimit) {
+				readLimit = reader.read(readBuffer, 0, readBuffer.length);
+				readPos = 0;
+				if (readLimit <= 0) {
+					readLimit = 0;
+					return read;
+				}
+			}
+			if (skipLF) {
+				skipLF = false;
+				if ('\n' == readBuffer[readPos]) {
+					readPos++;
+					continue;
+				}
+			}
+
+			read = true;
+			for (i = readPos; i < readLimit; i++) {
+				if ('\n' == readBuffer[i] || '\r' == readBuffer[i]) {
+					break;
+				}
+			}
+			appendLine(readPos, i - readPos);
+			if (i < readLimit) {
+				skipLF = '\r' == readBuffer[i];
+				readPos = i + 1;
+				return true;
+			}
+			readPos = i;
+		}
+	}
+
+	/**
+	 * 将读取缓存中的字符追加到当前行
+	 *
+	 * @param start  读取缓存中的起始位置
+	 * @param length 长度
+	 */
+	private void appendLine(int start, int length) {
+		final int newLength = lineLength + length;
+		if (newLength > lineBuffer.length) {
+			lineBuffer = Arrays.copyOf(lineBuffer, Math.max(newLength, lineBuffer.length << 1));
+		}
+		System.arraycopy(readBuffer, start, lineBuffer, lineLength, length);
+		lineLength = newLength;
+	}
+
+	/**
+	 * 当前行是否为空白行
+	 *
+	 * @return 是否为空白行
+	 */
+	private boolean isBlankLine() {
+		for (int i = 0; i < lineLength; i++) {
+			if (false == CharUtil.isBlankChar(lineBuffer[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 解析一行记录，规则与{@link JSONReader#nextBean(Type)}一致，一行只能有一条记录
+	 *
+	 * @param tokener 行的{@link JSONTokener}
+	 * @param lineNo  行号，用于错误信息
+	 * @return 记录
+	 * @throws JSONException 记录格式错误或一行有多条记录
+	 */
+	private T parseLine(JSONTokener tokener, int lineNo) throws JSONException {
+		try {
+			final T record = parseRecord(tokener);
+			if (0 != tokener.nextClean()) {
+				throw tokener.syntaxError("A JSON Lines record must be the only value in its line");
+			}
+			return record;
+		} catch (final RuntimeException e) {
+			throw new JSONException(e, "Invalid JSON Lines record at line {}: {}", lineNo, e.getMessage());
+		}
+	}
+
+	/**
+	 * 从行中解析一条记录
+	 *
+	 * @param tokener 行的{@link JSONTokener}
+	 * @return 记录
+	 */
+	@SuppressWarnings("unchecked")
+	private T parseRecord(JSONTokener tokener) {
+		if (JSONBeanDeserializer.isSupported(type)) {
+			return JSONBeanDeserializer.of(tokener, config).toBean(type);
+		}
+		final Object value = tokener.nextValue();
+		if (type instanceof Class && ((Class<?>) type).isInstance(value)) {
+			return (T) value;
+		}
+		return JSONConverter.jsonConvert(type, value, config);
+	}
+}
@@ -0,0 +1,157 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.json.serialize.JSONBeanWriter;
+
+import java.io.CharArrayWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * JSON Lines（NDJSON）写出器，每条记录写出为一行JSON<br>
+ * 记录先写入内部缓冲区，每满一批（默认{@value #DEFAULT_FLUSH_BATCH_SIZE}条）再写出到目标{@link Writer}并刷新，
+ * 避免逐条刷新带来的系统调用开销。普通Bean使用{@link JSONBeanWriter}直接写出。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class JSONLinesWriter implements Closeable, Flushable {
+
+	/**
+	 * 默认每批刷新的记录数
+	 */
+	public static final int DEFAULT_FLUSH_BATCH_SIZE = 1000;
+
+	/**
+	 * 创建写出器，使用默认配置
+	 *
+	 * @param writer {@link Writer}
+	 * @return JSONLinesWriter
+	 */
+	public static JSONLinesWriter of(Writer writer) {
+		return new JSONLinesWriter(writer, null);
+	}
+
+	/**
+	 * 创建写出器，使用默认配置
+	 *
+	 * @param file     JSON Lines文件
+	 * @param charset  编码
+	 * @param isAppend 是否追加到文件末尾
+	 * @return JSONLinesWriter
+	 * @throws IORuntimeException IO异常
+	 */
+	public static JSONLinesWriter of(File file, Charset charset, boolean isAppend) throws IORuntimeException {
+		return new JSONLinesWriter(FileUtil.getWriter(file, charset, isAppend), null);
+	}
+
+	private final Writer writer;
+	private final JSONConfig config;
+	/**
+	 * 未刷新的记录缓冲区
+	 */
+	private final CharArrayWriter buffer = new CharArrayWriter();
+	private int flushBatchSize = DEFAULT_FLUSH_BATCH_SIZE;
+	/**
+	 * 缓冲区中的记录数
+	 */
+	private int pending;
+
+	/**
+	 * 构造
+	 *
+	 * @param writer {@link Writer}
+	 * @param config JSON配置，{@code null}表示默认配置
+	 */
+	public JSONLinesWriter(Writer writer, JSONConfig config) {
+		this.writer = writer;
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+	}
+
+	/**
+	 * 设置每批刷新的记录数，1表示每条记录写出后立即刷新
+	 *
+	 * @param flushBatchSize 每批刷新的记录数
+	 * @return this
+	 */
+	public JSONLinesWriter setFlushBatchSize(int flushBatchSize) {
+		Assert.isTrue(flushBatchSize > 0, "Flush batch size must be positive!");
+		this.flushBatchSize = flushBatchSize;
+		return this;
+	}
+
+	/**
+	 * 写出一条记录，记录可以是Bean、Map、集合或JSON字符串等任意可转为JSON的对象，{@code null}写出为null
+	 *
+	 * @param record 记录
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesWriter write(Object record) throws IORuntimeException {
+		if (null == record) {
+			buffer.append(JSONNull.NULL.toString());
+		} else if (JSONBeanWriter.isSupported(record, config)) {
+			JSONBeanWriter.of(record.getClass()).write(record, buffer, 0, 0, config);
+		} else {
+			// 字符串等也重新解析写出，保证记录在一行中
+			JSONUtil.parse(record, config).write(buffer, 0, 0);
+		}
+		buffer.write('\n');
+
+		if (++pending >= flushBatchSize) {
+			flush();
+		}
+		return this;
+	}
+
+	/**
+	 * 写出多条记录
+	 *
+	 * @param records 记录
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesWriter writeAll(Iterable<?> records) throws IORuntimeException {
+		for (final Object record : records) {
+			write(record);
+		}
+		return this;
+	}
+
+	/**
+	 * 将缓冲区中的记录写出并刷新
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void flush() throws IORuntimeException {
+		try {
+			buffer.writeTo(writer);
+			writer.flush();
+		} catch (final IOException e) {
+			throw new IORuntimeException(e);
+		}
+		buffer.reset();
+		pending = 0;
+	}
+
+	/**
+	 * 刷新缓冲区并关闭{@link Writer}
+	 */
+	@Override
+	public void close() {
+		try {
+			flush();
+		} finally {
+			IoUtil.close(writer);
+		}
+	}
+}
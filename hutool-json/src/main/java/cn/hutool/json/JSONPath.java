@@ -0,0 +1,528 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanPath;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.collection.ArrayIter;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 编译后的JSON路径表达式<br>
+ * 表达式语法与{@link BeanPath}一致，在构建时一次性解析为路径片段，求值时不再解析字符串。
+ * 此对象不可变，可在多线程中共享，对于需要对大量JSON反复求值的路径，建议编译后保存使用：
+ * <pre>
+ * JSONPath path = JSONPath.compile("$.store.book[0].title");
+ * Object title = path.get(json);
+ * </pre>
+ * 除{@link BeanPath}支持的语法外，还支持：
+ * <ul>
+ *     <li>{@code [*]}或{@code .*}：JSONObject中所有的值或JSONArray中所有的元素</li>
+ *     <li>{@code ..name}：所有层级中键为name的值，{@code ..*}表示所有层级的值</li>
+ * </ul>
+ * 表达式中包含以上两种片段时，结果为所有匹配值组成的{@link List}，未匹配时为空列表。<br>
+ * {@link JSON#getByPath(String)}和{@link JSON#putByPath(String, Object)}通过{@link #compile(String)}使用缓存的编译结果。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class JSONPath {
+
+	/**
+	 * 编译结果缓存的最大数量
+	 */
+	private static final int CACHE_CAPACITY = 512;
+	/**
+	 * 编译结果缓存，读取无锁；超出容量时淘汰任意一个已有的编译结果
+	 */
+	private static final SafeConcurrentHashMap<String, JSONPath> CACHE = new SafeConcurrentHashMap<>(CACHE_CAPACITY);
+
+	// 片段类型
+	private static final int NAME = 0;
+	private static final int SLICE = 1;
+	private static final int MULTI = 2;
+	private static final int WILDCARD = 3;
+	private static final int DESCENDANT = 4;
+
+	/**
+	 * 编译表达式，编译结果被缓存，相同的表达式返回同一对象
+	 *
+	 * @param expression 表达式
+	 * @return JSONPath
+	 * @throws IllegalArgumentException 表达式格式错误
+	 */
+	public static JSONPath compile(String expression) throws IllegalArgumentException {
+		JSONPath path = CACHE.get(expression);
+		if (null == path) {
+			path = new JSONPath(expression);
+			// 近似淘汰，并发时缓存大小最多超出容量的部分为同时编译的线程数
+			final Iterator<String> keys = CACHE.keySet().iterator();
+			while (CACHE.size() >= CACHE_CAPACITY && keys.hasNext()) {
+				CACHE.remove(keys.next());
+			}
+			final JSONPath existPath = CACHE.putIfAbsent(expression, path);
+			if (null != existPath) {
+				path = existPath;
+			}
+		}
+		return path;
+	}
+
+	private final String expression;
+	/**
+	 * 是否以$开头，以$开头时第一个片段不匹配对象本身的类名
+	 */
+	private final boolean isStartWith;
+	private final Segment[] segments;
+	/**
+	 * 是否包含通配符或递归片段，包含时结果为列表
+	 */
+	private final boolean isMulti;
+
+	/**
+	 * 构造，不使用缓存
+	 *
+	 * @param expression 表达式
+	 * @throws IllegalArgumentException 表达式格式错误
+	 */
+	public JSONPath(String expression) throws IllegalArgumentException {
+		this.expression = expression;
+		final List<Segment> segments = new ArrayList<>();
+		this.isStartWith = parse(expression, segments);
+		this.segments = segments.toArray(new Segment[0]);
+
+		boolean isMulti = false;
+		for (final Segment segment : this.segments) {
+			if (WILDCARD == segment.type || DESCENDANT == segment.type) {
+				isMulti = true;
+				break;
+			}
+		}
+		this.isMulti = isMulti;
+	}
+
+	/**
+	 * 获取对应路径的值
+	 *
+	 * @param json JSON、Bean、Map或集合等
+	 * @return 值，不存在时返回{@code null}，包含通配符或递归片段时返回匹配值的列表
+	 */
+	public Object get(Object json) {
+		if (isMulti) {
+			return getAll(json);
+		}
+		return get(json, segments.length);
+	}
+
+	/**
+	 * 设置对应路径的值，不存在的父节点自动创建，规则与{@link BeanPath#set(Object, Object)}一致
+	 *
+	 * @param json  JSON、Bean、Map或List
+	 * @param value 值
+	 * @throws UnsupportedOperationException 路径中包含通配符、递归、切片或多值片段
+	 */
+	public void set(Object json, Object value) throws UnsupportedOperationException {
+		for (final Segment segment : segments) {
+			if (NAME != segment.type) {
+				throw new UnsupportedOperationException(StrUtil.format("Path '{}' is not supported for setting value", expression));
+			}
+		}
+		set(json, segments.length, NumberUtil.isInteger(segments[segments.length - 1].part), value);
+	}
+
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+
+	//region Private Methods
+
+	/**
+	 * 按照前length个片段获取值，规则与{@link BeanPath}一致
+	 *
+	 * @param json   JSON、Bean、Map或集合等
+	 * @param length 使用的片段数
+	 * @return 值
+	 */
+	private Object get(Object json, int length) {
+		Object value = json;
+		boolean isFirst = true;
+		Segment segment;
+		for (int i = 0; i < length; i++) {
+			segment = segments[i];
+			value = segment.getValue(value);
+			if (null == value) {
+				// 支持表达式的第一个对象为Bean本身（若用户定义表达式$开头，则不做此操作）
+				if (isFirst && false == this.isStartWith && BeanUtil.isMatchName(json, segment.part, true)) {
+					value = json;
+					isFirst = false;
+				} else {
+					return null;
+				}
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * 获取所有匹配的值
+	 *
+	 * @param json JSON、Bean、Map或集合等
+	 * @return 匹配值列表
+	 */
+	private List<Object> getAll(Object json) {
+		List<Object> values = new ArrayList<>();
+		values.add(json);
+		List<Object> nextValues;
+		for (final Segment segment : segments) {
+			nextValues = new ArrayList<>();
+			for (final Object value : values) {
+				segment.collect(value, nextValues);
+			}
+			values = nextValues;
+		}
+		return values;
+	}
+
+	/**
+	 * 设置前length个片段对应的值
+	 *
+	 * @param json           JSON、Bean、Map或List
+	 * @param length         使用的片段数
+	 * @param nextNumberPart 最后一个片段是否为数字
+	 * @param value          值
+	 */
+	private void set(Object json, int length, boolean nextNumberPart, Object value) {
+		Object parent = get(json, length - 1);
+		if (null == parent) {
+			// 当前节点是空，则先创建父节点
+			set(json, length - 1, NumberUtil.isInteger(segments[length - 2].part),
+					nextNumberPart ? new ArrayList<>() : new HashMap<>());
+			//set中有可能做过转换，因此此处重新获取
+			parent = get(json, length - 1);
+		}
+
+		final Object newParent = BeanUtil.setFieldValue(parent, segments[length - 1].part, value);
+		if (newParent != parent) {
+			// 对象变更，重新加入
+			set(json, length - 1, nextNumberPart, newParent);
+		}
+	}
+
+	/**
+	 * 解析表达式，分段规则与{@link BeanPath}一致，另外支持通配符和递归片段
+	 *
+	 * @param expression 表达式
+	 * @param segments   解析后的片段
+	 * @return 是否以$开头
+	 */
+	private static boolean parse(String expression, List<Segment> segments) {
+		boolean isStartWith = false;
+		final int length = expression.length();
+		final StringBuilder builder = new StringBuilder();
+		char c;
+		boolean isNumStart = false;// 下标标识符开始
+		boolean isInWrap = false; //标识是否在引号内
+		boolean isWrapped = false;// 当前片段是否包含引号
+		boolean isDescendant = false;// 当前片段是否为递归片段
+		for (int i = 0; i < length; i++) {
+			c = expression.charAt(i);
+			if (0 == i && '$' == c) {
+				// 忽略开头的$符，表示当前对象
+				isStartWith = true;
+				continue;
+			}
+
+			if ('\'' == c) {
+				isInWrap = (false == isInWrap);
+				isWrapped = true;
+				continue;
+			}
+
+			if (false == isInWrap && ('.' == c || '[' == c || ']' == c)) {
+				if (']' == c) {
+					if (false == isNumStart) {
+						throw new IllegalArgumentException(StrUtil.format("Bad expression '{}':{}, we find ']' but no '[' !", expression, i));
+					}
+					isNumStart = false;
+				} else if (isNumStart) {
+					throw new IllegalArgumentException(StrUtil.format("Bad expression '{}':{}, we find '[' but no ']' !", expression, i));
+				} else if ('[' == c) {
+					isNumStart = true;
+				}
+
+				if (builder.length() > 0) {
+					segments.add(new Segment(builder.toString(), isWrapped, isDescendant));
+					isDescendant = false;
+				}
+				builder.setLength(0);
+				isWrapped = false;
+
+				if ('.' == c && i + 1 < length && '.' == expression.charAt(i + 1)) {
+					// ..name
+					isDescendant = true;
+					i++;
+				}
+			} else {
+				builder.append(c);
+			}
+		}
+
+		if (isNumStart) {
+			throw new IllegalArgumentException(StrUtil.format("Bad expression '{}':{}, we find '[' but no ']' !", expression, length - 1));
+		}
+		if (builder.length() > 0) {
+			segments.add(new Segment(builder.toString(), isWrapped, isDescendant));
+		} else if (isDescendant) {
+			throw new IllegalArgumentException(StrUtil.format("Bad expression '{}', no name after '..' !", expression));
+		}
+		return isStartWith;
+	}
+	//endregion
+
+	/**
+	 * 路径片段
+	 */
+	private static class Segment {
+		private final int type;
+		/**
+		 * 原始片段
+		 */
+		private final String part;
+		/**
+		 * 键名，递归片段中{@code null}表示所有值
+		 */
+		private final String name;
+		/**
+		 * 片段为下标时的值
+		 */
+		private final int index;
+		private final boolean isIndex;
+		/**
+		 * 多值片段的键和下标，下标无法解析时为{@code null}
+		 */
+		private final String[] keys;
+		private final int[] indexes;
+		/**
+		 * 切片的开始、结束和步进
+		 */
+		private final int start;
+		private final int end;
+		private final int step;
+
+		/**
+		 * 构造
+		 *
+		 * @param part         原始片段
+		 * @param isWrapped    片段是否被引号包围，包围的*不作为通配符
+		 * @param isDescendant 是否为..后的递归片段
+		 */
+		Segment(String part, boolean isWrapped, boolean isDescendant) {
+			this.part = part;
+			final boolean isWildcard = false == isWrapped && "*".equals(part);
+			int index = 0;
+			boolean isIndex = false;
+			String[] keys = null;
+			int[] indexes = null;
+			int start = 0, end = 0, step = 1;
+
+			if (isDescendant) {
+				this.type = DESCENDANT;
+				this.name = isWildcard ? null : part;
+			} else if (isWildcard) {
+				this.type = WILDCARD;
+				this.name = null;
+			} else if (StrUtil.contains(part, ':')) {
+				// [start:end:step] 模式
+				this.type = SLICE;
+				this.name = null;
+				final List<String> parts = StrUtil.splitTrim(part, ':');
+				start = Integer.parseInt(parts.get(0));
+				end = Integer.parseInt(parts.get(1));
+				if (3 == parts.size()) {
+					step = Integer.parseInt(parts.get(2));
+				}
+			} else if (StrUtil.contains(part, ',')) {
+				// [num0,num1,num2...]模式或者['key0','key1']模式
+				this.type = MULTI;
+				this.name = null;
+				final List<String> parts = StrUtil.splitTrim(part, ',');
+				keys = new String[parts.size()];
+				indexes = new int[parts.size()];
+				for (int i = 0; i < keys.length; i++) {
+					keys[i] = StrUtil.unWrap(parts.get(i), '\'');
+					if (null != indexes) {
+						if (NumberUtil.isInteger(keys[i])) {
+							indexes[i] = Integer.parseInt(keys[i]);
+						} else {
+							indexes = null;
+						}
+					}
+				}
+			} else {
+				this.type = NAME;
+				this.name = part;
+				if (NumberUtil.isInteger(part)) {
+					index = Integer.parseInt(part);
+					isIndex = true;
+				}
+			}
+
+			this.index = index;
+			this.isIndex = isIndex;
+			this.keys = keys;
+			this.indexes = indexes;
+			this.start = start;
+			this.end = end;
+			this.step = step;
+		}
+
+		/**
+		 * 获取值，规则与{@link BeanPath}一致
+		 *
+		 * @param bean JSON、Bean、Map或集合等
+		 * @return 值
+		 */
+		@SuppressWarnings("unchecked")
+		Object getValue(Object bean) {
+			if (null == bean) {
+				return null;
+			}
+			switch (type) {
+				case NAME:
+					return getNameValue(bean);
+				case SLICE:
+					if (bean instanceof Collection) {
+						return CollUtil.sub((Collection<?>) bean, start, end, step);
+					} else if (ArrayUtil.isArray(bean)) {
+						return ArrayUtil.sub(bean, start, end, step);
+					}
+					return null;
+				case MULTI:
+					if (bean instanceof Collection) {
+						return null == indexes ? null : CollUtil.getAny((Collection<?>) bean, indexes);
+					} else if (ArrayUtil.isArray(bean)) {
+						return null == indexes ? null : ArrayUtil.getAny(bean, indexes);
+					} else if (bean instanceof Map) {
+						// 只支持String为key的Map
+						return MapUtil.getAny((Map<String, ?>) bean, keys);
+					}
+					return MapUtil.getAny(BeanUtil.beanToMap(bean), keys);
+				default:
+					// 通配符和递归片段只在getAll中使用
+					throw new IllegalStateException("Unsupported segment type: " + type);
+			}
+		}
+
+		/**
+		 * 获取键或下标对应的值，规则与{@link BeanUtil#getFieldValue(Object, String)}一致
+		 *
+		 * @param bean JSON、Bean、Map或集合等
+		 * @return 值
+		 */
+		private Object getNameValue(Object bean) {
+			if (StrUtil.isBlank(name)) {
+				return null;
+			}
+			if (bean instanceof Map) {
+				return ((Map<?, ?>) bean).get(name);
+			} else if (bean instanceof Collection) {
+				if (isIndex) {
+					return CollUtil.get((Collection<?>) bean, index);
+				}
+				// 非数字，获取每个元素中的值
+				return CollUtil.map((Collection<?>) bean, this::getNameValue, false);
+			} else if (ArrayUtil.isArray(bean)) {
+				if (isIndex) {
+					return ArrayUtil.get(bean, index);
+				}
+				return ArrayUtil.map(bean, Object.class, this::getNameValue);
+			}
+			return BeanUtil.getFieldValue(bean, name);
+		}
+
+		/**
+		 * 将匹配的值加入结果列表，普通片段的值为{@code null}时忽略
+		 *
+		 * @param bean   JSON、Bean、Map或集合等
+		 * @param values 结果列表
+		 */
+		void collect(Object bean, List<Object> values) {
+			switch (type) {
+				case WILDCARD:
+					addChildren(bean, values);
+					break;
+				case DESCENDANT:
+					addDescendants(bean, values);
+					break;
+				default:
+					final Object value = getValue(bean);
+					if (null != value) {
+						values.add(value);
+					}
+			}
+		}
+
+		/**
+		 * 递归查找所有层级中的匹配值，先加入当前层级的值，再查找子节点
+		 *
+		 * @param bean   JSON、Map或集合等
+		 * @param values 结果列表
+		 */
+		private void addDescendants(Object bean, List<Object> values) {
+			if (bean instanceof Map) {
+				final Map<?, ?> map = (Map<?, ?>) bean;
+				if (null == name) {
+					values.addAll(map.values());
+				} else if (map.containsKey(name)) {
+					values.add(map.get(name));
+				}
+				for (final Object value : map.values()) {
+					addDescendants(value, values);
+				}
+			} else if (bean instanceof Iterable) {
+				for (final Object value : (Iterable<?>) bean) {
+					if (null == name) {
+						values.add(value);
+					}
+					addDescendants(value, values);
+				}
+			} else if (ArrayUtil.isArray(bean)) {
+				for (final Object value : new ArrayIter<>(bean)) {
+					if (null == name) {
+						values.add(value);
+					}
+					addDescendants(value, values);
+				}
+			}
+		}
+
+		/**
+		 * 加入Map中所有的值或集合中所有的元素
+		 *
+		 * @param bean   JSON、Map或集合等
+		 * @param values 结果列表
+		 */
+		private static void addChildren(Object bean, List<Object> values) {
+			if (bean instanceof Map) {
+				values.addAll(((Map<?, ?>) bean).values());
+			} else if (bean instanceof Collection) {
+				values.addAll((Collection<?>) bean);
+			} else if (ArrayUtil.isArray(bean)) {
+				for (final Object value : new ArrayIter<>(bean)) {
+					values.add(value);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,588 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.ObjectUtil;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 拉取式（Pull）的JSON流读取器，与{@link cn.hutool.json.serialize.JSONWriter}对应<br>
+ * 通过{@link #peek()}查看下一个元素的类型，再调用对应的方法读取，读取过程中只保存当前的嵌套层级，内存占用与JSON大小无关，适用于读取大文件：
+ * <pre>
+ * JSONReader reader = JSONReader.of(new FileReader("data.json"));
+ * reader.beginObject();
+ * while (reader.hasNext()) {
+ *     String name = reader.nextName();
+ *     if ("items".equals(name)) {
+ *         Iterator&lt;Item&gt; items = reader.arrayIterator(Item.class);
+ *         ...
+ *     } else {
+ *         reader.skipValue();
+ *     }
+ * }
+ * reader.endObject();
+ * </pre>
+ * 语法规则与{@link JSONTokener}一致，支持单引号字符串、不带引号的键和值以及尾后逗号。
+ * 顶层可以连续存放多个JSON值（如JSON Lines），全部读取完毕或文档为空时{@link #peek()}返回{@link Token#END_DOCUMENT}。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class JSONReader implements Closeable {
+
+	/**
+	 * JSON元素类型
+	 */
+	public enum Token {
+		/**
+		 * JSONObject开始，即"{"
+		 */
+		BEGIN_OBJECT,
+		/**
+		 * JSONObject结束，即"}"
+		 */
+		END_OBJECT,
+		/**
+		 * JSONArray开始，即"["
+		 */
+		BEGIN_ARRAY,
+		/**
+		 * JSONArray结束，即"]"
+		 */
+		END_ARRAY,
+		/**
+		 * 键
+		 */
+		NAME,
+		/**
+		 * 字符串值
+		 */
+		STRING,
+		/**
+		 * 数字值
+		 */
+		NUMBER,
+		/**
+		 * boolean值
+		 */
+		BOOLEAN,
+		/**
+		 * null值
+		 */
+		NULL,
+		/**
+		 * 读取结束
+		 */
+		END_DOCUMENT
+	}
+
+	// 嵌套层级的状态
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_OBJECT = 2;
+	private static final int DANGLING_NAME = 3;
+	private static final int NONEMPTY_OBJECT = 4;
+	private static final int EMPTY_ARRAY = 5;
+	private static final int NONEMPTY_ARRAY = 6;
+
+	/**
+	 * 从{@link Reader}创建，使用默认配置
+	 *
+	 * @param reader {@link Reader}
+	 * @return JSONReader
+	 */
+	public static JSONReader of(Reader reader) {
+		return of(reader, null);
+	}
+
+	/**
+	 * 从{@link Reader}创建
+	 *
+	 * @param reader {@link Reader}
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @return JSONReader
+	 */
+	public static JSONReader of(Reader reader, JSONConfig config) {
+		return new JSONReader(reader, config);
+	}
+
+	/**
+	 * 从{@link InputStream}创建，使用UTF-8编码
+	 *
+	 * @param in     {@link InputStream}
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @return JSONReader
+	 */
+	public static JSONReader of(InputStream in, JSONConfig config) {
+		return new JSONReader(IoUtil.getUtf8Reader(in), config);
+	}
+
+	private final Reader reader;
+	private final JSONTokener tokener;
+	private final JSONConfig config;
+
+	/**
+	 * 嵌套层级的状态栈
+	 */
+	private int[] stack = new int[32];
+	private int stackSize;
+
+	/**
+	 * 已读取但未被消费的元素类型
+	 */
+	private Token peeked;
+	/**
+	 * 已读取但未被消费的键或值
+	 */
+	private Object peekedValue;
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}
+	 * @param config JSON配置，{@code null}表示默认配置
+	 */
+	public JSONReader(Reader reader, JSONConfig config) {
+		this.reader = reader;
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+		this.tokener = new JSONTokener(reader, this.config);
+		push(EMPTY_DOCUMENT);
+	}
+
+	/**
+	 * 查看下一个元素的类型，不消费此元素
+	 *
+	 * @return 元素类型
+	 * @throws JSONException 语法错误
+	 */
+	public Token peek() throws JSONException {
+		if (null != peeked) {
+			return peeked;
+		}
+
+		final JSONTokener tokener = this.tokener;
+		char c;
+		switch (stack[stackSize - 1]) {
+			case EMPTY_DOCUMENT:
+				stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+				// 空文档与顶层值全部读取完毕相同
+			case NONEMPTY_DOCUMENT:
+				if (0 == tokener.nextClean()) {
+					return peeked = Token.END_DOCUMENT;
+				}
+				tokener.back();
+				return readValue();
+			case EMPTY_ARRAY:
+				stack[stackSize - 1] = NONEMPTY_ARRAY;
+				if (']' == tokener.nextClean()) {
+					return peeked = Token.END_ARRAY;
+				}
+				tokener.back();
+				return readValue();
+			case NONEMPTY_ARRAY:
+				c = tokener.nextClean();
+				if (']' == c) {
+					return peeked = Token.END_ARRAY;
+				}
+				if (',' != c) {
+					throw tokener.syntaxError("Expected a ',' or ']'");
+				}
+				if (']' == tokener.nextClean()) {
+					// 尾后逗号
+					return peeked = Token.END_ARRAY;
+				}
+				tokener.back();
+				return readValue();
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				c = tokener.nextClean();
+				if (NONEMPTY_OBJECT == stack[stackSize - 1]) {
+					if (',' == c || ';' == c) {
+						// 尾后逗号
+						c = tokener.nextClean();
+					} else if ('}' != c) {
+						throw tokener.syntaxError("Expected a ',' or '}'");
+					}
+				}
+				if ('}' == c) {
+					return peeked = Token.END_OBJECT;
+				}
+				return readName(c);
+			case DANGLING_NAME:
+				stack[stackSize - 1] = NONEMPTY_OBJECT;
+				return readValue();
+			default:
+				throw new IllegalStateException("JSONReader is closed!");
+		}
+	}
+
+	/**
+	 * 是否还有下一个元素，即当前JSONObject或JSONArray未结束，或还有顶层的值未读取
+	 *
+	 * @return 是否还有下一个元素
+	 */
+	public boolean hasNext() {
+		final Token token = peek();
+		return Token.END_OBJECT != token && Token.END_ARRAY != token && Token.END_DOCUMENT != token;
+	}
+
+	/**
+	 * 消费JSONObject的开始
+	 */
+	public void beginObject() {
+		expect(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+		peeked = null;
+	}
+
+	/**
+	 * 消费JSONObject的结束
+	 */
+	public void endObject() {
+		expect(Token.END_OBJECT);
+		stackSize--;
+		peeked = null;
+	}
+
+	/**
+	 * 消费JSONArray的开始
+	 */
+	public void beginArray() {
+		expect(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+		peeked = null;
+	}
+
+	/**
+	 * 消费JSONArray的结束
+	 */
+	public void endArray() {
+		expect(Token.END_ARRAY);
+		stackSize--;
+		peeked = null;
+	}
+
+	/**
+	 * 读取键
+	 *
+	 * @return 键
+	 */
+	public String nextName() {
+		expect(Token.NAME);
+		return (String) consume();
+	}
+
+	/**
+	 * 读取字符串值，数字和boolean值转为字符串
+	 *
+	 * @return 字符串
+	 */
+	public String nextString() {
+		final Token token = peek();
+		if (Token.STRING != token && Token.NUMBER != token && Token.BOOLEAN != token) {
+			throw unexpected(Token.STRING, token);
+		}
+		return consume().toString();
+	}
+
+	/**
+	 * 读取数字值，字符串值将被解析为数字
+	 *
+	 * @return 数字
+	 */
+	public Number nextNumber() {
+		final Token token = peek();
+		if (Token.NUMBER == token) {
+			return (Number) consume();
+		}
+		if (Token.STRING == token) {
+			try {
+				return NumberUtil.parseNumber((String) peekedValue);
+			} catch (NumberFormatException e) {
+				throw tokener.syntaxError("Expected a number but was '" + peekedValue + "'");
+			} finally {
+				consume();
+			}
+		}
+		throw unexpected(Token.NUMBER, token);
+	}
+
+	/**
+	 * 读取int值
+	 *
+	 * @return int值
+	 */
+	public int nextInt() {
+		return nextNumber().intValue();
+	}
+
+	/**
+	 * 读取long值
+	 *
+	 * @return long值
+	 */
+	public long nextLong() {
+		return nextNumber().longValue();
+	}
+
+	/**
+	 * 读取double值
+	 *
+	 * @return double值
+	 */
+	public double nextDouble() {
+		return nextNumber().doubleValue();
+	}
+
+	/**
+	 * 读取boolean值
+	 *
+	 * @return boolean值
+	 */
+	public boolean nextBoolean() {
+		expect(Token.BOOLEAN);
+		return (Boolean) consume();
+	}
+
+	/**
+	 * 读取null值
+	 */
+	public void nextNull() {
+		expect(Token.NULL);
+		consume();
+	}
+
+	/**
+	 * 读取下一个完整的值，JSONObject和JSONArray读取为{@link JSONObject}和{@link JSONArray}，null值读取为{@link JSONNull#NULL}
+	 *
+	 * @return 值
+	 */
+	public Object nextValue() {
+		final Token token = peek();
+		switch (token) {
+			case BEGIN_OBJECT:
+				// peek只读取到"{"，回退后由JSONObject解析
+				peeked = null;
+				tokener.back();
+				return new JSONObject(tokener, config);
+			case BEGIN_ARRAY:
+				peeked = null;
+				tokener.back();
+				return new JSONArray(tokener, config);
+			case STRING:
+			case NUMBER:
+			case BOOLEAN:
+			case NULL:
+				return consume();
+			default:
+				throw tokener.syntaxError("Expected a value but was " + token);
+		}
+	}
+
+	/**
+	 * 读取下一个完整的值并转换为指定类型，JSONObject转普通Bean时直接注入，不创建中间的{@link JSONObject}
+	 *
+	 * @param <T>  值类型
+	 * @param type 值类型
+	 * @return 值
+	 * @see JSONBeanDeserializer
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T nextBean(Type type) {
+		if (Token.BEGIN_OBJECT == peek() && JSONBeanDeserializer.isSupported(type)) {
+			peeked = null;
+			tokener.back();
+			return JSONBeanDeserializer.of(tokener, config).toBean(type);
+		}
+
+		final Object value = nextValue();
+		if (type instanceof Class && ((Class<?>) type).isInstance(value)) {
+			return (T) value;
+		}
+		return JSONConverter.jsonConvert(type, value, config);
+	}
+
+	/**
+	 * 跳过下一个完整的值，包括嵌套的JSONObject和JSONArray
+	 */
+	public void skipValue() {
+		int depth = 0;
+		do {
+			switch (peek()) {
+				case BEGIN_OBJECT:
+					beginObject();
+					depth++;
+					break;
+				case BEGIN_ARRAY:
+					beginArray();
+					depth++;
+					break;
+				case END_OBJECT:
+					endObject();
+					depth--;
+					break;
+				case END_ARRAY:
+					endArray();
+					depth--;
+					break;
+				case END_DOCUMENT:
+					throw tokener.syntaxError("Unexpected end of document");
+				default:
+					consume();
+			}
+		} while (depth > 0);
+	}
+
+	/**
+	 * 以迭代器的方式逐个读取下一个JSONArray中的元素并转为指定类型，只在迭代时读取，不会将整个JSONArray读入内存<br>
+	 * 迭代结束后JSONArray的结束也被消费。
+	 *
+	 * @param <T>         元素类型
+	 * @param elementType 元素类型，{@link JSONObject}表示读取为JSONObject
+	 * @return 元素迭代器
+	 */
+	public <T> Iterator<T> arrayIterator(Type elementType) {
+		beginArray();
+		return new Iterator<T>() {
+			private boolean ended;
+
+			@Override
+			public boolean hasNext() {
+				if (ended) {
+					return false;
+				}
+				if (JSONReader.this.hasNext()) {
+					return true;
+				}
+				endArray();
+				ended = true;
+				return false;
+			}
+
+			@Override
+			public T next() {
+				if (false == hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return nextBean(elementType);
+			}
+		};
+	}
+
+	/**
+	 * 以迭代器的方式逐个读取下一个JSONArray中的JSONObject
+	 *
+	 * @return JSONObject迭代器
+	 * @see #arrayIterator(Type)
+	 */
+	public Iterator<JSONObject> arrayIterator() {
+		return arrayIterator(JSONObject.class);
+	}
+
+	/**
+	 * 关闭，同时关闭{@link Reader}
+	 */
+	@Override
+	public void close() {
+		stack[0] = -1;
+		stackSize = 1;
+		IoUtil.close(reader);
+	}
+
+	@Override
+	public String toString() {
+		return "JSONReader" + tokener;
+	}
+
+	//--------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 读取值，JSONObject和JSONArray只读取开始字符
+	 *
+	 * @return 值类型
+	 */
+	private Token readValue() {
+		final char c = tokener.nextClean();
+		switch (c) {
+			case 0:
+				throw tokener.syntaxError("Unexpected end of document");
+			case '{':
+				return peeked = Token.BEGIN_OBJECT;
+			case '[':
+				return peeked = Token.BEGIN_ARRAY;
+			default:
+				tokener.back();
+				peekedValue = tokener.nextValue();
+				if (peekedValue instanceof Boolean) {
+					return peeked = Token.BOOLEAN;
+				} else if (peekedValue instanceof Number) {
+					return peeked = Token.NUMBER;
+				} else if (JSONNull.NULL.equals(peekedValue)) {
+					return peeked = Token.NULL;
+				}
+				return peeked = Token.STRING;
+		}
+	}
+
+	/**
+	 * 读取键及其后的":"
+	 *
+	 * @param c 键的第一个字符
+	 * @return {@link Token#NAME}
+	 */
+	private Token readName(char c) {
+		final JSONTokener tokener = this.tokener;
+		switch (c) {
+			case 0:
+				throw tokener.syntaxError("A JSONObject text must end with '}'");
+			case '{':
+			case '[':
+				throw tokener.syntaxError("A JSONObject can not directly nest another JSONObject or JSONArray.");
+			case '"':
+			case '\'':
+				peekedValue = tokener.nextString(c);
+				break;
+			default:
+				tokener.back();
+				peekedValue = tokener.nextValue().toString();
+		}
+		if (':' != tokener.nextClean()) {
+			throw tokener.syntaxError("Expected a ':' after a key");
+		}
+		stack[stackSize - 1] = DANGLING_NAME;
+		return peeked = Token.NAME;
+	}
+
+	private Object consume() {
+		final Object value = peekedValue;
+		peeked = null;
+		peekedValue = null;
+		return value;
+	}
+
+	private void expect(Token expected) {
+		final Token token = peek();
+		if (expected != token) {
+			throw unexpected(expected, token);
+		}
+	}
+
+	private JSONException unexpected(Token expected, Token actual) {
+		return tokener.syntaxError("Expected " + expected + " but was " + actual);
+	}
+
+	private void push(int scope) {
+		if (stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stackSize << 1);
+		}
+		stack[stackSize++] = scope;
+	}
+	//--------------------------------------------------------------------------------------- Private method end
+}
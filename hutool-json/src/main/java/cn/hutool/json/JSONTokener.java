@@ -1,16 +1,21 @@
 package cn.hutool.json;
 
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.StrUtil;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 
 /**
- * JSON解析器，用于将JSON字符串解析为JSONObject或者JSONArray
+ * JSON解析器，用于将JSON字符串解析为JSONObject或者JSONArray<br>
+ * 对于字符串、char[]和byte[]等内存中的数据，直接按下标读取字符数组，不经过{@link Reader}，
+ * 字符串值无转义时整体截取，整数值直接从字符计算，不创建中间字符串。
  *
  * @author from JSON.org
  */
@@ -38,9 +43,25 @@ public class JSONTokener {
 	 */
 	private boolean usePrevious;
 	/**
-	 * 源
+	 * 源，内存中的数据为{@code null}
 	 */
 	private final Reader reader;
+	/**
+	 * 内存中的字符，源为{@link Reader}时为{@code null}
+	 */
+	private char[] chars;
+	/**
+	 * 字符数组中有效字符的起始位置
+	 */
+	private int offset;
+	/**
+	 * 字符数组中有效字符的结束位置（不包含）
+	 */
+	private int limit;
+	/**
+	 * 字符数组中下一个读取的位置，可能超过limit，超出部分表示读取到的结尾
+	 */
+	private int pos;
 
 	/**
 	 * JSON配置
@@ -57,6 +78,8 @@ public class JSONTokener {
 	 */
 	public JSONTokener(Reader reader, JSONConfig config) {
 		this.reader = reader.markSupported() ? reader : new BufferedReader(reader);
+		this.chars = null;
+		this.limit = 0;
 		this.eof = false;
 		this.usePrevious = false;
 		this.previous = 0;
@@ -83,14 +106,91 @@ public class JSONTokener {
 	 * @param config JSON配置
 	 */
 	public JSONTokener(CharSequence s, JSONConfig config) {
-		this(new StringReader(StrUtil.str(s)), config);
+		this(StrUtil.str(s).toCharArray(), config);
+	}
+
+	/**
+	 * 从UTF-8编码的byte[]中构建
+	 *
+	 * @param utf8Bytes UTF-8编码的JSON
+	 * @param config    JSON配置
+	 * @since 5.8.19
+	 */
+	public JSONTokener(byte[] utf8Bytes, JSONConfig config) {
+		this(CharsetUtil.CHARSET_UTF_8.decode(ByteBuffer.wrap(utf8Bytes)), config);
+	}
+
+	/**
+	 * 从字符数组中构建，解析过程中直接读取此数组，不复制
+	 *
+	 * @param chars  JSON字符数组
+	 * @param config JSON配置
+	 * @since 5.8.19
+	 */
+	public JSONTokener(char[] chars, JSONConfig config) {
+		this(chars, chars.length, config);
+	}
+
+	/**
+	 * 从解码后的字符中构建
+	 *
+	 * @param charBuffer 堆内的{@link CharBuffer}
+	 * @param config     JSON配置
+	 */
+	private JSONTokener(CharBuffer charBuffer, JSONConfig config) {
+		this(charBuffer.array(), charBuffer.limit(), config);
+	}
+
+	/**
+	 * 从字符数组中构建
+	 *
+	 * @param chars  JSON字符数组
+	 * @param limit  有效字符数
+	 * @param config JSON配置
+	 */
+	private JSONTokener(char[] chars, int limit, JSONConfig config) {
+		this.reader = null;
+		this.chars = chars;
+		this.limit = limit;
+		this.eof = false;
+		this.usePrevious = false;
+		this.previous = 0;
+		this.config = config;
 	}
 	// ------------------------------------------------------------------------------------ Constructor end
 
+	/**
+	 * 重置为解析字符数组中的指定范围，用于逐条解析多个JSON时复用解析器和字符数组，仅支持内存中的数据
+	 *
+	 * @param chars  JSON字符数组，解析过程中直接读取此数组，不复制
+	 * @param offset 起始位置
+	 * @param length 长度
+	 * @return this
+	 */
+	JSONTokener reset(char[] chars, int offset, int length) {
+		Assert.isNull(this.reader, "Reader tokener can not be reset!");
+		this.chars = chars;
+		this.offset = offset;
+		this.limit = offset + length;
+		this.pos = offset;
+		this.eof = false;
+		this.usePrevious = false;
+		this.previous = 0;
+		return this;
+	}
+
 	/**
 	 * 将标记回退到第一个字符，重新开始解析新的JSON
 	 */
 	public void back() throws JSONException {
+		if (null != this.chars) {
+			if (this.pos <= this.offset) {
+				throw new JSONException("Stepping back two steps is not supported");
+			}
+			this.pos -= 1;
+			this.eof = false;
+			return;
+		}
 		if (this.usePrevious || this.index <= 0) {
 			throw new JSONException("Stepping back two steps is not supported");
 		}
@@ -128,6 +228,17 @@ public class JSONTokener {
 	 * @throws JSONException JSON异常，包装IO异常
 	 */
 	public char next() throws JSONException {
+		if (null != this.chars) {
+			// 超出结尾的位置依旧计数，以便回退
+			final char c = this.pos < this.limit ? this.chars[this.pos] : 0;
+			this.pos++;
+			if (c == 0) {
+				this.eof = true;
+			}
+			this.previous = c;
+			return c;
+		}
+
 		int c;
 		if (this.usePrevious) {
 			this.usePrevious = false;
@@ -232,7 +343,29 @@ public class JSONTokener {
 	 */
 	public String nextString(char quote) throws JSONException {
 		char c;
-		StringBuilder sb = new StringBuilder();
+		final StringBuilder sb;
+		if (null != this.chars) {
+			// 无转义的字符串直接截取
+			final char[] chars = this.chars;
+			final int start = this.pos;
+			int i = start;
+			for (; i < this.limit; i++) {
+				c = chars[i];
+				if (c == quote) {
+					this.pos = i + 1;
+					this.previous = c;
+					return new String(chars, start, i - start);
+				}
+				if (c == '\\' || c == '\n' || c == '\r' || c == 0) {
+					break;
+				}
+			}
+			// 有转义等情况，已扫描的部分直接加入，余下部分逐个字符处理
+			sb = new StringBuilder(i - start + 16).append(chars, start, i - start);
+			this.pos = i;
+		} else {
+			sb = new StringBuilder();
+		}
 		while (true) {
 			c = this.next();
 			switch (c) {
@@ -358,6 +491,10 @@ public class JSONTokener {
 		 * characters until we reach the end of the text or a formatting character.
 		 */
 
+		if (null != this.chars) {
+			return nextUnquotedValue();
+		}
+
 		final StringBuilder sb = new StringBuilder();
 		while (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
 			sb.append(c);
@@ -379,6 +516,17 @@ public class JSONTokener {
 	 * @return 定位的字符，如果字符未找到返回0
 	 */
 	public char skipTo(char to) throws JSONException {
+		if (null != this.chars) {
+			for (int i = this.pos; i < this.limit; i++) {
+				if (this.chars[i] == to) {
+					this.pos = i;
+					this.previous = to;
+					return to;
+				}
+			}
+			return 0;
+		}
+
 		char c;
 		try {
 			long startIndex = this.index;
@@ -457,6 +605,97 @@ public class JSONTokener {
 	 */
 	@Override
 	public String toString() {
+		if (null != this.chars) {
+			return toArrayPositionString();
+		}
 		return " at " + this.index + " [character " + this.character + " line " + this.line + "]";
 	}
+
+	/**
+	 * 读取不带引号的值，值为true、false、null、数字或字符串，规则与{@link InternalJSONUtil#stringToValue(String)}一致<br>
+	 * 不超过18位的整数直接从字符计算，不创建中间字符串。
+	 *
+	 * @return 值
+	 */
+	private Object nextUnquotedValue() {
+		final char[] chars = this.chars;
+		// nextValue中已读取第一个字符
+		int start = this.pos - 1;
+		int end = start;
+		char c;
+		while (end < this.limit) {
+			c = chars[end];
+			if (c < ' ' || ",:]}/\\\"[{;=#".indexOf(c) >= 0) {
+				break;
+			}
+			end++;
+		}
+		// 与读取到结束字符后回退一致
+		this.pos = end;
+		this.previous = end < this.limit ? chars[end] : 0;
+
+		// 去除首尾空格，范围内只可能有空格这一种空白符
+		while (start < end && chars[start] == ' ') {
+			start++;
+		}
+		while (end > start && chars[end - 1] == ' ') {
+			end--;
+		}
+		if (start == end) {
+			throw this.syntaxError("Missing value");
+		}
+
+		final int length = end - start;
+		final int digitStart = chars[start] == '-' ? start + 1 : start;
+		final int digitLength = end - digitStart;
+		if (digitLength > 0 && digitLength <= 18
+				// 与Long.toString结果不一致的形式，如前导0和"-0"，交由stringToValue处理
+				&& (chars[digitStart] != '0' || (digitLength == 1 && digitStart == start))) {
+			long value = 0;
+			int i = digitStart;
+			for (; i < end; i++) {
+				c = chars[i];
+				if (c < '0' || c > '9') {
+					break;
+				}
+				value = value * 10 + (c - '0');
+			}
+			if (i == end) {
+				if (digitStart > start) {
+					value = -value;
+				}
+				if (value == (int) value) {
+					return (int) value;
+				}
+				return value;
+			}
+		}
+		return InternalJSONUtil.stringToValue(new String(chars, start, length));
+	}
+
+	/**
+	 * 计算字符数组中当前位置的行列信息，格式与{@link #toString()}一致
+	 *
+	 * @return 位置信息
+	 */
+	private String toArrayPositionString() {
+		long character = 1;
+		long line = 1;
+		char previous = 0;
+		char c;
+		for (int i = this.offset; i < this.pos; i++) {
+			c = i < this.limit ? this.chars[i] : 0;
+			if (previous == '\r') {
+				line += 1;
+				character = c == '\n' ? 0 : 1;
+			} else if (c == '\n') {
+				line += 1;
+				character = 0;
+			} else {
+				character += 1;
+			}
+			previous = c;
+		}
+		return " at " + (this.pos - this.offset) + " [character " + character + " line " + line + "]";
+	}
 }
@@ -12,11 +12,13 @@ import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.json.serialize.GlobalSerializeMapping;
 import cn.hutool.json.serialize.JSONArraySerializer;
+import cn.hutool.json.serialize.JSONBeanWriter;
 import cn.hutool.json.serialize.JSONDeserializer;
 import cn.hutool.json.serialize.JSONObjectSerializer;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
@@ -286,6 +288,33 @@ public class JSONUtil {
 	public static JSONArray readJSONArray(File file, Charset charset) throws IORuntimeException {
 		return parseArray(FileReader.create(file, charset).readString());
 	}
+	/**
+	 * 读取JSON Lines（NDJSON），每行一条记录，返回的读取器使用后需关闭
+	 *
+	 * @param <T>    记录类型
+	 * @param reader {@link Reader}
+	 * @param type   记录类型，{@link JSONObject}表示读取为JSONObject
+	 * @return {@link JSONLinesReader}
+	 * @since 5.8.19
+	 */
+	public static <T> JSONLinesReader<T> readJSONLines(Reader reader, Class<T> type) {
+		return JSONLinesReader.of(reader, type);
+	}
+
+	/**
+	 * 读取JSON Lines（NDJSON）文件，每行一条记录，返回的读取器使用后需关闭
+	 *
+	 * @param <T>     记录类型
+	 * @param file    JSON Lines文件
+	 * @param charset 编码
+	 * @param type    记录类型，{@link JSONObject}表示读取为JSONObject
+	 * @return {@link JSONLinesReader}
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.19
+	 */
+	public static <T> JSONLinesReader<T> readJSONLines(File file, Charset charset, Class<T> type) throws IORuntimeException {
+		return JSONLinesReader.of(file, charset, type);
+	}
 	// -------------------------------------------------------------------- Read end
 
 	// -------------------------------------------------------------------- toString start
@@ -368,7 +397,12 @@ public class JSONUtil {
 		if (obj instanceof CharSequence) {
 			return StrUtil.str((CharSequence) obj);
 		}
-		return toJsonStr(parse(obj, jsonConfig));
+		final JSONConfig config = ObjectUtil.defaultIfNull(jsonConfig, JSONConfig::create);
+		if (JSONBeanWriter.isSupported(obj, config)) {
+			// 普通Bean直接写出，不创建中间的JSONObject
+			return beanToJsonStr(obj, 0, config);
+		}
+		return toJsonStr(parse(obj, config));
 	}
 
 	/**
@@ -380,10 +414,26 @@ public class JSONUtil {
 	 */
 	public static void toJsonStr(Object obj, Writer writer) {
 		if (null != obj) {
-			toJsonStr(parse(obj), writer);
+			final JSONConfig config = JSONConfig.create();
+			if (JSONBeanWriter.isSupported(obj, config)) {
+				JSONBeanWriter.of(obj.getClass()).write(obj, writer, 0, 0, config);
+				return;
+			}
+			toJsonStr(parse(obj, config), writer);
 		}
 	}
 
+	/**
+	 * 将多条记录转换为JSON Lines（NDJSON）写出到writer，每条记录一行，写出后刷新但不关闭writer
+	 *
+	 * @param records 记录
+	 * @param writer  Writer
+	 * @since 5.8.19
+	 */
+	public static void toJsonLines(Iterable<?> records, Writer writer) {
+		JSONLinesWriter.of(writer).writeAll(records).flush();
+	}
+
 	/**
 	 * 转换为格式化后的JSON字符串
 	 *
@@ -391,7 +441,26 @@ public class JSONUtil {
 	 * @return JSON字符串
 	 */
 	public static String toJsonPrettyStr(Object obj) {
-		return toJsonPrettyStr(parse(obj));
+		final JSONConfig config = JSONConfig.create();
+		if (JSONBeanWriter.isSupported(obj, config)) {
+			return beanToJsonStr(obj, 4, config);
+		}
+		return toJsonPrettyStr(parse(obj, config));
+	}
+
+	/**
+	 * 使用{@link JSONBeanWriter}将普通Bean直接转换为JSON字符串
+	 *
+	 * @param bean         Bean对象
+	 * @param indentFactor 每一级别的缩进
+	 * @param config       JSON配置
+	 * @return JSON字符串
+	 */
+	private static String beanToJsonStr(Object bean, int indentFactor, JSONConfig config) {
+		final StringWriter sw = new StringWriter();
+		synchronized (sw.getBuffer()) {
+			return JSONBeanWriter.of(bean.getClass()).write(bean, sw, indentFactor, 0, config).toString();
+		}
 	}
 
 	/**
@@ -417,7 +486,8 @@ public class JSONUtil {
 	 * @since 3.1.2
 	 */
 	public static <T> T toBean(String jsonString, Class<T> beanClass) {
-		return toBean(parseObj(jsonString), beanClass);
+		// 与parseObj(String)一致，JSON字符串不忽略空值
+		return toBean(jsonString, JSONConfig.create().setIgnoreNullValue(false), beanClass);
 	}
 
 	/**
@@ -432,6 +502,11 @@ public class JSONUtil {
 	 * @since 5.8.0
 	 */
 	public static <T> T toBean(String jsonString, JSONConfig config, Class<T> beanClass) {
+		if (JSONBeanDeserializer.isSupported(beanClass) && isTypeJSONObject(jsonString)) {
+			// 直接解析到Bean，不创建中间的JSONObject
+			config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+			return JSONBeanDeserializer.of(new JSONTokener(StrUtil.trim(jsonString), config), config).toBean(beanClass);
+		}
 		return toBean(parseObj(jsonString, config), beanClass);
 	}
 
@@ -472,7 +547,12 @@ public class JSONUtil {
 	 * @since 4.3.2
 	 */
 	public static <T> T toBean(String jsonString, Type beanType, boolean ignoreError) {
-		final JSON json = parse(jsonString, JSONConfig.create().setIgnoreError(ignoreError));
+		final JSONConfig config = JSONConfig.create().setIgnoreError(ignoreError);
+		if (JSONBeanDeserializer.isSupported(beanType) && isTypeJSONObject(jsonString)) {
+			// 直接解析到Bean，不创建中间的JSONObject
+			return JSONBeanDeserializer.of(new JSONTokener(StrUtil.trim(jsonString), config), config).toBean(beanType);
+		}
+		final JSON json = parse(jsonString, config);
 		if(null == json){
 			return null;
 		}
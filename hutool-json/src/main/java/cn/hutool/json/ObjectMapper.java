@@ -3,7 +3,6 @@ package cn.hutool.json;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.collection.ArrayIter;
 import cn.hutool.core.convert.Convert;
-import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutablePair;
@@ -101,7 +100,7 @@ public class ObjectMapper {
 		} else if (source instanceof InputStream) {
 			mapFromTokener(new JSONTokener((InputStream) source, jsonObject.getConfig()), jsonObject, filter);
 		} else if (source instanceof byte[]) {
-			mapFromTokener(new JSONTokener(IoUtil.toStream((byte[]) source), jsonObject.getConfig()), jsonObject, filter);
+			mapFromTokener(new JSONTokener((byte[]) source, jsonObject.getConfig()), jsonObject, filter);
 		} else if (source instanceof JSONTokener) {
 			// JSONTokener
 			mapFromTokener((JSONTokener) source, jsonObject, filter);
@@ -146,7 +145,7 @@ public class ObjectMapper {
 			final byte[] bytesSource = (byte[]) source;
 			// 如果是普通的的byte[], 要避免下标越界
 			if (bytesSource.length > 1 && '[' == bytesSource[0] && ']' == bytesSource[bytesSource.length - 1]) {
-				mapFromTokener(new JSONTokener(IoUtil.toStream(bytesSource), jsonArray.getConfig()), jsonArray, filter);
+				mapFromTokener(new JSONTokener(bytesSource, jsonArray.getConfig()), jsonArray, filter);
 			}else{
 				// https://github.com/dromara/hutool/issues/2369
 				// 非标准的二进制流，则按照普通数组对待
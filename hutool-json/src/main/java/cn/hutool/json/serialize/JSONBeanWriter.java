@@ -0,0 +1,394 @@
+package cn.hutool.json.serialize;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.collection.ArrayIter;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.json.JSON;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONString;
+import cn.hutool.json.JSONTokener;
+import cn.hutool.json.JSONUtil;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * Bean的JSON写出器<br>
+ * 原有流程中，Bean先通过{@link BeanUtil#beanToMap(Object, Map, cn.hutool.core.bean.copier.CopyOptions)}拷贝为{@link cn.hutool.json.JSONObject}，
+ * 再由{@link JSONWriter}写出，每个属性值通过反射读取，每次写出时键名都重新转义。此类按Bean类型编译并缓存写出计划：
+ * <ul>
+ *     <li>键名预先转义为char[]</li>
+ *     <li>getter或public字段通过{@link MethodHandle}绑定</li>
+ *     <li>属性值读取后直接写出到{@link JSONWriter}，嵌套的Bean、集合及数组递归写出，不创建中间的JSONObject、JSONArray或属性值数组</li>
+ * </ul>
+ * 值的转换规则与{@link JSONUtil#wrap(Object, JSONConfig)}一致，写出结果与原有流程相同：
+ * 嵌套值转换失败时为{@code null}，此时撤销该值已写出的部分并写出{@code null}，因此写出到可回退的缓存（{@link StringWriter}直接写出）后再写出到目标。
+ *
+ * @author looly
+ * @since 5.8.19
+ */
+public class JSONBeanWriter {
+
+	/**
+	 * 写出计划缓存
+	 */
+	private static final WeakConcurrentMap<Class<?>, JSONBeanWriter> WRITER_CACHE = new WeakConcurrentMap<>();
+	/**
+	 * 类是否为可直接写出的Bean的缓存
+	 */
+	private static final WeakConcurrentMap<Class<?>, Boolean> BEAN_CLASS_CACHE = new WeakConcurrentMap<>();
+
+	/**
+	 * 获取Bean类对应的写出器，写出器创建后被缓存
+	 *
+	 * @param beanClass Bean类
+	 * @return JSONBeanWriter
+	 */
+	public static JSONBeanWriter of(Class<?> beanClass) {
+		return WRITER_CACHE.computeIfAbsent(beanClass, JSONBeanWriter::new);
+	}
+
+	/**
+	 * 指定对象是否可以直接写出，规则如下：
+	 * <ul>
+	 *     <li>配置中未指定键排序且不忽略大小写（此两种情况下JSONObject会对键排序或转换）</li>
+	 *     <li>对象为非JDK的普通可读Bean，且无自定义序列化器</li>
+	 * </ul>
+	 *
+	 * @param bean   对象
+	 * @param config JSON配置
+	 * @return 是否可以直接写出
+	 */
+	public static boolean isSupported(Object bean, JSONConfig config) {
+		return null != bean
+				&& null == config.getKeyComparator()
+				&& false == config.isIgnoreCase()
+				&& isSupportedBean(bean);
+	}
+
+	/**
+	 * 读取属性的计划，包括全部可读属性和非transient的可读属性两种
+	 */
+	private final PropWriter[] props;
+	private final PropWriter[] nonTransientProps;
+
+	/**
+	 * 构造
+	 *
+	 * @param beanClass Bean类
+	 */
+	public JSONBeanWriter(Class<?> beanClass) {
+		final List<PropWriter> props = new ArrayList<>();
+		final List<PropWriter> nonTransientProps = new ArrayList<>();
+		for (final PropDesc propDesc : BeanUtil.getBeanDesc(beanClass).getProps()) {
+			if (false == propDesc.isReadable(false)) {
+				continue;
+			}
+			final PropWriter propWriter = new PropWriter(propDesc);
+			props.add(propWriter);
+			if (propDesc.isReadable(true)) {
+				nonTransientProps.add(propWriter);
+			}
+		}
+		this.props = props.toArray(new PropWriter[0]);
+		this.nonTransientProps = nonTransientProps.toArray(new PropWriter[0]);
+	}
+
+	/**
+	 * 将Bean写出到Writer
+	 *
+	 * @param bean         Bean对象，类型需与创建写出器的类一致
+	 * @param writer       Writer
+	 * @param indentFactor 缩进因子，定义每一级别增加的缩进量
+	 * @param indent       本级别缩进量
+	 * @param config       JSON配置
+	 * @return Writer
+	 * @throws JSONException JSON相关异常
+	 */
+	public Writer write(Object bean, Writer writer, int indentFactor, int indent, JSONConfig config) throws JSONException {
+		final Writer out = writer instanceof StringWriter ? writer : new RollbackWriter();
+		final int mark = mark(out);
+		try {
+			writeBean(bean, JSONWriter.of(out, indentFactor, indent, config), out, config);
+		} catch (final RuntimeException e) {
+			// 出错时不保留已写出的部分，与先转为JSONObject再写出一致
+			reset(out, mark);
+			throw e;
+		}
+		if (out != writer) {
+			try {
+				((RollbackWriter) out).writeTo(writer);
+				writer.flush();
+			} catch (final IOException e) {
+				throw new IORuntimeException(e);
+			}
+		}
+		return writer;
+	}
+
+	/**
+	 * 写出Bean的所有属性，规则与{@link cn.hutool.core.bean.copier.BeanToMapCopier}拷贝到{@link cn.hutool.json.JSONObject}一致
+	 *
+	 * @param bean       Bean对象
+	 * @param jsonWriter {@link JSONWriter}
+	 * @param out        可回退的写出目标
+	 * @param config     JSON配置
+	 */
+	private void writeBean(Object bean, JSONWriter jsonWriter, Writer out, JSONConfig config) {
+		final PropWriter[] props = config.isTransientSupport() ? this.nonTransientProps : this.props;
+		final boolean ignoreNullValue = config.isIgnoreNullValue();
+		jsonWriter.beginObj();
+		Object value;
+		for (final PropWriter prop : props) {
+			value = prop.getValue(bean);
+			if (false == (ignoreNullValue && ObjectUtil.isNull(value))) {
+				writeValue(jsonWriter, prop.key, testValidity(value), out, config);
+			}
+		}
+		jsonWriter.end();
+	}
+
+	/**
+	 * 写出字段或数组元素，Bean、集合和数组直接写出，其它值使用{@link JSONUtil#wrap(Object, JSONConfig)}包装后写出<br>
+	 * 嵌套的Bean、集合和数组写出失败时，与{@link JSONUtil#wrap(Object, JSONConfig)}一致，值为{@code null}
+	 *
+	 * @param jsonWriter {@link JSONWriter}
+	 * @param quotedKey  已转义并包装引号的字段名，数组元素为{@code null}
+	 * @param value      值
+	 * @param out        可回退的写出目标
+	 * @param config     JSON配置
+	 */
+	private static void writeValue(JSONWriter jsonWriter, char[] quotedKey, Object value, Writer out, JSONConfig config) {
+		if (null != value) {
+			final boolean isBean = isSupportedBean(value);
+			if (isBean || isSupportedArray(value)) {
+				final int mark = mark(out);
+				final boolean needSeparator = jsonWriter.isNeedSeparator();
+				try {
+					final JSONWriter nestedWriter = jsonWriter.beginNested(quotedKey);
+					if (isBean) {
+						of(value.getClass()).writeBean(value, nestedWriter, out, config);
+					} else {
+						writeArray(value, nestedWriter, out, config);
+					}
+					return;
+				} catch (final Exception e) {
+					// 撤销已写出的部分，值为null
+					reset(out, mark);
+					jsonWriter.setNeedSeparator(needSeparator);
+					value = null;
+				}
+			}
+		}
+
+		final Object wrapped = JSONUtil.wrap(value, config);
+		if (null == quotedKey) {
+			jsonWriter.writeValue(wrapped);
+		} else {
+			jsonWriter.writeField(quotedKey, wrapped);
+		}
+	}
+
+	/**
+	 * 写出集合或数组中的所有元素，规则与{@link cn.hutool.json.JSONArray}的构建一致
+	 *
+	 * @param source     集合或数组
+	 * @param jsonWriter {@link JSONWriter}
+	 * @param out        可回退的写出目标
+	 * @param config     JSON配置
+	 */
+	private static void writeArray(Object source, JSONWriter jsonWriter, Writer out, JSONConfig config) {
+		final Iterator<?> iter = ArrayUtil.isArray(source) ? new ArrayIter<>(source) : ((Iterable<?>) source).iterator();
+		jsonWriter.beginArray();
+		Object next;
+		while (iter.hasNext()) {
+			next = iter.next();
+			// 检查循环引用
+			if (next != source) {
+				writeValue(jsonWriter, null, next, out, config);
+			}
+		}
+		jsonWriter.end();
+	}
+
+	/**
+	 * 获取写出目标当前的位置
+	 *
+	 * @param out {@link StringWriter}或{@link RollbackWriter}
+	 * @return 位置
+	 */
+	private static int mark(Writer out) {
+		return out instanceof StringWriter ? ((StringWriter) out).getBuffer().length() : ((RollbackWriter) out).size();
+	}
+
+	/**
+	 * 撤销写出目标中指定位置之后的内容
+	 *
+	 * @param out  {@link StringWriter}或{@link RollbackWriter}
+	 * @param mark {@link #mark(Writer)}获取的位置
+	 */
+	private static void reset(Writer out, int mark) {
+		if (out instanceof StringWriter) {
+			((StringWriter) out).getBuffer().setLength(mark);
+		} else {
+			((RollbackWriter) out).truncate(mark);
+		}
+	}
+
+	/**
+	 * 检查无穷大或NaN数字，与{@link cn.hutool.json.JSONObject}中的检查一致
+	 *
+	 * @param value 值
+	 * @return 值
+	 */
+	private static Object testValidity(Object value) {
+		if (false == ObjectUtil.isValidIfNumber(value)) {
+			throw new JSONException("JSON does not allow non-finite numbers.");
+		}
+		return value;
+	}
+
+	/**
+	 * 是否为可直接写出的Bean，与{@link JSONUtil#wrap(Object, JSONConfig)}中转为JSONObject后按Bean拷贝的对象一致
+	 *
+	 * @param value 值
+	 * @return 是否可直接写出
+	 */
+	private static boolean isSupportedBean(Object value) {
+		final Class<?> clazz = value.getClass();
+		return null == GlobalSerializeMapping.getSerializer(clazz)
+				&& BEAN_CLASS_CACHE.computeIfAbsent(clazz, JSONBeanWriter::isBeanClass);
+	}
+
+	/**
+	 * 是否为可直接读取的集合或数组，与{@link JSONUtil#wrap(Object, JSONConfig)}中转为JSONArray的对象一致<br>
+	 * byte[]存在特殊处理，不直接读取
+	 *
+	 * @param value 值
+	 * @return 是否可直接读取
+	 */
+	private static boolean isSupportedArray(Object value) {
+		return (value instanceof Collection || (ArrayUtil.isArray(value) && false == value instanceof byte[]))
+				&& false == value instanceof JSON
+				&& false == value instanceof JSONString
+				&& null == GlobalSerializeMapping.getSerializer(value.getClass());
+	}
+
+	/**
+	 * 是否为普通的可读Bean类
+	 *
+	 * @param clazz 类
+	 * @return 是否为普通的可读Bean类
+	 */
+	private static boolean isBeanClass(Class<?> clazz) {
+		return false == clazz.isArray()
+				&& false == ClassUtil.isJdkClass(clazz)
+				&& false == ClassUtil.isBasicType(clazz)
+				&& false == JSON.class.isAssignableFrom(clazz)
+				&& false == JSONString.class.isAssignableFrom(clazz)
+				&& false == JSONTokener.class.isAssignableFrom(clazz)
+				&& false == CharSequence.class.isAssignableFrom(clazz)
+				&& false == Number.class.isAssignableFrom(clazz)
+				&& false == Iterable.class.isAssignableFrom(clazz)
+				&& false == Iterator.class.isAssignableFrom(clazz)
+				&& false == Map.class.isAssignableFrom(clazz)
+				&& false == Map.Entry.class.isAssignableFrom(clazz)
+				&& false == Date.class.isAssignableFrom(clazz)
+				&& false == Calendar.class.isAssignableFrom(clazz)
+				&& false == TemporalAccessor.class.isAssignableFrom(clazz)
+				&& false == Enum.class.isAssignableFrom(clazz)
+				&& false == Reader.class.isAssignableFrom(clazz)
+				&& false == InputStream.class.isAssignableFrom(clazz)
+				&& false == ResourceBundle.class.isAssignableFrom(clazz)
+				&& BeanUtil.isReadableBean(clazz);
+	}
+
+	/**
+	 * 单个属性的写出计划
+	 */
+	static class PropWriter {
+		/**
+		 * 转义并包装引号后的键名
+		 */
+		final char[] key;
+		/**
+		 * 类型为(Object)Object的取值方法
+		 */
+		private final MethodHandle getter;
+
+		/**
+		 * 构造
+		 *
+		 * @param propDesc 属性描述
+		 */
+		PropWriter(PropDesc propDesc) {
+			this.key = JSONUtil.quote(propDesc.getFieldName()).toCharArray();
+			final MethodHandles.Lookup lookup = MethodHandles.lookup();
+			final Method getter = propDesc.getGetter();
+			try {
+				final MethodHandle handle;
+				if (null != getter) {
+					handle = lookup.unreflect(ReflectUtil.setAccessible(getter));
+				} else {
+					handle = lookup.unreflectGetter(ReflectUtil.setAccessible(propDesc.getField()));
+				}
+				this.getter = handle.asType(MethodType.methodType(Object.class, Object.class));
+			} catch (final IllegalAccessException e) {
+				throw new JSONException(e);
+			}
+		}
+
+		/**
+		 * 获取属性值
+		 *
+		 * @param bean Bean对象
+		 * @return 属性值
+		 */
+		Object getValue(Object bean) {
+			try {
+				return (Object) getter.invokeExact(bean);
+			} catch (final Throwable e) {
+				throw ExceptionUtil.wrapRuntime(e);
+			}
+		}
+	}
+
+	/**
+	 * 可撤销已写出内容的缓存
+	 */
+	private static final class RollbackWriter extends CharArrayWriter {
+		/**
+		 * 撤销指定位置之后的内容
+		 *
+		 * @param size 保留的长度
+		 */
+		void truncate(int size) {
+			this.count = size;
+		}
+	}
+}
@@ -198,6 +198,56 @@ public class JSONWriter extends Writer {
 		return this;
 	}
 
+	/**
+	 * 写出已转义并包装引号的字段名及字段值，如果字段值是{@code null}且忽略null值，则不写出任何内容
+	 *
+	 * @param quotedKey 已转义并包装引号的字段名
+	 * @param value     字段值
+	 * @return this
+	 * @since 5.8.19
+	 */
+	JSONWriter writeField(char[] quotedKey, Object value) {
+		if (JSONUtil.isNull(value) && config.isIgnoreNullValue()) {
+			return this;
+		}
+		return writeQuotedKey(quotedKey).writeValueDirect(value, null);
+	}
+
+	/**
+	 * 写出嵌套的JSON对象或数组之前的字段名、分隔符及缩进，返回用于写出嵌套值的JSONWriter
+	 *
+	 * @param quotedKey 已转义并包装引号的字段名，数组模式下为{@code null}
+	 * @return 写出嵌套值的JSONWriter，缩进增加一级
+	 * @since 5.8.19
+	 */
+	JSONWriter beginNested(char[] quotedKey) {
+		if (null != quotedKey) {
+			writeQuotedKey(quotedKey);
+		}
+		writeValuePrefix();
+		return new JSONWriter(writer, indentFactor, indentFactor + indent, config);
+	}
+
+	/**
+	 * 下一个值前是否需要写出分隔符，用于写出失败撤销已写出的内容后恢复状态
+	 *
+	 * @return 是否需要写出分隔符
+	 * @since 5.8.19
+	 */
+	boolean isNeedSeparator() {
+		return needSeparator;
+	}
+
+	/**
+	 * 设置下一个值前是否需要写出分隔符，用于写出失败撤销已写出的内容后恢复状态
+	 *
+	 * @param needSeparator 是否需要写出分隔符
+	 * @since 5.8.19
+	 */
+	void setNeedSeparator(boolean needSeparator) {
+		this.needSeparator = needSeparator;
+	}
+
 	@Override
 	public void write(char[] cbuf, int off, int len) throws IOException {
 		this.writer.write(cbuf, off, len);
@@ -226,6 +276,14 @@ public class JSONWriter extends Writer {
 	 * @return this
 	 */
 	private JSONWriter writeValueDirect(Object value, Filter<MutablePair<Object, Object>> filter) {
+		writeValuePrefix();
+		return writeObjValue(value, filter);
+	}
+
+	/**
+	 * 写出值之前的内容，数组模式下为分隔符及缩进，对象模式下为冒号
+	 */
+	private void writeValuePrefix() {
 		if (arrayMode) {
 			if (needSeparator) {
 				writeRaw(CharUtil.COMMA);
@@ -236,7 +294,26 @@ public class JSONWriter extends Writer {
 			writeRaw(CharUtil.COLON).writeSpace(1);
 		}
 		needSeparator = true;
-		return writeObjValue(value, filter);
+	}
+
+	/**
+	 * 写出已转义并包装引号的字段名，自动处理分隔符和缩进
+	 *
+	 * @param quotedKey 已转义并包装引号的字段名
+	 * @return this
+	 */
+	private JSONWriter writeQuotedKey(char[] quotedKey) {
+		if (needSeparator) {
+			writeRaw(CharUtil.COMMA);
+		}
+		// 换行缩进
+		writeLF().writeSpace(indentFactor + indent);
+		try {
+			writer.write(quotedKey);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
 	}
 
 	/**
@@ -0,0 +1,101 @@
+package cn.hutool.json;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+public class JSONBeanDeserializerTest {
+
+	private static final String JSON_STR = "{\"id\":12,\"name\":\"hutool\",\"price\":\"12.50\",\"enabled\":true," +
+			"\"created_time\":\"2023-05-01 12:00:00\",\"type\":\"B\",\"unknown\":{\"a\":[1,2,{\"b\":null}]}," +
+			"\"child\":{\"id\":13,\"name\":\"child\",\"child\":{\"id\":14}},\"tags\":[\"a\",\"b\"]," +
+			"\"children\":[{\"id\":15},{\"id\":16}],\"extra\":{\"k\":1},\"note\":null,}";
+
+	@Test
+	public void toBeanTest() {
+		final TestBean bean = JSONUtil.toBean(JSON_STR, TestBean.class);
+		Assert.assertEquals(Integer.valueOf(12), bean.getId());
+		Assert.assertEquals("hutool", bean.getName());
+		Assert.assertEquals(new BigDecimal("12.50"), bean.getPrice());
+		Assert.assertTrue(bean.isEnabled());
+		Assert.assertEquals(DateUtil.parse("2023-05-01 12:00:00"), bean.getCreatedTime());
+		Assert.assertEquals(TestType.B, bean.getType());
+		Assert.assertEquals(Integer.valueOf(14), bean.getChild().getChild().getId());
+		Assert.assertEquals(2, bean.getTags().size());
+		Assert.assertEquals(Integer.valueOf(16), bean.getChildren().get(1).getId());
+		Assert.assertEquals(1, bean.getExtra().get("k"));
+
+		// 与先解析为JSONObject再转换的结果一致
+		Assert.assertEquals(JSONUtil.parseObj(JSON_STR).toBean(TestBean.class), bean);
+	}
+
+	@Test
+	public void configTest() {
+		final String jsonStr = "{\"ID\":\"abc\",\"Name\":\"hutool\",\"created_time\":1682913600000}";
+		final JSONConfig config = JSONConfig.create().setIgnoreCase(true).setIgnoreError(true);
+		final TestBean bean = JSONUtil.toBean(jsonStr, config, TestBean.class);
+		Assert.assertNull(bean.getId());
+		Assert.assertEquals("hutool", bean.getName());
+		Assert.assertEquals(new Date(1682913600000L), bean.getCreatedTime());
+		Assert.assertEquals(JSONUtil.parseObj(jsonStr, config).toBean(TestBean.class), bean);
+
+		// 非忽略错误模式下转换失败抛出异常
+		Assert.assertThrows(Exception.class, () -> JSONUtil.toBean("{\"id\":\"abc\"}", JSONConfig.create(), TestBean.class));
+
+		// 重复键检查
+		Assert.assertThrows(JSONException.class, () -> JSONUtil.toBean("{\"id\":1,\"id\":2}",
+				JSONConfig.create().setCheckDuplicate(true), TestBean.class));
+	}
+
+	@Test
+	public void syntaxErrorTest() {
+		Assert.assertThrows(JSONException.class, () -> JSONUtil.toBean("{\"id\":1 \"name\":\"a\"}", TestBean.class));
+		Assert.assertThrows(JSONException.class, () -> JSONUtil.toBean("{\"id\":1", TestBean.class));
+	}
+
+	@Test
+	@Ignore
+	public void toBeanPerformanceTest() {
+		final int count = 100000;
+		JSONUtil.toBean(JSON_STR, TestBean.class);
+		JSONUtil.parseObj(JSON_STR).toBean(TestBean.class);
+
+		final TimeInterval timer = new TimeInterval();
+		for (int i = 0; i < count; i++) {
+			JSONUtil.parseObj(JSON_STR).toBean(TestBean.class);
+		}
+		Console.log("JSONObject to bean : {}ms", timer.intervalRestart());
+		for (int i = 0; i < count; i++) {
+			JSONUtil.toBean(JSON_STR, TestBean.class);
+		}
+		Console.log("Direct to bean     : {}ms", timer.intervalRestart());
+	}
+
+	public enum TestType {
+		A, B
+	}
+
+	@Data
+	public static class TestBean {
+		private Integer id;
+		private String name;
+		private BigDecimal price;
+		private boolean enabled;
+		private Date createdTime;
+		private TestType type;
+		private String note;
+		private TestBean child;
+		private List<String> tags;
+		private List<TestBean> children;
+		private Map<String, Object> extra;
+	}
+}
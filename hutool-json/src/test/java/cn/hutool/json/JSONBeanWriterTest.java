@@ -0,0 +1,182 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.json.serialize.JSONBeanWriter;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.CharArrayWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+public class JSONBeanWriterTest {
+
+	@Test
+	public void toJsonStrTest() {
+		final TestBean bean = createBean();
+		Assert.assertTrue(JSONBeanWriter.isSupported(bean, JSONConfig.create()));
+
+		// 与先转为JSONObject再写出的结果一致
+		Assert.assertEquals(JSONUtil.parseObj(bean).toString(), JSONUtil.toJsonStr(bean));
+		Assert.assertEquals(JSONUtil.parseObj(bean).toStringPretty(), JSONUtil.toJsonPrettyStr(bean));
+
+		final StringWriter writer = new StringWriter();
+		JSONUtil.toJsonStr(bean, writer);
+		Assert.assertEquals(JSONUtil.parseObj(bean).toString(), writer.toString());
+	}
+
+	@Test
+	public void configTest() {
+		final TestBean bean = createBean();
+		final JSONConfig[] configs = {
+				JSONConfig.create().setIgnoreNullValue(false),
+				JSONConfig.create().setTransientSupport(false),
+				JSONConfig.create().setDateFormat("yyyy-MM-dd HH:mm:ss"),
+				JSONConfig.create().setStripTrailingZeros(false)
+		};
+		for (final JSONConfig config : configs) {
+			Assert.assertEquals(JSONUtil.parseObj(bean, config).toString(), JSONUtil.toJsonStr(bean, config));
+		}
+
+		// 键排序和忽略大小写使用原有流程
+		final JSONConfig sortConfig = JSONConfig.create().setNatureKeyComparator();
+		Assert.assertFalse(JSONBeanWriter.isSupported(bean, sortConfig));
+		Assert.assertEquals(JSONUtil.parseObj(bean, sortConfig).toString(), JSONUtil.toJsonStr(bean, sortConfig));
+	}
+
+	@Test
+	public void errorTest() {
+		final TestBean bean = new TestBean();
+		bean.setPrice(Double.NaN);
+		Assert.assertThrows(JSONException.class, () -> JSONUtil.toJsonStr(bean));
+
+		// 嵌套对象转换失败时为null，与JSONUtil.wrap一致
+		final TestBean parent = new TestBean();
+		parent.setId(1);
+		parent.setChild(bean);
+		Assert.assertEquals(JSONUtil.parseObj(parent).toString(), JSONUtil.toJsonStr(parent));
+		Assert.assertEquals(JSONUtil.parseObj(parent, JSONConfig.create().setIgnoreNullValue(false)).toString(),
+				JSONUtil.toJsonStr(parent, JSONConfig.create().setIgnoreNullValue(false)));
+	}
+
+	@Test
+	public void nestedErrorTest() {
+		final ErrorBean error = new ErrorBean();
+		final TestBean child = new TestBean();
+		child.setId(2);
+		final ErrorHolder holder = new ErrorHolder();
+		holder.setId(1);
+		holder.setError(error);
+		holder.setItems(ListUtil.of(child, error, child));
+		holder.setChild(child);
+
+		// 嵌套对象在部分属性写出后失败，撤销已写出的部分，与先转为JSONObject再写出一致
+		for (final JSONConfig config : new JSONConfig[]{JSONConfig.create(), JSONConfig.create().setIgnoreNullValue(false)}) {
+			final String expected = JSONUtil.parseObj(holder, config).toString();
+			Assert.assertEquals(expected, JSONUtil.toJsonStr(holder, config));
+
+			final CharArrayWriter writer = new CharArrayWriter();
+			JSONBeanWriter.of(ErrorHolder.class).write(holder, writer, 0, 0, config);
+			Assert.assertEquals(expected, writer.toString());
+		}
+		Assert.assertEquals(JSONUtil.parseObj(holder).toStringPretty(), JSONUtil.toJsonPrettyStr(holder));
+
+		// 顶层对象出错时不写出任何内容
+		final StringWriter writer = new StringWriter();
+		Assert.assertThrows(RuntimeException.class, () -> JSONBeanWriter.of(ErrorBean.class).write(error, writer, 0, 0, JSONConfig.create()));
+		Assert.assertEquals("", writer.toString());
+	}
+
+	private static TestBean createBean() {
+		final TestBean child = new TestBean();
+		child.setId(2);
+		child.setName("child\"</");
+
+		final TestBean bean = new TestBean();
+		bean.setId(1);
+		bean.setName("hutool");
+		bean.setPrice(12.0);
+		bean.setAmount(new BigDecimal("12.50"));
+		bean.setCreated(DateUtil.parse("2023-05-01 12:00:00"));
+		bean.setUpdated(LocalDateTime.of(2023, 5, 1, 12, 0));
+		bean.setType(TestType.B);
+		bean.setChild(child);
+		bean.setChildren(ListUtil.of(child, null, new TestBean()));
+		bean.setTags(new String[]{"a", "b"});
+		bean.setScores(new int[]{1, 2});
+		bean.setExtra(MapUtil.of("child", child));
+		bean.setSecret("secret");
+		return bean;
+	}
+
+	@Test
+	@Ignore
+	public void toJsonStrPerformanceTest() {
+		final TestBean bean = createBean();
+		final int count = 200000;
+		JSONUtil.toJsonStr(bean);
+		JSONUtil.parseObj(bean).toString();
+
+		final TimeInterval timer = new TimeInterval();
+		for (int i = 0; i < count; i++) {
+			JSONUtil.parseObj(bean).toString();
+		}
+		Console.log("JSONObject to string: {}ms", timer.intervalRestart());
+		for (int i = 0; i < count; i++) {
+			JSONUtil.toJsonStr(bean);
+		}
+		Console.log("Direct to string    : {}ms", timer.intervalRestart());
+	}
+
+	@Data
+	public static class ErrorHolder {
+		private Integer id;
+		private ErrorBean error;
+		private List<Object> items;
+		private TestBean child;
+	}
+
+	public static class ErrorBean {
+		private String name;
+		private String value;
+
+		public String getName() {
+			return "error";
+		}
+
+		public String getValue() {
+			throw new IllegalStateException("error");
+		}
+	}
+
+	public enum TestType {
+		A, B
+	}
+
+	@Data
+	public static class TestBean {
+		private Integer id;
+		private String name;
+		private Double price;
+		private BigDecimal amount;
+		private Date created;
+		private LocalDateTime updated;
+		private TestType type;
+		private TestBean child;
+		private List<TestBean> children;
+		private String[] tags;
+		private int[] scores;
+		private Map<String, Object> extra;
+		private transient String secret;
+	}
+}
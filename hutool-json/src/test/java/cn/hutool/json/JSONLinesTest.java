@@ -0,0 +1,144 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class JSONLinesTest {
+
+	@Test
+	public void readTest() {
+		final String lines = "{\"id\":1,\"name\":\"a\"}\n\n{\"id\":2,\"name\":\"b\\nc\"}\r\n  {\"id\":3}\n";
+		final List<JSONObject> objects = new ArrayList<>();
+		JSONLinesReader.of(new StringReader(lines)).forEach(objects::add);
+		Assert.assertEquals(3, objects.size());
+		Assert.assertEquals("b\nc", objects.get(1).getStr("name"));
+
+		try (final JSONLinesReader<Item> reader = JSONUtil.readJSONLines(new StringReader(lines), Item.class)) {
+			final List<Item> items = reader.stream().collect(Collectors.toList());
+			Assert.assertEquals(ListUtil.of(new Item(1, "a"), new Item(2, "b\nc"), new Item(3, null)), items);
+		}
+
+		Assert.assertFalse(JSONLinesReader.of(new StringReader("\n \n")).hasNext());
+	}
+
+	@Test
+	public void parallelReadTest() {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			sb.append(StrUtil.format("{\"id\":{},\"name\":\"name{}\"}\n", i, i));
+		}
+
+		final JSONLinesReader<Item> reader = JSONLinesReader.<Item>of(new StringReader(sb.toString()), Item.class).setParallel(64);
+		int count = 0;
+		for (final Item item : reader) {
+			Assert.assertEquals(count, item.getId());
+			Assert.assertEquals("name" + count, item.getName());
+			count++;
+		}
+		Assert.assertEquals(1000, count);
+	}
+
+	@Test
+	public void oneRecordPerLineTest() {
+		final String[] invalids = {
+				// 记录跨行
+				"{\"id\":1}\n{\"id\":\n2}\n",
+				// 一行多条记录
+				"{\"id\":1}\n\n{\"id\":2} {\"id\":3}\n",
+				// 格式错误
+				"{\"id\":1}\n{\"id\":2,}x\n"
+		};
+		for (final String invalid : invalids) {
+			for (final Type type : new Type[]{JSONObject.class, Item.class}) {
+				final List<String> messages = new ArrayList<>();
+				for (final int batchSize : new int[]{0, 2}) {
+					final JSONLinesReader<Object> reader = JSONLinesReader.<Object>of(new StringReader(invalid), type).setParallel(batchSize);
+					final JSONException e = Assert.assertThrows(JSONException.class, () -> reader.forEach(Assert::assertNotNull));
+					messages.add(e.getMessage());
+				}
+				// 顺序和并行模式的错误信息一致
+				Assert.assertEquals(messages.get(0), messages.get(1));
+				Assert.assertTrue(messages.get(0), StrUtil.containsAny(messages.get(0), "at line 2", "at line 3"));
+			}
+		}
+	}
+
+	@Test
+	public void lineEndingsTest() {
+		// 长行跨越读取缓存，\r\n被缓存分隔，最后一行无换行符
+		final String longName = StrUtil.repeat('x', 8150);
+		final String lines = "{\"id\":1}\r{\"id\":2}\r\n \t\r\n{\"id\":3,\"name\":\"" + longName + "\"}\r\n{\"id\":4}\n{\"id\":5}";
+		for (final int batchSize : new int[]{0, 2}) {
+			final List<JSONObject> objects = new ArrayList<>();
+			JSONLinesReader.of(new StringReader(lines)).setParallel(batchSize).forEach(objects::add);
+			Assert.assertEquals(5, objects.size());
+			Assert.assertEquals(longName, objects.get(2).getStr("name"));
+			Assert.assertEquals(ListUtil.of(1, 2, 3, 4, 5),
+					objects.stream().map(object -> object.getInt("id")).collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	public void writeTest() {
+		final List<Object> records = ListUtil.of(new Item(1, "a\nb"), JSONUtil.createObj().set("id", 2),
+				"{\n\"id\": 3\n}", null);
+		final StringWriter writer = new StringWriter();
+		JSONUtil.toJsonLines(records, writer);
+		Assert.assertEquals("{\"id\":1,\"name\":\"a\\nb\"}\n{\"id\":2}\n{\"id\":3}\nnull\n", writer.toString());
+	}
+
+	@Test
+	public void batchFlushTest() {
+		final StringWriter writer = new StringWriter();
+		final JSONLinesWriter linesWriter = JSONLinesWriter.of(writer).setFlushBatchSize(2);
+		linesWriter.write(new Item(1, "a"));
+		Assert.assertEquals("", writer.toString());
+		linesWriter.write(new Item(2, "b"));
+		Assert.assertEquals("{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n", writer.toString());
+		linesWriter.write(new Item(3, "c"));
+		linesWriter.close();
+		Assert.assertEquals(3, StrUtil.count(writer.toString(), '\n'));
+	}
+
+	@Test
+	public void fileTest() {
+		final File file = FileUtil.file(FileUtil.getTmpDir(), "hutool-json-lines-test.jsonl");
+		try {
+			try (final JSONLinesWriter writer = JSONLinesWriter.of(file, CharsetUtil.CHARSET_UTF_8, false)) {
+				for (int i = 0; i < 10; i++) {
+					writer.write(new Item(i, "名称" + i));
+				}
+			}
+			try (final JSONLinesReader<Item> reader = JSONUtil.readJSONLines(file, CharsetUtil.CHARSET_UTF_8, Item.class)) {
+				final List<Item> items = reader.stream().collect(Collectors.toList());
+				Assert.assertEquals(10, items.size());
+				Assert.assertEquals("名称9", items.get(9).getName());
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Item {
+		private int id;
+		private String name;
+	}
+}
@@ -1,8 +1,17 @@
 package cn.hutool.json;
 
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ReflectUtil;
 import org.junit.Assert;
+import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * JSON路径单元测试
  *
@@ -27,4 +36,91 @@ public class JSONPathTest {
 		Long accountId = JSONUtil.getByPath(json, "$.accountId", 0L);
 		Assert.assertEquals(111L, accountId.longValue());
 	}
+
+	private static final String STORE = "{\"store\":{\"book\":[" +
+			"{\"title\":\"a\",\"price\":8,\"author\":{\"name\":\"x\"}}," +
+			"{\"title\":\"b\",\"price\":12,\"author\":{\"name\":\"y\"}}]," +
+			"\"bicycle\":{\"name\":\"z\",\"price\":20},\"*\":\"star\"}}";
+
+	@Test
+	public void compileCacheTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE);
+		ThreadUtil.concurrencyTest(4, () -> {
+			for (int i = 0; i < 2000; i++) {
+				Assert.assertEquals("b", json.getByPath("store.book[1].title"));
+				Assert.assertNull(json.getByPath("store.book[" + (i + 2) + "].title"));
+			}
+		});
+		// 超出容量时淘汰已有的编译结果
+		final Map<?, ?> cache = (Map<?, ?>) ReflectUtil.getFieldValue(JSONPath.class, "CACHE");
+		Assert.assertTrue(cache.size() <= 512 + 4);
+	}
+
+	@Test
+	public void compileTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE);
+		final JSONPath path = JSONPath.compile("$.store.book[1].title");
+		Assert.assertSame(path, JSONPath.compile("$.store.book[1].title"));
+		Assert.assertEquals("b", path.get(json));
+		Assert.assertEquals("a", JSONPath.compile("store.book[-2].title").get(json));
+		Assert.assertEquals(ListUtil.of("a", "b"), JSONPath.compile("store.book.title").get(json));
+		Assert.assertEquals(ListUtil.of("x", "y"), JSONPath.compile("store.book[0:2].author.name").get(json));
+		Assert.assertEquals("star", JSONPath.compile("store['*']").get(json));
+		Assert.assertNull(JSONPath.compile("store.book[5].title").get(json));
+		Assert.assertNull(JSONPath.compile("store.none.title").get(json));
+
+		Assert.assertThrows(IllegalArgumentException.class, () -> JSONPath.compile("store.book[0"));
+		Assert.assertThrows(IllegalArgumentException.class, () -> JSONPath.compile("store.book]"));
+	}
+
+	@Test
+	public void wildcardTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE);
+		Assert.assertEquals(ListUtil.of("a", "b"), json.getByPath("$.store.book[*].title"));
+		Assert.assertEquals(ListUtil.of(8, 12), json.getByPath("store.book.*.price"));
+		Assert.assertEquals(ListUtil.of(8, 12, 20), json.getByPath("$..price"));
+		Assert.assertEquals(ListUtil.of("x", "y", "z"), json.getByPath("$.store..name"));
+		Assert.assertEquals(ListUtil.of("x", "y"), json.getByPath("$..book[*].author.name"));
+		Assert.assertEquals(0, ((List<?>) json.getByPath("$..none")).size());
+		Assert.assertEquals(16, ((List<?>) json.getByPath("$..*")).size());
+	}
+
+	@Test
+	public void putByPathTest() {
+		final JSONObject json = JSONUtil.createObj();
+		json.putByPath("a.b[0].c", 1);
+		json.putByPath("a.b[1]", "d");
+		json.putByPath("$.a.e", true);
+		Assert.assertEquals("{\"a\":{\"b\":[{\"c\":1},\"d\"],\"e\":true}}", json.toString());
+
+		Assert.assertThrows(UnsupportedOperationException.class, () -> json.putByPath("a.b[*]", 1));
+	}
+
+	@Test
+	@Ignore
+	public void getByPathPerformanceTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE);
+		final String expression = "$.store.book[1].author.name";
+		final cn.hutool.core.bean.BeanPath beanPath = cn.hutool.core.bean.BeanPath.create(expression);
+		final JSONPath path = JSONPath.compile(expression);
+		final int count = 1000000;
+
+		final TimeInterval timer = new TimeInterval();
+		for (int i = 0; i < count; i++) {
+			cn.hutool.core.bean.BeanPath.create(expression).get(json);
+		}
+		Console.log("BeanPath parse and get: {}ms", timer.intervalRestart());
+		for (int i = 0; i < count; i++) {
+			beanPath.get(json);
+		}
+		Console.log("BeanPath get          : {}ms", timer.intervalRestart());
+		for (int i = 0; i < count; i++) {
+			json.getByPath(expression);
+		}
+		Console.log("Cached JSONPath get   : {}ms", timer.intervalRestart());
+		for (int i = 0; i < count; i++) {
+			path.get(json);
+		}
+		Console.log("Compiled JSONPath get : {}ms", timer.intervalRestart());
+	}
 }
@@ -0,0 +1,113 @@
+package cn.hutool.json;
+
+import cn.hutool.core.util.StrUtil;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Iterator;
+
+public class JSONReaderTest {
+
+	@Test
+	public void readTest() {
+		final String jsonStr = "{\"name\":\"hutool\",'version':5.8,\"count\":12,\"ok\":true,\"none\":null," +
+				"\"skip\":{\"a\":[1,{\"b\":[]}],\"c\":\"d\"},\"tags\":[\"a\",\"b\",],unquoted:abc}";
+		final JSONReader reader = JSONReader.of(new StringReader(jsonStr));
+		Assert.assertEquals(JSONReader.Token.BEGIN_OBJECT, reader.peek());
+		reader.beginObject();
+
+		Assert.assertEquals("name", reader.nextName());
+		Assert.assertEquals("hutool", reader.nextString());
+		Assert.assertEquals("version", reader.nextName());
+		Assert.assertEquals(JSONReader.Token.NUMBER, reader.peek());
+		Assert.assertEquals(5.8, reader.nextDouble(), 0);
+		Assert.assertEquals("count", reader.nextName());
+		Assert.assertEquals(12, reader.nextInt());
+		Assert.assertEquals("ok", reader.nextName());
+		Assert.assertTrue(reader.nextBoolean());
+		Assert.assertEquals("none", reader.nextName());
+		Assert.assertEquals(JSONReader.Token.NULL, reader.peek());
+		reader.nextNull();
+		Assert.assertEquals("skip", reader.nextName());
+		reader.skipValue();
+
+		Assert.assertEquals("tags", reader.nextName());
+		reader.beginArray();
+		Assert.assertEquals("a", reader.nextString());
+		Assert.assertTrue(reader.hasNext());
+		Assert.assertEquals("b", reader.nextString());
+		Assert.assertFalse(reader.hasNext());
+		reader.endArray();
+
+		Assert.assertEquals("unquoted", reader.nextName());
+		Assert.assertEquals("abc", reader.nextString());
+		Assert.assertFalse(reader.hasNext());
+		reader.endObject();
+		Assert.assertEquals(JSONReader.Token.END_DOCUMENT, reader.peek());
+	}
+
+	@Test
+	public void nextValueTest() {
+		final JSONReader reader = JSONReader.of(new StringReader("{\"a\":{\"b\":1},\"c\":[1,2]} {\"d\":3}"));
+		reader.beginObject();
+		Assert.assertEquals("a", reader.nextName());
+		Assert.assertEquals(1, ((JSONObject) reader.nextValue()).getInt("b").intValue());
+		Assert.assertEquals("c", reader.nextName());
+		Assert.assertEquals(2, ((JSONArray) reader.nextValue()).size());
+		reader.endObject();
+
+		// 顶层连续的值
+		Assert.assertTrue(reader.hasNext());
+		Assert.assertEquals(3, reader.<JSONObject>nextBean(JSONObject.class).getInt("d").intValue());
+		Assert.assertFalse(reader.hasNext());
+	}
+
+	@Test
+	public void arrayIteratorTest() {
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 1000; i++) {
+			sb.append(StrUtil.format("{\"id\":{},\"name\":\"name{}\"},", i, i));
+		}
+		sb.setLength(sb.length() - 1);
+		sb.append("]");
+
+		Iterator<Item> items = JSONReader.of(new StringReader(sb.toString())).arrayIterator(Item.class);
+		int count = 0;
+		while (items.hasNext()) {
+			final Item item = items.next();
+			Assert.assertEquals(count, item.getId());
+			Assert.assertEquals("name" + count, item.getName());
+			count++;
+		}
+		Assert.assertEquals(1000, count);
+
+		final Iterator<JSONObject> objects = JSONReader.of(new StringReader(sb.toString())).arrayIterator();
+		Assert.assertEquals("name0", objects.next().getStr("name"));
+		Assert.assertEquals("name1", objects.next().getStr("name"));
+
+		Assert.assertFalse(JSONReader.of(new StringReader("[]")).arrayIterator().hasNext());
+	}
+
+	@Test
+	public void syntaxErrorTest() {
+		final JSONReader reader = JSONReader.of(new StringReader("{\"a\" 1}"));
+		reader.beginObject();
+		Assert.assertThrows(JSONException.class, reader::nextName);
+
+		final JSONReader reader2 = JSONReader.of(new StringReader("[1}"));
+		reader2.beginArray();
+		Assert.assertEquals(1, reader2.nextInt());
+		Assert.assertThrows(JSONException.class, reader2::peek);
+
+		final JSONReader reader3 = JSONReader.of(new StringReader("{\"a\":1}"));
+		Assert.assertThrows(JSONException.class, reader3::beginArray);
+	}
+
+	@Data
+	public static class Item {
+		private int id;
+		private String name;
+	}
+}
@@ -0,0 +1,92 @@
+package cn.hutool.json;
+
+import cn.hutool.core.date.TimeInterval;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+public class JSONTokenerTest {
+
+	private static final String JSON_STR = "{\"a\":\"中文\\\"\\u0041\\n\",'b':-12, c : 2147483648 ,\"d\":-0,\"e\":007," +
+			"\"f\":1.50,\"g\":1e3,\"h\":true,\"i\":NULL,\"j\":abc def,\"k\":[1,-9223372036854775808,123456789012345678],}";
+
+	@Test
+	public void parseTest() {
+		final JSONConfig config = JSONConfig.create();
+		final JSONObject fromReader = new JSONObject(new JSONTokener(new StringReader(JSON_STR), config), config);
+		final JSONObject fromString = new JSONObject(new JSONTokener(JSON_STR, config), config);
+		final JSONObject fromBytes = new JSONObject(new JSONTokener(StrUtil.bytes(JSON_STR, CharsetUtil.CHARSET_UTF_8), config), config);
+
+		Assert.assertEquals("中文\"A\n", fromString.get("a"));
+		Assert.assertEquals(-12, fromString.get("b"));
+		Assert.assertEquals(2147483648L, fromString.get("c"));
+		Assert.assertEquals("-0", fromString.get("d"));
+		Assert.assertEquals("007", fromString.get("e"));
+		Assert.assertEquals(new BigDecimal("1.50"), fromString.get("f"));
+		Assert.assertEquals(new BigDecimal("1e3"), fromString.get("g"));
+		Assert.assertEquals(true, fromString.get("h"));
+		Assert.assertEquals(JSONNull.NULL, fromString.get("i"));
+		Assert.assertEquals("abc def", fromString.get("j"));
+		Assert.assertEquals(Long.MIN_VALUE, fromString.getJSONArray("k").get(1));
+		Assert.assertEquals(123456789012345678L, fromString.getJSONArray("k").get(2));
+
+		// 与Reader方式解析结果一致
+		Assert.assertEquals(fromReader.toString(), fromString.toString());
+		Assert.assertEquals(fromReader.toString(), fromBytes.toString());
+		Assert.assertEquals(fromReader.toString(), JSONUtil.parseObj(StrUtil.bytes(JSON_STR, CharsetUtil.CHARSET_UTF_8)).toString());
+	}
+
+	@Test
+	public void errorTest() {
+		final JSONException e = Assert.assertThrows(JSONException.class, () -> JSONUtil.parseObj("{\"a\":1,\r\n\"b\":\"c}"));
+		Assert.assertEquals("Unterminated string at 17 [character 8 line 2]", e.getMessage());
+
+		final JSONException e2 = Assert.assertThrows(JSONException.class, () -> JSONUtil.parseObj("{\"a\":\n ,}"));
+		Assert.assertEquals("Missing value at 7 [character 1 line 2]", e2.getMessage());
+
+		Assert.assertThrows(JSONException.class, () -> JSONUtil.parseObj("{\"a\":\"b\nc\"}"));
+		Assert.assertThrows(JSONException.class, () -> JSONUtil.parseArray("[1,2"));
+	}
+
+	@Test
+	public void errorMessageSameAsReaderTest() {
+		final String[] invalids = {"{\"a\":1,\r\n\"b\":\"c}", "{\"a\":\n ,}", "{\"a\" 1}", "[1,2", "{\"a\":[1}"};
+		final JSONConfig config = JSONConfig.create();
+		for (final String invalid : invalids) {
+			final JSONException fromReader = Assert.assertThrows(JSONException.class,
+					() -> new JSONTokener(new StringReader(invalid), config).nextValue());
+			final JSONException fromString = Assert.assertThrows(JSONException.class,
+					() -> new JSONTokener(invalid, config).nextValue());
+			Assert.assertEquals(fromReader.getMessage(), fromString.getMessage());
+		}
+	}
+
+	@Test
+	@Ignore
+	public void parsePerformanceTest() {
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 1000; i++) {
+			sb.append(StrUtil.format("{\"id\":{},\"name\":\"name{}\",\"price\":{}.5,\"enabled\":true,\"tags\":[\"a\",\"b\",\"c\"]},", i, i, i));
+		}
+		sb.setLength(sb.length() - 1);
+		final String jsonStr = sb.append("]").toString();
+		final JSONConfig config = JSONConfig.create();
+		final int count = 2000;
+
+		final TimeInterval timer = new TimeInterval();
+		for (int i = 0; i < count; i++) {
+			new JSONArray(new JSONTokener(new StringReader(jsonStr), config), config);
+		}
+		Console.log("Reader tokener: {}ms", timer.intervalRestart());
+		for (int i = 0; i < count; i++) {
+			new JSONArray(new JSONTokener(jsonStr, config), config);
+		}
+		Console.log("Array tokener : {}ms", timer.intervalRestart());
+	}
+}